@@ -14,6 +14,7 @@
 import java.util.ServiceLoader;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 
 import io.debezium.DebeziumException;
@@ -306,6 +307,20 @@ interface Signaler {
          *             consumer function} were not supplied before this method is called
          */
         DebeziumEngine<R> build();
+
+        /**
+         * Create a {@link Flow.Publisher} which builds and runs the engine once a subscriber requests change events, and which polls
+         * the records according to the subscriber's demand. The consumer and the completion callback are provided by the publisher
+         * and must not be supplied to this builder.
+         *
+         * @param executor the executor running the engine
+         * @return the publisher of the change events; never null
+         * @see DebeziumEnginePublisher
+         */
+        @Incubating
+        default Flow.Publisher<R> publisher(Executor executor) {
+            return new DebeziumEnginePublisher<>(this, executor);
+        }
     }
 
     /**
@@ -0,0 +1,266 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.engine;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.common.annotation.Incubating;
+
+/**
+ * A {@link Flow.Publisher} view of a {@link DebeziumEngine}, which delivers the change events to a single {@link Flow.Subscriber}
+ * as the subscriber requests them.
+ * <p>
+ * The engine is built and started on the given {@link Executor} once the subscriber requests the first events. The events of a polled
+ * batch are passed to the subscriber as long as there is outstanding demand, as many at once as the demand allows. When the demand is
+ * exhausted, the engine waits for further requests before it polls the next batch, so the rate of polling follows the capacity of the
+ * subscriber. An event is acknowledged, and its offset may be committed according to the engine's
+ * {@link io.debezium.engine.spi.OffsetCommitPolicy}, once {@link Flow.Subscriber#onNext(Object)} returns for it.
+ * <p>
+ * Cancelling the subscription stops the engine; the engine completing normally or with an error is signalled to the subscriber by
+ * {@link Flow.Subscriber#onComplete()} or {@link Flow.Subscriber#onError(Throwable)}. The publisher installs its own
+ * {@link DebeziumEngine.ChangeConsumer} and {@link DebeziumEngine.CompletionCallback} on the builder, so these must not be provided
+ * by the caller.
+ *
+ * @param <R> the type of the change events
+ */
+@Incubating
+public final class DebeziumEnginePublisher<R> implements Flow.Publisher<R> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumEnginePublisher.class);
+
+    private final DebeziumEngine.Builder<R> builder;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    /**
+     * @param builder the builder of the engine, configured with everything but the consumer and the completion callback; may not be null
+     * @param executor the executor running the engine; may not be null
+     */
+    public DebeziumEnginePublisher(DebeziumEngine.Builder<R> builder, Executor executor) {
+        this.builder = Objects.requireNonNull(builder);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("The engine publisher supports only a single subscriber"));
+            return;
+        }
+        final EngineSubscription subscription = new EngineSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Subscription which runs the engine and passes the polled batches to the subscriber according to its demand.
+     */
+    private class EngineSubscription implements Flow.Subscription, DebeziumEngine.ChangeConsumer<R>, DebeziumEngine.CompletionCallback {
+
+        private final Flow.Subscriber<? super R> subscriber;
+        // Serializes all signals to the subscriber, as terminal signals and those of multiple tasks may come from different threads
+        private final ReentrantLock deliveryLock = new ReentrantLock();
+        private final ReentrantLock demandLock = new ReentrantLock();
+        private final Condition demandAvailable = demandLock.newCondition();
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private final AtomicBoolean terminated = new AtomicBoolean(false);
+        private long demand;
+        private volatile boolean cancelled;
+        private volatile DebeziumEngine<R> engine;
+
+        EngineSubscription(Flow.Subscriber<? super R> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled) {
+                return;
+            }
+            if (n <= 0) {
+                cancel();
+                signalError(new IllegalArgumentException("The number of requested events must be positive, but was " + n));
+                return;
+            }
+            demandLock.lock();
+            try {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                demandAvailable.signalAll();
+            }
+            finally {
+                demandLock.unlock();
+            }
+            if (started.compareAndSet(false, true)) {
+                startEngine();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            demandLock.lock();
+            try {
+                demandAvailable.signalAll();
+            }
+            finally {
+                demandLock.unlock();
+            }
+            final DebeziumEngine<R> engine = this.engine;
+            if (engine != null) {
+                closeEngine(engine);
+            }
+        }
+
+        private void closeEngine(DebeziumEngine<R> engine) {
+            // The subscriber may cancel from within onNext(), i.e. on the polling thread, so the engine must be closed on another thread
+            CompletableFuture.runAsync(() -> {
+                try {
+                    engine.close();
+                }
+                catch (IOException e) {
+                    LOGGER.warn("Failed to close the engine after the subscription was cancelled", e);
+                }
+            });
+        }
+
+        private void startEngine() {
+            try {
+                engine = builder
+                        .notifying(this)
+                        .using(this)
+                        .build();
+                if (cancelled) {
+                    return;
+                }
+                executor.execute(engine);
+                if (cancelled) {
+                    // Cancelled while the engine was being started, it might have missed the engine
+                    closeEngine(engine);
+                }
+            }
+            catch (RuntimeException e) {
+                cancelled = true;
+                signalError(e);
+            }
+        }
+
+        @Override
+        public void handleBatch(List<R> records, DebeziumEngine.RecordCommitter<R> committer) throws InterruptedException {
+            deliveryLock.lockInterruptibly();
+            try {
+                int delivered = 0;
+                while (delivered < records.size()) {
+                    final long granted = awaitDemand(records.size() - delivered);
+                    if (cancelled) {
+                        throw new StopEngineException("The subscription was cancelled");
+                    }
+                    for (long i = 0; i < granted; i++) {
+                        final R record = records.get(delivered++);
+                        try {
+                            subscriber.onNext(record);
+                        }
+                        catch (RuntimeException e) {
+                            LOGGER.warn("Subscriber failed to process an event, cancelling the subscription", e);
+                            cancel();
+                            throw new StopEngineException("The subscriber failed to process an event");
+                        }
+                        committer.markProcessed(record);
+                    }
+                }
+                committer.markBatchFinished();
+            }
+            finally {
+                deliveryLock.unlock();
+            }
+        }
+
+        /**
+         * Waits until there is demand for at least one event and takes as much of it as can be used for the given number of events.
+         *
+         * @return the number of events which can be delivered, or {@code 0} if the subscription was cancelled
+         */
+        private long awaitDemand(int events) throws InterruptedException {
+            demandLock.lockInterruptibly();
+            try {
+                while (demand == 0 && !cancelled) {
+                    demandAvailable.await();
+                }
+                if (cancelled) {
+                    return 0;
+                }
+                final long granted = Math.min(demand, events);
+                if (demand != Long.MAX_VALUE) {
+                    demand -= granted;
+                }
+                return granted;
+            }
+            finally {
+                demandLock.unlock();
+            }
+        }
+
+        @Override
+        public void handle(boolean success, String message, Throwable error) {
+            if (cancelled) {
+                return;
+            }
+            if (success) {
+                signalComplete();
+            }
+            else {
+                signalError(error != null ? error : new DebeziumException(message));
+            }
+        }
+
+        private void signalComplete() {
+            deliveryLock.lock();
+            try {
+                if (terminated.compareAndSet(false, true)) {
+                    subscriber.onComplete();
+                }
+            }
+            finally {
+                deliveryLock.unlock();
+            }
+        }
+
+        private void signalError(Throwable error) {
+            deliveryLock.lock();
+            try {
+                if (terminated.compareAndSet(false, true)) {
+                    subscriber.onError(error);
+                }
+            }
+            finally {
+                deliveryLock.unlock();
+            }
+        }
+    }
+}
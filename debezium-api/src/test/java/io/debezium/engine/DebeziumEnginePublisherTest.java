@@ -0,0 +1,323 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.engine.spi.OffsetCommitPolicy;
+
+public class DebeziumEnginePublisherTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldDeliverEventsOnlyOnDemandAndCommitDeliveredEvents() throws Exception {
+        final TestBuilder builder = new TestBuilder(List.of(List.of("a", "b", "c"), List.of("d", "e")));
+        final TestSubscriber subscriber = new TestSubscriber();
+        builder.publisher(executor).subscribe(subscriber);
+
+        assertThat(subscriber.subscription).isNotNull();
+        assertThat(builder.polledBatches()).isZero();
+
+        subscriber.subscription.request(2);
+        subscriber.awaitEvents(2);
+        assertThat(subscriber.events()).containsExactly("a", "b");
+        assertThat(builder.committed()).containsExactly("a", "b");
+
+        // The first batch isn't finished yet, so the next one must not be polled
+        Thread.sleep(100);
+        assertThat(subscriber.events()).hasSize(2);
+        assertThat(builder.polledBatches()).isEqualTo(1);
+
+        subscriber.subscription.request(10);
+        assertThat(subscriber.completed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.events()).containsExactly("a", "b", "c", "d", "e");
+        assertThat(builder.committed()).containsExactly("a", "b", "c", "d", "e");
+        assertThat(builder.finishedBatches()).isEqualTo(2);
+        assertThat(subscriber.error).isNull();
+    }
+
+    @Test
+    public void shouldStopEngineWhenSubscriptionIsCancelled() throws Exception {
+        final TestBuilder builder = new TestBuilder(List.of(List.of("a", "b", "c")));
+        final TestSubscriber subscriber = new TestSubscriber();
+        builder.publisher(executor).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.awaitEvents(1);
+        subscriber.subscription.cancel();
+
+        assertThat(builder.stopped.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.events()).containsExactly("a");
+        assertThat(builder.committed()).containsExactly("a");
+        assertThat(subscriber.completed.getCount()).isEqualTo(1);
+        assertThat(subscriber.error).isNull();
+    }
+
+    @Test
+    public void shouldNotSignalCompletionWhileDeliveringEvent() throws Exception {
+        final TestBuilder builder = new TestBuilder(List.of(List.of("a")));
+        final CountDownLatch delivering = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicBoolean inOnNext = new AtomicBoolean();
+        final AtomicBoolean completedInOnNext = new AtomicBoolean();
+        final TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onNext(String item) {
+                inOnNext.set(true);
+                delivering.countDown();
+                try {
+                    assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onNext(item);
+                inOnNext.set(false);
+            }
+
+            @Override
+            public void onComplete() {
+                completedInOnNext.set(inOnNext.get());
+                super.onComplete();
+            }
+        };
+        builder.publisher(executor).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertThat(delivering.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // The engine completes, e.g. after a failure of another task, while the event is being delivered
+        final Thread completion = new Thread(() -> builder.completionCallback.handle(true, "Completed", null));
+        completion.start();
+        completion.join(200);
+        assertThat(completion.isAlive()).isTrue();
+        assertThat(subscriber.completed.getCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(subscriber.completed.await(10, TimeUnit.SECONDS)).isTrue();
+        completion.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(completedInOnNext).isFalse();
+        assertThat(subscriber.events()).containsExactly("a");
+        assertThat(subscriber.error).isNull();
+    }
+
+    @Test
+    public void shouldSignalErrorForNonPositiveRequest() {
+        final TestBuilder builder = new TestBuilder(List.of(List.of("a")));
+        final TestSubscriber subscriber = new TestSubscriber();
+        builder.publisher(executor).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(builder.polledBatches()).isZero();
+    }
+
+    @Test
+    public void shouldRejectSecondSubscriber() {
+        final Flow.Publisher<String> publisher = new TestBuilder(List.of()).publisher(executor);
+        publisher.subscribe(new TestSubscriber());
+
+        final TestSubscriber second = new TestSubscriber();
+        publisher.subscribe(second);
+
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<String> {
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(String item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        List<String> events() {
+            synchronized (events) {
+                return new ArrayList<>(events);
+            }
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            final long deadline = System.currentTimeMillis() + 10_000;
+            while (events.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(events).hasSizeGreaterThanOrEqualTo(count);
+        }
+    }
+
+    /**
+     * Builder of an engine which passes the given batches to the change consumer and completes afterwards.
+     */
+    private static class TestBuilder implements DebeziumEngine.Builder<String> {
+        private final List<List<String>> batches;
+        private final List<String> committed = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch stopped = new CountDownLatch(1);
+        private volatile int polledBatches;
+        private volatile int finishedBatches;
+        private DebeziumEngine.ChangeConsumer<String> handler;
+        private volatile DebeziumEngine.CompletionCallback completionCallback;
+
+        TestBuilder(List<List<String>> batches) {
+            this.batches = batches;
+        }
+
+        List<String> committed() {
+            synchronized (committed) {
+                return new ArrayList<>(committed);
+            }
+        }
+
+        int polledBatches() {
+            return polledBatches;
+        }
+
+        int finishedBatches() {
+            return finishedBatches;
+        }
+
+        @Override
+        public DebeziumEngine.Builder<String> notifying(Consumer<String> consumer) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DebeziumEngine.Builder<String> notifying(DebeziumEngine.ChangeConsumer<String> handler) {
+            this.handler = handler;
+            return this;
+        }
+
+        @Override
+        public DebeziumEngine.Builder<String> using(Properties config) {
+            return this;
+        }
+
+        @Override
+        public DebeziumEngine.Builder<String> using(ClassLoader classLoader) {
+            return this;
+        }
+
+        @Override
+        public DebeziumEngine.Builder<String> using(Clock clock) {
+            return this;
+        }
+
+        @Override
+        public DebeziumEngine.Builder<String> using(DebeziumEngine.CompletionCallback completionCallback) {
+            this.completionCallback = completionCallback;
+            return this;
+        }
+
+        @Override
+        public DebeziumEngine.Builder<String> using(DebeziumEngine.ConnectorCallback connectorCallback) {
+            return this;
+        }
+
+        @Override
+        public DebeziumEngine.Builder<String> using(OffsetCommitPolicy policy) {
+            return this;
+        }
+
+        @Override
+        public DebeziumEngine<String> build() {
+            final DebeziumEngine.RecordCommitter<String> committer = new DebeziumEngine.RecordCommitter<>() {
+                @Override
+                public void markProcessed(String record) {
+                    committed.add(record);
+                }
+
+                @Override
+                public void markBatchFinished() {
+                    finishedBatches++;
+                }
+
+                @Override
+                public void markProcessed(String record, DebeziumEngine.Offsets sourceOffsets) {
+                    committed.add(record);
+                }
+
+                @Override
+                public DebeziumEngine.Offsets buildOffsets() {
+                    return null;
+                }
+            };
+
+            return new DebeziumEngine<>() {
+                private volatile boolean closed;
+
+                @Override
+                public void run() {
+                    try {
+                        for (List<String> batch : batches) {
+                            if (closed) {
+                                break;
+                            }
+                            polledBatches++;
+                            handler.handleBatch(batch, committer);
+                        }
+                        completionCallback.handle(true, "Completed", null);
+                    }
+                    catch (StopEngineException e) {
+                        completionCallback.handle(true, "Stopped", null);
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        completionCallback.handle(false, "Interrupted", e);
+                    }
+                    finally {
+                        stopped.countDown();
+                    }
+                }
+
+                @Override
+                public void close() {
+                    closed = true;
+                }
+            };
+        }
+    }
+}
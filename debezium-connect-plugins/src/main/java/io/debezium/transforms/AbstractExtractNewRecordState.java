@@ -22,6 +22,7 @@
 import static io.debezium.transforms.ExtractNewRecordStateConfigDefinition.REPLACE_NULL_WITH_DEFAULT;
 import static io.debezium.transforms.ExtractNewRecordStateConfigDefinition.ROUTE_BY_FIELD;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -51,6 +52,7 @@
 import io.debezium.transforms.ExtractNewRecordStateConfigDefinition.DeleteTombstoneHandling;
 import io.debezium.transforms.extractnewstate.DefaultDeleteHandlingStrategy;
 import io.debezium.transforms.extractnewstate.ExtractRecordStrategy;
+import io.debezium.util.BoundedConcurrentHashMap;
 import io.debezium.util.Strings;
 
 /**
@@ -65,6 +67,7 @@
     private static final Pattern FIELD_SEPARATOR = Pattern.compile("\\.");
     private static final Pattern NEW_FIELD_SEPARATOR = Pattern.compile(":");
     private static final String UPDATE_DESCRIPTION = "updateDescription";
+    private static final int PLAN_CACHE_SIZE = 64;
     protected static final String PURPOSE = "source field insertion";
 
     protected Configuration config;
@@ -73,6 +76,7 @@
     protected List<FieldReference> additionalHeaders;
     protected List<FieldReference> additionalFields;
     protected String routeByField;
+    private BoundedConcurrentHashMap<SchemaPlanKey, HeadersPlan> headersPlanCache;
 
     @Override
     public String version() {
@@ -97,6 +101,7 @@ public void configure(final Map<String, ?> configs) {
         // handle deleted records
         DeleteTombstoneHandling deleteTombstoneHandling = DeleteTombstoneHandling.parse(config.getString(HANDLE_TOMBSTONE_DELETES));
         extractRecordStrategy = new DefaultDeleteHandlingStrategy<>(deleteTombstoneHandling, config.getBoolean(REPLACE_NULL_WITH_DEFAULT));
+        headersPlanCache = new BoundedConcurrentHashMap<>(PLAN_CACHE_SIZE);
     }
 
     @Override
@@ -131,24 +136,24 @@ protected R setTopic(String updatedTopicValue, R record) {
     }
 
     /**
-     * Create the Headers object which contains the headers to be added.
+     * Create the Headers object which contains the configured headers to be added.
      */
-    protected Headers makeHeaders(List<FieldReference> additionalHeaders, Struct originalRecordValue) {
-        Headers headers = new ConnectHeaders();
-
-        for (FieldReference fieldReference : additionalHeaders) {
-            // add "d" operation header to tombstone events
-            if (originalRecordValue == null) {
+    protected Headers makeHeaders(Struct originalRecordValue) {
+        if (originalRecordValue == null) {
+            Headers headers = new ConnectHeaders();
+            for (FieldReference fieldReference : additionalHeaders) {
+                // add "d" operation header to tombstone events
                 if (OPERATION.equals(fieldReference.getField())) {
                     headers.addString(fieldReference.getNewField(), Envelope.Operation.DELETE.code());
                 }
-                continue;
             }
-            Optional<Schema> schema = fieldReference.getSchema(originalRecordValue.schema());
-            schema.ifPresent(value -> headers.add(fieldReference.getNewField(), fieldReference.getValue(originalRecordValue), value));
+            return headers;
         }
 
-        return headers;
+        // The headers present in the envelope are resolved once per envelope schema
+        return headersPlanCache.computeIfAbsent(new SchemaPlanKey(null, originalRecordValue.schema(), null),
+                key -> new HeadersPlan(additionalHeaders, originalRecordValue.schema()))
+                .apply(originalRecordValue);
     }
 
     /**
@@ -287,6 +292,77 @@ private boolean isInSchema(Schema originalRecordSchema) {
         }
     }
 
+    /**
+     * The headers to be added to the records with a given envelope schema, i.e. the configured headers present in
+     * the envelope, together with their schemas.
+     */
+    private static final class HeadersPlan {
+        private final FieldReference[] references;
+        private final Schema[] schemas;
+
+        HeadersPlan(List<FieldReference> additionalHeaders, Schema originalRecordSchema) {
+            final List<FieldReference> presentReferences = new ArrayList<>(additionalHeaders.size());
+            final List<Schema> presentSchemas = new ArrayList<>(additionalHeaders.size());
+            for (FieldReference fieldReference : additionalHeaders) {
+                fieldReference.getSchema(originalRecordSchema).ifPresent(schema -> {
+                    presentReferences.add(fieldReference);
+                    presentSchemas.add(schema);
+                });
+            }
+            references = presentReferences.toArray(new FieldReference[0]);
+            schemas = presentSchemas.toArray(new Schema[0]);
+        }
+
+        Headers apply(Struct originalRecordValue) {
+            final Headers headers = new ConnectHeaders();
+            for (int i = 0; i < references.length; i++) {
+                headers.add(references[i].getNewField(), references[i].getValue(originalRecordValue), schemas[i]);
+            }
+            return headers;
+        }
+    }
+
+    /**
+     * The key of the plans compiled for given schemas. Schemas are compared by identity, as the records of a
+     * table share the same schema instances and computing the hash code of a schema is about as expensive as
+     * compiling the plan.
+     */
+    protected static final class SchemaPlanKey {
+        private final Schema valueSchema;
+        private final Schema envelopeSchema;
+        private final String operation;
+
+        SchemaPlanKey(Schema valueSchema, Schema envelopeSchema, String operation) {
+            this.valueSchema = valueSchema;
+            this.envelopeSchema = envelopeSchema;
+            this.operation = operation;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SchemaPlanKey key = (SchemaPlanKey) o;
+            return valueSchema == key.valueSchema
+                    && envelopeSchema == key.envelopeSchema
+                    && Objects.equals(operation, key.operation);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(valueSchema) + System.identityHashCode(envelopeSchema)) + Objects.hashCode(operation);
+        }
+
+        @Override
+        public String toString() {
+            return "SchemaPlanKey{" + valueSchema + ":" + envelopeSchema + ":" + operation + "}";
+        }
+    }
+
     protected static class NewRecordValueMetadata {
         private final Schema schema;
         private final String operation;
@@ -22,7 +22,6 @@
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.errors.ConnectException;
-import org.apache.kafka.connect.transforms.Transformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,7 +55,7 @@
  * @author David Leibovic
  * @author Mario Mueller
  */
-public class ByLogicalTableRouter<R extends ConnectRecord<R>> implements Transformation<R>, Versioned, ConfigDescriptor {
+public class ByLogicalTableRouter<R extends ConnectRecord<R>> implements FusibleTransformation<R>, Versioned, ConfigDescriptor {
 
     private static final Field TOPIC_REGEX = Field.create("topic.regex")
             .withDisplayName("Topic regex")
@@ -220,16 +219,37 @@ public void configure(Map<String, ?> props) {
 
     @Override
     public R apply(R record) {
-        final String oldTopic = record.topic();
+        final RecordPlan<R> plan = RecordPlan.of(record);
+        if (!route(plan)) {
+            return record;
+        }
+        // The routed record gets a copy of the headers, like a record created by ConnectRecord#newRecord() without headers
+        plan.mutableHeaders();
+        return plan.toRecord();
+    }
+
+    @Override
+    public boolean apply(RecordPlan<R> plan) {
+        route(plan);
+        return true;
+    }
+
+    /**
+     * Updates the topic, key and value of the planned record if the topic matches the routing regex.
+     *
+     * @return {@code true} if the record was routed, {@code false} if it is left unchanged
+     */
+    private boolean route(RecordPlan<R> plan) {
+        final String oldTopic = plan.topic();
         final String newTopic = determineNewTopic(oldTopic);
 
         if (newTopic == null) {
-            return record;
+            return false;
         }
 
         if (newTopic.isEmpty()) {
             LOGGER.warn("Routing regex returned an empty topic name, propagating original record");
-            return record;
+            return false;
         }
 
         LOGGER.debug("Applying topic name transformation from {} to {}", oldTopic, newTopic);
@@ -238,38 +258,27 @@ public R apply(R record) {
         Struct newKey = null;
 
         // Key could be null in the case of a table without a primary key
-        if (record.key() != null) {
-            final Struct oldKey = requireStruct(record.key(), "Updating schema");
+        if (plan.key() != null) {
+            final Struct oldKey = requireStruct(plan.key(), "Updating schema");
             newKeySchema = updateKeySchema(oldKey.schema(), newTopic);
             newKey = updateKey(newKeySchema, oldKey, oldTopic);
         }
 
+        plan.topic(newTopic).key(newKeySchema, newKey);
+
         // In case of tombstones or non-CDC events (heartbeats, schema change events),
         // leave the value as-is
-        if (record.value() == null || !smtManager.isValidEnvelope(record)) {
+        if (plan.value() == null || !smtManager.isValidEnvelope(plan)) {
             // Value will be null in the case of a delete event tombstone
-            return record.newRecord(
-                    newTopic,
-                    record.kafkaPartition(),
-                    newKeySchema,
-                    newKey,
-                    record.valueSchema(),
-                    record.value(),
-                    record.timestamp());
+            return true;
         }
 
-        final Struct oldEnvelope = requireStruct(record.value(), "Updating schema");
+        final Struct oldEnvelope = requireStruct(plan.value(), "Updating schema");
         final Schema newEnvelopeSchema = updateEnvelopeSchema(oldEnvelope.schema(), newTopic);
         final Struct newEnvelope = updateEnvelope(newEnvelopeSchema, oldEnvelope);
 
-        return record.newRecord(
-                newTopic,
-                record.kafkaPartition(),
-                newKeySchema,
-                newKey,
-                newEnvelopeSchema,
-                newEnvelope,
-                record.timestamp());
+        plan.value(newEnvelopeSchema, newEnvelope);
+        return true;
     }
 
     @Override
@@ -5,6 +5,7 @@
  */
 package io.debezium.transforms;
 
+import static io.debezium.data.Envelope.FieldName.AFTER;
 import static io.debezium.data.Envelope.FieldName.OPERATION;
 import static io.debezium.transforms.ExtractNewRecordStateConfigDefinition.CONFIG_FIELDS;
 import static org.apache.kafka.connect.transforms.util.Requirements.requireStruct;
@@ -50,7 +51,7 @@
  * @param <R> the subtype of {@link ConnectRecord} on which this transformation will operate
  * @author Jiri Pechanec
  */
-public class ExtractNewRecordState<R extends ConnectRecord<R>> extends AbstractExtractNewRecordState<R> implements ConfigDescriptor {
+public class ExtractNewRecordState<R extends ConnectRecord<R>> extends AbstractExtractNewRecordState<R> implements FusibleTransformation<R>, ConfigDescriptor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ExtractNewRecordState.class);
 
@@ -87,6 +88,7 @@
     private boolean dropFieldsFromKey;
     private boolean dropFieldsKeepSchemaCompatible;
     private BoundedConcurrentHashMap<NewRecordValueMetadata, Schema> schemaUpdateCache;
+    private BoundedConcurrentHashMap<SchemaPlanKey, NewRecordValuePlan> valuePlanCache;
 
     private final Field.Set configFields = CONFIG_FIELDS.with(
             DROP_FIELDS_HEADER, DROP_FIELDS_FROM_KEY, DROP_FIELDS_KEEP_SCHEMA_COMPATIBLE);
@@ -99,6 +101,7 @@ public void configure(final Map<String, ?> configs) {
         dropFieldsFromKey = config.getBoolean(DROP_FIELDS_FROM_KEY);
         dropFieldsKeepSchemaCompatible = config.getBoolean(DROP_FIELDS_KEEP_SCHEMA_COMPATIBLE);
         schemaUpdateCache = new BoundedConcurrentHashMap<>(SCHEMA_CACHE_SIZE);
+        valuePlanCache = new BoundedConcurrentHashMap<>(SCHEMA_CACHE_SIZE);
     }
 
     @Override
@@ -108,7 +111,7 @@ public R doApply(final R record) {
 
         // Add headers if needed
         if ((isValidEnvelope || isTombstone) && !additionalHeaders.isEmpty()) {
-            Headers headersToAdd = makeHeaders(additionalHeaders, (Struct) record.value());
+            Headers headersToAdd = makeHeaders((Struct) record.value());
             headersToAdd.forEach(h -> record.headers().add(h));
         }
 
@@ -167,6 +170,34 @@ public R doApply(final R record) {
         return newRecord;
     }
 
+    @Override
+    public boolean apply(RecordPlan<R> plan) {
+        // Only the unwrapping of insert and update events is fused, the other events and options are handled on a record
+        if (plan.value() == null || routeByField != null || !Strings.isNullOrEmpty(dropFieldsHeaderName) || extractRecordStrategy.isRewriteMode()) {
+            return plan.apply(this);
+        }
+
+        if (!smtManager.isValidEnvelope(plan)) {
+            return true;
+        }
+
+        final Struct envelope = requireStruct(plan.value(), PURPOSE);
+        final org.apache.kafka.connect.data.Field afterField = envelope.schema().field(AFTER);
+        final Object after = afterField != null ? envelope.get(afterField) : null;
+        if (!(after instanceof Struct)) {
+            return plan.apply(this);
+        }
+
+        if (!additionalHeaders.isEmpty()) {
+            final Headers headers = plan.mutableHeaders();
+            makeHeaders(envelope).forEach(headers::add);
+        }
+
+        final Struct updatedValue = addFields(additionalFields, envelope, (Struct) after);
+        plan.value(updatedValue.schema(), updatedValue);
+        return true;
+    }
+
     @Override
     public Iterable<Field> validateConfigFields() {
         return configFields;
@@ -181,44 +212,46 @@ public ConfigDef config() {
 
     private R addFields(List<FieldReference> additionalFields, R originalRecord, R unwrappedRecord) {
         final Struct value = requireStruct(unwrappedRecord.value(), PURPOSE);
-        Struct originalRecordValue = (Struct) originalRecord.value();
-
-        Schema updatedSchema = schemaUpdateCache.computeIfAbsent(buildCacheKey(value, originalRecord),
-                s -> makeUpdatedSchema(additionalFields, value.schema(), originalRecordValue));
-
-        // Update the value with the new fields
-        Struct updatedValue = new Struct(updatedSchema);
-        for (org.apache.kafka.connect.data.Field field : value.schema().fields()) {
-            // We use getWithoutDefault method (instead of get) to get the raw value of the field
-            // Using get method may perform unwanted manipulation for the value (e.g: replacing null value with default value)
-            updatedValue.put(field.name(), value.getWithoutDefault(field.name()));
-
-        }
-
-        for (FieldReference fieldReference : additionalFields) {
-            Optional<Schema> schema = fieldReference.getSchema(originalRecordValue.schema());
-            if (schema.isPresent()) {
-                updatedValue = updateValue(fieldReference, updatedValue, originalRecordValue);
-            }
-        }
+        final Struct updatedValue = addFields(additionalFields, (Struct) originalRecord.value(), value);
 
         return unwrappedRecord.newRecord(
                 unwrappedRecord.topic(),
                 unwrappedRecord.kafkaPartition(),
                 unwrappedRecord.keySchema(),
                 unwrappedRecord.key(),
-                updatedSchema,
+                updatedValue.schema(),
                 updatedValue,
                 unwrappedRecord.timestamp());
     }
 
-    private NewRecordValueMetadata buildCacheKey(Struct value, R originalRecord) {
+    private Struct addFields(List<FieldReference> additionalFields, Struct originalRecordValue, Struct value) {
+        final String operation = originalRecordValue.getString(OPERATION);
+        final NewRecordValuePlan plan = valuePlanCache.computeIfAbsent(
+                new SchemaPlanKey(value.schema(), originalRecordValue.schema(), operation),
+                key -> compileValuePlan(additionalFields, originalRecordValue, value));
+        return plan.apply(originalRecordValue, value);
+    }
+
+    private NewRecordValuePlan compileValuePlan(List<FieldReference> additionalFields, Struct originalRecordValue, Struct value) {
+        final Schema updatedSchema = schemaUpdateCache.computeIfAbsent(buildCacheKey(value, originalRecordValue),
+                s -> makeUpdatedSchema(additionalFields, value.schema(), originalRecordValue));
+
+        final List<FieldReference> presentFields = new ArrayList<>(additionalFields.size());
+        for (FieldReference fieldReference : additionalFields) {
+            if (fieldReference.getSchema(originalRecordValue.schema()).isPresent()) {
+                presentFields.add(fieldReference);
+            }
+        }
+        return new NewRecordValuePlan(updatedSchema, value.schema(), presentFields);
+    }
+
+    private NewRecordValueMetadata buildCacheKey(Struct value, Struct originalRecordValue) {
         // This is needed because in case using this SMT after ExtractChangedRecordState and HeaderToValue
         // If we only use the value schema as cache key, it will be calculated only on `read` record and any other event will use the value in cache.
         // But since ExtractChangedRecordState generates changed field with `update` or `delete` operation and then eventually copied to the payload with HeaderToValue SMT,
         // the schema in that case will never be updated since cached on the first `read` operation.
         // Using also the operation in the cache key will solve the problem.
-        return new NewRecordValueMetadata(value.schema(), ((Struct) originalRecord.value()).getString(OPERATION));
+        return new NewRecordValueMetadata(value.schema(), originalRecordValue.getString(OPERATION));
     }
 
     private R dropFields(R record) {
@@ -301,8 +334,60 @@ private SchemaBuilder updateSchema(FieldReference fieldReference, SchemaBuilder
         return builder.field(fieldReference.getNewField(), fieldSchema);
     }
 
-    private Struct updateValue(FieldReference fieldReference, Struct updatedValue, Struct struct) {
-        return updatedValue.put(fieldReference.getNewField(), fieldReference.getValue(struct));
+    /**
+     * The unwrapping of the events with given value and envelope schemas. The positions of the copied and added
+     * fields in the updated schema are resolved once, so that creating the updated value of a record takes a
+     * single pass over the fields, without looking up fields by name or building schemas.
+     */
+    private static final class NewRecordValuePlan {
+        private final Schema updatedSchema;
+        private final org.apache.kafka.connect.data.Field[] sourceFields;
+        private final org.apache.kafka.connect.data.Field[] targetFields;
+        private final boolean[] withDefault;
+        private final FieldReference[] addedReferences;
+        private final org.apache.kafka.connect.data.Field[] addedFields;
+
+        NewRecordValuePlan(Schema updatedSchema, Schema valueSchema, List<FieldReference> presentFields) {
+            this.updatedSchema = updatedSchema;
+
+            final List<org.apache.kafka.connect.data.Field> fields = valueSchema.fields();
+            sourceFields = fields.toArray(new org.apache.kafka.connect.data.Field[0]);
+            targetFields = new org.apache.kafka.connect.data.Field[sourceFields.length];
+            withDefault = new boolean[sourceFields.length];
+            for (int i = 0; i < sourceFields.length; i++) {
+                targetFields[i] = updatedSchema.field(sourceFields[i].name());
+                withDefault[i] = sourceFields[i].schema().defaultValue() != null;
+            }
+
+            addedReferences = presentFields.toArray(new FieldReference[0]);
+            addedFields = new org.apache.kafka.connect.data.Field[addedReferences.length];
+            for (int i = 0; i < addedReferences.length; i++) {
+                addedFields[i] = updatedSchema.field(addedReferences[i].getNewField());
+            }
+        }
+
+        Struct apply(Struct originalRecordValue, Struct value) {
+            final Struct updatedValue = new Struct(updatedSchema);
+            for (int i = 0; i < sourceFields.length; i++) {
+                // The raw value of the field is copied, as get() would replace a null value with the default value
+                final Object fieldValue = withDefault[i] ? value.getWithoutDefault(sourceFields[i].name()) : value.get(sourceFields[i]);
+                put(updatedValue, targetFields[i], sourceFields[i].name(), fieldValue);
+            }
+            for (int i = 0; i < addedReferences.length; i++) {
+                put(updatedValue, addedFields[i], addedReferences[i].getNewField(), addedReferences[i].getValue(originalRecordValue));
+            }
+            return updatedValue;
+        }
+
+        private static void put(Struct struct, org.apache.kafka.connect.data.Field field, String fieldName, Object value) {
+            if (field != null) {
+                struct.put(field, value);
+            }
+            else {
+                // The schema cached for an equal value schema may lack an added field, put() rejects the value then
+                struct.put(fieldName, value);
+            }
+        }
     }
 
     @Override
@@ -24,7 +24,6 @@
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.header.Header;
 import org.apache.kafka.connect.header.Headers;
-import org.apache.kafka.connect.transforms.Transformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,7 +34,7 @@
 import io.debezium.metadata.ConfigDescriptor;
 import io.debezium.util.BoundedConcurrentHashMap;
 
-public class HeaderToValue<R extends ConnectRecord<R>> implements Transformation<R>, Versioned, ConfigDescriptor {
+public class HeaderToValue<R extends ConnectRecord<R>> implements FusibleTransformation<R>, Versioned, ConfigDescriptor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HeaderToValue.class);
     public static final String FIELDS_CONF = "fields";
@@ -147,12 +146,60 @@ public R apply(R record) {
             return record;
         }
 
-        final Struct value = requireStruct(record.value(), "Header field insertion");
+        final Struct updatedValue = makeUpdatedValue(requireStruct(record.value(), "Header field insertion"), record.headers());
+        if (updatedValue == null) {
+            return record;
+        }
+
+        Headers updatedHeaders = record.headers();
+        if (MOVE.equals(operation)) {
+            updatedHeaders = headersUpdateCache.computeIfAbsent(record.headers(), this::removeHeaders);
+        }
+
+        return record.newRecord(
+                record.topic(),
+                record.kafkaPartition(),
+                record.keySchema(),
+                record.key(),
+                updatedValue.schema(),
+                updatedValue,
+                record.timestamp(),
+                updatedHeaders);
+    }
+
+    @Override
+    public boolean apply(RecordPlan<R> plan) {
+
+        if (plan.value() == null) {
+            LOGGER.trace("Tombstone {} arrived and will be skipped", maybeRedactSensitiveData(plan.key()));
+            return true;
+        }
+
+        final Struct updatedValue = makeUpdatedValue(requireStruct(plan.value(), "Header field insertion"), plan.headers());
+        if (updatedValue == null) {
+            return true;
+        }
+
+        if (MOVE.equals(operation)) {
+            final Headers updatedHeaders = plan.mutableHeaders();
+            headers.forEach(updatedHeaders::remove);
+        }
+
+        plan.value(updatedValue.schema(), updatedValue);
+        return true;
+    }
+
+    /**
+     * Creates the value with the fields taken from the headers.
+     *
+     * @return the updated value, or {@code null} if none of the headers is present
+     */
+    private Struct makeUpdatedValue(Struct value, Headers recordHeaders) {
 
         LOGGER.trace("Processing record {}", maybeRedactSensitiveData(value));
 
         final List<ConnectRecordUtil.NewEntry> newEntries = new LinkedList<>();
-        final Iterator<Header> iter = record.headers().iterator();
+        final Iterator<Header> iter = recordHeaders.iterator();
         while (iter.hasNext()) {
             final Header header = iter.next();
             int headerIndex = headers.indexOf(header.key());
@@ -162,7 +209,7 @@ public R apply(R record) {
         }
 
         if (newEntries.isEmpty()) {
-            return record;
+            return null;
         }
 
         Schema updatedSchema = schemaUpdateCache.computeIfAbsent(value.schema(), valueSchema -> ConnectRecordUtil.makeNewSchema(valueSchema, newEntries));
@@ -170,20 +217,7 @@ public R apply(R record) {
         Struct updatedValue = ConnectRecordUtil.makeUpdatedValue(value, newEntries, updatedSchema);
         LOGGER.trace("Updated value: {}", maybeRedactSensitiveData(updatedValue));
 
-        Headers updatedHeaders = record.headers();
-        if (MOVE.equals(operation)) {
-            updatedHeaders = headersUpdateCache.computeIfAbsent(record.headers(), this::removeHeaders);
-        }
-
-        return record.newRecord(
-                record.topic(),
-                record.kafkaPartition(),
-                record.keySchema(),
-                record.key(),
-                updatedSchema,
-                updatedValue,
-                record.timestamp(),
-                updatedHeaders);
+        return updatedValue;
     }
 
     private Headers removeHeaders(Headers originalHeaders) {
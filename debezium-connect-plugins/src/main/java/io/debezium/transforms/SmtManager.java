@@ -14,6 +14,7 @@
 import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.config.ConfigValue;
 import org.apache.kafka.connect.connector.ConnectRecord;
+import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,9 +45,17 @@ public static boolean isGenericOrTruncateMessage(SourceRecord originalRecord) {
     }
 
     public boolean isValidEnvelope(final R record) {
-        if (record.valueSchema() == null ||
-                record.valueSchema().name() == null ||
-                !Envelope.isEnvelopeSchema(record.valueSchema())) {
+        return isValidEnvelope(record.valueSchema());
+    }
+
+    public boolean isValidEnvelope(final RecordPlan<R> plan) {
+        return isValidEnvelope(plan.valueSchema());
+    }
+
+    private boolean isValidEnvelope(final Schema valueSchema) {
+        if (valueSchema == null ||
+                valueSchema.name() == null ||
+                !Envelope.isEnvelopeSchema(valueSchema)) {
             LOGGER.debug("Expected Envelope for transformation, passing it unchanged");
             return false;
         }
@@ -30,7 +30,6 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.errors.DataException;
-import org.apache.kafka.connect.transforms.Transformation;
 import org.apache.kafka.connect.transforms.util.Requirements;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,7 +53,7 @@
  *
  */
 
-public class TimezoneConverter<R extends ConnectRecord<R>> implements Transformation<R>, Versioned, ConfigDescriptor {
+public class TimezoneConverter<R extends ConnectRecord<R>> implements FusibleTransformation<R>, Versioned, ConfigDescriptor {
     private static final Logger LOGGER = LoggerFactory.getLogger(TimezoneConverter.class);
 
     private static final Field CONVERTED_TIMEZONE = Field.create("converted.timezone")
@@ -135,9 +134,30 @@ public R apply(R record) {
             return record;
         }
 
-        Struct value = (Struct) record.value();
+        convert((Struct) record.value(), record.topic());
+
+        return record.newRecord(
+                record.topic(),
+                record.kafkaPartition(),
+                record.keySchema(),
+                record.key(),
+                record.valueSchema(),
+                record.value(),
+                record.timestamp(),
+                record.headers());
+    }
+
+    @Override
+    public boolean apply(RecordPlan<R> plan) {
+        // The timestamps are converted in place, so the planned record does not change
+        if (plan.value() != null && smtManager.isValidEnvelope(plan)) {
+            convert((Struct) plan.value(), plan.topic());
+        }
+        return true;
+    }
+
+    private void convert(Struct value, String topic) {
         String table = getTableFromSource(value);
-        String topic = record.topic();
 
         if (includeList.isEmpty() && excludeList.isEmpty()) {
             handleAllRecords(value, table, topic);
@@ -148,16 +168,6 @@ else if (!includeList.isEmpty()) {
         else {
             handleExclude(value, table, topic);
         }
-
-        return record.newRecord(
-                record.topic(),
-                record.kafkaPartition(),
-                record.keySchema(),
-                record.key(),
-                record.valueSchema(),
-                record.value(),
-                record.timestamp(),
-                record.headers());
     }
 
     @Override
@@ -1007,6 +1007,41 @@ public void testDeleteRewriteToTombstoneAndDropActualTombstone() {
         }
     }
 
+    @Test
+    public void testAddFieldsAndHeadersForRecordsOfDifferentSchemas() {
+        try (ExtractNewRecordState<SourceRecord> transform = new ExtractNewRecordState<>()) {
+            final Map<String, String> props = new HashMap<>();
+            props.put(ADD_FIELDS, "op,lsn");
+            props.put(ADD_HEADERS, "op,lsn");
+            transform.configure(props);
+
+            for (int i = 0; i < 2; i++) {
+                final SourceRecord create = transform.apply(createCreateRecord());
+                assertThat(((Struct) create.value()).get("id")).isEqualTo((byte) 1);
+                assertThat(((Struct) create.value()).get("name")).isEqualTo("myRecord");
+                assertThat(((Struct) create.value()).get("__op")).isEqualTo(Envelope.Operation.CREATE.code());
+                assertThat(((Struct) create.value()).get("__lsn")).isEqualTo(1234);
+                assertThat(getSourceRecordHeaderByKey(create, "__op")).isEqualTo(Envelope.Operation.CREATE.code());
+
+                final SourceRecord update = transform.apply(createUpdateRecord());
+                assertThat(((Struct) update.value()).get("__op")).isEqualTo(Envelope.Operation.UPDATE.code());
+                assertThat(getSourceRecordHeaderByKey(update, "__op")).isEqualTo(Envelope.Operation.UPDATE.code());
+                assertThat(getSourceRecordHeaderByKey(update, "__lsn")).isEqualTo(String.valueOf(1234));
+
+                final SourceRecord withOptionalNull = transform.apply(createCreateRecordWithOptionalNull());
+                assertThat(((Struct) withOptionalNull.value()).getWithoutDefault("name")).isNull();
+                assertThat(((Struct) withOptionalNull.value()).get("__op")).isEqualTo(Envelope.Operation.CREATE.code());
+
+                final SourceRecord withAddedColumn = transform.apply(createCreateRecordAddingColumn("age", 42L));
+                assertThat(((Struct) withAddedColumn.value()).get("age")).isEqualTo(42L);
+                assertThat(((Struct) withAddedColumn.value()).get("__lsn")).isEqualTo(1234);
+                assertThat(withAddedColumn.headers()).hasSize(2);
+            }
+
+            assertThat(transform.apply(createCreateRecord()).valueSchema()).isSameAs(transform.apply(createCreateRecord()).valueSchema());
+        }
+    }
+
     // Added tests to verify that the connector proactively rejects invalid ENUM values
     // (like 'jbsdfkjsd' for delete handling mode) during the configure phase, preventing runtime failures.
     @Test
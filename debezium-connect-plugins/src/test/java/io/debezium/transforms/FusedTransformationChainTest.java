@@ -0,0 +1,183 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.transforms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.transforms.Transformation;
+import org.apache.kafka.connect.transforms.predicates.HasHeaderKey;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.data.Envelope;
+import io.debezium.time.Timestamp;
+
+public class FusedTransformationChainTest {
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct()
+            .name("server.inventory.customers_shard_1.Key")
+            .field("id", Schema.INT32_SCHEMA)
+            .build();
+
+    private static final Schema RECORD_SCHEMA = SchemaBuilder.struct()
+            .name("server.inventory.customers_shard_1.Value")
+            .optional()
+            .field("id", Schema.INT32_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("created", Timestamp.builder().optional().build())
+            .build();
+
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct()
+            .optional()
+            .field("table", Schema.STRING_SCHEMA)
+            .field("lsn", Schema.INT32_SCHEMA)
+            .build();
+
+    private static final Schema HEARTBEAT_SCHEMA = SchemaBuilder.struct()
+            .name("io.debezium.connector.common.Heartbeat")
+            .field("ts_ms", Schema.INT64_SCHEMA)
+            .build();
+
+    private static final Envelope ENVELOPE = Envelope.defineSchema()
+            .withName("server.inventory.customers_shard_1.Envelope")
+            .withRecord(RECORD_SCHEMA)
+            .withSource(SOURCE_SCHEMA)
+            .build();
+
+    @Test
+    public void shouldProduceSameRecordsAsUnfusedChain() {
+        final List<Supplier<SourceRecord>> records = List.of(
+                () -> record(ENVELOPE.create(row(1, "Alice"), source(), Instant.ofEpochMilli(1000))),
+                () -> record(ENVELOPE.update(row(1, "Alice"), row(1, "Bob"), source(), Instant.ofEpochMilli(2000))),
+                () -> record(ENVELOPE.delete(row(1, "Bob"), source(), Instant.ofEpochMilli(3000))),
+                () -> new SourceRecord(Map.of(), Map.of(), "server.inventory.customers_shard_1", KEY_SCHEMA, key(1), null, null),
+                FusedTransformationChainTest::heartbeat);
+
+        for (boolean envelopeTransformationsFirst : new boolean[]{ false, true }) {
+            for (Supplier<SourceRecord> record : records) {
+                // The transformations may modify the values in place, so each chain gets its own copy of the record
+                final SourceRecord expected = applyUnfused(createChain(envelopeTransformationsFirst), record.get());
+                final SourceRecord actual = new FusedTransformationChain<>(createChain(envelopeTransformationsFirst)).apply(record.get());
+                assertThat(actual).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void shouldApplyTransformationsWhichCannotBeFused() {
+        final HasHeaderKey<SourceRecord> hasHeader = new HasHeaderKey<>();
+        hasHeader.configure(Map.of("name", "__op"));
+        final Transformation<SourceRecord> dropOnHeader = new Transformation<>() {
+            @Override
+            public SourceRecord apply(SourceRecord record) {
+                return hasHeader.test(record) && "d".equals(record.headers().lastWithName("__op").value()) ? null : record;
+            }
+
+            @Override
+            public ConfigDef config() {
+                return null;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public void configure(Map<String, ?> configs) {
+            }
+        };
+
+        final List<Transformation<SourceRecord>> chain = createChain(false);
+        chain.add(2, dropOnHeader);
+        final FusedTransformationChain<SourceRecord> fused = new FusedTransformationChain<>(chain);
+
+        final SourceRecord created = fused.apply(record(ENVELOPE.create(row(2, "Carol"), source(), Instant.ofEpochMilli(1000))));
+        assertThat(created.topic()).isEqualTo("server.inventory.customers_all_shards");
+        assertThat(((Struct) created.value()).getString("name")).isEqualTo("Carol");
+
+        assertThat(fused.apply(record(ENVELOPE.delete(row(2, "Carol"), source(), Instant.ofEpochMilli(2000))))).isNull();
+    }
+
+    @Test
+    public void shouldReturnUnmodifiedRecord() {
+        final TimezoneConverter<SourceRecord> converter = new TimezoneConverter<>();
+        converter.configure(Map.of("converted.timezone", "UTC"));
+        final SourceRecord heartbeat = heartbeat();
+
+        assertThat(new FusedTransformationChain<>(List.<Transformation<SourceRecord>> of(converter)).apply(heartbeat)).isSameAs(heartbeat);
+    }
+
+    private static List<Transformation<SourceRecord>> createChain(boolean envelopeTransformationsFirst) {
+        final ExtractNewRecordState<SourceRecord> extractNewRecordState = new ExtractNewRecordState<>();
+        extractNewRecordState.configure(Map.of(
+                "add.fields", "op,table",
+                "add.headers", "op"));
+
+        final ByLogicalTableRouter<SourceRecord> router = new ByLogicalTableRouter<>();
+        router.configure(Map.of(
+                "topic.regex", "(.*)customers_shard(.*)",
+                "topic.replacement", "$1customers_all_shards"));
+
+        final TimezoneConverter<SourceRecord> timezoneConverter = new TimezoneConverter<>();
+        timezoneConverter.configure(Map.of("converted.timezone", "+05:30"));
+
+        final HeaderToValue<SourceRecord> headerToValue = new HeaderToValue<>();
+        headerToValue.configure(Map.of(
+                "headers", "__op",
+                "fields", "operation",
+                "operation", "move"));
+
+        return envelopeTransformationsFirst
+                ? new ArrayList<>(List.of(router, timezoneConverter, extractNewRecordState, headerToValue))
+                : new ArrayList<>(List.of(extractNewRecordState, router, timezoneConverter, headerToValue));
+    }
+
+    private static SourceRecord applyUnfused(List<Transformation<SourceRecord>> chain, SourceRecord record) {
+        for (Transformation<SourceRecord> transformation : chain) {
+            record = transformation.apply(record);
+            if (record == null) {
+                return null;
+            }
+        }
+        return record;
+    }
+
+    private static SourceRecord record(Struct value) {
+        return new SourceRecord(Map.of(), Map.of(), "server.inventory.customers_shard_1", null, KEY_SCHEMA, key(1), ENVELOPE.schema(), value,
+                1_000L);
+    }
+
+    private static SourceRecord heartbeat() {
+        return new SourceRecord(Map.of(), Map.of(), "__debezium-heartbeat.server", HEARTBEAT_SCHEMA, new Struct(HEARTBEAT_SCHEMA).put("ts_ms", 1_000L));
+    }
+
+    private static Struct key(int id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+
+    private static Struct row(int id, String name) {
+        return new Struct(RECORD_SCHEMA)
+                .put("id", id)
+                .put("name", name)
+                .put("created", 1_700_000_000_000L);
+    }
+
+    private static Struct source() {
+        return new Struct(SOURCE_SCHEMA)
+                .put("table", "customers_shard_1")
+                .put("lsn", 1);
+    }
+}
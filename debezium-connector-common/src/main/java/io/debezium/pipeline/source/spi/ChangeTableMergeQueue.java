@@ -0,0 +1,137 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.spi;
+
+import java.sql.SQLException;
+
+/**
+ * Merges the rows of several {@link ChangeTableResultSet}s into a total order of changes by their
+ * transaction log position.
+ *
+ * The result sets are kept in a binary min-heap keyed by their current change position, so that
+ * finding the next change costs {@code O(log n)} comparisons rather than one comparison per change
+ * table. Result sets with equal positions are returned in the order in which they were passed to
+ * the queue.<p>
+ *
+ * The result set returned by {@link #next()} is owned by the caller until the next call, which may
+ * advance it any number of times; its position in the heap is restored on the next call, and it is
+ * removed from the queue once it is completed.
+ *
+ * @param <R> the change table result set type
+ * @param <T> the transaction log position type
+ */
+public class ChangeTableMergeQueue<R extends ChangeTableResultSet<?, T>, T extends Comparable<T>> {
+
+    private final Object[] heap;
+    private final int[] order;
+    private int size;
+    private boolean headTaken;
+
+    /**
+     * Creates the queue, the result sets must have already been positioned on their first row.
+     *
+     * @param resultSets the change table result sets, should not be {@code null}
+     * @throws SQLException if the position of a result set cannot be read
+     */
+    public ChangeTableMergeQueue(R[] resultSets) throws SQLException {
+        this.heap = new Object[resultSets.length];
+        this.order = new int[resultSets.length];
+        for (int i = 0; i < resultSets.length; i++) {
+            if (!resultSets[i].isCompleted()) {
+                heap[size] = resultSets[i];
+                order[size] = i;
+                siftUp(size++);
+            }
+        }
+    }
+
+    /**
+     * Returns the result set whose current change has the smallest position.
+     *
+     * @return the result set, or {@code null} if all result sets are completed
+     * @throws SQLException if the position of a result set cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    public R next() throws SQLException {
+        if (headTaken) {
+            headTaken = false;
+            if (get(0).isCompleted()) {
+                removeHead();
+            }
+            else {
+                siftDown(0);
+            }
+        }
+        if (size == 0) {
+            return null;
+        }
+        headTaken = true;
+        return (R) heap[0];
+    }
+
+    /**
+     * @return the number of result sets that are not completed
+     */
+    public int size() {
+        return size;
+    }
+
+    private void removeHead() throws SQLException {
+        size--;
+        heap[0] = heap[size];
+        order[0] = order[size];
+        heap[size] = null;
+        if (size > 0) {
+            siftDown(0);
+        }
+    }
+
+    private void siftUp(int index) throws SQLException {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (compare(index, parent) >= 0) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) throws SQLException {
+        for (;;) {
+            final int left = 2 * index + 1;
+            if (left >= size) {
+                break;
+            }
+            final int right = left + 1;
+            final int smallest = (right < size && compare(right, left) < 0) ? right : left;
+            if (compare(smallest, index) >= 0) {
+                break;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private int compare(int i, int j) throws SQLException {
+        final int comparison = get(i).getChangePosition().compareTo(get(j).getChangePosition());
+        return comparison != 0 ? comparison : Integer.compare(order[i], order[j]);
+    }
+
+    private void swap(int i, int j) {
+        final Object resultSet = heap[i];
+        heap[i] = heap[j];
+        heap[j] = resultSet;
+        final int ordinal = order[i];
+        order[i] = order[j];
+        order[j] = ordinal;
+    }
+
+    @SuppressWarnings("unchecked")
+    private R get(int index) {
+        return (R) heap[index];
+    }
+}
@@ -591,17 +591,17 @@ private void createChunkedDataEvents(ChangeEventSourceContext sourceContext, Rel
 
             final List<SnapshotChunk> tableChunks;
             final List<Column> keyColumns = getKeyColumnsForChunking(table);
-            if (keyColumns.isEmpty()) {
-                // Keyless table - single chunk
-                LOGGER.info("Table '{}' has no key columns, using single chunk.", tableId);
-                tableChunks = List.of(new SnapshotChunk(tableId, table, null, null, 0, 1, tableOrder, tableCount, snapshotSelect.statement(), rowCount));
-            }
-            else if (snapshotSelect.selectOverride()) {
+            if (snapshotSelect.selectOverride()) {
                 // ideally we'd like to chunk these but for now, given the complexity of the SQL generation,
                 // we decided in this first pass we will simply let these fall back to single chunks
                 LOGGER.info("Table '{}' uses a snapshot select override, using single chunk.", tableId);
                 tableChunks = List.of(new SnapshotChunk(tableId, table, null, null, 0, 1, tableOrder, tableCount, snapshotSelect.statement(), rowCount));
             }
+            else if (keyColumns.isEmpty()) {
+                final int multiplier = connectorConfig.getSnapshotMaxThreadsTableMultiplierAsInteger(tableId);
+                final int numChunks = calculateChunkCount(rowCount, snapshotMaxThreads, multiplier);
+                tableChunks = createChunksForKeylessTable(table, numChunks, tableOrder, tableCount, snapshotSelect.statement(), rowCount);
+            }
             else {
                 // Calculate chunk count and boundaries
                 final int multiplier = connectorConfig.getSnapshotMaxThreadsTableMultiplierAsInteger(tableId);
@@ -754,6 +754,34 @@ protected List<Column> getKeyColumnsForChunking(Table table) {
         return table.primaryKeyColumns();
     }
 
+    /**
+     * Creates the chunks for a table that has no key columns. By default, such tables are read as a single chunk,
+     * as there are no key ranges to split the table by.
+     *
+     * @param table the table, never {@code null}
+     * @param numChunks the desired number of chunks
+     * @param tableOrder the order of the table in the snapshot
+     * @param tableCount the number of tables in the snapshot
+     * @param selectStatement the snapshot select statement of the table
+     * @param rowCount the estimated number of rows of the table
+     * @return the chunks of the table, never {@code null} or empty
+     */
+    protected List<SnapshotChunk> createChunksForKeylessTable(Table table, int numChunks, int tableOrder, int tableCount,
+                                                              String selectStatement, OptionalLong rowCount) {
+        LOGGER.info("Table '{}' has no key columns, using single chunk.", table.id());
+        return List.of(new SnapshotChunk(table.id(), table, null, null, 0, 1, tableOrder, tableCount, selectStatement, rowCount));
+    }
+
+    /**
+     * Get the query builder that builds and prepares the query of a snapshot chunk.
+     *
+     * @param jdbcConnection the connection the chunk is read with, never {@code null}
+     * @return the query builder, never {@code null}
+     */
+    protected SnapshotChunkQueryBuilder getSnapshotChunkQueryBuilder(JdbcConnection jdbcConnection) {
+        return new SnapshotChunkQueryBuilder(jdbcConnection);
+    }
+
     protected int calculateChunkCount(OptionalLong rowCount, int maxThreads, int multiplier) {
         if (rowCount.isEmpty() || rowCount.getAsLong() == 0) {
             return 1;
@@ -972,7 +1000,7 @@ protected void doCreateDataEventsForChunk(ChangeEventSourceContext sourceContext
         final List<Column> keyColumns = getKeyColumnsForChunking(table);
 
         // Build chunk query using standalone SnapshotChunkQueryBuilder
-        final SnapshotChunkQueryBuilder queryBuilder = new SnapshotChunkQueryBuilder(jdbcConnection);
+        final SnapshotChunkQueryBuilder queryBuilder = getSnapshotChunkQueryBuilder(jdbcConnection);
         final String chunkQuery = queryBuilder.buildChunkQuery(chunk, keyColumns, chunk.getBaseSelectStatement());
         final Instant sourceTableSnapshotTimestamp = getSnapshotSourceTimestamp(jdbcConnection, offset, tableId);
 
@@ -0,0 +1,46 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.transforms;
+
+import java.util.List;
+
+import org.apache.kafka.connect.connector.ConnectRecord;
+import org.apache.kafka.connect.transforms.Transformation;
+
+/**
+ * Applies a chain of transformations in a single pass, creating at most one output record for the consecutive
+ * {@link FusibleTransformation}s of the chain. Other transformations are applied to the record built from the
+ * plan so far, and the chain continues with their output.
+ *
+ * @param <R> the subtype of {@link ConnectRecord} on which the transformations operate
+ */
+public class FusedTransformationChain<R extends ConnectRecord<R>> {
+
+    private final List<Transformation<R>> transformations;
+
+    public FusedTransformationChain(List<Transformation<R>> transformations) {
+        this.transformations = List.copyOf(transformations);
+    }
+
+    /**
+     * Applies the chain to a record.
+     *
+     * @param record the record to transform, must not be {@code null}
+     * @return the transformed record, or {@code null} if one of the transformations dropped it
+     */
+    public R apply(R record) {
+        final RecordPlan<R> plan = RecordPlan.of(record);
+        for (Transformation<R> transformation : transformations) {
+            final boolean retained = transformation instanceof FusibleTransformation<R> fusible
+                    ? fusible.apply(plan)
+                    : plan.apply(transformation);
+            if (!retained) {
+                return null;
+            }
+        }
+        return plan.toRecord();
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.transforms;
+
+import org.apache.kafka.connect.connector.ConnectRecord;
+import org.apache.kafka.connect.transforms.Transformation;
+
+/**
+ * A {@link Transformation} which can be executed as a step of a {@link FusedTransformationChain}, updating the
+ * {@link RecordPlan} of the transformed record instead of creating a new record.
+ * <p>
+ * Applying the transformation to a plan must have the same outcome as {@link #apply(ConnectRecord)} applied to
+ * the record described by the plan.
+ *
+ * @param <R> the subtype of {@link ConnectRecord} on which the transformation operates
+ */
+public interface FusibleTransformation<R extends ConnectRecord<R>> extends Transformation<R> {
+
+    /**
+     * Applies the transformation to the plan of a record.
+     *
+     * @param plan the plan of the transformed record, never {@code null}
+     * @return {@code false} if the record is to be dropped, {@code true} otherwise
+     */
+    boolean apply(RecordPlan<R> plan);
+}
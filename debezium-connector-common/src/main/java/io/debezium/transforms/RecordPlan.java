@@ -0,0 +1,168 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.transforms;
+
+import org.apache.kafka.connect.connector.ConnectRecord;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.header.Headers;
+import org.apache.kafka.connect.transforms.Transformation;
+
+/**
+ * The parts of the record produced by a chain of {@link FusibleTransformation}s.
+ * <p>
+ * The transformations of a fused chain update the plan in place instead of creating a new record each, and the
+ * output record is created only once, when the chain is completed. A plan which was not modified yields the
+ * record it was created from.
+ *
+ * @param <R> the subtype of {@link ConnectRecord} on which the transformations operate
+ */
+public final class RecordPlan<R extends ConnectRecord<R>> {
+
+    private R source;
+    private String topic;
+    private Schema keySchema;
+    private Object key;
+    private Schema valueSchema;
+    private Object value;
+    private Long timestamp;
+    private Headers headers;
+    private boolean headersCopied;
+    private boolean modified;
+
+    private RecordPlan(R source) {
+        reset(source);
+    }
+
+    /**
+     * Creates a plan of the given record.
+     *
+     * @param record the record to be transformed, must not be {@code null}
+     * @return the plan, never {@code null}
+     */
+    public static <R extends ConnectRecord<R>> RecordPlan<R> of(R record) {
+        return new RecordPlan<>(record);
+    }
+
+    /**
+     * Replaces the content of the plan with the given record, e.g. the output of a transformation which
+     * cannot be fused.
+     *
+     * @param record the record, must not be {@code null}
+     */
+    public void reset(R record) {
+        source = record;
+        topic = record.topic();
+        keySchema = record.keySchema();
+        key = record.key();
+        valueSchema = record.valueSchema();
+        value = record.value();
+        timestamp = record.timestamp();
+        headers = record.headers();
+        headersCopied = false;
+        modified = false;
+    }
+
+    /**
+     * Applies a transformation which cannot update the plan to the record built from the plan, and continues with
+     * the output of the transformation.
+     *
+     * @param transformation the transformation, must not be {@code null}
+     * @return {@code false} if the transformation dropped the record, {@code true} otherwise
+     */
+    public boolean apply(Transformation<R> transformation) {
+        final R transformed = transformation.apply(toRecord());
+        if (transformed == null) {
+            return false;
+        }
+        reset(transformed);
+        return true;
+    }
+
+    /**
+     * Creates the record described by the plan.
+     *
+     * @return the record the plan was created from if it was not modified, or a new record
+     */
+    public R toRecord() {
+        if (!modified) {
+            return source;
+        }
+        return source.newRecord(topic, source.kafkaPartition(), keySchema, key, valueSchema, value, timestamp, headers);
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    public Integer kafkaPartition() {
+        return source.kafkaPartition();
+    }
+
+    public Schema keySchema() {
+        return keySchema;
+    }
+
+    public Object key() {
+        return key;
+    }
+
+    public Schema valueSchema() {
+        return valueSchema;
+    }
+
+    public Object value() {
+        return value;
+    }
+
+    public Long timestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the headers of the record, must not be modified; see {@link #mutableHeaders()}
+     */
+    public Headers headers() {
+        return headers;
+    }
+
+    /**
+     * @return the headers of the record, which may be modified without affecting the original record
+     */
+    public Headers mutableHeaders() {
+        if (!headersCopied) {
+            headers = headers.duplicate();
+            headersCopied = true;
+            modified = true;
+        }
+        return headers;
+    }
+
+    public RecordPlan<R> topic(String topic) {
+        this.topic = topic;
+        modified = true;
+        return this;
+    }
+
+    public RecordPlan<R> key(Schema keySchema, Object key) {
+        this.keySchema = keySchema;
+        this.key = key;
+        modified = true;
+        return this;
+    }
+
+    public RecordPlan<R> value(Schema valueSchema, Object value) {
+        this.valueSchema = valueSchema;
+        this.value = value;
+        modified = true;
+        return this;
+    }
+
+    public RecordPlan<R> timestamp(Long timestamp) {
+        this.timestamp = timestamp;
+        modified = true;
+        return this;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.debezium.relational.ChangeTable;
+
+public class ChangeTableMergeQueueTest {
+
+    @Test
+    public void shouldReturnChangesInPositionOrder() throws SQLException {
+        final TestResultSet[] resultSets = {
+                new TestResultSet("a", 1, 4, 7),
+                new TestResultSet("b", 2, 5, 8),
+                new TestResultSet("c", 3, 6, 9)
+        };
+
+        assertThat(drain(resultSets)).containsExactly("a1", "b2", "c3", "a4", "b5", "c6", "a7", "b8", "c9");
+    }
+
+    @Test
+    public void shouldReturnEqualPositionsInInputOrder() throws SQLException {
+        final TestResultSet[] resultSets = {
+                new TestResultSet("a", 2, 3),
+                new TestResultSet("b", 1, 2),
+                new TestResultSet("c", 2)
+        };
+
+        assertThat(drain(resultSets)).containsExactly("b1", "a2", "b2", "c2", "a3");
+    }
+
+    @Test
+    public void shouldSkipCompletedAndEmptyResultSets() throws SQLException {
+        final TestResultSet[] resultSets = {
+                new TestResultSet("a"),
+                new TestResultSet("b", 1),
+                new TestResultSet("c")
+        };
+
+        final ChangeTableMergeQueue<TestResultSet, Long> queue = new ChangeTableMergeQueue<>(resultSets);
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(drain(resultSets)).containsExactly("b1");
+        assertThat(new ChangeTableMergeQueue<>(new TestResultSet[0]).next()).isNull();
+    }
+
+    @Test
+    public void shouldRestoreOrderAfterResultSetIsAdvancedByCaller() throws SQLException {
+        final TestResultSet[] resultSets = {
+                new TestResultSet("a", 1, 2, 6),
+                new TestResultSet("b", 3, 4)
+        };
+
+        final ChangeTableMergeQueue<TestResultSet, Long> queue = new ChangeTableMergeQueue<>(resultSets);
+        final List<String> changes = new ArrayList<>();
+        TestResultSet resultSet;
+        while ((resultSet = queue.next()) != null) {
+            changes.add(resultSet.current());
+            // Consume a pair of rows at once, like an update before and after image
+            if (resultSet.getChangePosition() == 1) {
+                resultSet.next();
+                changes.add(resultSet.current());
+            }
+            resultSet.next();
+        }
+
+        assertThat(changes).containsExactly("a1", "a2", "b3", "b4", "a6");
+    }
+
+    @Test
+    public void shouldReorderResultSetWhosePositionDecreases() throws SQLException {
+        final TestResultSet[] resultSets = {
+                new TestResultSet("a", 1, 5),
+                new TestResultSet("b", 2, 0, 6)
+        };
+
+        assertThat(drain(resultSets)).containsExactly("a1", "b2", "b0", "a5", "b6");
+    }
+
+    private static List<String> drain(TestResultSet[] resultSets) throws SQLException {
+        final ChangeTableMergeQueue<TestResultSet, Long> queue = new ChangeTableMergeQueue<>(resultSets);
+        final List<String> changes = new ArrayList<>();
+        TestResultSet resultSet;
+        while ((resultSet = queue.next()) != null) {
+            changes.add(resultSet.current());
+            resultSet.next();
+        }
+        return changes;
+    }
+
+    private static class TestResultSet extends ChangeTableResultSet<ChangeTable, Long> {
+
+        private final String name;
+        private final long[] positions;
+        private int index;
+
+        TestResultSet(String name, long... positions) {
+            super(null, 0, 0);
+            this.name = name;
+            this.positions = positions;
+        }
+
+        String current() {
+            return name + positions[index];
+        }
+
+        @Override
+        public boolean next() {
+            if (index < positions.length) {
+                index++;
+            }
+            return !isCompleted();
+        }
+
+        @Override
+        public Long getChangePosition() {
+            return positions[index];
+        }
+
+        @Override
+        public boolean isCompleted() {
+            return index >= positions.length;
+        }
+
+        @Override
+        protected ResultSet getNextResultSet(Long lastChangePositionSeen) {
+            return null;
+        }
+
+        @Override
+        protected int getOperation(ResultSet resultSet) {
+            return 0;
+        }
+
+        @Override
+        protected Long getNextChangePosition(ResultSet resultSet) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.header.Header;
+
+import io.debezium.bindings.kafka.KafkaDebeziumSinkRecord;
+import io.debezium.connector.jdbc.field.JdbcFieldDescriptor;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.sink.SinkConnectorConfig;
+import io.debezium.sink.field.FieldDescriptor;
+import io.debezium.sink.filter.FieldFilterFactory;
+
+/**
+ * A reduction buffer that merges successive changes of the same row at column level.
+ *
+ * Sources may emit partial row images, in which some columns carry a placeholder instead of their value, for example
+ * unchanged TOASTed columns in PostgreSQL, or in which the unchanged columns are listed in a header, as added by the
+ * {@code ExtractChangedRecordState} transformation. Instead of keeping only the last change of a row, this buffer
+ * fills the unavailable columns of a change with the values of the earlier changes of the same row. Columns without any
+ * known value are left out of the resulting change, so that they keep their current value in the target table.
+ *
+ * When a row is deleted, the merged state of the row is discarded, so later changes of the row are never merged with
+ * values from before the delete.
+ */
+public class CoalescingRecordBuffer implements Buffer {
+
+    private final JdbcSinkConnectorConfig connectorConfig;
+    private final TableDescriptor tableDescriptor;
+    private final String unavailableValuePlaceholder;
+    private final byte[] unavailableValuePlaceholderBytes;
+    private final String unchangedFieldsHeader;
+    private Schema keySchema;
+    private Schema valueSchema;
+
+    private final Map<Object, CoalescedSinkRecord> records = new LinkedHashMap<>();
+
+    public CoalescingRecordBuffer(JdbcSinkConnectorConfig connectorConfig) {
+        this(connectorConfig, null);
+    }
+
+    public CoalescingRecordBuffer(JdbcSinkConnectorConfig connectorConfig, TableDescriptor tableDescriptor) {
+        this.connectorConfig = connectorConfig;
+        this.tableDescriptor = tableDescriptor;
+        this.unavailableValuePlaceholder = connectorConfig.getUnavailableValuePlaceholder();
+        this.unavailableValuePlaceholderBytes = unavailableValuePlaceholder != null ? unavailableValuePlaceholder.getBytes(StandardCharsets.UTF_8) : null;
+        this.unchangedFieldsHeader = connectorConfig.getUnchangedFieldsHeader();
+    }
+
+    @Override
+    public List<JdbcSinkRecord> add(JdbcSinkRecord record) {
+        List<JdbcSinkRecord> flushed = new ArrayList<>();
+        boolean isSchemaChanged = false;
+
+        if (records.isEmpty()) {
+            keySchema = record.keySchema();
+            valueSchema = record.valueSchema();
+        }
+
+        if (!Objects.equals(keySchema, record.keySchema()) || !Objects.equals(valueSchema, record.valueSchema())) {
+            keySchema = record.keySchema();
+            valueSchema = record.valueSchema();
+            flushed = flush();
+            isSchemaChanged = true;
+        }
+
+        Struct keyStruct = record.filteredKey();
+        if (keyStruct != null) {
+            records.put(keyStruct, coalesce(records.remove(keyStruct), record));
+        }
+        else {
+            throw new ConnectException("No struct-based primary key defined for record key/value, reduction buffer require struct based primary key");
+        }
+
+        if (isSchemaChanged) {
+            // current record is already added in internal buffer after flush,
+            // just return the flushed buffer ignoring buffer size check
+            return flushed;
+        }
+
+        if (records.size() >= connectorConfig.getBatchSize()) {
+            flushed = flush();
+        }
+
+        return flushed;
+    }
+
+    @Override
+    public List<JdbcSinkRecord> flush() {
+        // Changes with the same set of columns are kept together, as they are written with the same statement
+        List<JdbcSinkRecord> flushed = new ArrayList<>(records.values());
+        flushed.sort(Comparator.comparing(record -> ((CoalescedSinkRecord) record).unavailableFieldsKey));
+        records.clear();
+        return flushed;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return records.isEmpty();
+    }
+
+    @Override
+    public TableDescriptor getTableDescriptor() {
+        return tableDescriptor;
+    }
+
+    @Override
+    public void remove(JdbcSinkRecord record) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        Struct keyStruct = record.filteredKey();
+        if (keyStruct != null) {
+            records.remove(keyStruct);
+        }
+        else {
+            throw new ConnectException("No struct-based primary key defined for record key/value, reduction buffer require struct based primary key");
+        }
+    }
+
+    private CoalescedSinkRecord coalesce(CoalescedSinkRecord previous, JdbcSinkRecord record) {
+        final Struct payload = record.getPayload();
+        if (record.isDelete() || record.isTombstone() || payload == null) {
+            // deletes only bind the key, so there is nothing to merge
+            return new CoalescedSinkRecord(record, payload, Set.of());
+        }
+        final Set<String> unchangedFields = getUnchangedFields(record);
+        final Set<String> nonKeyFieldNames = record.nonKeyFieldNames();
+
+        final Struct merged = new Struct(payload.schema());
+        final Set<String> unavailableFields = new LinkedHashSet<>();
+        for (Field field : payload.schema().fields()) {
+            final String name = field.name();
+            final Object value = payload.getWithoutDefault(name);
+            if (!nonKeyFieldNames.contains(name) || !(unchangedFields.contains(name) || isUnavailable(value))) {
+                merged.put(field, value);
+            }
+            else if (previous != null && previous.hasValue(name)) {
+                merged.put(field, previous.getPayload().getWithoutDefault(name));
+            }
+            else {
+                unavailableFields.add(name);
+            }
+        }
+        return new CoalescedSinkRecord(record, merged, unavailableFields);
+    }
+
+    private boolean isUnavailable(Object value) {
+        if (value == null || unavailableValuePlaceholder == null) {
+            return false;
+        }
+        if (value instanceof String) {
+            return unavailableValuePlaceholder.equals(value);
+        }
+        if (value instanceof byte[] bytes) {
+            return Arrays.equals(unavailableValuePlaceholderBytes, bytes);
+        }
+        if (value instanceof ByteBuffer buffer) {
+            return ByteBuffer.wrap(unavailableValuePlaceholderBytes).equals(buffer);
+        }
+        if (value instanceof List<?> list) {
+            return list.size() == 1 && isUnavailable(list.get(0));
+        }
+        return false;
+    }
+
+    private Set<String> getUnchangedFields(JdbcSinkRecord record) {
+        if (unchangedFieldsHeader == null || !(record instanceof KafkaDebeziumSinkRecord kafkaRecord)) {
+            return Set.of();
+        }
+        final Header header = kafkaRecord.getOriginalKafkaRecord().headers().lastWithName(unchangedFieldsHeader);
+        if (header == null || !(header.value() instanceof Collection<?> fieldNames)) {
+            return Set.of();
+        }
+        final Set<String> unchangedFields = new LinkedHashSet<>();
+        fieldNames.forEach(fieldName -> unchangedFields.add(String.valueOf(fieldName)));
+        return unchangedFields;
+    }
+
+    /**
+     * The merged change of a row, which exposes only the columns whose values are known.
+     */
+    private static final class CoalescedSinkRecord implements JdbcSinkRecord {
+
+        private final JdbcSinkRecord delegate;
+        private final Struct payload;
+        private final Set<String> unavailableFields;
+        private final String unavailableFieldsKey;
+        private Set<String> nonKeyFieldNames;
+
+        private CoalescedSinkRecord(JdbcSinkRecord delegate, Struct payload, Set<String> unavailableFields) {
+            this.delegate = delegate;
+            this.payload = payload;
+            this.unavailableFields = unavailableFields;
+            this.unavailableFieldsKey = String.join(",", unavailableFields);
+        }
+
+        private boolean hasValue(String fieldName) {
+            return !unavailableFields.contains(fieldName);
+        }
+
+        @Override
+        public Struct getPayload() {
+            return payload;
+        }
+
+        @Override
+        public Set<String> nonKeyFieldNames() {
+            if (nonKeyFieldNames == null) {
+                if (unavailableFields.isEmpty()) {
+                    nonKeyFieldNames = delegate.nonKeyFieldNames();
+                }
+                else {
+                    nonKeyFieldNames = new LinkedHashSet<>(delegate.nonKeyFieldNames());
+                    nonKeyFieldNames.removeAll(unavailableFields);
+                }
+            }
+            return nonKeyFieldNames;
+        }
+
+        @Override
+        public Map<String, JdbcFieldDescriptor> jdbcFields() {
+            return delegate.jdbcFields();
+        }
+
+        @Override
+        public Set<String> keyFieldNames() {
+            return delegate.keyFieldNames();
+        }
+
+        @Override
+        public Struct filteredKey() {
+            return delegate.filteredKey();
+        }
+
+        @Override
+        public String topicName() {
+            return delegate.topicName();
+        }
+
+        @Override
+        public Integer partition() {
+            return delegate.partition();
+        }
+
+        @Override
+        public long offset() {
+            return delegate.offset();
+        }
+
+        @Override
+        public Object key() {
+            return delegate.key();
+        }
+
+        @Override
+        public Schema keySchema() {
+            return delegate.keySchema();
+        }
+
+        @Override
+        public Object value() {
+            return delegate.value();
+        }
+
+        @Override
+        public Schema valueSchema() {
+            return delegate.valueSchema();
+        }
+
+        @Override
+        public boolean isDebeziumMessage() {
+            return delegate.isDebeziumMessage();
+        }
+
+        @Override
+        public boolean isSchemaChange() {
+            return delegate.isSchemaChange();
+        }
+
+        @Override
+        public boolean isTombstone() {
+            return delegate.isTombstone();
+        }
+
+        @Override
+        public boolean isDelete() {
+            return delegate.isDelete();
+        }
+
+        @Override
+        public boolean isTruncate() {
+            return delegate.isTruncate();
+        }
+
+        @Override
+        public Map<String, FieldDescriptor> allFields() {
+            return delegate.allFields();
+        }
+
+        @Override
+        public Struct getFilteredKey(SinkConnectorConfig.PrimaryKeyMode primaryKeyMode, Set<String> primaryKeyFields,
+                                     FieldFilterFactory.FieldNameFilter fieldsFilter) {
+            return delegate.getFilteredKey(primaryKeyMode, primaryKeyFields, fieldsFilter);
+        }
+
+        @Override
+        public Struct getFilteredPayload(FieldFilterFactory.FieldNameFilter fieldsFilter) {
+            return delegate.getFilteredPayload(fieldsFilter);
+        }
+
+        @Override
+        public Map<String, FieldDescriptor> kafkaFields() {
+            return delegate.kafkaFields();
+        }
+
+        @Override
+        public Struct kafkaCoordinates() {
+            return delegate.kafkaCoordinates();
+        }
+
+        @Override
+        public Struct kafkaHeader() {
+            return delegate.kafkaHeader();
+        }
+
+        @Override
+        public String toString() {
+            return "CoalescedSinkRecord{" +
+                    "delegate=" + delegate +
+                    ", unavailableFields=" + unavailableFields +
+                    '}';
+        }
+    }
+}
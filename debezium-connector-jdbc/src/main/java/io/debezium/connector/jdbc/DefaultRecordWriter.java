@@ -14,11 +14,15 @@
 import java.sql.Statement;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.errors.DataException;
@@ -34,9 +38,11 @@
 import io.debezium.connector.jdbc.field.JdbcFieldDescriptor;
 import io.debezium.connector.jdbc.relational.TableDescriptor;
 import io.debezium.metadata.CollectionId;
+import io.debezium.sink.column.ColumnDescriptor;
 import io.debezium.sink.field.FieldDescriptor;
 import io.debezium.sink.valuebinding.ValueBindDescriptor;
 import io.debezium.util.Clock;
+import io.debezium.util.LRUCacheMap;
 import io.debezium.util.Metronome;
 import io.debezium.util.Stopwatch;
 
@@ -57,6 +63,9 @@ public class DefaultRecordWriter implements RecordWriter {
     private final DatabaseDialect dialect;
     private final int flushMaxRetries;
     private final Duration flushRetryDelay;
+    private final LRUCacheMap<StatementKey, SqlStatementInfo> statementCache;
+    private final Map<CollectionId, TableDescriptor> tableCache;
+    private final Map<String, List<TableDescriptor>> preloadedTablesByName;
 
     protected DefaultRecordWriter(SharedSessionContract session, QueryBinderResolver queryBinderResolver,
                                   JdbcSinkConnectorConfig config, DatabaseDialect dialect) {
@@ -66,6 +75,9 @@ protected DefaultRecordWriter(SharedSessionContract session, QueryBinderResolver
         this.dialect = dialect;
         this.flushMaxRetries = config.getFlushMaxRetries();
         this.flushRetryDelay = Duration.of(config.getFlushRetryDelayMs(), ChronoUnit.MILLIS);
+        this.statementCache = config.getStatementCacheSize() > 0 ? new LRUCacheMap<>(config.getStatementCacheSize()) : null;
+        this.tableCache = config.isTableMetadataPreload() ? new ConcurrentHashMap<>() : null;
+        this.preloadedTablesByName = config.isTableMetadataPreload() ? new ConcurrentHashMap<>() : null;
     }
 
     protected SharedSessionContract getSession() {
@@ -125,7 +137,59 @@ protected int bindFieldValuesToQuery(JdbcSinkRecord record, QueryBinder query, i
     }
 
     private TableDescriptor readTable(CollectionId collectionId) {
-        return session.doReturningWork((connection) -> dialect.readTable(connection, collectionId));
+        final TableDescriptor table = session.doReturningWork((connection) -> dialect.readTable(connection, collectionId));
+        if (tableCache != null) {
+            tableCache.put(collectionId, table);
+        }
+        return table;
+    }
+
+    @Override
+    public void preloadTables() {
+        if (tableCache == null) {
+            return;
+        }
+
+        Stopwatch stopwatch = Stopwatch.reusable();
+        stopwatch.start();
+        final Map<CollectionId, TableDescriptor> tables = executeWithRetries("preload table metadata",
+                () -> session.doReturningWork((connection) -> dialect.readTables(connection, connection.getCatalog(), connection.getSchema())));
+        for (TableDescriptor table : tables.values()) {
+            preloadedTablesByName.computeIfAbsent(table.getId().name().toLowerCase(), name -> new ArrayList<>()).add(table);
+        }
+        stopwatch.stop();
+
+        LOGGER.info("Preloaded the metadata of {} tables in {}", tables.size(), stopwatch.durations());
+    }
+
+    private TableDescriptor getCachedTable(CollectionId collectionId) {
+        final TableDescriptor table = tableCache.get(collectionId);
+        if (table != null) {
+            return table;
+        }
+
+        final List<TableDescriptor> candidates = preloadedTablesByName.getOrDefault(collectionId.name().toLowerCase(), List.of());
+        TableDescriptor match = null;
+        for (TableDescriptor candidate : candidates) {
+            final CollectionId candidateId = candidate.getId();
+            if (isSameIdentifier(collectionId.name(), candidateId.name())
+                    && (collectionId.namespace() == null || isSameIdentifier(collectionId.namespace(), candidateId.namespace()))
+                    && (collectionId.realm() == null || isSameIdentifier(collectionId.realm(), candidateId.realm()))) {
+                if (match != null) {
+                    // The table name is ambiguous, so resolve it using the database
+                    return null;
+                }
+                match = candidate;
+            }
+        }
+        if (match != null) {
+            tableCache.put(collectionId, match);
+        }
+        return match;
+    }
+
+    private boolean isSameIdentifier(String identifier, String storedIdentifier) {
+        return config.isQuoteIdentifiers() ? identifier.equals(storedIdentifier) : identifier.equalsIgnoreCase(storedIdentifier);
     }
 
     private TableDescriptor createTable(CollectionId collectionId, JdbcSinkRecord record) throws SQLException {
@@ -206,6 +270,14 @@ private TableDescriptor alterTableIfNeeded(CollectionId collectionId, JdbcSinkRe
     }
 
     public TableDescriptor checkAndApplyTableChangesIfNeeded(CollectionId collectionId, JdbcSinkRecord record) throws SQLException {
+        if (tableCache != null) {
+            // Tables are read again after any table change is applied, which replaces the cached metadata
+            final TableDescriptor table = getCachedTable(collectionId);
+            if (table != null && dialect.resolveMissingFields(record, table).isEmpty()) {
+                return table;
+            }
+        }
+
         if (!hasTable(collectionId)) {
             // Table does not exist, lets attempt to create it.
             try {
@@ -386,6 +458,50 @@ protected SqlStatementInfo getSqlStatementInfo(TableDescriptor table, List<JdbcS
             throw new DataException("Cannot generate SQL statement for empty record list");
         }
 
+        final StatementKey key = statementCache != null ? getStatementKey(table, records) : null;
+        if (key == null) {
+            return createSqlStatementInfo(table, records);
+        }
+
+        SqlStatementInfo statementInfo = statementCache.get(key);
+        if (statementInfo == null) {
+            statementInfo = createSqlStatementInfo(table, records);
+            statementCache.put(key, statementInfo);
+        }
+        else {
+            LOGGER.trace("Reusing cached SQL statement for table '{}'", table.getId().name());
+        }
+        return statementInfo;
+    }
+
+    /**
+     * Get the key identifying the shape of the statement for a list of records, or {@code null} if the
+     * statement depends on the values of the records and must not be cached.
+     */
+    private StatementKey getStatementKey(TableDescriptor table, List<JdbcSinkRecord> records) {
+        final JdbcSinkRecord firstRecord = records.get(0);
+        final List<String> fieldNames = new ArrayList<>(firstRecord.keyFieldNames());
+        fieldNames.addAll(firstRecord.nonKeyFieldNames());
+
+        final List<Schema> fieldSchemas = new ArrayList<>(fieldNames.size());
+        for (String fieldName : fieldNames) {
+            final FieldDescriptor field = firstRecord.allFields().get(fieldName);
+            if (field == null || dialect.getSchemaType(field.getSchema()).isQueryBindingValueDependent()) {
+                return null;
+            }
+            fieldSchemas.add(field.getSchema());
+        }
+
+        final List<String> columns = new ArrayList<>(table.getColumns().size());
+        for (ColumnDescriptor column : table.getColumns()) {
+            columns.add(column.getColumnName() + ' ' + column.getTypeName());
+        }
+
+        return new StatementKey(table.getId(), columns, firstRecord.isDelete(), records.size() == 1,
+                List.copyOf(firstRecord.keyFieldNames()), fieldNames, fieldSchemas);
+    }
+
+    private SqlStatementInfo createSqlStatementInfo(TableDescriptor table, List<JdbcSinkRecord> records) {
         // Get first record for basic checks and fallback
         JdbcSinkRecord firstRecord = records.get(0);
 
@@ -424,4 +540,11 @@ protected SqlStatementInfo getSqlStatementInfo(TableDescriptor table, List<JdbcS
         throw new DataException(String.format("Unable to get SQL statement for %s", firstRecord));
     }
 
+    /**
+     * Identifies the shape of a statement: the target table and its columns, the kind of operation,
+     * whether the batch has a single record, and the ordered written fields with their schemas.
+     */
+    private record StatementKey(CollectionId tableId, List<String> columns, boolean delete, boolean singleRecord,
+                                List<String> keyFieldNames, List<String> fieldNames, List<Schema> fieldSchemas) {
+    }
 }
@@ -10,11 +10,18 @@
 import static io.debezium.openlineage.dataset.DatasetMetadata.DatasetKind.OUTPUT;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.sink.SinkRecord;
@@ -34,6 +41,7 @@
 import io.debezium.sink.DebeziumSinkRecord;
 import io.debezium.sink.spi.ChangeEventSink;
 import io.debezium.util.Stopwatch;
+import io.debezium.util.Threads;
 
 /**
  * A {@link ChangeEventSink} for a JDBC relational database.
@@ -53,13 +61,38 @@ public class JdbcChangeEventSink implements ChangeEventSink {
     private final RecordWriter recordWriter;
     private final ConnectorContext connectorContext;
 
+    private final List<FlushWriter> flushWriters;
+    private final BlockingQueue<FlushWriter> idleFlushWriters;
+    private final ExecutorService flushExecutor;
+
     public JdbcChangeEventSink(JdbcSinkConnectorConfig config, StatelessSession session, DatabaseDialect dialect, RecordWriter recordWriter,
                                ConnectorContext connectorContext) {
+        this(config, session, dialect, recordWriter, List.of(), connectorContext);
+    }
+
+    /**
+     * Creates a sink that flushes the buffers of different tables concurrently at the end of each batch.
+     *
+     * @param flushWriters the writers used for concurrent flushes, each with its own session; if empty, all
+     *                     buffers are flushed sequentially by the given {@code recordWriter}
+     */
+    public JdbcChangeEventSink(JdbcSinkConnectorConfig config, StatelessSession session, DatabaseDialect dialect, RecordWriter recordWriter,
+                               List<FlushWriter> flushWriters, ConnectorContext connectorContext) {
         this.config = config;
         this.dialect = dialect;
         this.session = session;
         this.recordWriter = recordWriter;
         this.connectorContext = connectorContext;
+        this.flushWriters = List.copyOf(flushWriters);
+        if (this.flushWriters.isEmpty()) {
+            this.idleFlushWriters = null;
+            this.flushExecutor = null;
+        }
+        else {
+            this.idleFlushWriters = new ArrayBlockingQueue<>(this.flushWriters.size(), false, this.flushWriters);
+            this.flushExecutor = Threads.newFixedThreadPool(JdbcSinkConnector.class, connectorContext.connectorName(), "flush",
+                    this.flushWriters.size());
+        }
 
         final DatabaseVersion version = this.dialect.getVersion();
         LOGGER.info("Database version {}.{}.{}", version.getMajor(), version.getMinor(), version.getMicro());
@@ -142,8 +175,76 @@ public void execute(Collection<SinkRecord> records) {
             }
         }
 
-        flushBuffers(upsertBufferByTable);
-        flushBuffers(deleteBufferByTable);
+        if (flushExecutor == null) {
+            flushBuffers(upsertBufferByTable);
+            flushBuffers(deleteBufferByTable);
+        }
+        else {
+            flushBuffersConcurrently(upsertBufferByTable, deleteBufferByTable);
+        }
+    }
+
+    /**
+     * Flushes the remaining buffers of each table on its own writer. For a single table the upsert buffer is
+     * always flushed before the delete buffer, which is the same order applied by the sequential flush, and
+     * this method returns only once every table has been flushed.
+     * <p>
+     * A flush writer is used by a single flush at a time, so its session and statement cache are never accessed
+     * concurrently. The table of each buffer has already been resolved by the task's own writer, so the flush
+     * writers only write records and never read or change table metadata. The dialect is shared by all flushes,
+     * which is safe because it is not modified once constructed.
+     */
+    private void flushBuffersConcurrently(Map<CollectionId, Buffer> upsertBufferByTable, Map<CollectionId, Buffer> deleteBufferByTable) {
+        final Set<CollectionId> collectionIds = new LinkedHashSet<>(upsertBufferByTable.keySet());
+        collectionIds.addAll(deleteBufferByTable.keySet());
+
+        final List<Future<?>> futures = new ArrayList<>(collectionIds.size());
+        for (CollectionId collectionId : collectionIds) {
+            final Buffer upsertBuffer = upsertBufferByTable.get(collectionId);
+            final Buffer deleteBuffer = deleteBufferByTable.get(collectionId);
+            futures.add(flushExecutor.submit(() -> {
+                final FlushWriter flushWriter = idleFlushWriters.take();
+                try {
+                    if (upsertBuffer != null) {
+                        flushBufferWithRetries(flushWriter.recordWriter(), collectionId, upsertBuffer.flush(), upsertBuffer.getTableDescriptor());
+                    }
+                    if (deleteBuffer != null) {
+                        flushBufferWithRetries(flushWriter.recordWriter(), collectionId, deleteBuffer.flush(), deleteBuffer.getTableDescriptor());
+                    }
+                }
+                finally {
+                    // Never blocks as there are at most as many writers as the queue holds, unlike put() it also succeeds when the flush was cancelled
+                    idleFlushWriters.add(flushWriter);
+                }
+                return null;
+            }));
+        }
+
+        RuntimeException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            }
+            catch (InterruptedException e) {
+                // Stop the flushes still running or waiting for a writer, so that nothing is written once the task reported the failure
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new ConnectException("Interrupted while flushing buffers", e);
+            }
+            catch (ExecutionException e) {
+                final RuntimeException cause = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                        : new ConnectException("Failed to flush buffers", e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                }
+                else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
     }
 
     private BufferFlushRecords getRecordsToFlush(Map<CollectionId, Buffer> bufferMap, CollectionId collectionId, JdbcSinkRecord record) {
@@ -188,6 +289,9 @@ private record BufferFlushRecords(Buffer buffer, List<JdbcSinkRecord> records) {
 
     private Buffer createBuffer(JdbcSinkConnectorConfig config, TableDescriptor tableDescriptor, JdbcSinkRecord record) {
         if (config.isUseReductionBuffer() && !record.keyFieldNames().isEmpty()) {
+            if (config.isReductionBufferCoalescing()) {
+                return new CoalescingRecordBuffer(config, tableDescriptor);
+            }
             return new ReducedRecordBuffer(config, tableDescriptor);
         }
         else {
@@ -214,14 +318,18 @@ private void flushBufferWithRetries(CollectionId collectionId, Buffer buffer) {
     }
 
     private void flushBufferWithRetries(CollectionId collectionId, List<JdbcSinkRecord> toFlush, TableDescriptor tableDescriptor) {
+        flushBufferWithRetries(recordWriter, collectionId, toFlush, tableDescriptor);
+    }
+
+    private void flushBufferWithRetries(RecordWriter writer, CollectionId collectionId, List<JdbcSinkRecord> toFlush, TableDescriptor tableDescriptor) {
         LOGGER.debug("Flushing records in JDBC Writer for table: {}", collectionId.name());
-        recordWriter.executeWithRetries("flush records for table '" + collectionId.name() + "'", () -> {
-            flushBuffer(collectionId, toFlush, tableDescriptor);
+        writer.executeWithRetries("flush records for table '" + collectionId.name() + "'", () -> {
+            flushBuffer(writer, collectionId, toFlush, tableDescriptor);
             return null;
         });
     }
 
-    private void flushBuffer(CollectionId collectionId, List<JdbcSinkRecord> toFlush, TableDescriptor table) throws SQLException {
+    private void flushBuffer(RecordWriter writer, CollectionId collectionId, List<JdbcSinkRecord> toFlush, TableDescriptor table) throws SQLException {
         Stopwatch flushBufferStopwatch = Stopwatch.reusable();
         Stopwatch tableChangesStopwatch = Stopwatch.reusable();
         if (!toFlush.isEmpty()) {
@@ -229,7 +337,12 @@ private void flushBuffer(CollectionId collectionId, List<JdbcSinkRecord> toFlush
             tableChangesStopwatch.start();
             tableChangesStopwatch.stop();
             flushBufferStopwatch.start();
-            recordWriter.write(table, toFlush);
+            if (config.isReductionBufferCoalescing()) {
+                writeByColumnSet(writer, table, toFlush);
+            }
+            else {
+                writer.write(table, toFlush);
+            }
             flushBufferStopwatch.stop();
 
             DebeziumOpenLineageEmitter.emit(connectorContext, DebeziumTaskState.RUNNING, List.of(extractDatasetMetadata(table)));
@@ -239,6 +352,20 @@ private void flushBuffer(CollectionId collectionId, List<JdbcSinkRecord> toFlush
         }
     }
 
+    /**
+     * Writes coalesced records, which may carry different sets of columns, as separate batches,
+     * as a batch is always written using the columns of its first record.
+     */
+    private void writeByColumnSet(RecordWriter writer, TableDescriptor table, List<JdbcSinkRecord> toFlush) {
+        int start = 0;
+        for (int i = 1; i <= toFlush.size(); i++) {
+            if (i == toFlush.size() || !toFlush.get(i).nonKeyFieldNames().equals(toFlush.get(start).nonKeyFieldNames())) {
+                writer.write(table, start == 0 && i == toFlush.size() ? toFlush : toFlush.subList(start, i));
+                start = i;
+            }
+        }
+    }
+
     private DatasetMetadata extractDatasetMetadata(TableDescriptor tableDescriptor) {
 
         List<DatasetMetadata.FieldDefinition> fieldDefinitions = tableDescriptor.getColumns().stream()
@@ -254,6 +381,14 @@ private String getIdentifier(TableDescriptor tableDescriptor) {
 
     @Override
     public void close() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdownNow();
+        }
+        for (FlushWriter flushWriter : flushWriters) {
+            if (flushWriter.session().isOpen()) {
+                flushWriter.session().close();
+            }
+        }
         if (session != null && session.isOpen()) {
             LOGGER.info("Closing session.");
             session.close();
@@ -267,6 +402,13 @@ public CollectionId getCollectionId(String collectionName) {
         return dialect.getCollectionId(collectionName);
     }
 
+    /**
+     * A record writer used for concurrent flushes, together with the session it writes through. The writer must
+     * be exclusive to the session, as neither the session nor the writer's statement cache are thread-safe.
+     */
+    public record FlushWriter(StatelessSession session, RecordWriter recordWriter) {
+    }
+
     public CollectionId getCollectionIdFromRecord(DebeziumSinkRecord record) {
         String tableName = this.config.getCollectionNamingStrategy().resolveCollectionName(record, config.getCollectionNameFormat());
         if (tableName == null) {
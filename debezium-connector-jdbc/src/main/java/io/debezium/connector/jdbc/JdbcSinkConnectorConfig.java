@@ -63,10 +63,18 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
 
     public static final String POSTGRES_POSTGIS_SCHEMA = "dialect.postgres.postgis.schema";
     public static final String POSTGRES_UNNEST_INSERT = "dialect.postgres.unnest.insert.enabled";
+    public static final String POSTGRES_COPY_THRESHOLD = "dialect.postgres.copy.threshold";
     public static final String SQLSERVER_IDENTITY_INSERT = "dialect.sqlserver.identity.insert";
     public static final String USE_REDUCTION_BUFFER = "use.reduction.buffer";
+    public static final String REDUCTION_BUFFER_COALESCE = "reduction.buffer.coalesce";
+    public static final String REDUCTION_BUFFER_UNAVAILABLE_VALUE_PLACEHOLDER = "reduction.buffer.unavailable.value.placeholder";
+    public static final String REDUCTION_BUFFER_UNCHANGED_FIELDS_HEADER = "reduction.buffer.unchanged.fields.header";
     public static final String FLUSH_MAX_RETRIES = "flush.max.retries";
     public static final String FLUSH_RETRY_DELAY_MS = "flush.retry.delay.ms";
+    public static final String FLUSH_PARALLELISM = "flush.parallelism";
+    public static final String STATEMENT_CACHE_SIZE = "statement.cache.size";
+    public static final String FLUSH_MAX_IN_FLIGHT = "flush.max.in.flight";
+    public static final String TABLE_METADATA_PRELOAD = "table.metadata.preload";
     public static final String CONNECTION_RESTART_ON_ERRORS = "connection.restart.on.errors";
 
     // todo add support for the ValueConverter contract
@@ -211,6 +219,19 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
                             +
                             "This can provide 5-10x performance improvement for high-throughput scenarios. Default is false.");
 
+    public static final Field POSTGRES_COPY_THRESHOLD_FIELD = Field.create(POSTGRES_COPY_THRESHOLD)
+            .withDisplayName("Minimum batch size for PostgreSQL COPY-based writes")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 9))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The minimum number of inserted or upserted records in a flush for a single table for which the PostgreSQL dialect "
+                    + "streams the records with COPY into a temporary staging table and then applies them to the target table with a single "
+                    + "INSERT statement, using ON CONFLICT in upsert mode. Smaller flushes use regular statements. "
+                    + "The default value of 0 disables COPY-based writes.");
+
     public static final Field SQLSERVER_IDENTITY_INSERT_FIELD = Field.create(SQLSERVER_IDENTITY_INSERT)
             .withDisplayName("Allowing to insert explicit value for identity column in table for SQLSERVER.")
             .withType(Type.BOOLEAN)
@@ -239,6 +260,42 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
             .withDefault(1000L)
             .withDescription("Delay to retry when fail to flush");
 
+    public static final Field FLUSH_PARALLELISM_FIELD = Field.create(FLUSH_PARALLELISM)
+            .withDisplayName("Flush parallelism")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 8))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The number of tables whose buffered records are flushed concurrently at the end of each batch, " +
+                    "each over its own database session. Records for the same table are always flushed in order on a single session. " +
+                    "The default value of 1 flushes all tables sequentially.");
+
+    public static final Field STATEMENT_CACHE_SIZE_FIELD = Field.create(STATEMENT_CACHE_SIZE)
+            .withDisplayName("Statement cache size")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 10))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(256)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The maximum number of generated SQL statements that each record writer keeps, keyed by table, " +
+                    "operation and the set of written columns, so that flushes of the same shape reuse the statement instead of " +
+                    "generating it again. Set to 0 to disable the cache.");
+
+    public static final Field FLUSH_MAX_IN_FLIGHT_FIELD = Field.create(FLUSH_MAX_IN_FLIGHT)
+            .withDisplayName("Maximum in-flight flushes")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 11))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The maximum number of batches that are written to the database in the background while the connector " +
+                    "receives and converts the next batches. Batches are always written in order, and only the offsets of batches that " +
+                    "were written successfully are committed. The default value of 0 writes each batch before the next one is received.");
+
     public static final Field USE_REDUCTION_BUFFER_FIELD = Field.create(USE_REDUCTION_BUFFER)
             .withDisplayName("Specifies whether to use the reduction buffer.")
             .withType(Type.BOOLEAN)
@@ -249,6 +306,52 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
             .withDescription(
                     "A reduction buffer consolidates the execution of SQL statements by primary key to reduce the SQL load on the target database. When set to false (the default), each incoming event is applied as a logical SQL change. When set to true, incoming events that refer to the same row will be reduced to a single logical change based on the most recent row state.");
 
+    public static final Field REDUCTION_BUFFER_COALESCE_FIELD = Field.create(REDUCTION_BUFFER_COALESCE)
+            .withDisplayName("Coalesce partial changes in the reduction buffer")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 12))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("Only applies when '" + USE_REDUCTION_BUFFER + "' is set to true. When set to true, successive changes of the same " +
+                    "row are merged at column level: columns whose value is unavailable in a change, because they carry the placeholder " +
+                    "defined by '" + REDUCTION_BUFFER_UNAVAILABLE_VALUE_PLACEHOLDER + "' or are listed in the header defined by '" +
+                    REDUCTION_BUFFER_UNCHANGED_FIELDS_HEADER + "', are taken from the earlier changes of the row. Columns without any known " +
+                    "value are not written, so they keep their current value in the target table. A delete discards the merged state of the row.");
+
+    public static final Field REDUCTION_BUFFER_UNAVAILABLE_VALUE_PLACEHOLDER_FIELD = Field.create(REDUCTION_BUFFER_UNAVAILABLE_VALUE_PLACEHOLDER)
+            .withDisplayName("Unavailable value placeholder")
+            .withType(Type.STRING)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 13))
+            .withWidth(ConfigDef.Width.MEDIUM)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault("__debezium_unavailable_value")
+            .withDescription("The value the source connector uses for columns whose value is not part of a change, such as unchanged " +
+                    "TOASTed columns. Must match the 'unavailable.value.placeholder' of the source connector. String, binary and " +
+                    "array columns are compared against the placeholder when '" + REDUCTION_BUFFER_COALESCE + "' is enabled.");
+
+    public static final Field REDUCTION_BUFFER_UNCHANGED_FIELDS_HEADER_FIELD = Field.create(REDUCTION_BUFFER_UNCHANGED_FIELDS_HEADER)
+            .withDisplayName("Unchanged fields header")
+            .withType(Type.STRING)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 14))
+            .withWidth(ConfigDef.Width.MEDIUM)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDescription("The name of a record header that lists the fields that are unchanged in a change, for example the header " +
+                    "added by the 'ExtractChangedRecordState' transformation. When set, the listed fields are treated as unavailable " +
+                    "when '" + REDUCTION_BUFFER_COALESCE + "' is enabled.");
+
+    public static final Field TABLE_METADATA_PRELOAD_FIELD = Field.create(TABLE_METADATA_PRELOAD)
+            .withDisplayName("Preload table metadata")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 15))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("When set to true, the connector reads the metadata of all tables in the default schema of the connection " +
+                    "with a few catalog queries when it starts, instead of reading the metadata of each table when the first record " +
+                    "for it arrives. The metadata is cached and only read again after the connector creates or alters a table. " +
+                    "Enable this only if the target tables are not altered by other clients while the connector is running.");
+
     public static final Field CONNECTION_RESTART_ON_ERRORS_FIELD = Field.create(CONNECTION_RESTART_ON_ERRORS)
             .withDisplayName("Restart connection on errors")
             .withType(Type.BOOLEAN)
@@ -292,12 +395,20 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
                     USE_TIME_ZONE_FIELD,
                     POSTGRES_POSTGIS_SCHEMA_FIELD,
                     POSTGRES_UNNEST_INSERT_FIELD,
+                    POSTGRES_COPY_THRESHOLD_FIELD,
                     SQLSERVER_IDENTITY_INSERT_FIELD,
                     BATCH_SIZE_FIELD,
                     FIELD_INCLUDE_LIST_FIELD,
                     FIELD_EXCLUDE_LIST_FIELD,
                     FLUSH_MAX_RETRIES_FIELD,
                     FLUSH_RETRY_DELAY_MS_FIELD,
+                    FLUSH_PARALLELISM_FIELD,
+                    STATEMENT_CACHE_SIZE_FIELD,
+                    FLUSH_MAX_IN_FLIGHT_FIELD,
+                    REDUCTION_BUFFER_COALESCE_FIELD,
+                    REDUCTION_BUFFER_UNAVAILABLE_VALUE_PLACEHOLDER_FIELD,
+                    REDUCTION_BUFFER_UNCHANGED_FIELDS_HEADER_FIELD,
+                    TABLE_METADATA_PRELOAD_FIELD,
                     CONNECTION_RESTART_ON_ERRORS_FIELD,
                     CLOUDEVENTS_SCHEMA_NAME_PATTERN_FIELD)
             .create();
@@ -405,11 +516,19 @@ public String getValue() {
     private final String databaseTimezone;
     private final String postgresPostgisSchema;
     private final boolean postgresUnnestInsert;
+    private final int postgresCopyThreshold;
     private final boolean sqlServerIdentityInsert;
     private final int flushMaxRetries;
     private final long flushRetryDelayMs;
+    private final int flushParallelism;
+    private final int statementCacheSize;
+    private final int flushMaxInFlight;
     private final int batchSize;
     private final boolean useReductionBuffer;
+    private final boolean reductionBufferCoalesce;
+    private final String unavailableValuePlaceholder;
+    private final String unchangedFieldsHeader;
+    private final boolean tableMetadataPreload;
     private final boolean connectionRestartOnErrors;
     private final String cloudEventsSchemaNamePattern;
     private final PrimaryKeyMode primaryKeyMode;
@@ -427,11 +546,19 @@ public JdbcSinkConnectorConfig(Map<String, String> props) {
         this.databaseTimezone = config.getString(USE_TIME_ZONE_FIELD);
         this.postgresPostgisSchema = config.getString(POSTGRES_POSTGIS_SCHEMA_FIELD);
         this.postgresUnnestInsert = config.getBoolean(POSTGRES_UNNEST_INSERT_FIELD);
+        this.postgresCopyThreshold = config.getInteger(POSTGRES_COPY_THRESHOLD_FIELD);
         this.sqlServerIdentityInsert = config.getBoolean(SQLSERVER_IDENTITY_INSERT_FIELD);
         this.batchSize = config.getInteger(BATCH_SIZE_FIELD);
         this.useReductionBuffer = config.getBoolean(USE_REDUCTION_BUFFER_FIELD);
+        this.reductionBufferCoalesce = config.getBoolean(REDUCTION_BUFFER_COALESCE_FIELD);
+        this.unavailableValuePlaceholder = config.getString(REDUCTION_BUFFER_UNAVAILABLE_VALUE_PLACEHOLDER_FIELD);
+        this.unchangedFieldsHeader = config.getString(REDUCTION_BUFFER_UNCHANGED_FIELDS_HEADER_FIELD);
+        this.tableMetadataPreload = config.getBoolean(TABLE_METADATA_PRELOAD_FIELD);
         this.flushMaxRetries = config.getInteger(FLUSH_MAX_RETRIES_FIELD);
         this.flushRetryDelayMs = config.getLong(FLUSH_RETRY_DELAY_MS_FIELD);
+        this.flushParallelism = config.getInteger(FLUSH_PARALLELISM_FIELD);
+        this.statementCacheSize = config.getInteger(STATEMENT_CACHE_SIZE_FIELD);
+        this.flushMaxInFlight = config.getInteger(FLUSH_MAX_IN_FLIGHT_FIELD);
         this.connectionRestartOnErrors = config.getBoolean(CONNECTION_RESTART_ON_ERRORS_FIELD);
         this.cloudEventsSchemaNamePattern = config.getString(CLOUDEVENTS_SCHEMA_NAME_PATTERN_FIELD);
         this.collectionNamingStrategy = resolveCollectionNamingStrategy(config, props);
@@ -521,6 +648,22 @@ public boolean isUseReductionBuffer() {
         return useReductionBuffer;
     }
 
+    public boolean isReductionBufferCoalescing() {
+        return useReductionBuffer && reductionBufferCoalesce;
+    }
+
+    public String getUnavailableValuePlaceholder() {
+        return unavailableValuePlaceholder;
+    }
+
+    public String getUnchangedFieldsHeader() {
+        return unchangedFieldsHeader;
+    }
+
+    public boolean isTableMetadataPreload() {
+        return tableMetadataPreload;
+    }
+
     @Override
     public CollectionNamingStrategy getCollectionNamingStrategy() {
         return collectionNamingStrategy;
@@ -548,6 +691,14 @@ public boolean isPostgresUnnestInsertEnabled() {
         return postgresUnnestInsert;
     }
 
+    public int getPostgresCopyThreshold() {
+        return postgresCopyThreshold;
+    }
+
+    public boolean isPostgresCopyEnabled() {
+        return postgresCopyThreshold > 0;
+    }
+
     public int getFlushMaxRetries() {
         return flushMaxRetries;
     }
@@ -556,6 +707,22 @@ public long getFlushRetryDelayMs() {
         return flushRetryDelayMs;
     }
 
+    public int getFlushParallelism() {
+        return flushParallelism;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public int getFlushMaxInFlight() {
+        return flushMaxInFlight;
+    }
+
+    public boolean isAsyncFlushEnabled() {
+        return flushMaxInFlight > 0;
+    }
+
     public boolean isConnectionRestartOnErrors() {
         return connectionRestartOnErrors;
     }
@@ -12,12 +12,16 @@
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -42,12 +46,14 @@
 import io.debezium.connector.common.UUIDUtils;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
 import io.debezium.connector.jdbc.dialect.DatabaseDialectResolver;
+import io.debezium.connector.jdbc.dialect.postgres.PostgresDatabaseDialect;
 import io.debezium.openlineage.ConnectorContext;
 import io.debezium.openlineage.DebeziumOpenLineageEmitter;
 import io.debezium.openlineage.dataset.DatasetDataExtractor;
 import io.debezium.openlineage.dataset.DatasetMetadata;
 import io.debezium.util.Stopwatch;
 import io.debezium.util.Strings;
+import io.debezium.util.Threads;
 
 /**
  * The main task executing streaming from sink connector.
@@ -75,8 +81,13 @@ private enum State {
 
     private JdbcChangeEventSink changeEventSink;
     private final Set<TopicPartition> assignedPartitions = new HashSet<>();
-    private final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
-    private Throwable previousPutException;
+    private final Map<TopicPartition, OffsetAndMetadata> offsets = new ConcurrentHashMap<>();
+    private volatile Throwable previousPutException;
+
+    // Only used when batches are written asynchronously
+    private ExecutorService flushExecutor;
+    private Semaphore inFlightFlushes;
+    private int maxInFlightFlushes;
 
     /**
      * There is a change in {@link InternalSinkRecord} API between Connect 3.7 and 3.8.
@@ -132,8 +143,22 @@ public void start(Map<String, String> props) {
 
             // Instantiate the appropriate RecordWriter based on dialect and configuration
             RecordWriter recordWriter = createRecordWriter(session, queryBinderResolver, config, dialect);
+            if (config.isTableMetadataPreload()) {
+                recordWriter.preloadTables();
+            }
+
+            // Each concurrent flush uses its own session, as sessions are not thread-safe. The flush writers
+            // don't preload table metadata, as they only write to tables already resolved by the record writer.
+            final List<JdbcChangeEventSink.FlushWriter> flushWriters = new ArrayList<>();
+            if (config.getFlushParallelism() > 1) {
+                for (int i = 0; i < config.getFlushParallelism(); i++) {
+                    StatelessSession flushSession = sessionFactory.openStatelessSession();
+                    flushWriters.add(new JdbcChangeEventSink.FlushWriter(flushSession,
+                            createRecordWriter(flushSession, queryBinderResolver, config, dialect)));
+                }
+            }
 
-            changeEventSink = new JdbcChangeEventSink(config, session, dialect, recordWriter, connectorContext);
+            start(config, connectorContext, new JdbcChangeEventSink(config, session, dialect, recordWriter, flushWriters, connectorContext));
             DebeziumOpenLineageEmitter.emit(connectorContext, DebeziumTaskState.RUNNING);
         }
         finally {
@@ -141,12 +166,22 @@ public void start(Map<String, String> props) {
         }
     }
 
+    /**
+     * Starts writing the received records with the given sink, in the background if asynchronous flushes are enabled.
+     */
+    @VisibleForTesting
+    void start(JdbcSinkConnectorConfig config, ConnectorContext connectorContext, JdbcChangeEventSink changeEventSink) {
+        this.connectorContext = connectorContext;
+        this.changeEventSink = changeEventSink;
+        if (config.isAsyncFlushEnabled()) {
+            maxInFlightFlushes = config.getFlushMaxInFlight();
+            inFlightFlushes = new Semaphore(maxInFlightFlushes);
+            flushExecutor = Threads.newSingleThreadExecutor(JdbcSinkConnector.class, connectorContext.connectorLogicalName(), "async-flush");
+        }
+    }
+
     @Override
     public void put(Collection<SinkRecord> records) {
-        Stopwatch putStopWatch = Stopwatch.reusable();
-        Stopwatch executeStopWatch = Stopwatch.reusable();
-        Stopwatch markProcessedStopWatch = Stopwatch.reusable();
-        putStopWatch.start();
         if (previousPutException != null) {
             LOGGER.error("JDBC sink connector failure", previousPutException);
 
@@ -160,6 +195,71 @@ public void put(Collection<SinkRecord> records) {
         records.forEach(record -> DebeziumOpenLineageEmitter.emit(connectorContext, DebeziumTaskState.RUNNING,
                 List.of(new DatasetMetadata(record.topic(), INPUT, STREAM_DATASET_TYPE, KAFKA, DATASET_DATA_EXTRACTOR.extract(record)))));
 
+        if (flushExecutor == null) {
+            execute(records);
+        }
+        else {
+            executeAsync(records);
+        }
+    }
+
+    /**
+     * Hands the records over to the background flush thread, blocking while the maximum number of batches
+     * are already in flight. Batches are written in submission order, and a batch submitted after a failure
+     * is not written, so the offsets recorded for a partition never skip over a failed record.
+     */
+    private void executeAsync(Collection<SinkRecord> records) {
+        final List<SinkRecord> batch = new ArrayList<>(records);
+        try {
+            inFlightFlushes.acquire();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while waiting for in-flight flushes", e);
+        }
+        try {
+            flushExecutor.execute(() -> {
+                try {
+                    if (previousPutException == null) {
+                        execute(batch);
+                    }
+                    else {
+                        batch.forEach(this::markNotProcessed);
+                    }
+                }
+                finally {
+                    inFlightFlushes.release();
+                }
+            });
+        }
+        catch (RuntimeException e) {
+            inFlightFlushes.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits until all batches that were handed over to the background flush thread have been written.
+     */
+    private void awaitInFlightFlushes() {
+        if (flushExecutor == null) {
+            return;
+        }
+        try {
+            inFlightFlushes.acquire(maxInFlightFlushes);
+            inFlightFlushes.release(maxInFlightFlushes);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while waiting for in-flight flushes", e);
+        }
+    }
+
+    private void execute(Collection<SinkRecord> records) {
+        Stopwatch putStopWatch = Stopwatch.reusable();
+        Stopwatch executeStopWatch = Stopwatch.reusable();
+        Stopwatch markProcessedStopWatch = Stopwatch.reusable();
+        putStopWatch.start();
         try {
             executeStopWatch.start();
             changeEventSink.execute(records);
@@ -191,6 +291,12 @@ public void put(Collection<SinkRecord> records) {
      */
     private RecordWriter createRecordWriter(StatelessSession session, QueryBinderResolver queryBinderResolver,
                                             JdbcSinkConnectorConfig config, DatabaseDialect databaseDialect) {
+        // Use COPY writer for large batches when a threshold is configured (opt-in)
+        if (config.isPostgresCopyEnabled() && databaseDialect instanceof PostgresDatabaseDialect postgresDialect) {
+            LOGGER.info("Using PostgresCopyRecordWriter for batches of at least {} records", config.getPostgresCopyThreshold());
+            return new PostgresCopyRecordWriter(session, queryBinderResolver, config, postgresDialect);
+        }
+
         // Use UNNEST writer when explicitly enabled (opt-in)
         // This allows any PostgreSQL-compatible dialect to use UNNEST without code changes
         if (config.isPostgresUnnestInsertEnabled()) {
@@ -217,6 +323,8 @@ public void open(Collection<TopicPartition> partitions) {
 
     @Override
     public void close(Collection<TopicPartition> partitions) {
+        // Records of the revoked partitions must not be written after the partitions were handed over
+        awaitInFlightFlushes();
         for (TopicPartition partition : partitions) {
             LOGGER.trace("Requested close TopicPartition request for '{}'", partition);
             assignedPartitions.remove(partition);
@@ -227,8 +335,11 @@ public void close(Collection<TopicPartition> partitions) {
     @Override
     public Map<TopicPartition, OffsetAndMetadata> preCommit(Map<TopicPartition, OffsetAndMetadata> currentOffsets) {
         // Check whether the sink task currently has any flushed offset data for the partition.
-        // If the sink has offset details, those will be used; otherwise use the ones provided by connect.
+        // If the sink has offset details, those will be used; otherwise use the ones provided by connect,
+        // unless batches are still in flight, as these offsets may then cover records not yet written.
+        final boolean inFlight = flushExecutor != null && inFlightFlushes.availablePermits() < maxInFlightFlushes;
         final Map<TopicPartition, OffsetAndMetadata> flushedOffsets = assignedPartitions.stream()
+                .filter(partition -> !inFlight || offsets.containsKey(partition))
                 .collect(Collectors.toMap(
                         partition -> partition,
                         partition -> offsets.getOrDefault(partition, currentOffsets.get(partition))));
@@ -243,6 +354,21 @@ public Map<TopicPartition, OffsetAndMetadata> preCommit(Map<TopicPartition, Offs
     public void stop() {
         stateLock.lock();
         try {
+            if (flushExecutor != null) {
+                try {
+                    awaitInFlightFlushes();
+                }
+                finally {
+                    flushExecutor.shutdown();
+                    try {
+                        flushExecutor.awaitTermination(1, TimeUnit.MINUTES);
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    flushExecutor = null;
+                }
+            }
             if (changeEventSink != null) {
                 changeEventSink.close();
                 try {
@@ -324,10 +450,8 @@ private void markNotProcessed(SinkRecord record) {
         final long kafkaOffset = getOriginalKafkaOffset(record);
 
         final TopicPartition topicPartition = new TopicPartition(topicName, kafkaPartition);
-        if (!offsets.containsKey(topicPartition)) {
+        if (offsets.putIfAbsent(topicPartition, new OffsetAndMetadata(kafkaOffset)) == null) {
             LOGGER.debug("Rewinding topic {} offset to {}.", topicName, kafkaOffset);
-            final OffsetAndMetadata offsetAndMetadata = new OffsetAndMetadata(kafkaOffset);
-            offsets.put(topicPartition, offsetAndMetadata);
         }
     }
 
@@ -0,0 +1,226 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.Transaction;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.jdbc.dialect.postgres.PostgresDatabaseDialect;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.sink.valuebinding.ValueBindDescriptor;
+import io.debezium.util.Stopwatch;
+
+/**
+ * {@code COPY}-based implementation for PostgreSQL that writes large insert and upsert batches by streaming them
+ * into a temporary staging table and applying the staged rows to the target table with a single statement.
+ *
+ * The rows are sent in the text format of {@code COPY}, so each column value is parsed by PostgreSQL using the
+ * input function of the target column type, just as a value bound to a plain parameter placeholder would be.
+ * Batches that are smaller than the configured threshold, that contain deletes or that have columns requiring
+ * a dedicated query binding are delegated to the parent writer.
+ */
+public class PostgresCopyRecordWriter extends UnnestRecordWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresCopyRecordWriter.class);
+
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+    private static final String NULL_VALUE = "\\N";
+
+    private final int copyThreshold;
+
+    public PostgresCopyRecordWriter(SharedSessionContract session, QueryBinderResolver queryBinderResolver,
+                                    JdbcSinkConnectorConfig config, PostgresDatabaseDialect dialect) {
+        super(session, queryBinderResolver, config, dialect);
+        this.copyThreshold = config.getPostgresCopyThreshold();
+    }
+
+    @Override
+    public void write(TableDescriptor tableDescriptor, List<JdbcSinkRecord> records) {
+        if (isCopyApplicable(tableDescriptor, records)) {
+            writeCopyBatch(tableDescriptor, records);
+        }
+        else {
+            super.write(tableDescriptor, records);
+        }
+    }
+
+    private boolean isCopyApplicable(TableDescriptor tableDescriptor, List<JdbcSinkRecord> records) {
+        if (records.size() < copyThreshold) {
+            return false;
+        }
+        final JdbcSinkRecord firstRecord = records.get(0);
+        if (firstRecord.isDelete()) {
+            return false;
+        }
+        switch (getConfig().getInsertMode()) {
+            case INSERT:
+                break;
+            case UPSERT:
+                if (firstRecord.keyFieldNames().isEmpty()) {
+                    return false;
+                }
+                break;
+            default:
+                return false;
+        }
+        return getDialect().isCopySupported(tableDescriptor, firstRecord);
+    }
+
+    @Override
+    protected PostgresDatabaseDialect getDialect() {
+        return (PostgresDatabaseDialect) super.getDialect();
+    }
+
+    private void writeCopyBatch(TableDescriptor tableDescriptor, List<JdbcSinkRecord> records) {
+        Stopwatch writeStopwatch = Stopwatch.reusable();
+        writeStopwatch.start();
+        final Transaction transaction = getSession().beginTransaction();
+
+        try {
+            getSession().doWork(conn -> performCopyBatch(conn, tableDescriptor, records));
+            transaction.commit();
+        }
+        catch (Exception e) {
+            transaction.rollback();
+            throw e;
+        }
+        writeStopwatch.stop();
+        LOGGER.trace("[PERF] Total COPY write execution time {}", writeStopwatch.durations());
+    }
+
+    void performCopyBatch(Connection conn, TableDescriptor tableDescriptor, List<JdbcSinkRecord> records) throws SQLException {
+        final JdbcSinkRecord firstRecord = records.get(0);
+        final boolean upsert = getConfig().getInsertMode() == JdbcSinkConnectorConfig.InsertMode.UPSERT;
+
+        try (Statement statement = conn.createStatement()) {
+            statement.execute(getDialect().getCopyStagingTableStatement(tableDescriptor));
+        }
+
+        Stopwatch copyStopwatch = Stopwatch.reusable();
+        copyStopwatch.start();
+        final CopyIn copyIn = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(getDialect().getCopyInStatement(firstRecord));
+        try {
+            final List<ValueBindDescriptor> values = new ArrayList<>();
+            final StringBuilder row = new StringBuilder();
+            for (JdbcSinkRecord record : records) {
+                values.clear();
+                row.setLength(0);
+                bindValues(record, values::add);
+                for (int i = 0; i < values.size(); i++) {
+                    if (i > 0) {
+                        row.append('\t');
+                    }
+                    appendValue(row, values.get(i).getValue());
+                }
+                row.append('\n');
+                final byte[] bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+            final long copied = copyIn.endCopy();
+            LOGGER.debug("COPY loaded {} rows into the staging table", copied);
+        }
+        finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+        copyStopwatch.stop();
+
+        Stopwatch applyStopwatch = Stopwatch.reusable();
+        applyStopwatch.start();
+        try (Statement statement = conn.createStatement()) {
+            final int updateCount = statement.executeUpdate(getDialect().getCopyApplyStatement(tableDescriptor, firstRecord, upsert));
+            LOGGER.debug("COPY batch {} affected {} rows", upsert ? "upsert" : "insert", updateCount);
+        }
+        applyStopwatch.stop();
+
+        LOGGER.trace("[PERF] COPY into staging table execution time {}", copyStopwatch.durations());
+        LOGGER.trace("[PERF] Apply staging table execution time {}", applyStopwatch.durations());
+    }
+
+    /**
+     * Appends a bound value using the text format of {@code COPY}.
+     */
+    static void appendValue(StringBuilder row, Object value) {
+        if (value == null) {
+            row.append(NULL_VALUE);
+        }
+        else if (value instanceof Collection<?> collection) {
+            final StringBuilder array = new StringBuilder("{");
+            boolean first = true;
+            for (Object element : collection) {
+                if (!first) {
+                    array.append(',');
+                }
+                first = false;
+                if (element == null) {
+                    array.append("NULL");
+                }
+                else {
+                    array.append('"');
+                    final String text = toText(element);
+                    for (int i = 0; i < text.length(); i++) {
+                        final char c = text.charAt(i);
+                        if (c == '"' || c == '\\') {
+                            array.append('\\');
+                        }
+                        array.append(c);
+                    }
+                    array.append('"');
+                }
+            }
+            appendEscaped(row, array.append('}').toString());
+        }
+        else {
+            appendEscaped(row, toText(value));
+        }
+    }
+
+    private static String toText(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool ? "t" : "f";
+        }
+        else if (value instanceof byte[] bytes) {
+            return "\\x" + HEX_FORMAT.formatHex(bytes);
+        }
+        else if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        else if (value instanceof ZonedDateTime zonedDateTime) {
+            // the region identifier appended by ZonedDateTime#toString is not understood by PostgreSQL
+            return zonedDateTime.toOffsetDateTime().toString();
+        }
+        return value.toString();
+    }
+
+    private static void appendEscaped(StringBuilder row, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> row.append("\\\\");
+                case '\n' -> row.append("\\n");
+                case '\r' -> row.append("\\r");
+                case '\t' -> row.append("\\t");
+                default -> row.append(c);
+            }
+        }
+    }
+}
@@ -32,6 +32,12 @@ public interface RecordWriter {
 
     TableDescriptor checkAndApplyTableChangesIfNeeded(CollectionId collectionId, JdbcSinkRecord record) throws SQLException;
 
+    /**
+     * Reads the metadata of all tables in the default schema of the connection ahead of time,
+     * if table metadata caching is enabled.
+     */
+    void preloadTables();
+
     void writeTruncate(CollectionId collectionId) throws SQLException;
 
     <T> T executeWithRetries(String description, Callable<T> callable);
@@ -9,6 +9,7 @@
 import java.sql.SQLException;
 import java.time.temporal.TemporalAccessor;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -68,6 +69,18 @@ public interface DatabaseDialect {
      */
     TableDescriptor readTable(Connection connection, CollectionId collectionId) throws SQLException;
 
+    /**
+     * Read the table structure data of all tables in a schema from the database, using a single
+     * metadata query per kind of metadata rather than one per table.
+     *
+     * @param connection the database connection to be used, should not be {@code null}.
+     * @param catalogName the catalog name, may be {@code null} to not restrict by catalog.
+     * @param schemaName the schema name, may be {@code null} to not restrict by schema.
+     * @return the table relational models keyed by the identifiers reported by the database, never {@code null}
+     * @throws SQLException if a database exception occurs
+     */
+    Map<CollectionId, TableDescriptor> readTables(Connection connection, String catalogName, String schemaName) throws SQLException;
+
     /**
      * Resolves what fields are missing from the provided table compared against the incoming record.
      *
@@ -20,6 +20,7 @@
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -101,6 +102,7 @@ public class GeneralDatabaseDialect implements DatabaseDialect {
     private final DdlTypeRegistry ddlTypeRegistry;
     private final IdentifierHelper identifierHelper;
     private final ColumnNamingStrategy columnNamingStrategy;
+    // Only modified while constructing the dialect, so it can be read by concurrent flushes
     private final Map<String, JdbcType> typeRegistry = new HashMap<>();
     private final boolean jdbcTimeZone;
 
@@ -192,37 +194,100 @@ public TableDescriptor readTable(Connection connection, CollectionId collectionI
         try (ResultSet rs = metadata.getColumns(collectionId.realm(), collectionId.namespace(), collectionId.name(), null)) {
             final int resultSizeColumnSize = rs.getMetaData().getColumnCount();
             while (rs.next()) {
-                final String columnName = rs.getString(4);
-                final int jdbcType = rs.getInt(5);
-                final String typeName = rs.getString(6);
-                final int precision = rs.getInt(7);
-                final int scale = rs.getInt(9);
-                final int nullable = rs.getInt(11);
-
-                String autoIncrement = "no";
-                if (resultSizeColumnSize >= 23) {
-                    // Not all drivers include all columns, so we're checking before reading
-                    final String autoIncrementValue = rs.getString(23);
-                    if (!Strings.isNullOrBlank(autoIncrementValue)) {
-                        autoIncrement = autoIncrementValue;
+                table.column(readColumn(rs, resultSizeColumnSize, primaryKeyColumNames));
+            }
+        }
+        return table.build();
+    }
+
+    @Override
+    public Map<CollectionId, TableDescriptor> readTables(Connection connection, String catalogName, String schemaName) throws SQLException {
+        final DatabaseMetaData metadata = connection.getMetaData();
+
+        final Map<CollectionId, TableDescriptor.Builder> tables = new LinkedHashMap<>();
+        try (ResultSet rs = metadata.getTables(catalogName, schemaName, "%", null)) {
+            while (rs.next()) {
+                final String tableType = rs.getString(4);
+                tables.put(new CollectionId(rs.getString(1), rs.getString(2), rs.getString(3)), TableDescriptor.builder()
+                        .catalogName(rs.getString(1))
+                        .schemaName(rs.getString(2))
+                        .tableName(rs.getString(3))
+                        .type(Strings.isNullOrBlank(tableType) ? "TABLE" : tableType));
+            }
+        }
+
+        final Map<CollectionId, List<String>> primaryKeyColumnNames = new HashMap<>();
+        try (ResultSet rs = metadata.getPrimaryKeys(catalogName, schemaName, null)) {
+            while (rs.next()) {
+                primaryKeyColumnNames.computeIfAbsent(new CollectionId(rs.getString(1), rs.getString(2), rs.getString(3)), id -> new ArrayList<>())
+                        .add(rs.getString(4));
+            }
+        }
+        catch (SQLException e) {
+            LOGGER.debug("Failed to read the primary keys of all tables at once, reading them per table", e);
+        }
+        if (primaryKeyColumnNames.isEmpty()) {
+            // Not all drivers support reading the primary keys without a table name
+            for (CollectionId id : tables.keySet()) {
+                try (ResultSet rs = metadata.getPrimaryKeys(id.realm(), id.namespace(), id.name())) {
+                    while (rs.next()) {
+                        primaryKeyColumnNames.computeIfAbsent(id, key -> new ArrayList<>()).add(rs.getString(4));
                     }
                 }
+            }
+        }
 
-                final ColumnDescriptor column = ColumnDescriptor.builder()
-                        .columnName(columnName)
-                        .jdbcType(jdbcType)
-                        .typeName(typeName)
-                        .precision(precision)
-                        .scale(scale)
-                        .nullable(isColumnNullable(columnName, primaryKeyColumNames, nullable))
-                        .autoIncrement("yes".equalsIgnoreCase(autoIncrement))
-                        .primarykey(primaryKeyColumNames.contains(columnName))
-                        .build();
-
-                table.column(column);
+        final Set<CollectionId> tablesWithColumns = new HashSet<>();
+        try (ResultSet rs = metadata.getColumns(catalogName, schemaName, "%", null)) {
+            final int resultSizeColumnSize = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                final CollectionId id = new CollectionId(rs.getString(1), rs.getString(2), rs.getString(3));
+                final TableDescriptor.Builder table = tables.get(id);
+                if (table != null) {
+                    table.column(readColumn(rs, resultSizeColumnSize, primaryKeyColumnNames.getOrDefault(id, List.of())));
+                    tablesWithColumns.add(id);
+                }
             }
         }
-        return table.build();
+
+        final Map<CollectionId, TableDescriptor> result = new LinkedHashMap<>();
+        tables.forEach((id, table) -> {
+            // Objects such as indexes and sequences are reported as tables by some drivers
+            if (tablesWithColumns.contains(id)) {
+                primaryKeyColumnNames.getOrDefault(id, List.of()).forEach(table::keyColumn);
+                result.put(id, table.build());
+            }
+        });
+        return result;
+    }
+
+    private static ColumnDescriptor readColumn(ResultSet rs, int resultSizeColumnSize, List<String> primaryKeyColumNames) throws SQLException {
+        final String columnName = rs.getString(4);
+        final int jdbcType = rs.getInt(5);
+        final String typeName = rs.getString(6);
+        final int precision = rs.getInt(7);
+        final int scale = rs.getInt(9);
+        final int nullable = rs.getInt(11);
+
+        String autoIncrement = "no";
+        if (resultSizeColumnSize >= 23) {
+            // Not all drivers include all columns, so we're checking before reading
+            final String autoIncrementValue = rs.getString(23);
+            if (!Strings.isNullOrBlank(autoIncrementValue)) {
+                autoIncrement = autoIncrementValue;
+            }
+        }
+
+        return ColumnDescriptor.builder()
+                .columnName(columnName)
+                .jdbcType(jdbcType)
+                .typeName(typeName)
+                .precision(precision)
+                .scale(scale)
+                .nullable(isColumnNullable(columnName, primaryKeyColumNames, nullable))
+                .autoIncrement("yes".equalsIgnoreCase(autoIncrement))
+                .primarykey(primaryKeyColumNames.contains(columnName))
+                .build();
     }
 
     @Override
@@ -15,6 +15,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.apache.kafka.connect.data.Schema;
 import org.hibernate.SessionFactory;
@@ -39,6 +40,10 @@
  */
 public class PostgresDatabaseDialect extends GeneralDatabaseDialect {
 
+    private static final String COPY_STAGING_TABLE = "__dbz_copy_staging";
+    private static final String COPY_SEQUENCE_COLUMN = "__dbz_copy_seq";
+    private static final Pattern COPY_COMPATIBLE_CAST = Pattern.compile("cast\\(\\? as [\\w ]+\\)", Pattern.CASE_INSENSITIVE);
+
     public static class PostgresDatabaseDialectProvider implements DatabaseDialectProvider {
         @Override
         public boolean supports(Dialect dialect) {
@@ -208,6 +213,99 @@ public Optional<String> getBatchUpsertStatement(TableDescriptor table, List<Jdbc
         return Optional.of(builder.build());
     }
 
+    /**
+     * Returns whether the records can be written through {@code COPY}, which requires every column to be
+     * bound as a single plain parameter that PostgreSQL can parse from its text representation.
+     *
+     * @param table the current relational table model, should not be {@code null}
+     * @param record a record of the batch, should not be {@code null}
+     * @return {@code true} if the batch can be copied, {@code false} otherwise
+     */
+    public boolean isCopySupported(TableDescriptor table, JdbcSinkRecord record) {
+        final List<String> fieldNames = new ArrayList<>(record.keyFieldNames());
+        fieldNames.addAll(record.nonKeyFieldNames());
+        for (String fieldName : fieldNames) {
+            final String binding = columnQueryBindingFromField(fieldName, table, record);
+            if (!"?".equals(binding) && !COPY_COMPATIBLE_CAST.matcher(binding).matches()) {
+                return false;
+            }
+        }
+        return !fieldNames.isEmpty();
+    }
+
+    /**
+     * Construct the statement creating the temporary staging table for a {@code COPY}-based write.
+     * The staging table has the columns of the target table plus a sequence column recording the order
+     * in which the rows were copied, and is dropped when the transaction ends.
+     *
+     * @param table the current relational table model, should not be {@code null}
+     * @return the create table SQL statement, never {@code null}
+     */
+    public String getCopyStagingTableStatement(TableDescriptor table) {
+        return "CREATE TEMPORARY TABLE " + COPY_STAGING_TABLE + " (LIKE " + getQualifiedTableName(table.getId())
+                + " INCLUDING DEFAULTS, " + COPY_SEQUENCE_COLUMN + " BIGSERIAL) ON COMMIT DROP";
+    }
+
+    /**
+     * Construct the {@code COPY ... FROM STDIN} statement loading the staging table.
+     *
+     * @param record a record of the batch, should not be {@code null}
+     * @return the copy SQL statement, never {@code null}
+     */
+    public String getCopyInStatement(JdbcSinkRecord record) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("COPY ").append(COPY_STAGING_TABLE).append(" (");
+        builder.appendLists(",", record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        builder.append(") FROM STDIN");
+        return builder.build();
+    }
+
+    /**
+     * Construct the statement applying the rows of the staging table to the target table. In upsert mode only
+     * the last copied row of each key is applied, as {@code ON CONFLICT} cannot update the same row twice.
+     *
+     * @param table the current relational table model, should not be {@code null}
+     * @param record a record of the batch, should not be {@code null}
+     * @param upsert whether the rows are upserted rather than inserted
+     * @return the insert SQL statement, never {@code null}
+     */
+    public String getCopyApplyStatement(TableDescriptor table, JdbcSinkRecord record, boolean upsert) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("INSERT INTO ");
+        builder.append(getQualifiedTableName(table.getId()));
+        builder.append(" (");
+        builder.appendLists(",", record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        builder.append(") SELECT ");
+        if (upsert) {
+            builder.append("DISTINCT ON (");
+            builder.appendList(",", record.keyFieldNames(), (name) -> columnNameFromField(name, record));
+            builder.append(") ");
+        }
+        builder.appendLists(",", record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        builder.append(" FROM ").append(COPY_STAGING_TABLE);
+        if (upsert) {
+            builder.append(" ORDER BY ");
+            builder.appendList(",", record.keyFieldNames(), (name) -> columnNameFromField(name, record));
+            builder.append(",").append(COPY_SEQUENCE_COLUMN).append(" DESC");
+            builder.append(" ON CONFLICT (");
+            builder.appendList(",", record.keyFieldNames(), (name) -> columnNameFromField(name, record));
+            if (record.nonKeyFieldNames().isEmpty()) {
+                builder.append(") DO NOTHING");
+            }
+            else {
+                builder.append(") DO UPDATE SET ");
+                builder.appendList(",", record.nonKeyFieldNames(), (name) -> {
+                    final String columnName = columnNameFromField(name, record);
+                    return columnName + "=EXCLUDED." + columnName;
+                });
+            }
+        }
+        else {
+            builder.append(" ORDER BY ").append(COPY_SEQUENCE_COLUMN);
+        }
+        return builder.build();
+    }
+
     @Override
     public String getQueryBindingWithValueCast(ColumnDescriptor column, Schema schema, JdbcType type) {
         if (schema.type() == Schema.Type.STRING) {
@@ -35,6 +35,11 @@ public String getQueryBinding(ColumnDescriptor column, Schema schema, Object val
         return super.getQueryBinding(column, schema, value);
     }
 
+    @Override
+    public boolean isQueryBindingValueDependent() {
+        return true;
+    }
+
     @Override
     protected List<ValueBindDescriptor> infinityTimestampValue(int index, Object value) {
 
@@ -37,4 +37,14 @@ public interface JdbcType extends Type {
      * @return the resolved type to be used in DDL statements
      */
     String getTypeName(Schema schema, boolean isKey);
+
+    /**
+     * Returns whether the query binding of this type depends on the bound value rather than only on the
+     * column and the schema. Statements for fields of such types are never cached.
+     *
+     * @return {@code true} if the query binding depends on the value, {@code false} otherwise
+     */
+    default boolean isQueryBindingValueDependent() {
+        return false;
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import io.debezium.connector.jdbc.junit.jupiter.SinkRecordFactoryArgumentsProvider;
+import io.debezium.connector.jdbc.util.SinkRecordFactory;
+import io.debezium.sink.SinkConnectorConfig;
+import io.debezium.sink.SinkConnectorConfig.PrimaryKeyMode;
+
+/**
+ * Unit tests for the {@link CoalescingRecordBuffer} class.
+ */
+@Tag("UnitTests")
+class CoalescingRecordBufferTest extends AbstractRecordBufferTest {
+
+    private static final String UNAVAILABLE = "__debezium_unavailable_value";
+
+    private JdbcSinkConnectorConfig getJdbcConnectorConfig() {
+        return new JdbcSinkConnectorConfig(
+                Map.of(
+                        SinkConnectorConfig.BATCH_SIZE, "5",
+                        SinkConnectorConfig.PRIMARY_KEY_MODE, PrimaryKeyMode.RECORD_KEY.getValue(),
+                        JdbcSinkConnectorConfig.PRIMARY_KEY_FIELDS, "id",
+                        JdbcSinkConnectorConfig.USE_REDUCTION_BUFFER, "true",
+                        JdbcSinkConnectorConfig.REDUCTION_BUFFER_COALESCE, "true"));
+    }
+
+    private JdbcSinkRecord createRecord(SinkRecordFactory factory, byte id, String name, String description, JdbcSinkConnectorConfig config) {
+        return createRecord(factory.createRecordWithSchemaValue(
+                "topic",
+                id,
+                List.of("name", "description"),
+                List.of(SchemaBuilder.string().optional().build(), SchemaBuilder.string().optional().build()),
+                Arrays.asList(name, description),
+                config), config);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When a partial change follows a full change then the unavailable columns are taken from the full change")
+    void coalescePartialChange(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig();
+        CoalescingRecordBuffer buffer = new CoalescingRecordBuffer(config);
+
+        buffer.add(createRecord(factory, (byte) 1, "John", "first", config));
+        buffer.add(createRecord(factory, (byte) 1, "Jane", UNAVAILABLE, config));
+
+        List<JdbcSinkRecord> flushed = buffer.flush();
+        assertThat(flushed).hasSize(1);
+        assertThat(flushed.get(0).nonKeyFieldNames()).containsExactly("name", "description");
+        assertThat(flushed.get(0).getPayload().getString("name")).isEqualTo("Jane");
+        assertThat(flushed.get(0).getPayload().getString("description")).isEqualTo("first");
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When a column is unavailable in all changes of a row then it is not written")
+    void omitUnknownColumns(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig();
+        CoalescingRecordBuffer buffer = new CoalescingRecordBuffer(config);
+
+        buffer.add(createRecord(factory, (byte) 1, "John", UNAVAILABLE, config));
+        buffer.add(createRecord(factory, (byte) 2, "Jane", "second", config));
+        buffer.add(createRecord(factory, (byte) 1, "Jack", UNAVAILABLE, config));
+
+        List<JdbcSinkRecord> flushed = buffer.flush();
+        assertThat(flushed).hasSize(2);
+        // records with the same set of columns are flushed next to each other
+        assertThat(flushed.get(0).nonKeyFieldNames()).containsExactly("name", "description");
+        assertThat(flushed.get(0).getPayload().getString("name")).isEqualTo("Jane");
+        assertThat(flushed.get(1).nonKeyFieldNames()).containsExactly("name");
+        assertThat(flushed.get(1).getPayload().getString("name")).isEqualTo("Jack");
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When a row is deleted then later changes are not merged with the changes before the delete")
+    void discardStateOnDelete(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig();
+        CoalescingRecordBuffer buffer = new CoalescingRecordBuffer(config);
+
+        JdbcSinkRecord first = createRecord(factory, (byte) 1, "John", "first", config);
+        buffer.add(first);
+        buffer.remove(first);
+        assertThat(buffer.isEmpty()).isTrue();
+
+        buffer.add(createRecord(factory, (byte) 1, "Jane", UNAVAILABLE, config));
+
+        List<JdbcSinkRecord> flushed = buffer.flush();
+        assertThat(flushed).hasSize(1);
+        assertThat(flushed.get(0).nonKeyFieldNames()).containsExactly("name");
+        assertThat(flushed.get(0).getPayload().getString("name")).isEqualTo("Jane");
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When the number of distinct rows reaches the batch size then the buffer is flushed")
+    void flushOnBatchSize(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig();
+        CoalescingRecordBuffer buffer = new CoalescingRecordBuffer(config);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.add(createRecord(factory, (byte) i, "name" + i, UNAVAILABLE, config))).isEmpty();
+            assertThat(buffer.add(createRecord(factory, (byte) i, UNAVAILABLE, "description" + i, config))).isEmpty();
+        }
+
+        List<JdbcSinkRecord> flushed = buffer.add(createRecord(factory, (byte) 4, "name4", "description4", config));
+        assertThat(flushed).hasSize(5);
+        assertThat(flushed).allSatisfy(record -> assertThat(record.nonKeyFieldNames()).containsExactly("name", "description"));
+        assertThat(flushed.get(0).getPayload().getString("name")).isEqualTo("name0");
+        assertThat(flushed.get(0).getPayload().getString("description")).isEqualTo("description0");
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.awaitility.Awaitility;
+import org.hibernate.StatelessSession;
+import org.hibernate.dialect.DatabaseVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.connector.jdbc.util.DebeziumSinkRecordFactory;
+import io.debezium.connector.jdbc.util.SinkRecordFactory;
+import io.debezium.metadata.CollectionId;
+import io.debezium.openlineage.ConnectorContext;
+
+/**
+ * Unit tests for the concurrent flushes of {@link JdbcChangeEventSink}.
+ */
+@Tag("UnitTests")
+class JdbcChangeEventSinkTest {
+
+    private static final int FLUSH_PARALLELISM = 3;
+
+    @FunctionalInterface
+    private interface Write {
+        void write(String table, List<JdbcSinkRecord> records) throws Exception;
+    }
+
+    private final SinkRecordFactory factory = new DebeziumSinkRecordFactory();
+    private final Map<String, List<Byte>> written = new ConcurrentHashMap<>();
+    private final Set<RecordWriter> busyWriters = ConcurrentHashMap.newKeySet();
+
+    private JdbcSinkConnectorConfig config;
+    private DatabaseDialect dialect;
+    private RecordWriter recordWriter;
+    private JdbcChangeEventSink sink;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        config = new JdbcSinkConnectorConfig(Map.of(
+                JdbcSinkConnectorConfig.CONNECTION_URL, "jdbc:test://localhost",
+                JdbcSinkConnectorConfig.FLUSH_PARALLELISM, String.valueOf(FLUSH_PARALLELISM)));
+
+        dialect = mock(DatabaseDialect.class);
+        when(dialect.getVersion()).thenReturn(DatabaseVersion.make(1, 0));
+        when(dialect.getCollectionId(anyString())).thenAnswer(invocation -> new CollectionId(invocation.getArgument(0)));
+
+        recordWriter = mock(RecordWriter.class);
+        when(recordWriter.checkAndApplyTableChangesIfNeeded(any(), any())).thenAnswer(invocation -> table(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sink != null) {
+            sink.close();
+        }
+    }
+
+    @Test
+    void shouldFlushTablesConcurrently() {
+        // Each table waits for the others to start writing, which fails unless they're flushed concurrently
+        final CountDownLatch writing = new CountDownLatch(FLUSH_PARALLELISM);
+        createSink((table, records) -> {
+            writing.countDown();
+            assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+        });
+
+        sink.execute(List.of(
+                record("customers", 1),
+                record("orders", 1),
+                record("products", 1),
+                record("orders", 2),
+                record("customers", 2)));
+
+        assertThat(written.get("customers")).containsExactly((byte) 1, (byte) 2);
+        assertThat(written.get("orders")).containsExactly((byte) 1, (byte) 2);
+        assertThat(written.get("products")).containsExactly((byte) 1);
+        verify(recordWriter, never()).write(any(), anyList());
+    }
+
+    @Test
+    void shouldNotUseFlushWriterForTwoTablesAtOnce() {
+        createSink((table, records) -> Thread.sleep(5));
+
+        final List<SinkRecord> records = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            records.add(record("table" + i, i));
+        }
+        sink.execute(records);
+
+        assertThat(written).hasSize(20);
+        for (int i = 0; i < 20; i++) {
+            assertThat(written.get("table" + i)).containsExactly((byte) i);
+        }
+    }
+
+    @Test
+    void shouldPropagateFailureAfterFlushingOtherTables() {
+        final ConnectException failure = new ConnectException("Failed to write orders");
+        createSink((table, records) -> {
+            if ("orders".equals(table)) {
+                throw failure;
+            }
+        });
+
+        assertThatThrownBy(() -> sink.execute(List.of(
+                record("customers", 1),
+                record("orders", 1),
+                record("products", 1))))
+                .isSameAs(failure);
+
+        assertThat(written.get("customers")).containsExactly((byte) 1);
+        assertThat(written.get("products")).containsExactly((byte) 1);
+        assertThat(written).doesNotContainKey("orders");
+    }
+
+    @Test
+    void shouldCancelOutstandingFlushesWhenInterrupted() throws Exception {
+        final CountDownLatch writing = new CountDownLatch(FLUSH_PARALLELISM);
+        final CountDownLatch cancelled = new CountDownLatch(FLUSH_PARALLELISM);
+        final Set<String> started = ConcurrentHashMap.newKeySet();
+        createSink((table, records) -> {
+            started.add(table);
+            writing.countDown();
+            try {
+                new CountDownLatch(1).await();
+            }
+            catch (InterruptedException e) {
+                cancelled.countDown();
+                Thread.currentThread().interrupt();
+                throw new ConnectException("Interrupted", e);
+            }
+        });
+
+        // More tables than flush writers, so some of them wait for a writer when the task is interrupted
+        final List<SinkRecord> records = new ArrayList<>();
+        for (int i = 0; i < FLUSH_PARALLELISM + 2; i++) {
+            records.add(record("table" + i, i));
+        }
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread task = new Thread(() -> {
+            try {
+                sink.execute(records);
+            }
+            catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        task.start();
+        assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+
+        task.interrupt();
+        task.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(failure.get()).isInstanceOf(ConnectException.class).hasCauseInstanceOf(InterruptedException.class);
+        assertThat(cancelled.await(10, TimeUnit.SECONDS)).isTrue();
+        // The tables waiting for a writer are not flushed once the flushes were cancelled
+        Awaitility.await()
+                .during(500, TimeUnit.MILLISECONDS)
+                .atMost(10, TimeUnit.SECONDS)
+                .until(() -> started.size() == FLUSH_PARALLELISM);
+        assertThat(written).isEmpty();
+    }
+
+    private void createSink(Write write) {
+        final List<JdbcChangeEventSink.FlushWriter> flushWriters = new ArrayList<>();
+        for (int i = 0; i < FLUSH_PARALLELISM; i++) {
+            flushWriters.add(new JdbcChangeEventSink.FlushWriter(mock(StatelessSession.class), flushWriter(write)));
+        }
+        sink = new JdbcChangeEventSink(config, mock(StatelessSession.class), dialect, recordWriter, flushWriters,
+                ConnectorContext.from(Map.of(), "jdbc", UUID.randomUUID()));
+    }
+
+    private RecordWriter flushWriter(Write write) {
+        final RecordWriter writer = mock(RecordWriter.class);
+        when(writer.executeWithRetries(anyString(), any())).thenAnswer(invocation -> ((Callable<?>) invocation.getArgument(1)).call());
+        doAnswer(invocation -> {
+            // A flush writer has its own session and statement cache, so it must never be used concurrently
+            assertThat(busyWriters.add(writer)).isTrue();
+            try {
+                final TableDescriptor table = invocation.getArgument(0);
+                final List<JdbcSinkRecord> records = invocation.getArgument(1);
+                write.write(table.getId().name(), records);
+                final List<Byte> keys = written.computeIfAbsent(table.getId().name(), name -> Collections.synchronizedList(new ArrayList<>()));
+                records.forEach(record -> keys.add(((Struct) record.key()).getInt8("id")));
+            }
+            finally {
+                busyWriters.remove(writer);
+            }
+            return null;
+        }).when(writer).write(any(), anyList());
+        return writer;
+    }
+
+    private SinkRecord record(String table, int key) {
+        return factory.createRecord(table, (byte) key, config).getOriginalKafkaRecord();
+    }
+
+    private static TableDescriptor table(CollectionId collectionId) {
+        return TableDescriptor.builder()
+                .tableName(collectionId.name())
+                .type("TABLE")
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.runtime.InternalSinkRecord;
+import org.apache.kafka.connect.runtime.errors.ProcessingContext;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.openlineage.ConnectorContext;
+
+/**
+ * Unit tests for the asynchronous flushes of {@link JdbcSinkConnectorTask}.
+ */
+@Tag("UnitTests")
+class JdbcSinkConnectorTaskTest {
+
+    private static final TopicPartition CUSTOMERS = new TopicPartition("server.inventory.customers", 0);
+    private static final TopicPartition ORDERS = new TopicPartition("server.inventory.orders", 0);
+
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger writes = new AtomicInteger();
+
+    private JdbcChangeEventSink changeEventSink;
+    private JdbcSinkConnectorTask task;
+
+    @BeforeEach
+    void setUp() {
+        changeEventSink = mock(JdbcChangeEventSink.class);
+
+        task = new JdbcSinkConnectorTask();
+        task.start(new JdbcSinkConnectorConfig(Map.of(
+                JdbcSinkConnectorConfig.CONNECTION_URL, "jdbc:test://localhost",
+                JdbcSinkConnectorConfig.FLUSH_MAX_IN_FLIGHT, "2")),
+                ConnectorContext.from(Map.of(), "jdbc", UUID.randomUUID()), changeEventSink);
+        task.open(List.of(CUSTOMERS, ORDERS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        task.stop();
+    }
+
+    @Test
+    void shouldBlockWhileMaxBatchesAreInFlight() throws Exception {
+        // The first batch is written until released, so the second one waits in the queue
+        blockFirstWrite(false);
+        task.put(List.of(record(CUSTOMERS, 0)));
+        task.put(List.of(record(CUSTOMERS, 1)));
+        assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+
+        final Thread put = new Thread(() -> task.put(List.of(record(CUSTOMERS, 2))));
+        put.start();
+        put.join(500);
+        assertThat(put.isAlive()).isTrue();
+
+        release.countDown();
+        put.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(put.isAlive()).isFalse();
+
+        awaitOffsets(Map.of(CUSTOMERS, 3L, ORDERS, 0L), Map.of(CUSTOMERS, 3L, ORDERS, 0L));
+        verify(changeEventSink, times(3)).execute(anyCollection());
+    }
+
+    @Test
+    void shouldCommitOnlyOffsetsOfWrittenBatches() throws Exception {
+        doAnswer(invocation -> {
+            if (writes.incrementAndGet() == 2) {
+                writing.countDown();
+                assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+            }
+            return null;
+        }).when(changeEventSink).execute(anyCollection());
+
+        task.put(List.of(record(CUSTOMERS, 0), record(CUSTOMERS, 1)));
+        task.put(List.of(record(ORDERS, 0), record(CUSTOMERS, 2)));
+        assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // The offsets provided by Connect cover the batch still in flight, so only the written ones are committed
+        assertThat(task.preCommit(offsets(Map.of(CUSTOMERS, 3L, ORDERS, 1L))))
+                .isEqualTo(offsets(Map.of(CUSTOMERS, 2L)));
+
+        release.countDown();
+        awaitOffsets(Map.of(CUSTOMERS, 3L, ORDERS, 1L), Map.of(CUSTOMERS, 3L, ORDERS, 1L));
+    }
+
+    @Test
+    void shouldNotCommitPastFailedBatch() throws Exception {
+        blockFirstWrite(true);
+        task.put(List.of(record(CUSTOMERS, 0), record(CUSTOMERS, 1)));
+        // Submitted while the first batch is still in flight, so it's skipped once that one failed
+        task.put(List.of(record(ORDERS, 0), record(CUSTOMERS, 2)));
+        assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(task.preCommit(offsets(Map.of(CUSTOMERS, 3L, ORDERS, 1L)))).isEmpty();
+
+        release.countDown();
+        awaitOffsets(Map.of(CUSTOMERS, 3L, ORDERS, 1L), Map.of(CUSTOMERS, 0L, ORDERS, 0L));
+        verify(changeEventSink, times(1)).execute(anyCollection());
+
+        assertThat(task.getLastProcessingException()).isInstanceOf(ConnectException.class);
+        assertThatThrownBy(() -> task.put(List.of(record(CUSTOMERS, 3)))).isInstanceOf(ConnectException.class);
+    }
+
+    private void blockFirstWrite(boolean fail) {
+        doAnswer(invocation -> {
+            if (writes.incrementAndGet() == 1) {
+                writing.countDown();
+                assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+                if (fail) {
+                    throw new ConnectException("Failed to write batch");
+                }
+            }
+            return null;
+        }).when(changeEventSink).execute(anyCollection());
+    }
+
+    private void awaitOffsets(Map<TopicPartition, Long> currentOffsets, Map<TopicPartition, Long> expected) {
+        Awaitility.await()
+                .atMost(10, TimeUnit.SECONDS)
+                .until(() -> task.preCommit(offsets(currentOffsets)).equals(offsets(expected)));
+    }
+
+    private static Map<TopicPartition, OffsetAndMetadata> offsets(Map<TopicPartition, Long> offsets) {
+        return offsets.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> new OffsetAndMetadata(entry.getValue())));
+    }
+
+    private static SinkRecord record(TopicPartition partition, long offset) {
+        final ConsumerRecord<byte[], byte[]> consumerRecord = new ConsumerRecord<>(partition.topic(), partition.partition(), offset, new byte[0], new byte[0]);
+        return new InternalSinkRecord(new ProcessingContext<>(consumerRecord),
+                new SinkRecord(partition.topic(), partition.partition(), null, null, null, null, offset));
+    }
+}
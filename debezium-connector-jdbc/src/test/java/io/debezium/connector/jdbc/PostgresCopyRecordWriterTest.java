@@ -0,0 +1,58 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTests")
+class PostgresCopyRecordWriterTest {
+
+    @Test
+    void shouldEncodeNullAndScalarValues() {
+        assertThat(encode(null)).isEqualTo("\\N");
+        assertThat(encode(true)).isEqualTo("t");
+        assertThat(encode(false)).isEqualTo("f");
+        assertThat(encode(42L)).isEqualTo("42");
+        assertThat(encode(new BigDecimal("1E+3"))).isEqualTo("1000");
+    }
+
+    @Test
+    void shouldEscapeTextValues() {
+        assertThat(encode("a\tb\nc\rd\\e")).isEqualTo("a\\tb\\nc\\rd\\\\e");
+    }
+
+    @Test
+    void shouldEncodeByteArrays() {
+        assertThat(encode(new byte[]{ 0x01, (byte) 0xab })).isEqualTo("\\\\x01ab");
+    }
+
+    @Test
+    void shouldEncodeZonedDateTimeWithoutRegion() {
+        final ZonedDateTime value = ZonedDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneId.of("Europe/Prague"));
+        assertThat(encode(value)).isEqualTo("2024-01-02T03:04:05+01:00");
+    }
+
+    @Test
+    void shouldEncodeArrays() {
+        assertThat(encode(List.of("a", "b\"c"))).isEqualTo("{\"a\",\"b\\\\\"c\"}");
+        assertThat(encode(Arrays.asList(1, null, 3))).isEqualTo("{\"1\",NULL,\"3\"}");
+    }
+
+    private static String encode(Object value) {
+        final StringBuilder row = new StringBuilder();
+        PostgresCopyRecordWriter.appendValue(row, value);
+        return row.toString();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SharedSessionContract;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.jdbc.RecordWriter.SqlStatementInfo;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.connector.jdbc.type.JdbcType;
+import io.debezium.connector.jdbc.util.DebeziumSinkRecordFactory;
+import io.debezium.connector.jdbc.util.SinkRecordFactory;
+import io.debezium.sink.column.ColumnDescriptor;
+
+/**
+ * Unit tests for the statement cache of {@link DefaultRecordWriter}.
+ */
+@Tag("UnitTests")
+class StatementCacheTest {
+
+    private final SinkRecordFactory factory = new DebeziumSinkRecordFactory();
+
+    private DatabaseDialect dialect;
+    private JdbcType type;
+
+    @BeforeEach
+    void setUp() {
+        dialect = mock(DatabaseDialect.class);
+        type = mock(JdbcType.class);
+        when(dialect.getSchemaType(any())).thenReturn(type);
+        when(dialect.getInsertStatement(any(), any())).thenAnswer(invocation -> "INSERT INTO " + ((TableDescriptor) invocation.getArgument(0)).getId().name());
+    }
+
+    @Test
+    void shouldReuseStatementForSameTableShape() {
+        final DefaultRecordWriter writer = createWriter(256);
+        final TableDescriptor customers = table("customers", "id", "name", "nick_name_");
+
+        final SqlStatementInfo first = writer.getSqlStatementInfo(customers, List.of(record("customers", 1, writer)));
+        final SqlStatementInfo second = writer.getSqlStatementInfo(customers, List.of(record("customers", 2, writer)));
+
+        assertThat(second).isSameAs(first);
+        verify(dialect, times(1)).getInsertStatement(any(), any());
+    }
+
+    @Test
+    void shouldCreateStatementWhenTableShapeChanges() {
+        final DefaultRecordWriter writer = createWriter(256);
+
+        final SqlStatementInfo first = writer.getSqlStatementInfo(table("customers", "id", "name", "nick_name_"),
+                List.of(record("customers", 1, writer)));
+        // The table was altered, e.g. by schema evolution, so the cached statement must not be used
+        final SqlStatementInfo second = writer.getSqlStatementInfo(table("customers", "id", "name", "nick_name_", "email"),
+                List.of(record("customers", 2, writer)));
+
+        assertThat(second).isNotSameAs(first);
+        verify(dialect, times(2)).getInsertStatement(any(), any());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedStatement() {
+        final DefaultRecordWriter writer = createWriter(1);
+        final TableDescriptor customers = table("customers", "id", "name", "nick_name_");
+        final TableDescriptor orders = table("orders", "id", "name", "nick_name_");
+
+        writer.getSqlStatementInfo(customers, List.of(record("customers", 1, writer)));
+        writer.getSqlStatementInfo(orders, List.of(record("orders", 1, writer)));
+        final SqlStatementInfo statement = writer.getSqlStatementInfo(customers, List.of(record("customers", 2, writer)));
+
+        assertThat(statement.statement()).isEqualTo("INSERT INTO customers");
+        verify(dialect, times(3)).getInsertStatement(any(), any());
+    }
+
+    @Test
+    void shouldNotCacheStatementDependingOnValues() {
+        when(type.isQueryBindingValueDependent()).thenReturn(true);
+        final DefaultRecordWriter writer = createWriter(256);
+        final TableDescriptor customers = table("customers", "id", "name", "nick_name_");
+
+        writer.getSqlStatementInfo(customers, List.of(record("customers", 1, writer)));
+        writer.getSqlStatementInfo(customers, List.of(record("customers", 2, writer)));
+
+        verify(dialect, times(2)).getInsertStatement(any(), any());
+    }
+
+    @Test
+    void shouldNotCacheStatementWhenDisabled() {
+        final DefaultRecordWriter writer = createWriter(0);
+        final TableDescriptor customers = table("customers", "id", "name", "nick_name_");
+
+        writer.getSqlStatementInfo(customers, List.of(record("customers", 1, writer)));
+        writer.getSqlStatementInfo(customers, List.of(record("customers", 2, writer)));
+
+        verify(dialect, times(2)).getInsertStatement(any(), any());
+    }
+
+    private DefaultRecordWriter createWriter(int statementCacheSize) {
+        return new DefaultRecordWriter(mock(SharedSessionContract.class), new QueryBinderResolver(), new JdbcSinkConnectorConfig(Map.of(
+                JdbcSinkConnectorConfig.CONNECTION_URL, "jdbc:test://localhost",
+                JdbcSinkConnectorConfig.STATEMENT_CACHE_SIZE, String.valueOf(statementCacheSize))), dialect);
+    }
+
+    private JdbcSinkRecord record(String topic, int key, DefaultRecordWriter writer) {
+        return factory.createRecord(topic, (byte) key, writer.getConfig());
+    }
+
+    private static TableDescriptor table(String tableName, String... columnNames) {
+        final TableDescriptor.Builder table = TableDescriptor.builder().tableName(tableName).type("TABLE");
+        for (String columnName : columnNames) {
+            table.column(ColumnDescriptor.builder().columnName(columnName).jdbcType(Types.VARCHAR).typeName("varchar").build());
+        }
+        return table.build();
+    }
+}
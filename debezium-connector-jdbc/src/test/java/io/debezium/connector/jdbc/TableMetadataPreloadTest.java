@@ -0,0 +1,120 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.jdbc.ReturningWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.metadata.CollectionId;
+
+/**
+ * Unit tests for the table metadata preloading of {@link DefaultRecordWriter}.
+ */
+@Tag("UnitTests")
+class TableMetadataPreloadTest {
+
+    private DatabaseDialect dialect;
+    private SharedSessionContract session;
+    private Connection connection;
+    private JdbcSinkRecord record;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dialect = mock(DatabaseDialect.class);
+        session = mock(SharedSessionContract.class);
+        connection = mock(Connection.class);
+        record = mock(JdbcSinkRecord.class);
+
+        when(connection.getCatalog()).thenReturn("db");
+        when(connection.getSchema()).thenReturn("public");
+        when(session.doReturningWork(any())).thenAnswer(invocation -> ((ReturningWork<?>) invocation.getArgument(0)).execute(connection));
+        when(dialect.resolveMissingFields(any(), any())).thenReturn(Set.of());
+    }
+
+    @Test
+    void shouldResolvePreloadedTableWithoutMetadataQueries() throws SQLException {
+        final TableDescriptor customers = table("public", "customers");
+        preload(customers, table("public", "orders"));
+
+        final DefaultRecordWriter writer = createWriter();
+        writer.preloadTables();
+
+        assertThat(writer.checkAndApplyTableChangesIfNeeded(new CollectionId("CUSTOMERS"), record)).isSameAs(customers);
+        assertThat(writer.checkAndApplyTableChangesIfNeeded(new CollectionId("public", "customers"), record)).isSameAs(customers);
+        verify(dialect).readTables(connection, "db", "public");
+        verify(dialect, never()).tableExists(any(), any());
+        verify(dialect, never()).readTable(any(), any());
+    }
+
+    @Test
+    void shouldResolveAmbiguousTableNameUsingDatabase() throws SQLException {
+        preload(table("public", "customers"), table("inventory", "customers"));
+
+        final DefaultRecordWriter writer = createWriter();
+        writer.preloadTables();
+
+        final TableDescriptor inventoryCustomers = writer.checkAndApplyTableChangesIfNeeded(new CollectionId("inventory", "customers"), record);
+        assertThat(inventoryCustomers.getId().namespace()).isEqualTo("inventory");
+        verify(dialect, never()).tableExists(any(), any());
+
+        // without a schema, the name matches both tables, so the connector checks the database
+        catchThrowable(() -> writer.checkAndApplyTableChangesIfNeeded(new CollectionId("customers"), record));
+        verify(dialect, atLeastOnce()).tableExists(eq(connection), eq(new CollectionId("customers")));
+    }
+
+    @Test
+    void shouldNotPreloadWhenDisabled() throws SQLException {
+        final DefaultRecordWriter writer = new DefaultRecordWriter(session, new QueryBinderResolver(),
+                new JdbcSinkConnectorConfig(Map.of(JdbcSinkConnectorConfig.CONNECTION_URL, "jdbc:test://localhost")), dialect);
+        writer.preloadTables();
+
+        verify(dialect, never()).readTables(any(), any(), any());
+    }
+
+    private DefaultRecordWriter createWriter() {
+        return new DefaultRecordWriter(session, new QueryBinderResolver(), new JdbcSinkConnectorConfig(Map.of(
+                JdbcSinkConnectorConfig.CONNECTION_URL, "jdbc:test://localhost",
+                JdbcSinkConnectorConfig.TABLE_METADATA_PRELOAD, "true")), dialect);
+    }
+
+    private void preload(TableDescriptor... tables) throws SQLException {
+        final Map<CollectionId, TableDescriptor> result = new LinkedHashMap<>();
+        for (TableDescriptor table : tables) {
+            result.put(table.getId(), table);
+        }
+        when(dialect.readTables(connection, "db", "public")).thenReturn(result);
+    }
+
+    private static TableDescriptor table(String schemaName, String tableName) {
+        return TableDescriptor.builder()
+                .catalogName("db")
+                .schemaName(schemaName)
+                .tableName(tableName)
+                .type("TABLE")
+                .build();
+    }
+}
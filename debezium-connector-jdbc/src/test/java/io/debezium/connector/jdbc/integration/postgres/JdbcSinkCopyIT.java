@@ -0,0 +1,247 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.integration.postgres;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.postgresql.geometric.PGpoint;
+
+import io.debezium.connector.jdbc.JdbcKafkaSinkRecord;
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.PostgresCopyRecordWriter;
+import io.debezium.connector.jdbc.integration.AbstractJdbcSinkTest;
+import io.debezium.connector.jdbc.junit.jupiter.PostgresSinkDatabaseContextProvider;
+import io.debezium.connector.jdbc.junit.jupiter.Sink;
+import io.debezium.connector.jdbc.junit.jupiter.SinkRecordFactoryArgumentsProvider;
+import io.debezium.connector.jdbc.junit.jupiter.WithPostgresExtension;
+import io.debezium.connector.jdbc.util.SinkRecordFactory;
+import io.debezium.data.geometry.Point;
+import io.debezium.junit.logging.LogInterceptor;
+import io.debezium.sink.SinkConnectorConfig.PrimaryKeyMode;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * Integration tests for the {@code COPY}-based writes of {@link PostgresCopyRecordWriter}.
+ */
+@Tag("all")
+@Tag("it")
+@Tag("it-postgresql")
+@ExtendWith(PostgresSinkDatabaseContextProvider.class)
+public class JdbcSinkCopyIT extends AbstractJdbcSinkTest {
+
+    private static final int COPY_THRESHOLD = 4;
+    private static final String COPY_LOADED = "COPY loaded";
+
+    private static final List<String> FIELD_NAMES = List.of("name", "tags", "data");
+    private static final List<Schema> FIELD_SCHEMAS = List.of(
+            Schema.OPTIONAL_STRING_SCHEMA,
+            SchemaBuilder.array(Schema.OPTIONAL_STRING_SCHEMA).optional().build(),
+            Schema.OPTIONAL_BYTES_SCHEMA);
+
+    public JdbcSinkCopyIT(Sink sink) {
+        super(sink);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    public void testUpsertOfRepeatedKeysKeepsLastRecord(SinkRecordFactory factory) throws Exception {
+        final Map<String, String> properties = copySinkConfig();
+        startSinkConnector(properties);
+        assertSinkConnectorIsRunning();
+
+        final LogInterceptor logInterceptor = copyLogInterceptor();
+        final JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(properties);
+        final String topicName = topicName("server1", "schema", randomTableName());
+
+        // Each key is repeated and the last record of a key is not the last one of the batch
+        final List<JdbcKafkaSinkRecord> records = List.of(
+                record(factory, topicName, 1, "first", List.of("a"), new byte[]{ 1 }, config),
+                record(factory, topicName, 2, "second", List.of("b"), new byte[]{ 2 }, config),
+                record(factory, topicName, 1, "first updated", Arrays.asList("a,b", "quoted \"c\"", null), new byte[]{ 1, (byte) 0xff }, config),
+                record(factory, topicName, 3, "third", List.of("c"), new byte[]{ 3 }, config),
+                record(factory, topicName, 2, "tab\tnew line\nback\\slash", List.of("{b}"), new byte[0], config),
+                record(factory, topicName, 3, null, null, null, config),
+                record(factory, topicName, 1, "first final", Arrays.asList(null, "a"), new byte[]{ 0, 92, 10 }, config),
+                record(factory, topicName, 3, "third final", null, null, config));
+
+        final String destinationTable = destinationTableName(records.get(0));
+        getSink().execute(String.format("CREATE TABLE %s (id int not null, name text, tags text[], data bytea, primary key(id))", destinationTable));
+
+        consume(records);
+
+        assertThat(logInterceptor.containsMessage(COPY_LOADED + " 8 rows")).isTrue();
+        assertRows(destinationTable, rs -> {
+            assertThat(rs.next()).isTrue();
+            assertRow(rs, 1, "first final", new String[]{ null, "a" }, new byte[]{ 0, 92, 10 });
+            assertThat(rs.next()).isTrue();
+            assertRow(rs, 2, "tab\tnew line\nback\\slash", new String[]{ "{b}" }, new byte[0]);
+            assertThat(rs.next()).isTrue();
+            assertRow(rs, 3, "third final", null, null);
+            assertThat(rs.next()).isFalse();
+        });
+
+        // The rows of the previous batch are updated by the following one
+        final LogInterceptor updateLogInterceptor = copyLogInterceptor();
+        consume(List.of(
+                record(factory, topicName, 3, null, List.of("c"), new byte[]{ 3 }, config),
+                record(factory, topicName, 4, "fourth", null, null, config),
+                record(factory, topicName, 2, null, null, null, config),
+                record(factory, topicName, 4, "fourth updated", List.of(), new byte[]{ 4 }, config)));
+
+        assertThat(updateLogInterceptor.containsMessage(COPY_LOADED + " 4 rows")).isTrue();
+        assertRows(destinationTable, rs -> {
+            assertThat(rs.next()).isTrue();
+            assertRow(rs, 1, "first final", new String[]{ null, "a" }, new byte[]{ 0, 92, 10 });
+            assertThat(rs.next()).isTrue();
+            assertRow(rs, 2, null, null, null);
+            assertThat(rs.next()).isTrue();
+            assertRow(rs, 3, null, new String[]{ "c" }, new byte[]{ 3 });
+            assertThat(rs.next()).isTrue();
+            assertRow(rs, 4, "fourth updated", new String[0], new byte[]{ 4 });
+            assertThat(rs.next()).isFalse();
+        });
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    public void testBatchBelowThresholdIsWrittenWithoutCopy(SinkRecordFactory factory) throws Exception {
+        final Map<String, String> properties = copySinkConfig();
+        startSinkConnector(properties);
+        assertSinkConnectorIsRunning();
+
+        final LogInterceptor logInterceptor = copyLogInterceptor();
+        final JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(properties);
+        final String topicName = topicName("server1", "schema", randomTableName());
+
+        final List<JdbcKafkaSinkRecord> records = List.of(
+                record(factory, topicName, 1, "first", List.of("a"), new byte[]{ 1 }, config),
+                record(factory, topicName, 2, "second", null, null, config),
+                record(factory, topicName, 1, "first updated", List.of("b"), new byte[]{ 2 }, config));
+
+        final String destinationTable = destinationTableName(records.get(0));
+        getSink().execute(String.format("CREATE TABLE %s (id int not null, name text, tags text[], data bytea, primary key(id))", destinationTable));
+
+        consume(records);
+
+        assertThat(logInterceptor.containsMessage(COPY_LOADED)).isFalse();
+        assertRows(destinationTable, rs -> {
+            assertThat(rs.next()).isTrue();
+            assertRow(rs, 1, "first updated", new String[]{ "b" }, new byte[]{ 2 });
+            assertThat(rs.next()).isTrue();
+            assertRow(rs, 2, "second", null, null);
+            assertThat(rs.next()).isFalse();
+        });
+    }
+
+    @WithPostgresExtension("postgis")
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    public void testColumnWithDedicatedBindingIsWrittenWithoutCopy(SinkRecordFactory factory) throws Exception {
+        final Map<String, String> properties = copySinkConfig();
+        properties.put(JdbcSinkConnectorConfig.POSTGRES_POSTGIS_SCHEMA, "postgis");
+        startSinkConnector(properties);
+        assertSinkConnectorIsRunning();
+
+        final LogInterceptor logInterceptor = copyLogInterceptor();
+        final JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(properties);
+        final String topicName = topicName("server1", "schema", randomTableName());
+
+        // A point is bound through a PostGIS function which COPY can't apply to the copied text
+        final Schema pointSchema = Point.builder().optional().build();
+        final List<JdbcKafkaSinkRecord> records = List.of(
+                pointRecord(factory, topicName, 1, pointSchema, 1.0, 1.0, config),
+                pointRecord(factory, topicName, 2, pointSchema, 2.0, 2.0, config),
+                pointRecord(factory, topicName, 1, pointSchema, 1.5, 1.5, config),
+                pointRecord(factory, topicName, 3, pointSchema, 3.0, 3.0, config),
+                pointRecord(factory, topicName, 1, pointSchema, 1.25, 1.75, config));
+
+        final String destinationTable = destinationTableName(records.get(0));
+        getSink().execute(String.format("CREATE TABLE %s (id int not null, location point, primary key(id))", destinationTable));
+
+        consume(records);
+
+        assertThat(logInterceptor.containsMessage(COPY_LOADED)).isFalse();
+        assertRows(destinationTable, rs -> {
+            assertThat(rs.next()).isTrue();
+            assertThat(rs.getInt("id")).isEqualTo(1);
+            assertThat(rs.getObject("location")).isEqualTo(new PGpoint(1.25, 1.75));
+            assertThat(rs.next()).isTrue();
+            assertThat(rs.getInt("id")).isEqualTo(2);
+            assertThat(rs.getObject("location")).isEqualTo(new PGpoint(2.0, 2.0));
+            assertThat(rs.next()).isTrue();
+            assertThat(rs.getInt("id")).isEqualTo(3);
+            assertThat(rs.getObject("location")).isEqualTo(new PGpoint(3.0, 3.0));
+            assertThat(rs.next()).isFalse();
+        });
+    }
+
+    private Map<String, String> copySinkConfig() {
+        final Map<String, String> properties = getDefaultSinkConfig();
+        properties.put(JdbcSinkConnectorConfig.SCHEMA_EVOLUTION, JdbcSinkConnectorConfig.SchemaEvolutionMode.NONE.getValue());
+        properties.put(JdbcSinkConnectorConfig.PRIMARY_KEY_MODE, PrimaryKeyMode.RECORD_KEY.getValue());
+        properties.put(JdbcSinkConnectorConfig.INSERT_MODE, JdbcSinkConnectorConfig.InsertMode.UPSERT.getValue());
+        // Repeated keys have to reach the writer, so that the staged rows contain more than one row per key
+        properties.put(JdbcSinkConnectorConfig.USE_REDUCTION_BUFFER, "false");
+        properties.put(JdbcSinkConnectorConfig.POSTGRES_COPY_THRESHOLD, String.valueOf(COPY_THRESHOLD));
+        return properties;
+    }
+
+    private static LogInterceptor copyLogInterceptor() {
+        final LogInterceptor logInterceptor = new LogInterceptor(PostgresCopyRecordWriter.class);
+        logInterceptor.setLoggerLevel(PostgresCopyRecordWriter.class, Level.DEBUG);
+        return logInterceptor;
+    }
+
+    private static JdbcKafkaSinkRecord record(SinkRecordFactory factory, String topicName, int key, String name, List<String> tags, byte[] data,
+                                              JdbcSinkConnectorConfig config) {
+        return factory.createRecordWithSchemaValue(topicName, (byte) key, FIELD_NAMES, FIELD_SCHEMAS, Arrays.asList(name, tags, data), config);
+    }
+
+    private static JdbcKafkaSinkRecord pointRecord(SinkRecordFactory factory, String topicName, int key, Schema pointSchema, double x, double y,
+                                                   JdbcSinkConnectorConfig config) {
+        final Struct point = Point.createValue(pointSchema, x, y).put("srid", 3187);
+        return factory.createRecordWithSchemaValue(topicName, (byte) key, List.of("location"), List.of(pointSchema), List.of(point), config);
+    }
+
+    private void assertRows(String tableName, RowsAssertion assertion) throws SQLException {
+        try (Statement statement = getSink().getConnection().createStatement();
+                ResultSet rs = statement.executeQuery("SELECT * FROM " + tableName + " ORDER BY id")) {
+            assertion.accept(rs);
+        }
+    }
+
+    private static void assertRow(ResultSet rs, int id, String name, String[] tags, byte[] data) throws SQLException {
+        assertThat(rs.getInt("id")).isEqualTo(id);
+        assertThat(rs.getString("name")).isEqualTo(name);
+        if (tags == null) {
+            assertThat(rs.getArray("tags")).isNull();
+        }
+        else {
+            assertThat(rs.getArray("tags").getArray()).isEqualTo(tags);
+        }
+        assertThat(rs.getBytes("data")).isEqualTo(data);
+    }
+
+    @FunctionalInterface
+    private interface RowsAssertion {
+        void accept(ResultSet rs) throws SQLException;
+    }
+}
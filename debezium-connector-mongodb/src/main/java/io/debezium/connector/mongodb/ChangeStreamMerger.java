@@ -0,0 +1,89 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.debezium.connector.mongodb.events.BufferingChangeStreamCursor.ResumableChangeStreamEvent;
+
+/**
+ * Merges the events of the change streams reading namespace groups into a single sequence.
+ * <p>
+ * The streams are visited round-robin, taking at most a bounded number of the buffered events of each stream, so
+ * that a busy stream can't starve the others. The events of each stream are handed over in the order they were read.
+ *
+ * @param <T> the type of the change stream documents
+ */
+class ChangeStreamMerger<T> {
+
+    /**
+     * The outcome of merging the events available in the streams.
+     */
+    enum Outcome {
+        /**
+         * None of the streams had an event available
+         */
+        NO_EVENTS,
+        /**
+         * At least one event was handled
+         */
+        EVENTS,
+        /**
+         * The handler requested to stop reading the streams
+         */
+        STOPPED
+    }
+
+    @FunctionalInterface
+    interface EventHandler<T> {
+
+        /**
+         * Handles an event read by one of the streams.
+         *
+         * @param streamIndex the index of the stream that read the event
+         * @param event the event
+         * @return {@code false} if the streams must not be read any further, {@code true} otherwise
+         */
+        boolean handle(int streamIndex, ResumableChangeStreamEvent<T> event);
+    }
+
+    private final List<Supplier<ResumableChangeStreamEvent<T>>> streams;
+    private final int maxEventsPerStream;
+
+    /**
+     * @param streams the streams, each returning its next buffered event or {@code null} if none is available
+     * @param maxEventsPerStream the maximum number of events taken from a stream before moving to the next one
+     */
+    ChangeStreamMerger(List<Supplier<ResumableChangeStreamEvent<T>>> streams, int maxEventsPerStream) {
+        this.streams = List.copyOf(streams);
+        this.maxEventsPerStream = maxEventsPerStream;
+    }
+
+    /**
+     * Visits each of the streams once, handing over their available events.
+     *
+     * @param handler the handler of the events
+     * @return the outcome of the pass
+     */
+    Outcome mergeAvailable(EventHandler<T> handler) {
+        boolean eventsAvailable = false;
+        for (int i = 0; i < streams.size(); i++) {
+            final Supplier<ResumableChangeStreamEvent<T>> stream = streams.get(i);
+            for (int n = 0; n < maxEventsPerStream; n++) {
+                final ResumableChangeStreamEvent<T> event = stream.get();
+                if (event == null) {
+                    break;
+                }
+                eventsAvailable = true;
+                if (!handler.handle(i, event)) {
+                    return Outcome.STOPPED;
+                }
+            }
+        }
+        return eventsAvailable ? Outcome.EVENTS : Outcome.NO_EVENTS;
+    }
+}
@@ -45,12 +45,26 @@ class ChangeStreamPipelineFactory {
     }
 
     ChangeStreamPipeline create() {
+        return create(0);
+    }
+
+    /**
+     * Creates the pipeline of one of the change streams that read the namespace groups configured by
+     * {@link MongoDbConnectorConfig#CURSOR_NAMESPACE_GROUPS}.
+     *
+     * @param streamIndex {@code 0} for the stream reading namespaces not matched by any group, or the 1-based index
+     *                    of the group read by the stream
+     * @return the pipeline
+     */
+    ChangeStreamPipeline create(int streamIndex) {
+        var namespaceGroupPipeline = createNamespaceGroupPipeline(streamIndex);
         var sizePipeline = createSizePipeline();
         var splitPipeline = createSplitPipeline();
         var userAndInternalPipeline = createUserAndInternalPipeline();
 
         // Resolve and combine pipelines serially
-        var effectivePipeline = sizePipeline
+        var effectivePipeline = namespaceGroupPipeline
+                .then(sizePipeline)
                 .then(userAndInternalPipeline)
                 .then(splitPipeline);
 
@@ -91,6 +105,26 @@ private ChangeStreamPipeline createSizePipeline() {
         return new ChangeStreamPipeline(stage);
     }
 
+    private ChangeStreamPipeline createNamespaceGroupPipeline(int streamIndex) {
+        var groups = connectorConfig.getCursorNamespaceGroups();
+        if (groups.isEmpty()) {
+            return new ChangeStreamPipeline();
+        }
+
+        // A namespace belongs to the first group it matches, so the groups preceding the stream's group are excluded;
+        // the stream with index 0 reads the namespaces that don't match any group
+        var filters = new ArrayList<Bson>();
+        var excludedGroups = streamIndex == 0 ? groups.size() : streamIndex - 1;
+        for (int i = 0; i < excludedGroups; i++) {
+            filters.add(expr(negate(namespaceMatches(groups.get(i)))));
+        }
+        if (streamIndex > 0) {
+            filters.add(expr(namespaceMatches(groups.get(streamIndex - 1))));
+        }
+
+        return new ChangeStreamPipeline(Aggregates.match(Filters.and(filters)));
+    }
+
     private ChangeStreamPipeline createSplitPipeline() {
         if (connectorConfig.getOversizeHandlingMode() != MongoDbConnectorConfig.OversizeHandlingMode.SPLIT) {
             return new ChangeStreamPipeline();
@@ -319,6 +353,17 @@ private static Bson lte(Object expr1, Object expr2) {
         return new BasicDBObject("$lte", List.of(expr1, expr2));
     }
 
+    private static Bson namespaceMatches(String regex) {
+        return new BasicDBObject("$regexMatch", new BasicDBObject()
+                .append("input", concat("$ns.db", ".", "$ns.coll"))
+                .append("regex", "^(" + regex + ")$")
+                .append("options", "i"));
+    }
+
+    private static Bson negate(Object expr) {
+        return new BasicDBObject("$not", List.of(expr));
+    }
+
     private static Bson expr(Object expr) {
         return new BasicDBObject("$expr", expr);
     }
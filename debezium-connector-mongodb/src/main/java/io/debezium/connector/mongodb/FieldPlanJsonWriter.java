@@ -0,0 +1,248 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.json.JsonWriter;
+import org.bson.json.JsonWriterSettings;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.mongodb.FieldSelector.FieldPlan;
+
+/**
+ * Serializes documents to JSON in a single pass, applying a {@link FieldPlan} while the document is read.
+ *
+ * <p>
+ * A {@link RawBsonDocument} is read directly from its BSON bytes, so no intermediate object graph is created apart from
+ * the values of renamed fields, which have to be written at the end of their enclosing document.
+ */
+@ThreadSafe
+final class FieldPlanJsonWriter {
+
+    private static final BsonValueCodec BSON_VALUE_CODEC = new BsonValueCodec();
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+
+    private FieldPlanJsonWriter() {
+    }
+
+    /**
+     * Serializes the given document to JSON.
+     *
+     * @param document the document to serialize; never {@code null}
+     * @param plan the plan of the field exclusions and renames; never {@code null}
+     * @param settings the JSON writer settings; never {@code null}
+     * @return the JSON representation of the document
+     */
+    static String toJson(BsonDocument document, FieldPlan plan, JsonWriterSettings settings) {
+        final StringWriter json = new StringWriter();
+        try (BsonReader reader = readerFor(document)) {
+            final JsonWriter writer = new JsonWriter(json, settings);
+            if (plan.isEmpty()) {
+                writer.pipe(reader);
+            }
+            else {
+                writeDocument(reader, writer, plan);
+            }
+            writer.flush();
+        }
+        return json.toString();
+    }
+
+    private static BsonReader readerFor(BsonDocument document) {
+        if (document instanceof RawBsonDocument) {
+            return new BsonBinaryReader(((RawBsonDocument) document).getByteBuffer().asNIO());
+        }
+        return new BsonDocumentReader(document);
+    }
+
+    private static void writeDocument(BsonReader reader, BsonWriter writer, FieldPlan plan) {
+        final Set<String> names = plan.hasRenames() ? new HashSet<>() : null;
+        List<RenamedField> renamedFields = null;
+
+        reader.readStartDocument();
+        writer.writeStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String name = reader.readName();
+            final FieldPlan fieldPlan = plan.child(name);
+            if (fieldPlan == null) {
+                writer.writeName(name);
+                pipeValue(reader, writer, null);
+            }
+            else if (fieldPlan.isRemoved()) {
+                reader.skipValue();
+                continue;
+            }
+            else if (fieldPlan.newName() != null) {
+                if (renamedFields == null) {
+                    renamedFields = new ArrayList<>();
+                }
+                renamedFields.add(new RenamedField(fieldPlan, BSON_VALUE_CODEC.decode(reader, DECODER_CONTEXT)));
+                continue;
+            }
+            else {
+                writer.writeName(name);
+                pipeValue(reader, writer, fieldPlan);
+            }
+            if (names != null) {
+                names.add(name);
+            }
+        }
+        reader.readEndDocument();
+
+        if (renamedFields != null) {
+            renamedFields.sort(Comparator.comparingInt(field -> field.plan.ordinal()));
+            for (RenamedField field : renamedFields) {
+                final String newName = field.plan.newName();
+                if (!names.add(newName)) {
+                    throw new IllegalArgumentException("Document already contains field : " + newName);
+                }
+                writer.writeName(newName);
+                BSON_VALUE_CODEC.encode(writer, field.value, ENCODER_CONTEXT);
+            }
+        }
+        writer.writeEndDocument();
+    }
+
+    private static void writeArray(BsonReader reader, BsonWriter writer, FieldPlan plan) {
+        reader.readStartArray();
+        writer.writeStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            // the plan applies to the documents of an array, but not to nested arrays
+            if (reader.getCurrentBsonType() == BsonType.DOCUMENT) {
+                writeDocument(reader, writer, plan);
+            }
+            else {
+                pipeValue(reader, writer, null);
+            }
+        }
+        reader.readEndArray();
+        writer.writeEndArray();
+    }
+
+    private static void pipeValue(BsonReader reader, BsonWriter writer, FieldPlan plan) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                if (plan != null) {
+                    writeDocument(reader, writer, plan);
+                }
+                else {
+                    writer.pipe(reader);
+                }
+                break;
+            case ARRAY:
+                if (plan != null) {
+                    writeArray(reader, writer, plan);
+                }
+                else {
+                    pipeArray(reader, writer);
+                }
+                break;
+            case DOUBLE:
+                writer.writeDouble(reader.readDouble());
+                break;
+            case STRING:
+                writer.writeString(reader.readString());
+                break;
+            case BINARY:
+                writer.writeBinaryData(reader.readBinaryData());
+                break;
+            case UNDEFINED:
+                reader.readUndefined();
+                writer.writeUndefined();
+                break;
+            case OBJECT_ID:
+                writer.writeObjectId(reader.readObjectId());
+                break;
+            case BOOLEAN:
+                writer.writeBoolean(reader.readBoolean());
+                break;
+            case DATE_TIME:
+                writer.writeDateTime(reader.readDateTime());
+                break;
+            case NULL:
+                reader.readNull();
+                writer.writeNull();
+                break;
+            case REGULAR_EXPRESSION:
+                writer.writeRegularExpression(reader.readRegularExpression());
+                break;
+            case JAVASCRIPT:
+                writer.writeJavaScript(reader.readJavaScript());
+                break;
+            case SYMBOL:
+                writer.writeSymbol(reader.readSymbol());
+                break;
+            case JAVASCRIPT_WITH_SCOPE:
+                writer.writeJavaScriptWithScope(reader.readJavaScriptWithScope());
+                writer.pipe(reader);
+                break;
+            case INT32:
+                writer.writeInt32(reader.readInt32());
+                break;
+            case TIMESTAMP:
+                writer.writeTimestamp(reader.readTimestamp());
+                break;
+            case INT64:
+                writer.writeInt64(reader.readInt64());
+                break;
+            case DECIMAL128:
+                writer.writeDecimal128(reader.readDecimal128());
+                break;
+            case MIN_KEY:
+                reader.readMinKey();
+                writer.writeMinKey();
+                break;
+            case DB_POINTER:
+                writer.writeDBPointer(reader.readDBPointer());
+                break;
+            case MAX_KEY:
+                reader.readMaxKey();
+                writer.writeMaxKey();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported BSON type: " + reader.getCurrentBsonType());
+        }
+    }
+
+    private static void pipeArray(BsonReader reader, BsonWriter writer) {
+        reader.readStartArray();
+        writer.writeStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            pipeValue(reader, writer, null);
+        }
+        reader.readEndArray();
+        writer.writeEndArray();
+    }
+
+    private static final class RenamedField {
+
+        private final FieldPlan plan;
+        private final BsonValue value;
+
+        private RenamedField(FieldPlan plan, BsonValue value) {
+            this.plan = plan;
+            this.value = value;
+        }
+    }
+}
@@ -7,9 +7,12 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -69,6 +72,138 @@ public interface FieldFilter {
         * @return the new field name or {@code null} if the field should be removed
         */
         String apply(String field);
+
+        /**
+         * Returns the plan that applies this filter to a full document while it is being written, without modifying
+         * or copying the document.
+         *
+         * @return the plan, or {@code null} if the configured fields cannot be excluded or renamed in a single pass
+         */
+        FieldPlan plan();
+    }
+
+    /**
+     * A tree of the field exclusions and renames that apply to a collection, so that they can be applied while a
+     * document is streamed to a writer rather than by modifying a decoded document in place.
+     *
+     * <p>
+     * Renamed fields are moved to the end of the enclosing document in the order in which the renames are configured,
+     * which matches the result of {@link FieldFilter#apply(BsonDocument)}.
+     */
+    @ThreadSafe
+    public static final class FieldPlan {
+
+        /**
+         * The plan that leaves documents unchanged.
+         */
+        public static final FieldPlan EMPTY = new FieldPlan(false, null, -1);
+
+        private final Map<String, FieldPlan> children = new LinkedHashMap<>();
+        private final Set<String> renameTargets = new HashSet<>();
+        private final boolean removed;
+        private final String newName;
+        private final int ordinal;
+
+        private FieldPlan(boolean removed, String newName, int ordinal) {
+            this.removed = removed;
+            this.newName = newName;
+            this.ordinal = ordinal;
+        }
+
+        /**
+         * Returns the plan for the given field of the document this plan applies to.
+         *
+         * @param name the name of the field
+         * @return the plan of the field, or {@code null} if the field is written unchanged
+         */
+        public FieldPlan child(String name) {
+            return children.get(name);
+        }
+
+        /**
+         * @return {@code true} if the field represented by this plan is excluded
+         */
+        public boolean isRemoved() {
+            return removed;
+        }
+
+        /**
+         * @return the new name of the field represented by this plan, or {@code null} if the field isn't renamed
+         */
+        public String newName() {
+            return newName;
+        }
+
+        /**
+         * @return the position of this rename among all configured renames, used to order renamed fields
+         */
+        public int ordinal() {
+            return ordinal;
+        }
+
+        /**
+         * @return {@code true} if any of the direct children of this plan are renamed
+         */
+        public boolean hasRenames() {
+            return !renameTargets.isEmpty();
+        }
+
+        /**
+         * @return {@code true} if this plan leaves documents unchanged
+         */
+        public boolean isEmpty() {
+            return children.isEmpty();
+        }
+
+        private boolean isLeaf() {
+            return removed || newName != null;
+        }
+
+        /**
+         * Builds the plan for the given paths.
+         *
+         * <p>
+         * Paths that depend on the order in which they are applied, e.g. a field that is renamed to the name of another
+         * configured field or a field that is both excluded and used as a parent of another path, can't be represented
+         * by a single pass over the document.
+         *
+         * @param paths the paths applying to a collection; never {@code null}
+         * @return the plan, or {@code null} if the paths can't be applied in a single pass
+         */
+        private static FieldPlan of(List<Path> paths) {
+            final FieldPlan root = new FieldPlan(false, null, -1);
+            int ordinal = 0;
+            for (Path path : paths) {
+                FieldPlan parent = root;
+                final int leafIndex = path.fieldNodes.length - 1;
+                for (int i = 0; i < leafIndex; i++) {
+                    final String node = path.fieldNodes[i];
+                    if (parent.renameTargets.contains(node)) {
+                        return null;
+                    }
+                    parent = parent.children.computeIfAbsent(node, name -> new FieldPlan(false, null, -1));
+                    if (parent.isLeaf()) {
+                        return null;
+                    }
+                }
+
+                final String node = path.fieldNodes[leafIndex];
+                if (parent.children.containsKey(node) || parent.renameTargets.contains(node)) {
+                    return null;
+                }
+                if (path instanceof RenamePath) {
+                    final String newName = ((RenamePath) path).newFieldNode;
+                    if (newName.equals(node) || parent.children.containsKey(newName) || !parent.renameTargets.add(newName)) {
+                        return null;
+                    }
+                    parent.children.put(node, new FieldPlan(false, newName, ordinal++));
+                }
+                else {
+                    parent.children.put(node, new FieldPlan(true, null, -1));
+                }
+            }
+            return root;
+        }
     }
 
     /**
@@ -194,6 +329,7 @@ public FieldFilter fieldFilterFor(CollectionId id) {
             List<Path> pathsApplyingToCollection = paths.stream()
                     .filter(path -> path.matches(namespace))
                     .collect(Collectors.toList());
+            final FieldPlan plan = FieldPlan.of(pathsApplyingToCollection);
             if (pathsApplyingToCollection.size() == 1) {
                 return new FieldFilter() {
                     final Path path = pathsApplyingToCollection.get(0);
@@ -222,6 +358,11 @@ public BsonDocument applyChange(BsonDocument doc) {
                         path.modify(null, (Map) doc, null);
                         return doc;
                     }
+
+                    @Override
+                    public FieldPlan plan() {
+                        return plan;
+                    }
                 };
             }
             else if (pathsApplyingToCollection.size() > 1) {
@@ -256,6 +397,11 @@ public BsonDocument applyChange(BsonDocument doc) {
                         pathsApplyingToCollection.forEach(path -> path.modify(null, (Map) doc, null));
                         return doc;
                     }
+
+                    @Override
+                    public FieldPlan plan() {
+                        return plan;
+                    }
                 };
             }
         }
@@ -280,6 +426,11 @@ public Document apply(Document doc) {
             public BsonDocument applyChange(BsonDocument doc) {
                 return doc;
             }
+
+            @Override
+            public FieldPlan plan() {
+                return FieldPlan.EMPTY;
+            }
         };
     }
 
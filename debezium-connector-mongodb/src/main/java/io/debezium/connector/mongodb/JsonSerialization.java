@@ -13,6 +13,8 @@
 
 import com.mongodb.BasicDBObject;
 
+import io.debezium.connector.mongodb.FieldSelector.FieldPlan;
+
 /**
  * A class responsible for serialization of message keys and values to MongoDB compatible JSON
  *
@@ -74,6 +76,21 @@ public String getDocumentValue(BsonDocument document) {
         return transformer.apply(document);
     }
 
+    /**
+     * Serializes the document while excluding or renaming fields according to the given plan, without copying
+     * or modifying the document.
+     *
+     * @param document the document to serialize
+     * @param plan the plan of the field exclusions and renames; never {@code null}
+     * @return the JSON representation of the document
+     */
+    public String getDocumentValue(BsonDocument document, FieldPlan plan) {
+        if (document == null) {
+            return null;
+        }
+        return FieldPlanJsonWriter.toJson(document, plan, COMPACT_JSON_SETTINGS);
+    }
+
     public Transformer getTransformer() {
         return transformer;
     }
@@ -7,17 +7,21 @@
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
 import com.mongodb.client.model.changestream.TruncatedArray;
 
 import io.debezium.connector.mongodb.FieldSelector.FieldFilter;
+import io.debezium.connector.mongodb.FieldSelector.FieldPlan;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.FieldName;
 import io.debezium.data.SchemaUtil;
@@ -32,24 +36,26 @@
  */
 public class MongoDbCollectionSchema implements DataCollectionSchema {
 
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+
     private final CollectionId id;
     private final FieldFilter fieldFilter;
     private final Schema keySchema;
     private final Envelope envelopeSchema;
     private final Schema valueSchema;
     private final Function<BsonDocument, Object> keyGenerator;
-    private final Function<BsonDocument, String> valueGenerator;
+    private final BiFunction<BsonDocument, FieldPlan, String> valueGenerator;
 
     public MongoDbCollectionSchema(CollectionId id, FieldFilter fieldFilter, Schema keySchema,
                                    Function<BsonDocument, Object> keyGenerator, Envelope envelopeSchema, Schema valueSchema,
-                                   Function<BsonDocument, String> valueGenerator) {
+                                   BiFunction<BsonDocument, FieldPlan, String> valueGenerator) {
         this.id = id;
         this.fieldFilter = fieldFilter;
         this.keySchema = keySchema;
         this.envelopeSchema = envelopeSchema;
         this.valueSchema = valueSchema;
         this.keyGenerator = keyGenerator != null ? keyGenerator : (BsonDocument) -> null;
-        this.valueGenerator = valueGenerator != null ? valueGenerator : (Document) -> null;
+        this.valueGenerator = valueGenerator != null ? valueGenerator : (document, plan) -> null;
     }
 
     @Override
@@ -79,7 +85,7 @@ public Struct valueFromDocumentSnapshot(BsonDocument document, Envelope.Operatio
         Struct value = new Struct(valueSchema);
         switch (operation) {
             case READ:
-                final String jsonStr = valueGenerator.apply(fieldFilter.apply(document));
+                final String jsonStr = documentToJson(document);
                 value.put(FieldName.AFTER, jsonStr);
                 break;
         }
@@ -152,15 +158,29 @@ public Struct valueFromDocumentChangeStream(ChangeStreamDocument<BsonDocument> d
     }
 
     private void extractFullDocument(ChangeStreamDocument<BsonDocument> document, Struct value) {
-        final String fullDocStr = valueGenerator.apply(fieldFilter.apply(document.getFullDocument()));
+        final String fullDocStr = documentToJson(document.getFullDocument());
         value.put(FieldName.AFTER, fullDocStr);
     }
 
     private void extractFullDocumentBeforeChange(ChangeStreamDocument<BsonDocument> document, Struct value) {
-        final String fullDocBeforeChangeStr = valueGenerator.apply(fieldFilter.apply(document.getFullDocumentBeforeChange()));
+        final String fullDocBeforeChangeStr = documentToJson(document.getFullDocumentBeforeChange());
         value.put(FieldName.BEFORE, fullDocBeforeChangeStr);
     }
 
+    private String documentToJson(BsonDocument document) {
+        final FieldPlan plan = fieldFilter.plan();
+        if (plan != null) {
+            // fields are excluded or renamed while the document is written, without an intermediate copy
+            return valueGenerator.apply(document, plan);
+        }
+
+        // the configured fields can't be applied in a single pass, so the document is modified in place
+        if (document instanceof RawBsonDocument) {
+            document = ((RawBsonDocument) document).decode(BSON_DOCUMENT_CODEC);
+        }
+        return valueGenerator.apply(fieldFilter.apply(document), FieldPlan.EMPTY);
+    }
+
     @Override
     public int hashCode() {
         return valueSchema().hashCode();
@@ -7,13 +7,18 @@
 
 import static java.util.function.Predicate.not;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigDef.Importance;
@@ -1004,6 +1009,32 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
                     + "This includes both, the size before and after database operation, "
                     + "more specifically this limits the size of fullDocument and fullDocumentBeforeChange filed of MongoDB change events.");
 
+    public static final Field CURSOR_RAW_DOCUMENTS = Field.create("cursor.raw.documents")
+            .withDisplayName("Read change stream documents as raw BSON")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 10))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("When enabled, the 'fullDocument' and 'fullDocumentBeforeChange' fields of change events are kept as raw BSON "
+                    + "and serialized to JSON directly from their BSON bytes, applying 'field.exclude.list' and 'field.renames' "
+                    + "while they are written. This avoids decoding large documents into an intermediate object graph.");
+
+    public static final Field CURSOR_NAMESPACE_GROUPS = Field.create("cursor.namespace.groups")
+            .withDisplayName("Namespace groups read by separate change streams")
+            .withType(Type.STRING)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 11))
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withValidation(MongoDbConnectorConfig::validateNamespaceGroups)
+            .withDescription("A semicolon-separated list of groups, each a comma-separated list of regular expressions that match "
+                    + "fully-qualified collection names (<databaseName>.<collectionName>). "
+                    + "For each group the connector opens a separate change stream restricted to the matching collections, "
+                    + "and one more change stream for all remaining collections. "
+                    + "A collection matching more than one group belongs to the first of them. "
+                    + "Events of a collection are emitted in order, but there is no ordering guarantee between collections read by different change streams. "
+                    + "Each change stream keeps its own resume token in the connector offsets.");
+
     public static final Field TOPIC_NAMING_STRATEGY = Field.create("topic.naming.strategy")
             .withDisplayName("Topic naming strategy class")
             .withType(Type.CLASS)
@@ -1032,7 +1063,9 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
                     MONGODB_POLL_INTERVAL_MS,
                     SSL_ENABLED,
                     SSL_ALLOW_INVALID_HOSTNAMES,
-                    CURSOR_MAX_AWAIT_TIME_MS)
+                    CURSOR_MAX_AWAIT_TIME_MS,
+                    CURSOR_RAW_DOCUMENTS,
+                    CURSOR_NAMESPACE_GROUPS)
             .events(
                     DATABASE_INCLUDE_LIST,
                     DATABASE_EXCLUDE_LIST,
@@ -1087,6 +1120,9 @@ public static ConfigDef configDef() {
     private final OversizeHandlingMode oversizeHandlingMode;
     private final FiltersMatchMode filtersMatchMode;
     private final int oversizeSkipThreshold;
+    private final boolean cursorRawDocuments;
+    private final List<String> cursorNamespaceGroups;
+    private final List<String> cursorNamespaceStreamIds;
 
     public MongoDbConnectorConfig(Configuration config) {
         super(config, DEFAULT_SNAPSHOT_FETCH_SIZE);
@@ -1134,6 +1170,9 @@ public MongoDbConnectorConfig(Configuration config) {
         String oversizeHandlingModeValue = config.getString(MongoDbConnectorConfig.CURSOR_OVERSIZE_HANDLING_MODE);
         this.oversizeHandlingMode = OversizeHandlingMode.parse(oversizeHandlingModeValue, MongoDbConnectorConfig.CURSOR_OVERSIZE_HANDLING_MODE.defaultValueAsString());
         this.oversizeSkipThreshold = config.getInteger(CURSOR_OVERSIZE_SKIP_THRESHOLD);
+        this.cursorRawDocuments = config.getBoolean(CURSOR_RAW_DOCUMENTS);
+        this.cursorNamespaceGroups = parseNamespaceGroups(config.getString(CURSOR_NAMESPACE_GROUPS));
+        this.cursorNamespaceStreamIds = namespaceStreamIds(cursorNamespaceGroups);
 
         String filterMatchModeValue = config.getString(MongoDbConnectorConfig.FILTERS_MATCH_MODE);
         this.filtersMatchMode = FiltersMatchMode.parse(filterMatchModeValue, MongoDbConnectorConfig.FILTERS_MATCH_MODE.defaultValueAsString());
@@ -1155,6 +1194,66 @@ private static int validateChangeStreamPipeline(Configuration config, Field fiel
         return 0;
     }
 
+    private static int validateNamespaceGroups(Configuration config, Field field, ValidationOutput problems) {
+        int problemCount = 0;
+        for (String group : parseNamespaceGroups(config.getString(field))) {
+            try {
+                Pattern.compile(group);
+            }
+            catch (PatternSyntaxException e) {
+                problems.accept(field, group, "A namespace group must be a valid list of regular expressions: " + e.getMessage());
+                problemCount++;
+            }
+        }
+        return problemCount;
+    }
+
+    /**
+     * Parses the namespace groups into a list of regular expressions, one for each group.
+     *
+     * @param value the value of {@link #CURSOR_NAMESPACE_GROUPS}; may be {@code null}
+     * @return the regular expressions of the groups; never {@code null}
+     */
+    private static List<String> parseNamespaceGroups(String value) {
+        if (Strings.isNullOrBlank(value)) {
+            return Collections.emptyList();
+        }
+        final List<String> groups = new ArrayList<>();
+        for (String group : value.split(";")) {
+            final List<String> regexes = Strings.listOfTrimmed(group, regex -> regex.isEmpty() ? null : regex);
+            if (!regexes.isEmpty()) {
+                groups.add(String.join("|", regexes));
+            }
+        }
+        return Collections.unmodifiableList(groups);
+    }
+
+    /**
+     * Derives the identifiers of the change streams reading the namespace groups. The identifier of a stream is
+     * derived from the namespaces it reads, i.e. its own group and the groups preceding it, so it changes whenever
+     * the set of namespaces read by the stream changes.
+     *
+     * @param groups the regular expressions of the groups; never {@code null}
+     * @return the identifiers, the first one for the stream reading the namespaces not matched by any group,
+     *         followed by one for each group; empty if there are no groups
+     */
+    private static List<String> namespaceStreamIds(List<String> groups) {
+        if (groups.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<String> streamIds = new ArrayList<>(groups.size() + 1);
+        streamIds.add(namespaceStreamId("remaining", groups));
+        for (int i = 0; i < groups.size(); i++) {
+            streamIds.add(namespaceStreamId("group", groups.subList(0, i + 1)));
+        }
+        return Collections.unmodifiableList(streamIds);
+    }
+
+    private static String namespaceStreamId(String kind, List<String> groups) {
+        final String definition = kind + '\n' + String.join("\n", groups);
+        return UUID.nameUUIDFromBytes(definition.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
     private static int validateOversizeSkipThreshold(Configuration config, Field field, ValidationOutput problems) {
         String mode = config.getString(CURSOR_OVERSIZE_HANDLING_MODE);
         int value = config.getInteger(CURSOR_OVERSIZE_SKIP_THRESHOLD);
@@ -1387,6 +1486,31 @@ public int getOversizeSkipThreshold() {
         return oversizeSkipThreshold;
     }
 
+    public boolean isCursorRawDocuments() {
+        return cursorRawDocuments;
+    }
+
+    /**
+     * Returns the regular expressions matching the namespaces of the groups that are read by separate change streams.
+     *
+     * @return the regular expressions of the groups; empty if all namespaces are read by a single change stream
+     */
+    public List<String> getCursorNamespaceGroups() {
+        return cursorNamespaceGroups;
+    }
+
+    /**
+     * Returns the stable identifiers of the change streams reading the namespace groups, under which the streams
+     * record their resume tokens in the offsets.
+     *
+     * @return the identifiers, the first one for the stream reading the namespaces not matched by any group,
+     *         followed by one for each group in the order of {@link #getCursorNamespaceGroups()}; empty if all
+     *         namespaces are read by a single change stream
+     */
+    public List<String> getCursorNamespaceStreamIds() {
+        return cursorNamespaceStreamIds;
+    }
+
     public FiltersMatchMode getFiltersMatchMode() {
         return filtersMatchMode;
     }
@@ -12,12 +12,15 @@
 import static io.debezium.connector.mongodb.SourceInfo.LSID;
 import static io.debezium.connector.mongodb.SourceInfo.ORDER;
 import static io.debezium.connector.mongodb.SourceInfo.RESUME_TOKEN;
+import static io.debezium.connector.mongodb.SourceInfo.STREAM_RESUME_TOKEN_PREFIX;
 import static io.debezium.connector.mongodb.SourceInfo.TIMESTAMP;
 import static io.debezium.connector.mongodb.SourceInfo.TXN_NUMBER;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.kafka.connect.data.Schema;
 import org.bson.BsonDocument;
@@ -49,12 +52,20 @@ public class MongoDbOffsetContext extends CommonOffsetContext<SourceInfo> {
 
     private final TransactionContext transactionContext;
     private final IncrementalSnapshotContext<CollectionId> incrementalSnapshotContext;
+    private final Map<String, String> streamResumeTokens;
 
     public MongoDbOffsetContext(SourceInfo sourceInfo, TransactionContext transactionContext,
                                 IncrementalSnapshotContext<CollectionId> incrementalSnapshotContext) {
+        this(sourceInfo, transactionContext, incrementalSnapshotContext, new HashMap<>());
+    }
+
+    private MongoDbOffsetContext(SourceInfo sourceInfo, TransactionContext transactionContext,
+                                 IncrementalSnapshotContext<CollectionId> incrementalSnapshotContext,
+                                 Map<String, String> streamResumeTokens) {
         super(sourceInfo);
         this.transactionContext = transactionContext;
         this.incrementalSnapshotContext = incrementalSnapshotContext;
+        this.streamResumeTokens = streamResumeTokens;
     }
 
     void startInitialSnapshot() {
@@ -77,6 +88,7 @@ void stopInitialSnapshot() {
 
         addSessionTxnIdToOffset(position, offset);
         addResumeTokenToOffset(position, offset);
+        streamResumeTokens.forEach((streamId, resumeToken) -> offset.put(STREAM_RESUME_TOKEN_PREFIX + streamId, resumeToken));
 
         return isInitialSnapshotRunning() ? offset : incrementalSnapshotContext.store(transactionContext.store(offset));
     }
@@ -161,6 +173,38 @@ public String lastResumeToken() {
         return sourceInfo.lastResumeToken();
     }
 
+    /**
+     * Records the resume token of the last event read by one of the change streams reading namespace groups.
+     *
+     * @param streamId the identifier of the change stream, see {@link MongoDbConnectorConfig#getCursorNamespaceStreamIds()}
+     * @param resumeToken the resume token
+     */
+    public void streamResumeToken(String streamId, BsonDocument resumeToken) {
+        if (resumeToken != null) {
+            streamResumeTokens.put(streamId, ResumeTokens.toBase64(resumeToken));
+        }
+    }
+
+    /**
+     * Returns the resume token of the last event read by one of the change streams reading namespace groups.
+     *
+     * @param streamId the identifier of the change stream
+     * @return the resume token, or {@code null} if the change stream hasn't recorded any position yet
+     */
+    public BsonDocument lastStreamResumeTokenDoc(String streamId) {
+        final String data = streamResumeTokens.get(streamId);
+        return data == null ? null : ResumeTokens.fromBase64(data);
+    }
+
+    /**
+     * Returns the identifiers of the change streams reading namespace groups that recorded a resume token.
+     *
+     * @return the identifiers; never {@code null}
+     */
+    public Set<String> streamResumeTokenIds() {
+        return Set.copyOf(streamResumeTokens.keySet());
+    }
+
     public BsonDocument lastResumeTokenDoc() {
         final String data = sourceInfo.lastResumeToken();
         if (data == null) {
@@ -235,7 +279,18 @@ public MongoDbOffsetContext load(Map<String, ?> offset) {
             return new MongoDbOffsetContext(
                     sourceInfo,
                     new TransactionContext(),
-                    MongoDbIncrementalSnapshotContext.load(offset, false));
+                    MongoDbIncrementalSnapshotContext.load(offset, false),
+                    streamResumeTokensFromOffset(offset));
+        }
+
+        private Map<String, String> streamResumeTokensFromOffset(Map<String, ?> offset) {
+            final Map<String, String> streamResumeTokens = new HashMap<>();
+            for (Map.Entry<String, ?> entry : offset.entrySet()) {
+                if (entry.getKey().startsWith(STREAM_RESUME_TOKEN_PREFIX) && entry.getValue() != null) {
+                    streamResumeTokens.put(entry.getKey().substring(STREAM_RESUME_TOKEN_PREFIX.length()), entry.getValue().toString());
+                }
+            }
+            return streamResumeTokens;
         }
 
         private SourceInfo.Position positionFromOffset(Map<String, ?> offset) {
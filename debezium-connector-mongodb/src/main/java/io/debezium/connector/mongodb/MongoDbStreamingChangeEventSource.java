@@ -5,7 +5,13 @@
  */
 package io.debezium.connector.mongodb;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.bson.BsonDocument;
 import org.slf4j.Logger;
@@ -18,6 +24,8 @@
 import com.mongodb.client.model.changestream.FullDocument;
 import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
 
+import io.debezium.DebeziumException;
+import io.debezium.annotation.VisibleForTesting;
 import io.debezium.connector.mongodb.connection.MongoDbConnection;
 import io.debezium.connector.mongodb.connection.MongoDbConnections;
 import io.debezium.connector.mongodb.events.BufferingChangeStreamCursor;
@@ -31,6 +39,7 @@
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
 import io.debezium.snapshot.SnapshotterService;
 import io.debezium.util.Clock;
+import io.debezium.util.DelayStrategy;
 
 /**
  * @author Chris Cranford
@@ -39,6 +48,11 @@ public class MongoDbStreamingChangeEventSource implements StreamingChangeEventSo
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MongoDbStreamingChangeEventSource.class);
 
+    /**
+     * The index used when all namespaces are read by a single change stream
+     */
+    private static final int SINGLE_STREAM = -1;
+
     private final MongoDbConnectorConfig connectorConfig;
     private final EventDispatcher<MongoDbPartition, CollectionId> dispatcher;
     private final ErrorHandler errorHandler;
@@ -83,7 +97,13 @@ public void execute(ChangeEventSourceContext context, MongoDbPartition partition
 
         try (MongoDbConnection mongo = MongoDbConnections.create(taskContext.getRawConfig(), dispatcher, partition)) {
             mongo.execute("Reading change stream", client -> {
-                readChangeStream(client, context, partition);
+                final int namespaceGroups = connectorConfig.getCursorNamespaceGroups().size();
+                if (namespaceGroups == 0) {
+                    readChangeStream(client, context, partition);
+                }
+                else {
+                    readChangeStreams(client, context, partition, namespaceGroups + 1);
+                }
             });
         }
         catch (Throwable t) {
@@ -99,21 +119,22 @@ public MongoDbOffsetContext getOffsetContext() {
 
     private void readChangeStream(MongoClient client, ChangeEventSourceContext context, MongoDbPartition partition) {
         LOGGER.info("Reading change stream");
+        if (!validateStreamResumeTokens()) {
+            return;
+        }
+
         final SplitEventHandler<BsonDocument> splitHandler = new SplitEventHandler<>();
         final ChangeStreamIterable<BsonDocument> stream = initChangeStream(client, effectiveOffset);
 
         try (var cursor = BufferingChangeStreamCursor.fromIterable(stream, taskContext, streamingMetrics, clock).start()) {
             while (context.isRunning()) {
-                waitWhenStreamingPaused(context, cursor);
+                waitWhenStreamingPaused(context, List.of(cursor));
                 var resumableEvent = cursor.tryNext();
                 if (resumableEvent == null) {
                     continue;
                 }
 
-                var result = resumableEvent.document
-                        .map(doc -> processChangeStreamDocument(doc, splitHandler, partition, effectiveOffset))
-                        .orElseGet(() -> errorHandled(() -> dispatchHeartbeatEvent(resumableEvent, partition, effectiveOffset)));
-
+                var result = processResumableEvent(resumableEvent, splitHandler, partition, SINGLE_STREAM);
                 if (result == StreamStatus.ERROR) {
                     return;
                 }
@@ -125,14 +146,93 @@ private void readChangeStream(MongoClient client, ChangeEventSourceContext conte
         }
     }
 
-    private void waitWhenStreamingPaused(ChangeEventSourceContext context, BufferingChangeStreamCursor cursor) {
+    /**
+     * Reads a change stream for each namespace group configured by {@link MongoDbConnectorConfig#CURSOR_NAMESPACE_GROUPS},
+     * so that events of different groups are fetched and decoded concurrently.
+     * <p>
+     * Each namespace is read by exactly one of the change streams and the events of each stream are dispatched in order,
+     * so the order of events within a collection is preserved.
+     */
+    private void readChangeStreams(MongoClient client, ChangeEventSourceContext context, MongoDbPartition partition, int streamCount) {
+        LOGGER.info("Reading {} change streams partitioned by namespace", streamCount);
+        final List<BufferingChangeStreamCursor<BsonDocument>> cursors = new ArrayList<>(streamCount);
+        final List<SplitEventHandler<BsonDocument>> splitHandlers = new ArrayList<>(streamCount);
+        final DelayStrategy throttler = DelayStrategy.boundedExponential(Duration.ofMillis(1), connectorConfig.getPollInterval(), 2);
+
+        if (!validateStreamResumeTokens()) {
+            return;
+        }
+
+        try {
+            final List<Supplier<ResumableChangeStreamEvent<BsonDocument>>> streams = new ArrayList<>(streamCount);
+            for (int i = 0; i < streamCount; i++) {
+                final ChangeStreamIterable<BsonDocument> stream = initChangeStream(client, effectiveOffset, i);
+                final BufferingChangeStreamCursor<BsonDocument> cursor = BufferingChangeStreamCursor.fromIterable(stream, taskContext, streamingMetrics, clock,
+                        "replicator-fetcher-" + i).start();
+                cursors.add(cursor);
+                streams.add(cursor::poll);
+                splitHandlers.add(new SplitEventHandler<>());
+            }
+
+            final ChangeStreamMerger<BsonDocument> merger = new ChangeStreamMerger<>(streams, connectorConfig.getMaxBatchSize());
+            while (context.isRunning()) {
+                waitWhenStreamingPaused(context, cursors);
+                final ChangeStreamMerger.Outcome outcome = merger.mergeAvailable(
+                        (i, resumableEvent) -> processResumableEvent(resumableEvent, splitHandlers.get(i), partition, i) != StreamStatus.ERROR);
+                if (outcome == ChangeStreamMerger.Outcome.STOPPED) {
+                    return;
+                }
+                throttler.sleepWhen(outcome == ChangeStreamMerger.Outcome.NO_EVENTS);
+            }
+        }
+        catch (MongoException e) {
+            LOGGER.error("Error while reading change streams", e);
+            errorHandler.setProducerThrowable(e);
+        }
+        finally {
+            cursors.forEach(BufferingChangeStreamCursor::close);
+        }
+    }
+
+    /**
+     * Verifies that the resume tokens recorded in the offsets belong to the change streams of the configured namespace
+     * groups. Once the groups change, a stream may read namespaces whose events were read by another stream, so
+     * resuming from the recorded positions could skip or repeat events. Once the groups are removed, the single change
+     * stream would resume from the position of the stream which dispatched last, skipping the events the other streams
+     * hadn't reached yet.
+     *
+     * @return {@code true} if streaming can resume, {@code false} if the error was reported to the error handler
+     */
+    @VisibleForTesting
+    boolean validateStreamResumeTokens() {
+        final Set<String> recordedStreamIds = new HashSet<>(effectiveOffset.streamResumeTokenIds());
+        recordedStreamIds.removeAll(connectorConfig.getCursorNamespaceStreamIds());
+        if (recordedStreamIds.isEmpty()) {
+            return true;
+        }
+        errorHandler.setProducerThrowable(new DebeziumException("The offsets contain the positions of change streams that don't match the value of '"
+                + MongoDbConnectorConfig.CURSOR_NAMESPACE_GROUPS.name() + "'. The namespace groups can't be changed once streaming started; "
+                + "restore the previous groups or remove the connector offsets"));
+        return false;
+    }
+
+    private StreamStatus processResumableEvent(ResumableChangeStreamEvent<BsonDocument> resumableEvent,
+                                               SplitEventHandler<BsonDocument> splitHandler,
+                                               MongoDbPartition partition,
+                                               int streamIndex) {
+        return resumableEvent.document
+                .map(doc -> processChangeStreamDocument(doc, splitHandler, partition, effectiveOffset, streamIndex))
+                .orElseGet(() -> errorHandled(() -> dispatchHeartbeatEvent(resumableEvent, partition, effectiveOffset, streamIndex)));
+    }
+
+    private void waitWhenStreamingPaused(ChangeEventSourceContext context, List<BufferingChangeStreamCursor<BsonDocument>> cursors) {
         if (context.isPaused()) {
             errorHandled(() -> {
                 LOGGER.info("Streaming will now pause");
-                cursor.pause();
+                cursors.forEach(BufferingChangeStreamCursor::pause);
                 context.streamingPaused();
                 context.waitSnapshotCompletion();
-                cursor.resume();
+                cursors.forEach(BufferingChangeStreamCursor::resume);
                 LOGGER.info("Streaming resumed");
             });
         }
@@ -142,18 +242,20 @@ private StreamStatus processChangeStreamDocument(
                                                      ChangeStreamDocument<BsonDocument> document,
                                                      SplitEventHandler<BsonDocument> splitHandler,
                                                      MongoDbPartition partition,
-                                                     MongoDbOffsetContext offsetContext) {
+                                                     MongoDbOffsetContext offsetContext,
+                                                     int streamIndex) {
         LOGGER.trace("Arrived Change Stream event: {}", document);
         return splitHandler
                 .handle(document)
-                .map(event -> errorHandled(() -> dispatchChangeEvent(event, partition, offsetContext)))
+                .map(event -> errorHandled(() -> dispatchChangeEvent(event, partition, offsetContext, streamIndex)))
                 .orElse(StreamStatus.NEXT);
     }
 
     private void dispatchChangeEvent(
                                      ChangeStreamDocument<BsonDocument> event,
                                      MongoDbPartition partition,
-                                     MongoDbOffsetContext offsetContext)
+                                     MongoDbOffsetContext offsetContext,
+                                     int streamIndex)
             throws InterruptedException {
         var collectionId = new CollectionId(
                 event.getNamespace().getDatabaseName(),
@@ -161,16 +263,23 @@ private void dispatchChangeEvent(
 
         var emitter = new MongoDbChangeRecordEmitter(partition, offsetContext, clock, event, connectorConfig);
         offsetContext.changeStreamEvent(event);
+        if (streamIndex != SINGLE_STREAM) {
+            offsetContext.streamResumeToken(streamId(streamIndex), event.getResumeToken());
+        }
         dispatcher.dispatchDataChangeEvent(partition, collectionId, emitter);
     }
 
     private void dispatchHeartbeatEvent(
                                         ResumableChangeStreamEvent<BsonDocument> event,
                                         MongoDbPartition partition,
-                                        MongoDbOffsetContext offsetContext)
+                                        MongoDbOffsetContext offsetContext,
+                                        int streamIndex)
             throws InterruptedException {
         LOGGER.trace("No Change Stream event arrived");
         offsetContext.noEvent(event);
+        if (streamIndex != SINGLE_STREAM) {
+            offsetContext.streamResumeToken(streamId(streamIndex), event.resumeToken);
+        }
         dispatcher.dispatchHeartbeatEvent(partition, offsetContext);
     }
 
@@ -190,8 +299,23 @@ private StreamStatus errorHandled(BlockingRunnable action) {
         }
     }
 
+    private String streamId(int streamIndex) {
+        return connectorConfig.getCursorNamespaceStreamIds().get(streamIndex);
+    }
+
     protected ChangeStreamIterable<BsonDocument> initChangeStream(MongoClient client, MongoDbOffsetContext offsetContext) {
-        final ChangeStreamIterable<BsonDocument> stream = MongoUtils.openChangeStream(client, taskContext);
+        return initChangeStream(client, offsetContext, SINGLE_STREAM);
+    }
+
+    /**
+     * Opens the change stream, resuming it from the position recorded for the stream in the offsets.
+     *
+     * @param streamIndex the index of the change stream reading a namespace group, or {@link #SINGLE_STREAM}
+     */
+    protected ChangeStreamIterable<BsonDocument> initChangeStream(MongoClient client, MongoDbOffsetContext offsetContext, int streamIndex) {
+        final ChangeStreamIterable<BsonDocument> stream = streamIndex == SINGLE_STREAM
+                ? MongoUtils.openChangeStream(client, taskContext)
+                : MongoUtils.openChangeStream(client, taskContext, streamIndex);
 
         if (connectorConfig.getCaptureMode().isFullUpdate()) {
             if (connectorConfig.getCaptureModeFullUpdateType().isPostImage()) {
@@ -204,7 +328,12 @@ protected ChangeStreamIterable<BsonDocument> initChangeStream(MongoClient client
         if (connectorConfig.getCaptureMode().isIncludePreImage()) {
             stream.fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE);
         }
-        if (offsetContext.lastResumeToken() != null) {
+        final BsonDocument streamResumeToken = streamIndex == SINGLE_STREAM ? null : offsetContext.lastStreamResumeTokenDoc(streamId(streamIndex));
+        if (streamResumeToken != null) {
+            LOGGER.info("Resuming change stream {} from token '{}'", streamId(streamIndex), streamResumeToken);
+            stream.resumeAfter(streamResumeToken);
+        }
+        else if (offsetContext.lastResumeToken() != null) {
             LOGGER.info("Resuming streaming from token '{}'", offsetContext.lastResumeToken());
             stream.resumeAfter(offsetContext.lastResumeTokenDoc());
         }
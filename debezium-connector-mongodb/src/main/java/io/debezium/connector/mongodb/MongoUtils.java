@@ -13,6 +13,7 @@
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -211,14 +212,27 @@ public static Optional<String> replicaSetName(ClusterDescription clusterDescript
      * @return change stream iterable
      */
     public static ChangeStreamIterable<BsonDocument> openChangeStream(MongoClient client, MongoDbTaskContext taskContext) {
+        return openChangeStream(client, taskContext, 0);
+    }
+
+    /**
+     * Opens change stream based on {@link MongoDbConnectorConfig#getCaptureScope()}, restricted to the namespaces
+     * of one of the groups configured by {@link MongoDbConnectorConfig#CURSOR_NAMESPACE_GROUPS}
+     *
+     * @param client mongodb client
+     * @param taskContext task context
+     * @param streamIndex {@code 0} for namespaces not matched by any group, or the 1-based index of the group
+     * @return change stream iterable
+     */
+    public static ChangeStreamIterable<BsonDocument> openChangeStream(MongoClient client, MongoDbTaskContext taskContext, int streamIndex) {
         var config = taskContext.getConfig();
-        final ChangeStreamPipeline pipeline = new ChangeStreamPipelineFactory(config, taskContext.getFilters().getConfig()).create();
+        final ChangeStreamPipeline pipeline = new ChangeStreamPipelineFactory(config, taskContext.getFilters().getConfig()).create(streamIndex);
 
         // capture scope is database
         if (config.getCaptureScope() == MongoDbConnectorConfig.CaptureScope.DATABASE) {
             var database = config.getCaptureTarget().orElseThrow();
             LOGGER.info("Change stream is restricted to '{}' database", database);
-            return client.getDatabase(database).watch(pipeline.getStages(), BsonDocument.class);
+            return client.getDatabase(database).watch(pipeline.getStages(), changeStreamDocumentClass(config));
         }
 
         // capture scope is collection
@@ -227,11 +241,23 @@ public static ChangeStreamIterable<BsonDocument> openChangeStream(MongoClient cl
             var database = captureTarget.split("\\.")[0];
             var collection = captureTarget.split("\\.")[1];
             LOGGER.info("Change stream is restricted to '{}' collection", collection);
-            return client.getDatabase(database).getCollection(collection).watch(pipeline.getStages(), BsonDocument.class);
+            return client.getDatabase(database).getCollection(collection).watch(pipeline.getStages(), changeStreamDocumentClass(config));
         }
 
         // capture scope is deployment
-        return client.watch(pipeline.getStages(), BsonDocument.class);
+        return client.watch(pipeline.getStages(), changeStreamDocumentClass(config));
+    }
+
+    /**
+     * Returns the class used to decode the documents of change events.
+     * A {@link RawBsonDocument} is a {@link BsonDocument}, so both can be handled uniformly by the event processing.
+     *
+     * @param config the connector configuration
+     * @return the document class
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<BsonDocument> changeStreamDocumentClass(MongoDbConnectorConfig config) {
+        return (Class<BsonDocument>) (Class<?>) (config.isCursorRawDocuments() ? RawBsonDocument.class : BsonDocument.class);
     }
 
     public static BsonTimestamp hello(MongoClient client, String dbName) {
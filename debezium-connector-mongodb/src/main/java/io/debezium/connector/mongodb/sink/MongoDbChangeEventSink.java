@@ -10,9 +10,17 @@
 import static io.debezium.openlineage.dataset.DatasetMetadata.DataStore.DATABASE;
 import static io.debezium.openlineage.dataset.DatasetMetadata.DatasetKind.OUTPUT;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.connector.ConnectRecord;
@@ -25,10 +33,14 @@
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
 
 import io.debezium.DebeziumException;
 import io.debezium.connector.common.DebeziumTaskState;
+import io.debezium.connector.mongodb.MongoDbSinkConnector;
 import io.debezium.connector.mongodb.sink.converters.SinkDocument;
 import io.debezium.connector.mongodb.sink.eventhandler.relational.RelationalEventHandler;
 import io.debezium.dlq.ErrorReporter;
@@ -38,6 +50,7 @@
 import io.debezium.openlineage.dataset.DatasetMetadata;
 import io.debezium.sink.DebeziumSinkRecord;
 import io.debezium.sink.spi.ChangeEventSink;
+import io.debezium.util.Threads;
 
 final class MongoDbChangeEventSink implements ChangeEventSink, AutoCloseable {
 
@@ -45,6 +58,7 @@ final class MongoDbChangeEventSink implements ChangeEventSink, AutoCloseable {
     private final MongoClient mongoClient;
     private final ErrorReporter errorReporter;
     private final ConnectorContext connectorContext;
+    private final ExecutorService bulkWriteExecutor;
 
     MongoDbChangeEventSink(
                            final MongoDbSinkConnectorConfig sinkConfig,
@@ -54,11 +68,17 @@ final class MongoDbChangeEventSink implements ChangeEventSink, AutoCloseable {
         this.mongoClient = mongoClient;
         this.errorReporter = errorReporter;
         this.connectorContext = connectorContext;
+        this.bulkWriteExecutor = sinkConfig.getBulkWriteParallelism() > 1
+                ? Threads.newFixedThreadPool(MongoDbSinkConnector.class, sinkConfig.getConnectorName(), "bulk-writer", sinkConfig.getBulkWriteParallelism())
+                : null;
     }
 
     @SuppressWarnings("try")
     @Override
     public void close() {
+        if (bulkWriteExecutor != null) {
+            bulkWriteExecutor.shutdownNow();
+        }
         try (MongoClient autoCloseable = mongoClient) {
             // just using try-with-resources to ensure they all get closed, even in the case of
             // exceptions
@@ -76,11 +96,7 @@ public void execute(final Collection<SinkRecord> records) {
                 LOGGER.debug("No sink records to process for current poll operation");
             }
             else {
-                List<List<MongoProcessedSinkRecordData>> batches = MongoSinkRecordProcessor.orderedGroupByTopicAndNamespace(
-                        records, sinkConfig, errorReporter);
-                for (List<MongoProcessedSinkRecordData> batch : batches) {
-                    bulkWriteBatch(batch);
-                }
+                bulkWrite(MongoSinkRecordProcessor.orderedGroupByTopicAndNamespace(records, sinkConfig, errorReporter));
             }
         }
         catch (Exception e) {
@@ -89,6 +105,67 @@ public void execute(final Collection<SinkRecord> records) {
         }
     }
 
+    void bulkWrite(List<List<MongoProcessedSinkRecordData>> batches) throws InterruptedException {
+        if (bulkWriteExecutor == null) {
+            for (List<MongoProcessedSinkRecordData> batch : batches) {
+                bulkWriteBatch(batch);
+            }
+        }
+        else {
+            bulkWriteConcurrently(batches);
+        }
+    }
+
+    /**
+     * Writes the batches of different namespaces concurrently. The batches of a single namespace are written
+     * sequentially in their original order by the same task, and the method returns only after all of them
+     * have been written, so the offsets committed after {@code put()} never precede an unwritten record.
+     */
+    private void bulkWriteConcurrently(List<List<MongoProcessedSinkRecordData>> batches) throws InterruptedException {
+        final Map<MongoNamespace, List<List<MongoProcessedSinkRecordData>>> batchesByNamespace = new LinkedHashMap<>();
+        for (List<MongoProcessedSinkRecordData> batch : batches) {
+            if (!batch.isEmpty()) {
+                batchesByNamespace.computeIfAbsent(batch.get(0).getNamespace(), ns -> new ArrayList<>()).add(batch);
+            }
+        }
+
+        final List<Future<?>> futures = new ArrayList<>(batchesByNamespace.size());
+        for (List<List<MongoProcessedSinkRecordData>> namespaceBatches : batchesByNamespace.values()) {
+            futures.add(bulkWriteExecutor.submit(() -> {
+                for (List<MongoProcessedSinkRecordData> batch : namespaceBatches) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        // The sink gave up waiting for the writes, don't start any more of them
+                        return;
+                    }
+                    bulkWriteBatch(batch);
+                }
+            }));
+        }
+
+        RuntimeException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            }
+            catch (InterruptedException e) {
+                futures.forEach(f -> f.cancel(true));
+                throw e;
+            }
+            catch (ExecutionException e) {
+                final RuntimeException cause = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new DebeziumException(e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                }
+                else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     private void trackLatestRecordTimestampOffset(final Collection<SinkRecord> records) {
         OptionalLong latestRecord = records.stream()
                 .filter(v -> v.timestamp() != null)
@@ -109,7 +186,7 @@ private void bulkWriteBatch(final List<MongoProcessedSinkRecordData> batch) {
         List<WriteModel<BsonDocument>> writeModels = batch.stream()
                 .map(MongoProcessedSinkRecordData::getWriteModel)
                 .collect(Collectors.toList());
-        boolean bulkWriteOrdered = true;
+        boolean bulkWriteOrdered = !sinkConfig.isBulkWriteUnordered() || !hasDistinctTargets(writeModels);
 
         try {
             LOGGER.debug(
@@ -135,6 +212,33 @@ private void bulkWriteBatch(final List<MongoProcessedSinkRecordData> batch) {
         }
     }
 
+    /**
+     * Whether every write model of the batch targets a different document, in which case the writes are
+     * independent of each other and may be applied by the server in any order.
+     */
+    private static boolean hasDistinctTargets(List<WriteModel<BsonDocument>> writeModels) {
+        final Set<Object> filters = new HashSet<>(writeModels.size());
+        for (WriteModel<BsonDocument> writeModel : writeModels) {
+            final Object filter;
+            if (writeModel instanceof ReplaceOneModel) {
+                filter = ((ReplaceOneModel<BsonDocument>) writeModel).getFilter();
+            }
+            else if (writeModel instanceof DeleteOneModel) {
+                filter = ((DeleteOneModel<BsonDocument>) writeModel).getFilter();
+            }
+            else if (writeModel instanceof UpdateOneModel) {
+                filter = ((UpdateOneModel<BsonDocument>) writeModel).getFilter();
+            }
+            else {
+                return false;
+            }
+            if (!(filter instanceof BsonDocument) || !filters.add(filter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void handleTolerableWriteException(
                                                final List<DebeziumSinkRecord> batch,
                                                final boolean ordered,
@@ -37,6 +37,8 @@ public class MongoDbSinkConnectorConfig implements SharedMongoDbConnectorConfig,
     public static final String COLUMN_NAMING_STRATEGY = "column.naming.strategy";
     public static final String FIELD_INCLUDE_LIST = "field.include.list";
     public static final String FIELD_EXCLUDE_LIST = "field.exclude.list";
+    public static final String BULK_WRITE_PARALLELISM = "bulk.write.parallelism";
+    public static final String BULK_WRITE_UNORDERED = "bulk.write.unordered";
 
     public static final Field SINK_DATABASE_NAME = Field.create(SINK_DATABASE)
             .withDisplayName("The sink MongoDB database name.")
@@ -56,6 +58,29 @@ public class MongoDbSinkConnectorConfig implements SharedMongoDbConnectorConfig,
             .withDefault(DefaultColumnNamingStrategy.class.getName())
             .withDescription("The fully qualified name of the class that provide the column naming strategy. It must implement the ColumnNamingStrategy interface.");
 
+    public static final Field BULK_WRITE_PARALLELISM_FIELD = Field.create(BULK_WRITE_PARALLELISM)
+            .withDisplayName("Bulk write parallelism")
+            .withType(ConfigDef.Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 5))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of collections the connector writes to concurrently. "
+                    + "Records for the same collection are always written in order, one batch after another. "
+                    + "The default value of 1 writes all batches serially.");
+
+    public static final Field BULK_WRITE_UNORDERED_FIELD = Field.create(BULK_WRITE_UNORDERED)
+            .withDisplayName("Unordered bulk writes")
+            .withType(ConfigDef.Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 6))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("Whether batches in which every write targets a different document are sent as unordered bulk writes, "
+                    + "which allows the server to apply them in parallel. "
+                    + "Batches that contain several writes to the same document are always sent as ordered bulk writes.");
+
     protected static final ConfigDefinition CONFIG_DEFINITION = ConfigDefinition.editor()
             .connector(
                     SINK_DATABASE_NAME,
@@ -63,7 +88,9 @@ public class MongoDbSinkConnectorConfig implements SharedMongoDbConnectorConfig,
                     COLLECTION_NAMING_STRATEGY_FIELD,
                     COLLECTION_NAME_FORMAT_FIELD,
                     COLUMN_NAMING_STRATEGY_FIELD,
-                    BATCH_SIZE_FIELD)
+                    BATCH_SIZE_FIELD,
+                    BULK_WRITE_PARALLELISM_FIELD,
+                    BULK_WRITE_UNORDERED_FIELD)
             .create();
 
     /**
@@ -92,6 +119,8 @@ public WriteModelStrategy getDeleteWriteModelStrategy() {
     private final boolean truncateEnabled;
     private final boolean deleteEnabled;
     private final String cloudEventsSchemaNamePattern;
+    private final int bulkWriteParallelism;
+    private final boolean bulkWriteUnordered;
 
     public MongoDbSinkConnectorConfig(Configuration config) {
         this.config = config;
@@ -109,6 +138,8 @@ public MongoDbSinkConnectorConfig(Configuration config) {
         this.deleteEnabled = config.getBoolean(DELETE_ENABLED_FIELD);
         this.batchSize = config.getInteger(BATCH_SIZE_FIELD);
         this.cloudEventsSchemaNamePattern = config.getString(CLOUDEVENTS_SCHEMA_NAME_PATTERN_FIELD);
+        this.bulkWriteParallelism = config.getInteger(BULK_WRITE_PARALLELISM_FIELD);
+        this.bulkWriteUnordered = config.getBoolean(BULK_WRITE_UNORDERED_FIELD);
     }
 
     public void validate() {
@@ -154,6 +185,14 @@ public FieldNameFilter fieldFilter() {
         return fieldsFilter;
     }
 
+    public int getBulkWriteParallelism() {
+        return bulkWriteParallelism;
+    }
+
+    public boolean isBulkWriteUnordered() {
+        return bulkWriteUnordered;
+    }
+
     public ColumnNamingStrategy getColumnNamingStrategy() {
         return columnNamingStrategy;
     }
@@ -194,7 +194,7 @@ public R doApply(R record) {
         }
         // Add headers if needed
         if (!additionalHeaders.isEmpty()) {
-            Headers headersToAdd = makeHeaders(additionalHeaders, (Struct) record.value());
+            Headers headersToAdd = makeHeaders((Struct) record.value());
             headersToAdd.forEach(h -> record.headers().add(h));
         }
 
@@ -0,0 +1,84 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.mongodb.ChangeStreamMerger.Outcome;
+import io.debezium.connector.mongodb.events.BufferingChangeStreamCursor.ResumableChangeStreamEvent;
+
+public class ChangeStreamMergerTest {
+
+    @Test
+    public void shouldMergeStreamsRoundRobinKeepingOrderOfEachStream() {
+        final List<Queue<ResumableChangeStreamEvent<BsonDocument>>> streams = List.of(
+                events("a1", "a2", "a3", "a4", "a5"),
+                events("b1", "b2"),
+                events());
+        final ChangeStreamMerger<BsonDocument> merger = new ChangeStreamMerger<>(suppliers(streams), 2);
+        final List<String> merged = new ArrayList<>();
+
+        assertThat(merger.mergeAvailable((stream, event) -> merged.add(stream + ":" + label(event)))).isEqualTo(Outcome.EVENTS);
+        assertThat(merged).containsExactly("0:a1", "0:a2", "1:b1", "1:b2");
+
+        streams.get(2).add(event("c1"));
+        assertThat(merger.mergeAvailable((stream, event) -> merged.add(stream + ":" + label(event)))).isEqualTo(Outcome.EVENTS);
+        assertThat(merger.mergeAvailable((stream, event) -> merged.add(stream + ":" + label(event)))).isEqualTo(Outcome.EVENTS);
+        assertThat(merger.mergeAvailable((stream, event) -> merged.add(stream + ":" + label(event)))).isEqualTo(Outcome.NO_EVENTS);
+        assertThat(merged).containsExactly("0:a1", "0:a2", "1:b1", "1:b2", "0:a3", "0:a4", "2:c1", "0:a5");
+    }
+
+    @Test
+    public void shouldStopWhenHandlerFails() {
+        final List<Queue<ResumableChangeStreamEvent<BsonDocument>>> streams = List.of(
+                events("a1", "a2", "a3"),
+                events("b1"));
+        final ChangeStreamMerger<BsonDocument> merger = new ChangeStreamMerger<>(suppliers(streams), 10);
+        final List<String> handled = new ArrayList<>();
+
+        final Outcome outcome = merger.mergeAvailable((stream, event) -> {
+            handled.add(label(event));
+            return !"a2".equals(label(event));
+        });
+
+        assertThat(outcome).isEqualTo(Outcome.STOPPED);
+        assertThat(handled).containsExactly("a1", "a2");
+        assertThat(streams.get(0)).hasSize(1);
+        assertThat(streams.get(1)).hasSize(1);
+    }
+
+    private static List<Supplier<ResumableChangeStreamEvent<BsonDocument>>> suppliers(List<Queue<ResumableChangeStreamEvent<BsonDocument>>> streams) {
+        return streams.stream()
+                .<Supplier<ResumableChangeStreamEvent<BsonDocument>>> map(stream -> stream::poll)
+                .collect(Collectors.toList());
+    }
+
+    private static Queue<ResumableChangeStreamEvent<BsonDocument>> events(String... labels) {
+        return Stream.of(labels)
+                .map(ChangeStreamMergerTest::event)
+                .collect(Collectors.toCollection(ArrayDeque::new));
+    }
+
+    private static ResumableChangeStreamEvent<BsonDocument> event(String label) {
+        return new ResumableChangeStreamEvent<>(new BsonDocument("_data", new BsonString(label)));
+    }
+
+    private static String label(ResumableChangeStreamEvent<BsonDocument> event) {
+        return event.resumeToken.getString("_data").getValue();
+    }
+}
@@ -158,6 +158,35 @@ void testCreateWithUserOnly() {
         assertPipelineStagesEquals(pipeline.getStages(), USER_PIPELINE);
     }
 
+    @Test
+    void testCreateNamespaceGroupPipelines() {
+        // Given:
+        given(connectorConfig.getCursorNamespaceGroups())
+                .willReturn(List.of("inventory.orders", "inventory.*"));
+        given(connectorConfig.getCursorPipelineOrder())
+                .willReturn(CursorPipelineOrder.USER_ONLY);
+        given(connectorConfig.getSkippedOperations())
+                .willReturn(EnumSet.of(Envelope.Operation.TRUNCATE)); // The default
+        given(filterConfig.getCollectionIncludeList())
+                .willReturn(Optional.of("inventory.*"));
+        given(filterConfig.getUserPipeline())
+                .willReturn(new ChangeStreamPipeline(asJsonArray(USER_PIPELINE)));
+
+        // When:
+        var remaining = sut.create(0);
+        var firstGroup = sut.create(1);
+        var secondGroup = sut.create(2);
+
+        // Then:
+        assertPipelineStagesEquals(remaining.getStages(), mergeStages(
+                List.of(matchAll(not(regexMatch("inventory.orders")), not(regexMatch("inventory.*")))), USER_PIPELINE));
+        assertPipelineStagesEquals(firstGroup.getStages(), mergeStages(
+                List.of(matchAll(regexMatch("inventory.orders"))), USER_PIPELINE));
+        // A namespace belongs to the first group it matches
+        assertPipelineStagesEquals(secondGroup.getStages(), mergeStages(
+                List.of(matchAll(not(regexMatch("inventory.orders")), regexMatch("inventory.*"))), USER_PIPELINE));
+    }
+
     @Test
     void testCollectionIncludeListTrimsWhitespace() {
         // Given:
@@ -367,6 +396,23 @@ private static void assertJsonEquals(String actual, String expected) {
         }
     }
 
+    private static String matchAll(String... expressions) {
+        return Stream.of(expressions)
+                .map(expression -> "{\"$expr\": " + expression + "}")
+                .collect(Collectors.joining(", ", "{\"$match\": {\"$and\": [", "]}}"));
+    }
+
+    private static String not(String expression) {
+        return "{\"$not\": [" + expression + "]}";
+    }
+
+    private static String regexMatch(String regex) {
+        return "{\"$regexMatch\": {"
+                + "\"input\": {\"$concat\": [\"$ns.db\", \".\", \"$ns.coll\"]}, "
+                + "\"regex\": \"^(" + regex + ")$\", "
+                + "\"options\": \"i\"}}";
+    }
+
     private static String pipelineToString(ChangeStreamPipeline pipeline) {
         return pipeline.getStages().stream()
                 .map(stage -> stage.toBsonDocument().toJson())
@@ -0,0 +1,90 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.mongodb.FieldSelector.FieldFilter;
+import io.debezium.connector.mongodb.FieldSelector.FieldPlan;
+
+public class FieldPlanJsonWriterTest {
+
+    private static final CollectionId COLLECTION_ID = CollectionId.parse("db1.collectionA");
+    private static final String DOCUMENT = "{ \"_id\" : 1, \"name\" : \"Alice\", \"phone\" : 123, "
+            + "\"address\" : { \"street\" : \"Main\", \"number\" : 7, \"zip\" : \"12345\" }, "
+            + "\"orders\" : [ { \"id\" : 1, \"secret\" : \"x\" }, { \"id\" : 2, \"secret\" : \"y\" }, [ { \"secret\" : \"z\" } ], 42 ], "
+            + "\"created\" : { \"$date\" : 1700000000000 }, \"price\" : { \"$numberDecimal\" : \"1.50\" } }";
+
+    private Configurator build;
+
+    @BeforeEach
+    public void beforeEach() {
+        build = new Configurator().with(MongoDbConnectorConfig.CONNECTION_STRING, "mongodb://dummy:27017");
+    }
+
+    @Test
+    void shouldWriteUnchangedDocumentWithoutPaths() {
+        assertSameAsInPlaceFiltering(build.createFilters().fieldFilterFor(COLLECTION_ID));
+    }
+
+    @Test
+    void shouldExcludeFields() {
+        assertSameAsInPlaceFiltering(build.excludeFields("db1.collectionA.phone,db1.collectionA.address.zip,db1.collectionA.orders.secret")
+                .createFilters().fieldFilterFor(COLLECTION_ID));
+    }
+
+    @Test
+    void shouldRenameFields() {
+        assertSameAsInPlaceFiltering(build.renameFields("db1.collectionA.phone:mobile,db1.collectionA.name:fullName,db1.collectionA.address.street:road")
+                .createFilters().fieldFilterFor(COLLECTION_ID));
+    }
+
+    @Test
+    void shouldExcludeAndRenameFieldsInArrays() {
+        assertSameAsInPlaceFiltering(build.excludeFields("db1.collectionA.orders.secret")
+                .renameFields("db1.collectionA.orders.id:orderId")
+                .createFilters().fieldFilterFor(COLLECTION_ID));
+    }
+
+    @Test
+    void shouldNotCreatePlanForOrderDependentPaths() {
+        final FieldFilter filter = build.excludeFields("db1.collectionA.address")
+                .renameFields("db1.collectionA.address.street:road")
+                .createFilters().fieldFilterFor(COLLECTION_ID);
+
+        assertThat(filter.plan()).isNull();
+    }
+
+    @Test
+    void shouldFailWhenRenamedFieldAlreadyExists() {
+        final FieldFilter filter = build.renameFields("db1.collectionA.phone:name").createFilters().fieldFilterFor(COLLECTION_ID);
+
+        assertThat(filter.plan()).isNotNull();
+        assertThatThrownBy(() -> FieldPlanJsonWriter.toJson(raw(), filter.plan(), JsonSerialization.COMPACT_JSON_SETTINGS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Document already contains field : name");
+    }
+
+    private void assertSameAsInPlaceFiltering(FieldFilter filter) {
+        final FieldPlan plan = filter.plan();
+        assertThat(plan).isNotNull();
+
+        final String expected = filter.apply(BsonDocument.parse(DOCUMENT)).toJson(JsonSerialization.COMPACT_JSON_SETTINGS);
+        assertThat(FieldPlanJsonWriter.toJson(raw(), plan, JsonSerialization.COMPACT_JSON_SETTINGS)).isEqualTo(expected);
+        assertThat(FieldPlanJsonWriter.toJson(BsonDocument.parse(DOCUMENT), plan, JsonSerialization.COMPACT_JSON_SETTINGS)).isEqualTo(expected);
+    }
+
+    private static RawBsonDocument raw() {
+        return new RawBsonDocument(BsonDocument.parse(DOCUMENT), new BsonDocumentCodec());
+    }
+}
@@ -11,6 +11,7 @@
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.kafka.connect.data.Schema;
@@ -58,6 +59,32 @@ void parseCursorPipeline() {
         verifyCursorPipelineValidateSuccess("[{\"$match\": { \"$and\": [{\"operationType\": \"insert\"}, {\"fullDocument.eventId\": 1404 }] } }]\n");
     }
 
+    @Test
+    void namespaceGroupStreamIdsShouldBeStable() {
+        var streamIds = namespaceStreamIds("inventory.orders; inventory.customers, inventory.products");
+        assertThat(streamIds).hasSize(3).doesNotHaveDuplicates();
+        assertThat(namespaceStreamIds("inventory.orders;inventory.customers,inventory.products")).isEqualTo(streamIds);
+
+        // Appending a group changes the namespaces of the remaining stream only
+        var appended = namespaceStreamIds("inventory.orders;inventory.customers,inventory.products;inventory.audit");
+        assertThat(appended).hasSize(4);
+        assertThat(appended.subList(1, 3)).isEqualTo(streamIds.subList(1, 3));
+        assertThat(appended.get(0)).isNotEqualTo(streamIds.get(0));
+
+        // Changing a group changes the namespaces of the following streams too
+        var changed = namespaceStreamIds("inventory.order.*;inventory.customers,inventory.products");
+        assertThat(changed).doesNotContainAnyElementsOf(streamIds);
+
+        assertThat(namespaceStreamIds("")).isEmpty();
+    }
+
+    private static List<String> namespaceStreamIds(String groups) {
+        var config = TestHelper.getConfiguration().edit()
+                .with(MongoDbConnectorConfig.CURSOR_NAMESPACE_GROUPS, groups)
+                .build();
+        return new MongoDbConnectorConfig(config).getCursorNamespaceStreamIds();
+    }
+
     private static void verifyCursorPipelineValidateError(String value, String expectedError) {
         verifyCursorPipelineValidate(value, expectedError, false);
     }
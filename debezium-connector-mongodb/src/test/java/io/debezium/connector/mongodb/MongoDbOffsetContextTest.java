@@ -13,6 +13,8 @@
 import java.util.Map;
 
 import org.apache.kafka.connect.errors.DataException;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -196,4 +198,25 @@ public void initsyncOffsetShouldHaveNullResumeToken() {
                 .as("Incomplete snapshot offset should have null resume token doc")
                 .isNull();
     }
+
+    /**
+     * Verify that the resume tokens of change streams reading namespace groups roundtrip through the offsets.
+     */
+    @Test
+    public void streamResumeTokensShouldRoundtrip() {
+        var resumeToken = new BsonDocument("_data", new BsonString("8263515EAC000000022B0429296E1404"));
+        MongoDbOffsetContext context = MongoDbOffsetContext.empty(connectorConfig);
+        context.streamResumeToken("stream-a", resumeToken);
+        context.streamResumeToken("stream-c", resumeToken);
+
+        Map<String, ?> offset = context.getOffset();
+        assertThat(offset.get(SourceInfo.STREAM_RESUME_TOKEN_PREFIX + "stream-a")).isEqualTo(ResumeTokens.toBase64(resumeToken));
+        assertThat(offset.get(SourceInfo.STREAM_RESUME_TOKEN_PREFIX + "stream-c")).isEqualTo(ResumeTokens.toBase64(resumeToken));
+
+        MongoDbOffsetContext loaded = loader.load(offset);
+        assertThat(loaded.streamResumeTokenIds()).containsExactlyInAnyOrder("stream-a", "stream-c");
+        assertThat(loaded.lastStreamResumeTokenDoc("stream-a")).isEqualTo(resumeToken);
+        assertThat(loaded.lastStreamResumeTokenDoc("stream-b")).isNull();
+        assertThat(loaded.lastStreamResumeTokenDoc("stream-c")).isEqualTo(resumeToken);
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.debezium.DebeziumException;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.util.Clock;
+
+public class MongoDbStreamingChangeEventSourceTest {
+
+    private static final String NAMESPACE_GROUPS = "inventory.orders;inventory.customers";
+    private static final BsonDocument RESUME_TOKEN = new BsonDocument("_data", new BsonString("8263515EAC000000022B0429296E1404"));
+
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+
+    @Test
+    void shouldResumeStreamsOfUnchangedNamespaceGroups() {
+        var source = streamingSource(NAMESPACE_GROUPS, NAMESPACE_GROUPS);
+
+        assertThat(source.validateStreamResumeTokens()).isTrue();
+        verify(errorHandler, never()).setProducerThrowable(any());
+    }
+
+    @Test
+    void shouldNotResumeSingleStreamOnceNamespaceGroupsAreRemoved() {
+        // The global resume token is the position of the stream which dispatched last, so resuming from it could skip events of the other streams
+        var source = streamingSource(NAMESPACE_GROUPS, "");
+
+        assertThat(source.validateStreamResumeTokens()).isFalse();
+        var failure = ArgumentCaptor.forClass(Throwable.class);
+        verify(errorHandler).setProducerThrowable(failure.capture());
+        assertThat(failure.getValue())
+                .isInstanceOf(DebeziumException.class)
+                .hasMessageContaining(MongoDbConnectorConfig.CURSOR_NAMESPACE_GROUPS.name());
+    }
+
+    @Test
+    void shouldNotResumeStreamsOfChangedNamespaceGroups() {
+        var source = streamingSource(NAMESPACE_GROUPS, "inventory.customers;inventory.orders");
+
+        assertThat(source.validateStreamResumeTokens()).isFalse();
+        verify(errorHandler).setProducerThrowable(any(DebeziumException.class));
+    }
+
+    @Test
+    void shouldResumeSingleStreamWithoutStreamResumeTokens() {
+        var source = streamingSource("", "");
+
+        assertThat(source.validateStreamResumeTokens()).isTrue();
+        verify(errorHandler, never()).setProducerThrowable(any());
+    }
+
+    /**
+     * Creates the streaming source for the given namespace groups, initialized with the offsets recorded by the streams of the previous groups.
+     */
+    private MongoDbStreamingChangeEventSource streamingSource(String recordedGroups, String groups) {
+        var offset = MongoDbOffsetContext.empty(connectorConfig(recordedGroups));
+        for (String streamId : connectorConfig(recordedGroups).getCursorNamespaceStreamIds()) {
+            offset.streamResumeToken(streamId, RESUME_TOKEN);
+        }
+
+        var source = new MongoDbStreamingChangeEventSource(connectorConfig(groups), null, null, errorHandler, Clock.system(), null, null);
+        source.init(offset);
+        return source;
+    }
+
+    private static MongoDbConnectorConfig connectorConfig(String groups) {
+        return new MongoDbConnectorConfig(TestHelper.getConfiguration().edit()
+                .with(MongoDbConnectorConfig.CURSOR_NAMESPACE_GROUPS, groups)
+                .build());
+    }
+}
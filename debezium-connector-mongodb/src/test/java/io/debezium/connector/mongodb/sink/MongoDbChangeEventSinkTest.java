@@ -0,0 +1,215 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb.sink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.kafka.connect.errors.DataException;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.WriteModel;
+
+import io.debezium.connector.mongodb.sink.converters.SinkDocument;
+import io.debezium.dlq.ErrorReporter;
+import io.debezium.openlineage.ConnectorContext;
+import io.debezium.sink.DebeziumSinkRecord;
+
+public class MongoDbChangeEventSinkTest {
+
+    private static final String DATABASE = "inventory";
+
+    @FunctionalInterface
+    private interface BulkWrite {
+        void write(List<String> documents) throws Exception;
+    }
+
+    private final Map<String, List<String>> written = new ConcurrentHashMap<>();
+
+    private MongoDatabase database;
+    private ErrorReporter errorReporter;
+    private MongoDbChangeEventSink sink;
+
+    @BeforeEach
+    public void beforeEach() {
+        final MongoDbSinkConnectorConfig sinkConfig = mock(MongoDbSinkConnectorConfig.class);
+        given(sinkConfig.getBulkWriteParallelism()).willReturn(4);
+        given(sinkConfig.getConnectorName()).willReturn("mongodb-sink");
+
+        final MongoClient mongoClient = mock(MongoClient.class);
+        database = mock(MongoDatabase.class);
+        given(mongoClient.getDatabase(DATABASE)).willReturn(database);
+
+        errorReporter = mock(ErrorReporter.class);
+        sink = new MongoDbChangeEventSink(sinkConfig, mongoClient, errorReporter, ConnectorContext.from(Map.of(), "mongodb", UUID.randomUUID()));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        sink.close();
+    }
+
+    @Test
+    public void shouldWriteBatchesOfDifferentCollectionsConcurrently() throws Exception {
+        // Each collection waits for the other one to start writing, which fails unless they're written concurrently
+        final CountDownLatch writing = new CountDownLatch(2);
+        final BulkWrite awaitOtherCollection = documents -> {
+            writing.countDown();
+            assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+        };
+        collection("orders", awaitOtherCollection);
+        collection("customers", awaitOtherCollection);
+
+        sink.bulkWrite(List.of(
+                batch("orders", "o1", "o2"),
+                batch("customers", "c1"),
+                batch("orders", "o3")));
+
+        assertThat(written.get("orders")).containsExactly("o1", "o2", "o3");
+        assertThat(written.get("customers")).containsExactly("c1");
+    }
+
+    @Test
+    public void shouldKeepOrderOfBatchesWithinCollection() throws Exception {
+        collection("orders", documents -> {
+        });
+        collection("customers", documents -> {
+        });
+
+        final List<List<MongoProcessedSinkRecordData>> batches = new ArrayList<>();
+        final List<String> orders = new ArrayList<>();
+        final List<String> customers = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final String collection = i % 3 == 0 ? "customers" : "orders";
+            final String document = collection + "-" + i;
+            batches.add(batch(collection, document));
+            (i % 3 == 0 ? customers : orders).add(document);
+        }
+
+        sink.bulkWrite(batches);
+
+        assertThat(written.get("orders")).isEqualTo(orders);
+        assertThat(written.get("customers")).isEqualTo(customers);
+    }
+
+    @Test
+    public void shouldPropagateFailedBatchAfterWritingOtherCollections() {
+        final MongoBulkWriteException failure = mock(MongoBulkWriteException.class);
+        collection("orders", documents -> {
+        });
+        collection("customers", documents -> {
+            throw failure;
+        });
+
+        assertThatThrownBy(() -> sink.bulkWrite(List.of(
+                batch("orders", "o1"),
+                batch("customers", "c1"),
+                batch("orders", "o2"))))
+                .isInstanceOf(DataException.class)
+                .hasCause(failure);
+
+        assertThat(written.get("orders")).containsExactly("o1", "o2");
+    }
+
+    @Test
+    public void shouldCancelOutstandingWritesWhenInterrupted() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final MongoCollection<BsonDocument> orders = collection("orders", documents -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            }
+            catch (InterruptedException e) {
+                cancelled.countDown();
+                // Like the driver, keep the interrupt status when failing the write
+                Thread.currentThread().interrupt();
+                throw new MongoInterruptedException("Interrupted", e);
+            }
+        });
+
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread writer = new Thread(() -> {
+            try {
+                sink.bulkWrite(List.of(batch("orders", "o1"), batch("orders", "o2")));
+            }
+            catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        writer.start();
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(failure.get()).isInstanceOf(InterruptedException.class);
+        assertThat(cancelled.await(10, TimeUnit.SECONDS)).isTrue();
+        // The second batch of the collection is not written once the writes were cancelled
+        verify(orders, after(500).times(1)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private MongoCollection<BsonDocument> collection(String name, BulkWrite bulkWrite) {
+        final MongoCollection<BsonDocument> collection = mock(MongoCollection.class);
+        given(database.getCollection(name, BsonDocument.class)).willReturn(collection);
+        given(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).willAnswer(invocation -> {
+            final List<String> documents = new ArrayList<>();
+            for (WriteModel<BsonDocument> writeModel : (List<WriteModel<BsonDocument>>) invocation.getArgument(0)) {
+                documents.add(((InsertOneModel<BsonDocument>) writeModel).getDocument().getString("name").getValue());
+            }
+            bulkWrite.write(documents);
+            written.computeIfAbsent(name, k -> Collections.synchronizedList(new ArrayList<>())).addAll(documents);
+            return null;
+        });
+        return collection;
+    }
+
+    private static List<MongoProcessedSinkRecordData> batch(String collection, String... documents) {
+        final List<MongoProcessedSinkRecordData> batch = new ArrayList<>();
+        for (String document : documents) {
+            final MongoProcessedSinkRecordData record = mock(MongoProcessedSinkRecordData.class);
+            given(record.getNamespace()).willReturn(new MongoNamespace(DATABASE, collection));
+            given(record.getWriteModel()).willReturn(new InsertOneModel<>(new BsonDocument("name", new BsonString(document))));
+            given(record.getSinkDocument()).willReturn(new SinkDocument(
+                    new BsonDocument("id", new BsonInt32(1)),
+                    new BsonDocument("after", new BsonDocument("id", new BsonInt32(1)))));
+            given(record.getSinkRecord()).willReturn(mock(DebeziumSinkRecord.class));
+            batch.add(record);
+        }
+        return batch;
+    }
+}
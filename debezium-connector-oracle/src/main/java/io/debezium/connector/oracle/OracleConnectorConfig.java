@@ -247,6 +247,25 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription("When set to 'false', the default, LOB fields will not be captured nor emitted. When set to 'true', the connector " +
                     "will capture LOB fields and emit changes for those fields like any other column type.");
 
+    public static final Field LOB_SPILL_THRESHOLD_BYTES = Field.create("lob.spill.threshold.bytes")
+            .withDisplayName("Size above which LOB values are reassembled in temporary files")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("The approximate size in bytes of the LOB, XML, or extended string fragments of a single column above which "
+                    + "the connector reassembles the column value in a temporary file instead of in memory. The value is read back "
+                    + "into memory when the change event is emitted. The default of 0 reassembles all values in memory.");
+
+    public static final Field LOB_SPILL_DIRECTORY = Field.create("lob.spill.directory")
+            .withDisplayName("Directory for LOB reassembly temporary files")
+            .withType(Type.STRING)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The directory in which the connector creates the temporary files to reassemble large LOB, XML, or extended "
+                    + "string values. When not set, the default temporary directory of the JVM is used.");
+
     public static final Field LOG_MINING_USERNAME_INCLUDE_LIST = Field.create("log.mining.username.include.list")
             .withDisplayName("List of users to include from LogMiner query")
             .withType(Type.STRING)
@@ -382,6 +401,16 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription("When set to true the underlying buffer cache is not retained when the connector is stopped. " +
                     "When set to false (the default), the buffer cache is retained across restarts.");
 
+    public static final Field LOG_MINING_BUFFER_MEMORY_COMPACT = Field.create("log.mining.buffer.memory.compact")
+            .withDisplayName("Controls whether the heap buffer uses a compact representation of transaction events")
+            .withType(Type.BOOLEAN)
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("When set to true and the buffer type is 'memory', transaction events are kept in arrays "
+                    + "per transaction instead of hash maps keyed by boxed event identifiers, which reduces the heap "
+                    + "required per buffered event. When set to false (the default), the hash map based buffer is used.");
+
     public static final Field LOG_MINING_LOG_QUERY_MAX_RETRIES = Field.createInternal("log.mining.log.query.max.retries")
             .withDisplayName("Maximum number of retries before failing to locate redo logs")
             .withType(Type.INT)
@@ -527,6 +556,17 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .required()
             .withDescription("The port of the OpenLogReplicator network service");
 
+    public static final Field OLR_READ_AHEAD_SIZE = Field.create("openlogreplicator.read.ahead.size")
+            .withDisplayName("The number of messages read ahead from the OpenLogReplicator network service")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The maximum number of messages that are read from the OpenLogReplicator network service on a "
+                    + "separate thread while the connector processes previous messages. The default of 0 reads each message "
+                    + "on the streaming thread when it is needed.");
+
     public static final Field LOG_MINING_SCHEMA_CHANGES_USERNAME_EXCLUDE_LIST = Field.createInternal("log.mining.schema_changes.username.exclude.list")
             .withDisplayName("Username exclusion list for schema changes")
             .withType(Type.STRING)
@@ -553,6 +593,16 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withValidation(Field::isNonNegativeInteger)
             .withDescription("The number of attempts to retry database errors during snapshots before failing.");
 
+    public static final Field SNAPSHOT_ROWID_CHUNKING = Field.create("snapshot.rowid.chunking")
+            .withDisplayName("Snapshot tables without keys in ROWID ranges")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("When enabled and the snapshot uses multiple threads, tables without a primary key or message key columns "
+                    + "are split into ROWID ranges based on the table's extents in DBA_EXTENTS, and the ranges are read concurrently. "
+                    + "When disabled (the default), such tables are read by a single thread.");
+
     public static final Field LOG_MINING_BUFFER_EHCACHE_GLOBAL_CONFIG = Field.create("log.mining.buffer.ehcache.global.config")
             .withDisplayName("Defines any global configuration for the Ehcache transaction buffer")
             .withType(Type.STRING)
@@ -730,6 +780,27 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription("Specifies the minimum number of logs to mine per redo thread. " +
                     "Setting this to 0 disables the cap, and all available logs are mined in a single pass.");
 
+    public static final Field LOG_MINING_QUERY_PREFETCH_SIZE = Field.create("log.mining.query.prefetch.size")
+            .withDisplayName("Number of LogMiner rows to read ahead")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("Specifies the maximum number of LogMiner query rows that are read ahead on a separate thread while " +
+                    "the connector processes earlier rows, so that the database fetches rows while the connector processes them. " +
+                    "Setting this to 0 (the default) reads and processes the rows on the same thread.");
+
+    public static final Field LOG_MINING_PARALLEL_REDO_THREADS = Field.create("log.mining.parallel.redo.threads")
+            .withDisplayName("Mine each redo thread in its own LogMiner session")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("When set to true, the logs of each redo thread of an Oracle RAC database are mined in a separate " +
+                    "LogMiner session on its own database connection, and the rows of all sessions are merged by SCN before they " +
+                    "are processed. This option is ignored when using continuous mining or the 'redo_log_catalog' mining strategy.");
+
     private static final ConfigDefinition CONFIG_DEFINITION = HistorizedRelationalDatabaseConnectorConfig.CONFIG_DEFINITION.edit()
             .name("Oracle")
             .excluding(
@@ -761,12 +832,15 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     LOG_MINING_TRANSACTION_RETENTION_MS,
                     LOG_MINING_ARCHIVE_LOG_ONLY_MODE,
                     LOB_ENABLED,
+                    LOB_SPILL_THRESHOLD_BYTES,
+                    LOB_SPILL_DIRECTORY,
                     LOG_MINING_USERNAME_INCLUDE_LIST,
                     LOG_MINING_USERNAME_EXCLUDE_LIST,
                     ARCHIVE_DESTINATION_NAME,
                     LOG_MINING_BUFFER_TYPE,
                     LOG_MINING_BUFFER_TRACK_RS_ID,
                     LOG_MINING_BUFFER_DROP_ON_STOP,
+                    LOG_MINING_BUFFER_MEMORY_COMPACT,
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_GLOBAL,
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_TRANSACTIONS,
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_EVENTS,
@@ -794,7 +868,9 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     OLR_SOURCE,
                     OLR_HOST,
                     OLR_PORT,
+                    OLR_READ_AHEAD_SIZE,
                     SNAPSHOT_DATABASE_ERRORS_MAX_RETRIES,
+                    SNAPSHOT_ROWID_CHUNKING,
                     LOG_MINING_CONTINUOUS_MINE,
                     LOG_MINING_BUFFER_EHCACHE_GLOBAL_CONFIG,
                     LOG_MINING_BUFFER_EHCACHE_TRANSACTIONS_CONFIG,
@@ -815,7 +891,9 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     LOG_MINING_REDO_THREAD_SCN_ADJUSTMENT,
                     LOG_MINING_HASH_AREA_SIZE,
                     LOG_MINING_SORT_AREA_SIZE,
-                    LOG_MINING_LOG_COUNT_MIN)
+                    LOG_MINING_LOG_COUNT_MIN,
+                    LOG_MINING_QUERY_PREFETCH_SIZE,
+                    LOG_MINING_PARALLEL_REDO_THREADS)
             .events(SOURCE_INFO_STRUCT_MAKER,
                     SIGNAL_DATA_COLLECTION)
             .create();
@@ -847,6 +925,7 @@ public static ConfigDef configDef() {
     private final SnapshotLockingMode snapshotLockingMode;
     private final int queryFetchSize;
     private final int snapshotRetryDatabaseErrorsMaxRetries;
+    private final boolean snapshotRowIdChunking;
     private final int objectIdToTableIdCacheSize;
     private final boolean legacyDecimalHandlingStrategy;
 
@@ -858,11 +937,14 @@ public static ConfigDef configDef() {
     private final boolean archiveLogOnlyMode;
     private final Duration archiveLogOnlyScnPollTime;
     private final boolean lobEnabled;
+    private final long lobSpillThresholdBytes;
+    private final String lobSpillDirectory;
     private final Set<String> logMiningUsernameIncludes;
     private final Set<String> logMiningUsernameExcludes;
     private final LogMiningBufferType logMiningBufferType;
     private final long logMiningBufferTransactionEventsThreshold;
     private final boolean logMiningBufferDropOnStop;
+    private final boolean logMiningBufferMemoryCompact;
     private final int logMiningLogFileQueryMaxRetries;
     private final Duration logMiningInitialDelay;
     private final Duration logMiningMaxDelay;
@@ -889,12 +971,15 @@ public static ConfigDef configDef() {
     private final Long logMiningHashAreaSize;
     private final Long logMiningSortAreaSize;
     private final Integer logMiningMinimumLogCount;
+    private final int logMiningQueryPrefetchSize;
+    private final boolean logMiningParallelRedoThreads;
     private final ArchiveDestinationNameResolver destinationNameResolver;
     private final boolean logMiningBufferTrackRsId;
 
     private final String openLogReplicatorSource;
     private final String openLogReplicatorHostname;
     private final Integer openLogReplicatorPort;
+    private final int openLogReplicatorReadAheadSize;
 
     private final Duration resumePositionUpdateInterval;
 
@@ -917,6 +1002,8 @@ public OracleConnectorConfig(Configuration config) {
         this.connectorAdapter = ConnectorAdapter.parse(config.getString(CONNECTOR_ADAPTER));
         this.snapshotLockingMode = SnapshotLockingMode.parse(config.getString(SNAPSHOT_LOCKING_MODE), SNAPSHOT_LOCKING_MODE.defaultValueAsString());
         this.lobEnabled = config.getBoolean(LOB_ENABLED);
+        this.lobSpillThresholdBytes = config.getLong(LOB_SPILL_THRESHOLD_BYTES);
+        this.lobSpillDirectory = config.getString(LOB_SPILL_DIRECTORY);
         this.objectIdToTableIdCacheSize = config.getInteger(OBJECT_ID_CACHE_SIZE);
         this.legacyDecimalHandlingStrategy = config.getBoolean(LEGACY_DECIMAL_HANDLING_STRATEGY);
 
@@ -927,6 +1014,7 @@ public OracleConnectorConfig(Configuration config) {
 
         this.queryFetchSize = config.getInteger(QUERY_FETCH_SIZE);
         this.snapshotRetryDatabaseErrorsMaxRetries = config.getInteger(SNAPSHOT_DATABASE_ERRORS_MAX_RETRIES);
+        this.snapshotRowIdChunking = config.getBoolean(SNAPSHOT_ROWID_CHUNKING);
 
         // LogMiner
         this.logMiningStrategy = LogMiningStrategy.parse(config.getString(LOG_MINING_STRATEGY));
@@ -939,6 +1027,7 @@ public OracleConnectorConfig(Configuration config) {
         this.logMiningBufferType = LogMiningBufferType.parse(config.getString(LOG_MINING_BUFFER_TYPE));
         this.logMiningBufferTransactionEventsThreshold = config.getLong(LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD);
         this.logMiningBufferDropOnStop = config.getBoolean(LOG_MINING_BUFFER_DROP_ON_STOP);
+        this.logMiningBufferMemoryCompact = config.getBoolean(LOG_MINING_BUFFER_MEMORY_COMPACT);
         this.archiveLogOnlyScnPollTime = Duration.ofMillis(config.getInteger(LOG_MINING_ARCHIVE_LOG_ONLY_SCN_POLL_INTERVAL_MS));
         this.logMiningLogFileQueryMaxRetries = config.getInteger(LOG_MINING_LOG_QUERY_MAX_RETRIES);
         this.logMiningInitialDelay = Duration.ofMillis(config.getLong(LOG_MINING_LOG_BACKOFF_INITIAL_DELAY_MS));
@@ -976,6 +1065,8 @@ public OracleConnectorConfig(Configuration config) {
         this.logMiningHashAreaSize = config.getLong(LOG_MINING_HASH_AREA_SIZE);
         this.logMiningSortAreaSize = config.getLong(LOG_MINING_SORT_AREA_SIZE);
         this.logMiningMinimumLogCount = config.getInteger(LOG_MINING_LOG_COUNT_MIN);
+        this.logMiningQueryPrefetchSize = config.getInteger(LOG_MINING_QUERY_PREFETCH_SIZE);
+        this.logMiningParallelRedoThreads = config.getBoolean(LOG_MINING_PARALLEL_REDO_THREADS);
         this.logMiningBufferTrackRsId = config.getBoolean(LOG_MINING_BUFFER_TRACK_RS_ID);
 
         this.logMiningEhCacheConfiguration = config.subset("log.mining.buffer.ehcache", false);
@@ -987,6 +1078,7 @@ public OracleConnectorConfig(Configuration config) {
         this.openLogReplicatorSource = config.getString(OLR_SOURCE);
         this.openLogReplicatorHostname = config.getString(OLR_HOST);
         this.openLogReplicatorPort = config.getInteger(OLR_PORT, 0);
+        this.openLogReplicatorReadAheadSize = config.getInteger(OLR_READ_AHEAD_SIZE);
 
         this.resumePositionUpdateInterval = Duration.ofMillis(config.getLong(LOG_MINING_RESUME_POSITION_INTERVAL_MS));
     }
@@ -1028,6 +1120,10 @@ public int getSnapshotRetryDatabaseErrorsMaxRetries() {
         return snapshotRetryDatabaseErrorsMaxRetries;
     }
 
+    public boolean isSnapshotRowIdChunking() {
+        return snapshotRowIdChunking;
+    }
+
     @Override
     public HistoryRecordComparator getHistoryRecordComparator() {
         return getAdapter().getHistoryRecordComparator();
@@ -1775,6 +1871,20 @@ public boolean isLobEnabled() {
         return lobEnabled;
     }
 
+    /**
+     * @return the size in bytes above which LOB values are reassembled in temporary files, {@code 0} if never
+     */
+    public long getLobSpillThresholdBytes() {
+        return lobSpillThresholdBytes;
+    }
+
+    /**
+     * @return the directory for LOB reassembly temporary files, or {@code null} to use the JVM temporary directory
+     */
+    public String getLobSpillDirectory() {
+        return lobSpillDirectory;
+    }
+
     /**
      * @return User names to include from the LogMiner query
      */
@@ -1824,6 +1934,13 @@ public boolean isLogMiningBufferDropOnStop() {
         return logMiningBufferDropOnStop;
     }
 
+    /**
+     * @return whether the heap buffer stores transaction events in the compact representation.
+     */
+    public boolean isLogMiningBufferMemoryCompact() {
+        return logMiningBufferMemoryCompact;
+    }
+
     /**
      * @return the maximum number of retries that should be used to resolve log filenames for mining
      */
@@ -1974,6 +2091,15 @@ public Integer getOpenLogReplicatorPort() {
         return openLogReplicatorPort;
     }
 
+    /**
+     * Return the number of messages read ahead from the OpenLogReplicator network service.
+     *
+     * @return the number of messages, {@code 0} if messages are not read ahead
+     */
+    public int getOpenLogReplicatorReadAheadSize() {
+        return openLogReplicatorReadAheadSize;
+    }
+
     /**
      * Get the Ehcache buffer configuration, which is all attributes under the configuration prefix
      * "log.mining.buffer.ehcache" namespace, with the prefix removed.
@@ -2092,6 +2218,20 @@ public Integer getLogMiningMinimumLogCount() {
         return logMiningMinimumLogCount;
     }
 
+    /**
+     * The maximum number of LogMiner query rows read ahead while processing, {@code 0} if disabled.
+     */
+    public int getLogMiningQueryPrefetchSize() {
+        return logMiningQueryPrefetchSize;
+    }
+
+    /**
+     * Whether the logs of each redo thread are mined in a separate LogMiner session.
+     */
+    public boolean isLogMiningParallelRedoThreads() {
+        return logMiningParallelRedoThreads;
+    }
+
     @Override
     public String getConnectorName() {
         return Module.name();
@@ -0,0 +1,130 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+import io.debezium.pipeline.source.snapshot.chunked.SnapshotChunk;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+/**
+ * Splits a table into {@code ROWID} ranges based on the table's extents, in the same way as
+ * {@code DBMS_PARALLEL_EXECUTE.CREATE_CHUNKS_BY_ROWID}, so that tables without key columns can be
+ * snapshot by multiple threads.
+ *
+ * The extents are ordered by their starting {@code ROWID} and grouped into ranges with about the same
+ * number of blocks. The ranges are half-open and the first and last ranges are unbounded, so that
+ * every row of the table belongs to exactly one range, even if the table's extents changed after
+ * they were read.
+ */
+public class OracleRowIdRangeChunkBuilder {
+
+    private static final String EXTENTS_QUERY = "SELECT DBMS_ROWID.ROWID_CREATE(1, O.DATA_OBJECT_ID, E.RELATIVE_FNO, E.BLOCK_ID, 0), E.BLOCKS "
+            + "FROM DBA_EXTENTS E "
+            + "JOIN DBA_OBJECTS O ON O.OWNER = E.OWNER AND O.OBJECT_NAME = E.SEGMENT_NAME "
+            + "AND (O.SUBOBJECT_NAME = E.PARTITION_NAME OR (O.SUBOBJECT_NAME IS NULL AND E.PARTITION_NAME IS NULL)) "
+            + "WHERE E.OWNER = ? AND E.SEGMENT_NAME = ? AND E.SEGMENT_TYPE LIKE 'TABLE%' AND O.DATA_OBJECT_ID IS NOT NULL "
+            + "ORDER BY O.DATA_OBJECT_ID, E.RELATIVE_FNO, E.BLOCK_ID";
+
+    /**
+     * An extent of a table.
+     *
+     * @param startRowId the first {@code ROWID} of the extent
+     * @param blocks the number of blocks of the extent
+     */
+    public record Extent(String startRowId, long blocks) {
+    }
+
+    private final OracleConnection connection;
+
+    public OracleRowIdRangeChunkBuilder(OracleConnection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Creates the chunks of a table.
+     *
+     * @param table the table, should not be {@code null}
+     * @param numChunks the desired number of chunks
+     * @param tableOrder the order of the table in the snapshot
+     * @param tableCount the number of tables in the snapshot
+     * @param selectStatement the snapshot select statement of the table
+     * @param rowCount the estimated number of rows of the table
+     * @return the chunks, empty if the table has no extents that can be split
+     * @throws SQLException if a database exception occurred
+     */
+    public List<SnapshotChunk> createChunks(Table table, int numChunks, int tableOrder, int tableCount, String selectStatement,
+                                            OptionalLong rowCount)
+            throws SQLException {
+        final List<String> boundaries = calculateBoundaries(getExtents(table.id()), numChunks);
+        if (boundaries.isEmpty()) {
+            return List.of();
+        }
+
+        final int totalChunks = boundaries.size() + 1;
+        final List<SnapshotChunk> chunks = new ArrayList<>(totalChunks);
+        for (int i = 0; i < totalChunks; i++) {
+            final Object[] lowerBound = i == 0 ? null : new Object[]{ boundaries.get(i - 1) };
+            final Object[] upperBound = i == totalChunks - 1 ? null : new Object[]{ boundaries.get(i) };
+            chunks.add(new SnapshotChunk(table.id(), table, lowerBound, upperBound, i, totalChunks, tableOrder, tableCount,
+                    selectStatement, rowCount));
+        }
+        return chunks;
+    }
+
+    /**
+     * Calculates the {@code ROWID} boundaries between the chunks, where each boundary is the first
+     * {@code ROWID} of an extent.
+     *
+     * @param extents the extents of the table in {@code ROWID} order, should not be {@code null}
+     * @param numChunks the desired number of chunks
+     * @return the boundaries in ascending order, at most {@code numChunks - 1}
+     */
+    public static List<String> calculateBoundaries(List<Extent> extents, int numChunks) {
+        final List<String> boundaries = new ArrayList<>();
+        if (numChunks <= 1 || extents.size() <= 1) {
+            return boundaries;
+        }
+
+        long totalBlocks = 0;
+        for (Extent extent : extents) {
+            totalBlocks += extent.blocks();
+        }
+
+        long cumulativeBlocks = 0;
+        int nextChunk = 1;
+        for (Extent extent : extents) {
+            // A range ends before the extent whose middle block lies past the range's share of all blocks
+            if (cumulativeBlocks > 0 && (2 * cumulativeBlocks + extent.blocks()) * numChunks >= 2 * totalBlocks * nextChunk) {
+                boundaries.add(extent.startRowId());
+                if (++nextChunk == numChunks) {
+                    break;
+                }
+            }
+            cumulativeBlocks += extent.blocks();
+        }
+        return boundaries;
+    }
+
+    private List<Extent> getExtents(TableId tableId) throws SQLException {
+        return connection.prepareQueryAndMap(EXTENTS_QUERY,
+                ps -> {
+                    ps.setString(1, tableId.schema());
+                    ps.setString(2, tableId.table());
+                },
+                rs -> {
+                    final List<Extent> extents = new ArrayList<>();
+                    while (rs.next()) {
+                        extents.add(new Extent(rs.getString(1), rs.getLong(2)));
+                    }
+                    return extents;
+                });
+    }
+}
@@ -29,6 +29,8 @@
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.NotificationService;
 import io.debezium.pipeline.source.SnapshottingTask;
+import io.debezium.pipeline.source.snapshot.chunked.SnapshotChunk;
+import io.debezium.pipeline.source.snapshot.chunked.SnapshotChunkQueryBuilder;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
 import io.debezium.relational.RelationalSnapshotChangeEventSource;
@@ -241,6 +243,30 @@ protected Optional<String> getSnapshotSelect(RelationalSnapshotContext<OraclePar
         return snapshotterService.getSnapshotQuery().snapshotQuery(quote(tableId), columns);
     }
 
+    @Override
+    protected List<SnapshotChunk> createChunksForKeylessTable(Table table, int numChunks, int tableOrder, int tableCount,
+                                                              String selectStatement, OptionalLong rowCount) {
+        if (connectorConfig.isSnapshotRowIdChunking() && numChunks > 1) {
+            try {
+                final List<SnapshotChunk> chunks = new OracleRowIdRangeChunkBuilder(jdbcConnection)
+                        .createChunks(table, numChunks, tableOrder, tableCount, selectStatement, rowCount);
+                if (!chunks.isEmpty()) {
+                    LOGGER.info("Table '{}' has no key columns, using {} ROWID range chunks.", table.id(), chunks.size());
+                    return chunks;
+                }
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to read the extents of table '{}', the table will not be split into ROWID ranges.", table.id(), e);
+            }
+        }
+        return super.createChunksForKeylessTable(table, numChunks, tableOrder, tableCount, selectStatement, rowCount);
+    }
+
+    @Override
+    protected SnapshotChunkQueryBuilder getSnapshotChunkQueryBuilder(JdbcConnection jdbcConnection) {
+        return new OracleSnapshotChunkQueryBuilder(jdbcConnection);
+    }
+
     @Override
     protected List<Pattern> getSignalDataCollectionPattern(String signalingDataCollection) {
         // Oracle expects this value to be supplied using "<database>.<schema>.<table>"; however the
@@ -0,0 +1,72 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.pipeline.source.snapshot.chunked.SnapshotChunk;
+import io.debezium.pipeline.source.snapshot.chunked.SnapshotChunkQueryBuilder;
+import io.debezium.relational.Column;
+
+/**
+ * Oracle implementation that reads chunks of tables without key columns by their {@code ROWID} range,
+ * as created by {@link OracleRowIdRangeChunkBuilder}. Chunks of tables with key columns are read by
+ * their key range.
+ */
+public class OracleSnapshotChunkQueryBuilder extends SnapshotChunkQueryBuilder {
+
+    private final JdbcConnection jdbcConnection;
+
+    public OracleSnapshotChunkQueryBuilder(JdbcConnection jdbcConnection) {
+        super(jdbcConnection);
+        this.jdbcConnection = jdbcConnection;
+    }
+
+    @Override
+    public String buildChunkQuery(SnapshotChunk chunk, List<Column> keyColumns, String baseSelect) {
+        if (!keyColumns.isEmpty() || (!chunk.hasLowerBound() && !chunk.hasUpperBound())) {
+            return super.buildChunkQuery(chunk, keyColumns, baseSelect);
+        }
+
+        final StringBuilder whereClause = new StringBuilder();
+        if (chunk.hasLowerBound()) {
+            whereClause.append("ROWID >= CHARTOROWID(?)");
+        }
+        if (chunk.hasUpperBound()) {
+            if (!whereClause.isEmpty()) {
+                whereClause.append(" AND ");
+            }
+            whereClause.append("ROWID < CHARTOROWID(?)");
+        }
+
+        // The rows of a ROWID range are read in physical order, no ordering is needed
+        final int whereIndex = baseSelect.toUpperCase().indexOf(" WHERE ");
+        if (whereIndex >= 0) {
+            return baseSelect.substring(0, whereIndex + 7) + "(" + whereClause + ") AND " + baseSelect.substring(whereIndex + 7);
+        }
+        return baseSelect + " WHERE " + whereClause;
+    }
+
+    @Override
+    public PreparedStatement prepareChunkStatement(SnapshotChunk chunk, List<Column> keyColumns, String sql) throws SQLException {
+        if (!keyColumns.isEmpty()) {
+            return super.prepareChunkStatement(chunk, keyColumns, sql);
+        }
+
+        final PreparedStatement statement = jdbcConnection.connection().prepareStatement(sql);
+        int paramIndex = 1;
+        if (chunk.hasLowerBound()) {
+            statement.setString(paramIndex++, (String) chunk.getLowerBounds()[0]);
+        }
+        if (chunk.hasUpperBound()) {
+            statement.setString(paramIndex, (String) chunk.getUpperBounds()[0]);
+        }
+        return statement;
+    }
+}
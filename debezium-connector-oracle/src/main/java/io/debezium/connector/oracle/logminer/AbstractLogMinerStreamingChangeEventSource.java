@@ -19,6 +19,8 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -29,6 +31,7 @@
 import io.debezium.config.Configuration;
 import io.debezium.connector.oracle.OracleConnection;
 import io.debezium.connector.oracle.OracleConnection.NonRelationalTableException;
+import io.debezium.connector.oracle.OracleConnector;
 import io.debezium.connector.oracle.OracleConnectorConfig;
 import io.debezium.connector.oracle.OracleDatabaseSchema;
 import io.debezium.connector.oracle.OracleOffsetContext;
@@ -38,7 +41,10 @@
 import io.debezium.connector.oracle.Scn;
 import io.debezium.connector.oracle.logminer.LogFileCollector.LogFilesResult;
 import io.debezium.connector.oracle.logminer.LogFileSessionSelector.SessionLogSelection;
+import io.debezium.connector.oracle.logminer.LogMinerEventRowPrefetcher.RowReader;
 import io.debezium.connector.oracle.logminer.LogMinerStreamingChangeEventSourceMetrics.BatchMetrics;
+import io.debezium.connector.oracle.logminer.RedoThreadMiningSessions.RedoThreadQuery;
+import io.debezium.connector.oracle.logminer.RedoThreadMiningSessions.StatementBinder;
 import io.debezium.connector.oracle.logminer.events.DmlEvent;
 import io.debezium.connector.oracle.logminer.events.EventType;
 import io.debezium.connector.oracle.logminer.events.ExtendedStringBeginEvent;
@@ -83,6 +89,7 @@
 import io.debezium.util.Metronome;
 import io.debezium.util.Stopwatch;
 import io.debezium.util.Strings;
+import io.debezium.util.Threads;
 
 /**
  * An abstract implementation of the {@link StreamingChangeEventSource} for Oracle LogMiner, that is the basis
@@ -120,8 +127,11 @@
     private final XmlBeginParser xmlBeginParser;
     private final Tables.TableFilter tableFilter;
     private final List<String> archiveDestinationNames;
+    private final ExecutorService prefetchExecutor;
+    private final RedoThreadMiningSessions redoThreadSessions;
+    private final ExecutorService redoThreadExecutor;
 
-    private boolean sequenceUnavailable = false;
+    private volatile boolean sequenceUnavailable = false;
     private List<LogFile> currentLogFiles;
     private List<LogFile> sessionLogFiles;
     private LogFileSessionSelector logFileSessionSelector;
@@ -160,6 +170,29 @@ public AbstractLogMinerStreamingChangeEventSource(OracleConnectorConfig connecto
         this.xmlBeginParser = new XmlBeginParser();
         this.tableFilter = connectorConfig.getTableFilters().dataCollectionFilter();
         this.archiveDestinationNames = connectorConfig.getArchiveDestinationNameResolver().getDestinationNames(jdbcConnection);
+        this.prefetchExecutor = connectorConfig.getLogMiningQueryPrefetchSize() > 0
+                ? Threads.newSingleThreadExecutor(OracleConnector.class, connectorConfig.getLogicalName(), "logminer-prefetch")
+                : null;
+        if (isParallelRedoThreadMiningSupported()) {
+            this.redoThreadSessions = new RedoThreadMiningSessions(connectorConfig, this::newRedoThreadConnection, useContinuousMining);
+            this.redoThreadExecutor = Executors.newCachedThreadPool(
+                    Threads.threadFactory(OracleConnector.class, connectorConfig.getLogicalName(), "logminer-redo-thread", true, false));
+        }
+        else {
+            this.redoThreadSessions = null;
+            this.redoThreadExecutor = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
+        }
+        if (redoThreadSessions != null) {
+            redoThreadSessions.close();
+            redoThreadExecutor.shutdownNow();
+        }
     }
 
     @Override
@@ -327,6 +360,34 @@ protected OffsetActivityMonitor getOffsetActivityMonitor() {
         return offsetActivityMonitor;
     }
 
+    /**
+     * Whether the logs of each redo thread are mined in a separate mining session.
+     *
+     * @return {@code true} if each redo thread has its own mining session, {@code false} otherwise
+     */
+    protected boolean isMiningRedoThreadsInParallel() {
+        return redoThreadSessions != null;
+    }
+
+    /**
+     * Get the starting system change number of the current mining session.
+     *
+     * @return the current session starting system change number or {@link Scn#NULL} if not started
+     */
+    protected Scn getCurrentMiningSessionStartScn() {
+        return redoThreadSessions != null ? redoThreadSessions.getCurrentSessionStartScn() : sessionContext.getCurrentSessionStartScn();
+    }
+
+    /**
+     * Get the SCN by which the rows of the mining sessions of the redo threads are merged.
+     *
+     * @param event the event, should not be {@code null}
+     * @return the system change number to order the event by
+     */
+    protected Scn getRedoThreadMergeScn(LogMinerEventRow event) {
+        return event.getScn();
+    }
+
     protected void executeBlockingSnapshot() throws InterruptedException {
         LOGGER.info("Streaming will now pause");
         context.streamingPaused();
@@ -409,25 +470,101 @@ protected void executeAndProcessQuery(PreparedStatement statement) throws SQLExc
 
             final Instant startProcessTime = Instant.now();
 
-            while (getContext().isRunning() && hasNextWithMetricsUpdate(resultSet)) {
-                getBatchMetrics().rowObserved();
+            if (prefetchExecutor != null) {
+                processPrefetchedRows(resultSet);
+            }
+            else {
+                while (getContext().isRunning() && hasNextWithMetricsUpdate(resultSet)) {
+                    getBatchMetrics().rowObserved();
 
-                final LogMinerEventRow event = LogMinerEventRow.fromResultSet(resultSet, schema, getConfig());
-                processEvent(event);
+                    final LogMinerEventRow event = LogMinerEventRow.fromResultSet(resultSet, schema, getConfig());
+                    processEvent(event);
+                }
             }
 
-            getBatchMetrics().updateStreamingMetrics();
+            completeQueryProcessing(startProcessTime);
+        }
+    }
 
-            if (getBatchMetrics().hasProcessedAnyTransactions()) {
-                getOffsetActivityMonitor().checkForStaleOffsets(this::getActiveTransactionIds);
+    /**
+     * Executes the mining query in the mining session of every redo thread and processes the rows of
+     * all sessions merged by SCN. Must only be called when {@link #isMiningRedoThreadsInParallel()}.
+     *
+     * @param query the mining query, should not be {@code null}
+     * @param binder binds the query parameters, should not be {@code null}
+     * @throws SQLException if a database error occurs
+     * @throws InterruptedException if the thread is interrupted
+     */
+    protected void executeAndProcessRedoThreadQueries(String query, StatementBinder binder) throws SQLException, InterruptedException {
+        final List<RedoThreadQuery> queries = redoThreadSessions.prepareQueries(query, binder);
+        try {
+            final List<RowReader> readers = new ArrayList<>(queries.size());
+            for (RedoThreadQuery redoThreadQuery : queries) {
+                readers.add(() -> {
+                    final ResultSet resultSet = redoThreadQuery.getResultSet();
+                    return hasNextWithMetricsUpdate(resultSet) ? LogMinerEventRow.fromResultSet(resultSet, schema, connectorConfig) : null;
+                });
             }
 
-            LOGGER.debug("{}.", getBatchMetrics());
-            LOGGER.debug("Processed in {} ms. Lag {}. Active Transactions: {}. Offsets: {}",
-                    Duration.between(startProcessTime, Instant.now()),
-                    getMetrics().getLagFromSourceInMilliseconds(),
-                    getMetrics().getNumberOfActiveTransactions(),
-                    getOffsetContext());
+            final Instant startProcessTime = Instant.now();
+            try (RedoThreadEventRowMerger merger = new RedoThreadEventRowMerger(
+                    redoThreadExecutor,
+                    Math.max(connectorConfig.getLogMiningQueryPrefetchSize(), connectorConfig.getQueryFetchSize()),
+                    readers,
+                    this::getRedoThreadMergeScn,
+                    () -> getContext().isRunning(),
+                    metrics)) {
+                LogMinerEventRow event;
+                while (getContext().isRunning() && (event = merger.next()) != null) {
+                    getBatchMetrics().rowObserved();
+                    processEvent(event);
+                }
+            }
+
+            completeQueryProcessing(startProcessTime);
+        }
+        finally {
+            for (RedoThreadQuery redoThreadQuery : queries) {
+                redoThreadQuery.close();
+            }
+        }
+    }
+
+    private void completeQueryProcessing(Instant startProcessTime) {
+        getBatchMetrics().updateStreamingMetrics();
+
+        if (getBatchMetrics().hasProcessedAnyTransactions()) {
+            getOffsetActivityMonitor().checkForStaleOffsets(this::getActiveTransactionIds);
+        }
+
+        LOGGER.debug("{}.", getBatchMetrics());
+        LOGGER.debug("Processed in {} ms. Lag {}. Active Transactions: {}. Offsets: {}",
+                Duration.between(startProcessTime, Instant.now()),
+                getMetrics().getLagFromSourceInMilliseconds(),
+                getMetrics().getNumberOfActiveTransactions(),
+                getOffsetContext());
+    }
+
+    /**
+     * Processes the rows of the result set while a separate thread reads the next rows ahead of time,
+     * so that the database fetches further rows while the current rows are processed.
+     *
+     * @param resultSet the result set, should not be {@code null}
+     * @throws SQLException if a database error occurs
+     * @throws InterruptedException if the thread is interrupted
+     */
+    private void processPrefetchedRows(ResultSet resultSet) throws SQLException, InterruptedException {
+        try (LogMinerEventRowPrefetcher prefetcher = new LogMinerEventRowPrefetcher(
+                prefetchExecutor,
+                connectorConfig.getLogMiningQueryPrefetchSize(),
+                () -> hasNextWithMetricsUpdate(resultSet) ? LogMinerEventRow.fromResultSet(resultSet, schema, connectorConfig) : null,
+                () -> getContext().isRunning(),
+                metrics)) {
+            LogMinerEventRow event;
+            while (getContext().isRunning() && (event = prefetcher.next()) != null) {
+                getBatchMetrics().rowObserved();
+                processEvent(event);
+            }
         }
     }
 
@@ -974,6 +1111,11 @@ protected void prepareJdbcConnection(boolean closeAndReconnect) throws SQLExcept
             LOGGER.debug("Log switch or maximum session threshold detected, restarting Oracle JDBC connection.");
             jdbcConnection.close();
 
+            if (redoThreadSessions != null) {
+                // The redo thread sessions reconnect when the logs are next applied
+                redoThreadSessions.close();
+            }
+
             if (isUsingPluggableDatabase()) {
                 // Guarantee on reconnection that the connection resets to the CDB in case the user
                 // configured the database.dbname or database.url to point to the PDB
@@ -984,9 +1126,9 @@ protected void prepareJdbcConnection(boolean closeAndReconnect) throws SQLExcept
         // Prepare the session's NLS configuration for streaming
         // This makes sure that specific LogMiner attributes are serialized in a consistent format
         // to minimize the various permutations needed in the value converters.
-        setNlsSessionParameters();
+        setNlsSessionParameters(jdbcConnection);
 
-        setHashSortArea();
+        setHashSortArea(jdbcConnection);
     }
 
     /**
@@ -1125,12 +1267,17 @@ protected Scn collectLogsAndFinalUpperBoundary(Scn lowerBoundsScn, Scn upperBoun
      * @throws SQLException if a database exception occurs
      */
     protected void applyLogsToSession() throws SQLException {
-        if (!useContinuousMining) {
+        if (!useContinuousMining && redoThreadSessions == null) {
             sessionContext.removeAllLogFilesFromSession();
         }
 
         if (!useContinuousMining) {
-            sessionContext.addLogFiles(sessionLogFiles);
+            if (redoThreadSessions != null) {
+                redoThreadSessions.applyLogFiles(sessionLogFiles);
+            }
+            else {
+                sessionContext.addLogFiles(sessionLogFiles);
+            }
 
             // These need to be updated when we prepare the session so that log switch check works
             currentRedoLogSequences = currentLogFiles.stream()
@@ -1176,8 +1323,14 @@ protected boolean startMiningSession(Scn startScn, Scn endScn, int attempts) thr
                     startScn, endScn, connectorConfig.getLogMiningStrategy(), attempts, MINING_START_RETRIES);
 
             metrics.setLastMiningSessionRange(startScn, endScn);
-            sessionContext.startSession(startScn, endScn, isUsingCommittedDataOnly());
-            metrics.setLastMiningSessionStartDuration(sessionContext.getLastSessionStartTime());
+            if (redoThreadSessions != null) {
+                redoThreadSessions.startSessions(startScn, endScn, isUsingCommittedDataOnly());
+                metrics.setLastMiningSessionStartDuration(redoThreadSessions.getLastSessionStartTime());
+            }
+            else {
+                sessionContext.startSession(startScn, endScn, isUsingCommittedDataOnly());
+                metrics.setLastMiningSessionStartDuration(sessionContext.getLastSessionStartTime());
+            }
 
             return true;
         }
@@ -1209,7 +1362,12 @@ protected boolean startMiningSession(Scn startScn, Scn endScn, int attempts) thr
      * @throws SQLException if the current mining session cannot be ended gracefully
      */
     protected void endMiningSession() throws SQLException {
-        sessionContext.endMiningSession();
+        if (redoThreadSessions != null) {
+            redoThreadSessions.endSessions();
+        }
+        else {
+            sessionContext.endMiningSession();
+        }
     }
 
     /**
@@ -1704,21 +1862,65 @@ protected Table dispatchSchemaChangeEventAndGetTableForNewConfiguredTable(TableI
         }
     }
 
+    /**
+     * Checks whether the logs of each redo thread can be mined in a separate mining session.
+     *
+     * @return {@code true} if parallel redo thread mining is enabled and supported, {@code false} otherwise
+     */
+    private boolean isParallelRedoThreadMiningSupported() {
+        if (!connectorConfig.isLogMiningParallelRedoThreads()) {
+            return false;
+        }
+        if (useContinuousMining) {
+            LOGGER.warn("Mining redo threads in parallel is not supported with continuous mining, using a single mining session.");
+            return false;
+        }
+        if (isUsingCatalogInRedoStrategy()) {
+            // The data dictionary is only written to the redo of a single thread
+            LOGGER.warn("Mining redo threads in parallel is not supported with the '{}' mining strategy, using a single mining session.",
+                    connectorConfig.getLogMiningStrategy().getValue());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Opens a new connection for the mining session of a redo thread.
+     *
+     * @return the prepared connection, never {@code null}
+     * @throws SQLException if a database exception occurred
+     */
+    private OracleConnection newRedoThreadConnection() throws SQLException {
+        final OracleConnection connection = new OracleConnection(connectorConfig, jdbcConnection.config(), false);
+        try {
+            if (isUsingPluggableDatabase()) {
+                connection.resetSessionToCdb();
+            }
+            setNlsSessionParameters(connection);
+            setHashSortArea(connection);
+            return connection;
+        }
+        catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
     /**
      * Sets the NLS parameters for the mining session.
      *
      * @throws SQLException if a database exception occurred
      */
-    private void setNlsSessionParameters() throws SQLException {
+    private void setNlsSessionParameters(OracleConnection connection) throws SQLException {
         final String NLS_SESSION_PARAMETERS = "ALTER SESSION SET "
                 + "  NLS_DATE_FORMAT = 'YYYY-MM-DD HH24:MI:SS'"
                 + "  NLS_TIMESTAMP_FORMAT = 'YYYY-MM-DD HH24:MI:SS.FF9'"
                 + "  NLS_TIMESTAMP_TZ_FORMAT = 'YYYY-MM-DD HH24:MI:SS.FF9 TZH:TZM'"
                 + "  NLS_NUMERIC_CHARACTERS = '.,'";
-        jdbcConnection.executeWithoutCommitting(NLS_SESSION_PARAMETERS);
+        connection.executeWithoutCommitting(NLS_SESSION_PARAMETERS);
 
         // This is necessary so that TIMESTAMP WITH LOCAL TIME ZONE is returned in UTC
-        jdbcConnection.executeWithoutCommitting("ALTER SESSION SET TIME_ZONE = '00:00'");
+        connection.executeWithoutCommitting("ALTER SESSION SET TIME_ZONE = '00:00'");
     }
 
     /**
@@ -1726,17 +1928,17 @@ private void setNlsSessionParameters() throws SQLException {
      *
      * @throws SQLException the hash/sort area
      */
-    private void setHashSortArea() throws SQLException {
+    private void setHashSortArea(OracleConnection connection) throws SQLException {
         final long hashAreaSize = getConfig().getLogMiningHashAreaSize();
         if (hashAreaSize > 0) {
             LOGGER.debug("Setting LogMiner connection HASH_AREA_SIZE={}", hashAreaSize);
-            jdbcConnection.executeWithoutCommitting("ALTER SESSION SET HASH_AREA_SIZE = " + hashAreaSize);
+            connection.executeWithoutCommitting("ALTER SESSION SET HASH_AREA_SIZE = " + hashAreaSize);
         }
 
         final long sortAreaSize = getConfig().getLogMiningSortAreaSize();
         if (sortAreaSize > 0) {
             LOGGER.debug("Setting LogMiner connection SORT_AREA_SIZE={}", sortAreaSize);
-            jdbcConnection.executeWithoutCommitting("ALTER SESSION SET SORT_AREA_SIZE = " + sortAreaSize);
+            connection.executeWithoutCommitting("ALTER SESSION SET SORT_AREA_SIZE = " + sortAreaSize);
         }
     }
 
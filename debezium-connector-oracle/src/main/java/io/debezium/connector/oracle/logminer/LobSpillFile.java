@@ -0,0 +1,191 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import io.debezium.DebeziumException;
+
+/**
+ * A temporary file in which the value of a single LOB, XML, or extended string column is reassembled
+ * from its fragments, so that large values do not have to be held in memory until they are emitted.
+ *
+ * Character values are stored as UTF-16 code units and binary values as bytes, so that fragments can be
+ * written at their offset within the value. When a fragment is written beyond the current end of the
+ * value, the gap is filled with spaces for character values and with zeroes for binary values, as
+ * specified for {@code DBMS_LOB.WRITE}.
+ */
+class LobSpillFile implements AutoCloseable {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final boolean binary;
+    private final LogMinerStreamingChangeEventSourceMetrics metrics;
+    private long length;
+
+    private LobSpillFile(FileChannel channel, boolean binary, LogMinerStreamingChangeEventSourceMetrics metrics) {
+        this.channel = channel;
+        this.binary = binary;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Creates a new temporary file, which is deleted when closed.
+     *
+     * @param directory the directory, or {@code null} to use the default temporary directory
+     * @param binary whether the value is binary rather than character data
+     * @param metrics the metrics to report spilled bytes to, may be {@code null}
+     * @return the spill file, never {@code null}
+     */
+    static LobSpillFile create(Path directory, boolean binary, LogMinerStreamingChangeEventSourceMetrics metrics) {
+        try {
+            final Path file = directory != null
+                    ? Files.createTempFile(directory, "debezium-lob-", ".tmp")
+                    : Files.createTempFile("debezium-lob-", ".tmp");
+            final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+            return new LobSpillFile(channel, binary, metrics);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to create temporary file to reassemble LOB value", e);
+        }
+    }
+
+    /**
+     * @return the length of the value, in characters or bytes
+     */
+    long length() {
+        return length;
+    }
+
+    /**
+     * Writes character data at the given position of the value.
+     *
+     * @param position the position in characters
+     * @param data the data to write
+     */
+    void write(long position, String data) {
+        final ByteBuffer buffer = ByteBuffer.allocate(data.length() * 2);
+        buffer.asCharBuffer().put(data);
+        write(position, buffer);
+    }
+
+    /**
+     * Writes binary data at the given position of the value.
+     *
+     * @param position the position in bytes
+     * @param data the data to write
+     */
+    void write(long position, byte[] data) {
+        write(position, ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Appends character data to the end of the value.
+     *
+     * @param data the data to append
+     */
+    void append(String data) {
+        write(length, data);
+    }
+
+    /**
+     * Reads the complete value as a string.
+     *
+     * @return the value
+     */
+    String readString() {
+        return new String(readAll(), StandardCharsets.UTF_16BE);
+    }
+
+    /**
+     * Reads the complete value as bytes.
+     *
+     * @return the value
+     */
+    byte[] readBytes() {
+        return readAll();
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to delete temporary file used to reassemble LOB value", e);
+        }
+    }
+
+    private void write(long position, ByteBuffer buffer) {
+        try {
+            if (position > length) {
+                fill(length, position);
+            }
+            final int units = buffer.remaining() / unitSize();
+            long filePosition = position * unitSize();
+            while (buffer.hasRemaining()) {
+                filePosition += channel.write(buffer, filePosition);
+            }
+            length = Math.max(length, position + units);
+            if (metrics != null) {
+                metrics.addLobSpilledBytes((long) units * unitSize());
+            }
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to write LOB fragment to temporary file", e);
+        }
+    }
+
+    private void fill(long from, long to) throws IOException {
+        final ByteBuffer filler = ByteBuffer.allocate(CHUNK_SIZE * unitSize());
+        if (!binary) {
+            while (filler.hasRemaining()) {
+                filler.putChar(' ');
+            }
+        }
+        long filePosition = from * unitSize();
+        final long end = to * unitSize();
+        while (filePosition < end) {
+            filler.clear();
+            filler.limit((int) Math.min(filler.capacity(), end - filePosition));
+            filePosition += channel.write(filler, filePosition);
+        }
+    }
+
+    private byte[] readAll() {
+        final long size = length * unitSize();
+        if (size > Integer.MAX_VALUE) {
+            throw new DebeziumException("LOB value of " + size + " bytes is too large to be emitted");
+        }
+        try {
+            final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            long filePosition = 0;
+            while (buffer.hasRemaining()) {
+                final int read = channel.read(buffer, filePosition);
+                if (read < 0) {
+                    throw new DebeziumException("Unexpected end of temporary file used to reassemble LOB value");
+                }
+                filePosition += read;
+            }
+            return buffer.array();
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to read LOB value from temporary file", e);
+        }
+    }
+
+    private int unitSize() {
+        return binary ? 1 : 2;
+    }
+}
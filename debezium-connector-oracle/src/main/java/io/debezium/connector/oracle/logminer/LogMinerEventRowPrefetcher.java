@@ -0,0 +1,165 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+
+/**
+ * Reads the rows of a LogMiner query on a separate thread into a bounded buffer, so that the database
+ * produces and transfers the next rows of the mining query while the connector processes the previous ones.
+ *
+ * The rows are handed over in the order they are read, and the reader stops when the buffer is full
+ * until the connector has taken rows from it.
+ */
+public class LogMinerEventRowPrefetcher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogMinerEventRowPrefetcher.class);
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    /**
+     * Reads the next row of a LogMiner query.
+     */
+    @FunctionalInterface
+    public interface RowReader {
+        /**
+         * @return the next row, or {@code null} if there are no more rows
+         * @throws SQLException if a database exception occurs
+         */
+        LogMinerEventRow read() throws SQLException;
+    }
+
+    private final BlockingQueue<LogMinerEventRow> buffer;
+    private final LogMinerStreamingChangeEventSourceMetrics metrics;
+    private final AtomicLong readNanos = new AtomicLong();
+    private final Future<?> reader;
+
+    private volatile boolean exhausted;
+    private volatile boolean closed;
+    private volatile Throwable failure;
+    private long waitNanos;
+
+    public LogMinerEventRowPrefetcher(ExecutorService executor, int capacity, RowReader rowReader, BooleanSupplier running,
+                                      LogMinerStreamingChangeEventSourceMetrics metrics) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.metrics = metrics;
+        this.reader = executor.submit(() -> readRows(rowReader, running));
+    }
+
+    /**
+     * Returns the next row, waiting for the reader if the buffer is empty.
+     *
+     * @return the next row, or {@code null} if there are no more rows
+     * @throws SQLException if the reader failed with a database exception
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public LogMinerEventRow next() throws SQLException, InterruptedException {
+        final long start = System.nanoTime();
+        try {
+            while (true) {
+                LogMinerEventRow row = buffer.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (row == null && exhausted) {
+                    // The reader may have added rows just before finishing
+                    row = buffer.poll();
+                    if (row == null) {
+                        throwReaderFailure();
+                        return null;
+                    }
+                }
+                if (row != null) {
+                    metrics.setPrefetchBufferOccupancy(buffer.size());
+                    return row;
+                }
+            }
+        }
+        finally {
+            waitNanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        buffer.clear();
+        try {
+            // The result set must not be closed while the reader still uses it
+            reader.get();
+        }
+        catch (ExecutionException e) {
+            LOGGER.debug("The LogMiner row reader failed", e.getCause());
+        }
+        finally {
+            metrics.setPrefetchBufferOccupancy(0);
+            // Time spent reading rows while the connector was not waiting for them was overlapped with processing
+            final long overlapNanos = Math.max(0, readNanos.get() - waitNanos);
+            metrics.setLastPrefetchOverlapDuration(Duration.ofNanos(overlapNanos));
+        }
+    }
+
+    private void readRows(RowReader rowReader, BooleanSupplier running) {
+        try {
+            while (!closed && running.getAsBoolean()) {
+                final long start = System.nanoTime();
+                final LogMinerEventRow row = rowReader.read();
+                readNanos.addAndGet(System.nanoTime() - start);
+                if (row == null) {
+                    break;
+                }
+                while (!buffer.offer(row, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                    if (closed) {
+                        return;
+                    }
+                }
+                metrics.setPrefetchBufferOccupancy(buffer.size());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = e;
+        }
+        catch (Throwable t) {
+            failure = t;
+        }
+        finally {
+            exhausted = true;
+        }
+    }
+
+    private void throwReaderFailure() throws SQLException, InterruptedException {
+        final Throwable t = failure;
+        if (t == null) {
+            return;
+        }
+        if (t instanceof SQLException sqlException) {
+            throw sqlException;
+        }
+        if (t instanceof InterruptedException interruptedException) {
+            throw interruptedException;
+        }
+        if (t instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (t instanceof Error error) {
+            throw error;
+        }
+        throw new DebeziumException("Failed to read LogMiner rows", t);
+    }
+}
@@ -75,6 +75,7 @@
     private final AtomicLong processedRowsCount = new AtomicLong();
     private final AtomicLong activeTransactionCount = new AtomicLong();
     private final AtomicLong rolledBackTransactionCount = new AtomicLong();
+    private final AtomicLong lobSpilledBytes = new AtomicLong();
     private final AtomicLong oversizedTransactionCount = new AtomicLong();
     private final AtomicLong changesCount = new AtomicLong();
     private final AtomicLong scnFreezeCount = new AtomicLong();
@@ -89,9 +90,12 @@
     private final DurationHistogramMetric miningSessionStartupDuration = new DurationHistogramMetric();
     private final DurationHistogramMetric parseTimeDuration = new DurationHistogramMetric();
     private final DurationHistogramMetric resultSetNextDuration = new DurationHistogramMetric();
+    private final DurationHistogramMetric prefetchOverlapDuration = new DurationHistogramMetric();
+    private final DurationHistogramMetric lobReassemblyDuration = new DurationHistogramMetric();
 
     private final LongHistogramMetric userGlobalAreaMemory = new LongHistogramMetric();
     private final LongHistogramMetric processGlobalAreaMemory = new LongHistogramMetric();
+    private final LongHistogramMetric prefetchBufferOccupancy = new LongHistogramMetric();
 
     private final LRUSet<String> abandonedTransactionIds = new LRUSet<>(TRANSACTION_ID_SET_SIZE);
     private final LRUSet<String> rolledBackTransactionIds = new LRUSet<>(TRANSACTION_ID_SET_SIZE);
@@ -128,6 +132,7 @@ public void reset() {
         logMinerQueryCount.set(0);
         activeTransactionCount.set(0);
         rolledBackTransactionCount.set(0);
+        lobSpilledBytes.set(0);
         oversizedTransactionCount.set(0);
         scnFreezeCount.set(0);
         partialRollbackCount.set(0);
@@ -140,6 +145,9 @@ public void reset() {
         miningSessionStartupDuration.reset();
         userGlobalAreaMemory.reset();
         processGlobalAreaMemory.reset();
+        prefetchBufferOccupancy.reset();
+        prefetchOverlapDuration.reset();
+        lobReassemblyDuration.reset();
         lagFromSourceDuration.reset();
         commitDuration.reset();
 
@@ -372,6 +380,46 @@ public long getTotalResultSetNextTimeInMilliseconds() {
         return resultSetNextDuration.getTotal().toMillis();
     }
 
+    @Override
+    public long getPrefetchBufferOccupancy() {
+        return prefetchBufferOccupancy.getValue();
+    }
+
+    @Override
+    public long getMaxPrefetchBufferOccupancy() {
+        return prefetchBufferOccupancy.getMax();
+    }
+
+    @Override
+    public long getLastPrefetchOverlapTimeInMilliseconds() {
+        return prefetchOverlapDuration.getLast().toMillis();
+    }
+
+    @Override
+    public long getTotalPrefetchOverlapTimeInMilliseconds() {
+        return prefetchOverlapDuration.getTotal().toMillis();
+    }
+
+    @Override
+    public long getTotalLobSpilledBytes() {
+        return lobSpilledBytes.get();
+    }
+
+    @Override
+    public long getLastLobReassemblyTimeInMilliseconds() {
+        return lobReassemblyDuration.getLast().toMillis();
+    }
+
+    @Override
+    public long getMaxLobReassemblyTimeInMilliseconds() {
+        return lobReassemblyDuration.getMaximum().toMillis();
+    }
+
+    @Override
+    public long getTotalLobReassemblyTimeInMilliseconds() {
+        return lobReassemblyDuration.getTotal().toMillis();
+    }
+
     @Override
     public long getLagFromSourceInMilliseconds() {
         return lagFromSourceDuration.getLast().toMillis();
@@ -688,6 +736,43 @@ public void setLastResultSetNextDuration(Duration duration) {
         resultSetNextDuration.set(duration);
     }
 
+    /**
+     * Sets the number of LogMiner rows that are read ahead and wait to be processed.
+     *
+     * @param rows number of rows in the prefetch buffer
+     */
+    public void setPrefetchBufferOccupancy(int rows) {
+        prefetchBufferOccupancy.setValue(rows);
+        prefetchBufferOccupancy.setMax(rows);
+    }
+
+    /**
+     * Sets the time the last LogMiner query spent reading rows while the connector was processing earlier rows.
+     *
+     * @param duration duration of reading that overlapped with processing
+     */
+    public void setLastPrefetchOverlapDuration(Duration duration) {
+        prefetchOverlapDuration.set(duration);
+    }
+
+    /**
+     * Adds the number of bytes of LOB, XML, or extended string data written to temporary files.
+     *
+     * @param bytes number of bytes spilled
+     */
+    public void addLobSpilledBytes(long bytes) {
+        lobSpilledBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Sets the time taken to reassemble the last LOB, XML, or extended string value from its fragments.
+     *
+     * @param duration duration of the reassembly
+     */
+    public void setLastLobReassemblyDuration(Duration duration) {
+        lobReassemblyDuration.set(duration);
+    }
+
     /**
      * Set the database's current user global area (UGA) memory statistics.
      *
@@ -788,6 +873,7 @@ public String toString() {
                 ", processedRowsCount=" + processedRowsCount +
                 ", activeTransactionCount=" + activeTransactionCount +
                 ", rolledBackTransactionCount=" + rolledBackTransactionCount +
+                ", lobSpilledBytes=" + lobSpilledBytes +
                 ", oversizedTransactionCount=" + oversizedTransactionCount +
                 ", changesCount=" + changesCount +
                 ", scnFreezeCount=" + scnFreezeCount +
@@ -798,6 +884,9 @@ public String toString() {
                 ", miningSessionStartupDuration=" + miningSessionStartupDuration +
                 ", parseTimeDuration=" + parseTimeDuration +
                 ", resultSetNextDuration=" + resultSetNextDuration +
+                ", prefetchOverlapDuration=" + prefetchOverlapDuration +
+                ", prefetchBufferOccupancy=" + prefetchBufferOccupancy +
+                ", lobReassemblyDuration=" + lobReassemblyDuration +
                 ", userGlobalAreaMemory=" + userGlobalAreaMemory +
                 ", processGlobalAreaMemory=" + processGlobalAreaMemory +
                 ", abandonedTransactionIds=" + abandonedTransactionIds +
@@ -247,6 +247,55 @@
      */
     long getTotalResultSetNextTimeInMilliseconds();
 
+    /**
+     * When query prefetching is enabled, rows of the LogMiner query are read ahead on a separate
+     * thread and buffered until the connector processes them.
+     *
+     * @return number of rows currently read ahead and waiting to be processed
+     */
+    long getPrefetchBufferOccupancy();
+
+    /**
+     * @return maximum number of rows read ahead and waiting to be processed
+     */
+    long getMaxPrefetchBufferOccupancy();
+
+    /**
+     * When query prefetching is enabled, this is the time the last LogMiner query spent reading rows
+     * while the connector was processing earlier rows instead of waiting for them.
+     *
+     * @return duration in milliseconds of reading that overlapped with processing in the last query
+     */
+    long getLastPrefetchOverlapTimeInMilliseconds();
+
+    /**
+     * @return total duration in milliseconds of reading that overlapped with processing
+     */
+    long getTotalPrefetchOverlapTimeInMilliseconds();
+
+    /**
+     * When LOB spilling is enabled, LOB, XML, and extended string values that exceed the spill
+     * threshold are reassembled in temporary files rather than in memory.
+     *
+     * @return total number of bytes written to temporary files
+     */
+    long getTotalLobSpilledBytes();
+
+    /**
+     * @return duration in milliseconds to reassemble the last LOB, XML, or extended string value
+     */
+    long getLastLobReassemblyTimeInMilliseconds();
+
+    /**
+     * @return maximum duration in milliseconds to reassemble a LOB, XML, or extended string value
+     */
+    long getMaxLobReassemblyTimeInMilliseconds();
+
+    /**
+     * @return total duration in milliseconds spent reassembling LOB, XML, and extended string values
+     */
+    long getTotalLobReassemblyTimeInMilliseconds();
+
     /**
      * Returns the time in milliseconds between when the database captured the change and when the
      * change is placed into the transaction buffer by the connector.
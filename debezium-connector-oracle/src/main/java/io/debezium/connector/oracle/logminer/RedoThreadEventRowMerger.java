@@ -0,0 +1,116 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.LogMinerEventRowPrefetcher.RowReader;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+
+/**
+ * Merges the rows of several LogMiner queries, one per redo thread, into a single stream ordered by SCN.
+ *
+ * Each query is read on its own thread into a bounded buffer, so that the mining sessions of all redo
+ * threads produce rows concurrently. Rows of the same query are returned in the order they were read,
+ * and when the rows of several queries have the same SCN, the rows of the query that was supplied first
+ * are returned first.
+ */
+public class RedoThreadEventRowMerger implements AutoCloseable {
+
+    private final List<LogMinerEventRowPrefetcher> readers = new ArrayList<>();
+    private final Function<LogMinerEventRow, Scn> scnExtractor;
+    private final LogMinerEventRow[] heads;
+    private boolean initialized;
+
+    /**
+     * Creates the merger and starts reading all queries.
+     *
+     * @param executor the executor that runs the readers, must be able to run all readers at the same time
+     * @param capacity the number of rows buffered for each query
+     * @param rowReaders the readers of the queries, should not be {@code null}
+     * @param scnExtractor provides the SCN by which rows are ordered, should not be {@code null}
+     * @param running whether the connector is running
+     * @param metrics the streaming metrics, should not be {@code null}
+     */
+    public RedoThreadEventRowMerger(ExecutorService executor, int capacity, List<RowReader> rowReaders,
+                                    Function<LogMinerEventRow, Scn> scnExtractor, BooleanSupplier running,
+                                    LogMinerStreamingChangeEventSourceMetrics metrics) {
+        this.scnExtractor = scnExtractor;
+        this.heads = new LogMinerEventRow[rowReaders.size()];
+        for (RowReader rowReader : rowReaders) {
+            readers.add(new LogMinerEventRowPrefetcher(executor, capacity, rowReader, running, metrics));
+        }
+    }
+
+    /**
+     * Returns the row with the lowest SCN across all queries, waiting for the readers if needed.
+     *
+     * @return the next row, or {@code null} if all queries are exhausted
+     * @throws SQLException if a reader failed with a database exception
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public LogMinerEventRow next() throws SQLException, InterruptedException {
+        if (!initialized) {
+            for (int i = 0; i < heads.length; i++) {
+                heads[i] = readers.get(i).next();
+            }
+            initialized = true;
+        }
+
+        int lowest = -1;
+        Scn lowestScn = null;
+        for (int i = 0; i < heads.length; i++) {
+            if (heads[i] != null) {
+                final Scn scn = scnExtractor.apply(heads[i]);
+                if (lowest == -1 || compare(scn, lowestScn) < 0) {
+                    lowest = i;
+                    lowestScn = scn;
+                }
+            }
+        }
+
+        if (lowest == -1) {
+            return null;
+        }
+
+        final LogMinerEventRow row = heads[lowest];
+        heads[lowest] = readers.get(lowest).next();
+        return row;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        InterruptedException failure = null;
+        for (LogMinerEventRowPrefetcher reader : readers) {
+            try {
+                reader.close();
+            }
+            catch (InterruptedException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static int compare(Scn scn, Scn other) {
+        // Rows without an SCN are returned as soon as they are at the head of their query
+        if (scn == null || scn.isNull()) {
+            return (other == null || other.isNull()) ? 0 : -1;
+        }
+        if (other == null || other.isNull()) {
+            return 1;
+        }
+        return scn.compareTo(other);
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.Scn;
+
+/**
+ * Maintains a separate LogMiner session for each redo thread of an Oracle RAC database, where each session
+ * runs on its own JDBC connection and only mines the logs of its redo thread.
+ *
+ * The sessions are started with the same SCN range, so that merging the rows of all sessions by SCN
+ * yields the same rows as a single session that mines the logs of all redo threads.
+ */
+public class RedoThreadMiningSessions implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RedoThreadMiningSessions.class);
+
+    /**
+     * Opens and prepares a new connection for a mining session.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        OracleConnection newConnection() throws SQLException;
+    }
+
+    /**
+     * Binds the parameters of the mining query.
+     */
+    @FunctionalInterface
+    public interface StatementBinder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
+    private final OracleConnectorConfig connectorConfig;
+    private final ConnectionFactory connectionFactory;
+    private final boolean useContinuousMining;
+    private final Map<Integer, RedoThreadSession> sessions = new TreeMap<>();
+
+    private Duration lastSessionStartTime = Duration.ZERO;
+    private Scn currentSessionStartScn = Scn.NULL;
+
+    public RedoThreadMiningSessions(OracleConnectorConfig connectorConfig, ConnectionFactory connectionFactory, boolean useContinuousMining) {
+        this.connectorConfig = connectorConfig;
+        this.connectionFactory = connectionFactory;
+        this.useContinuousMining = useContinuousMining;
+    }
+
+    /**
+     * @return the redo threads that currently have a mining session
+     */
+    public List<Integer> getRedoThreads() {
+        return new ArrayList<>(sessions.keySet());
+    }
+
+    /**
+     * @return the starting system change number of the current sessions, or {@link Scn#NULL} if not started
+     */
+    public Scn getCurrentSessionStartScn() {
+        return currentSessionStartScn;
+    }
+
+    /**
+     * @return the longest time taken by a session to start in the last call to {@link #startSessions(Scn, Scn, boolean)}
+     */
+    public Duration getLastSessionStartTime() {
+        return lastSessionStartTime;
+    }
+
+    /**
+     * Registers the logs of each redo thread with the session of that thread. Sessions are created for
+     * redo threads that did not have one and closed for redo threads that no longer have logs.
+     *
+     * @param logFiles the logs of all redo threads, should not be {@code null}
+     * @throws SQLException if a database exception occurred
+     */
+    public void applyLogFiles(List<LogFile> logFiles) throws SQLException {
+        final Map<Integer, List<LogFile>> logFilesByThread = logFiles.stream()
+                .collect(Collectors.groupingBy(LogFile::getThread, TreeMap::new, Collectors.toList()));
+
+        final Iterator<Map.Entry<Integer, RedoThreadSession>> iterator = sessions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Integer, RedoThreadSession> entry = iterator.next();
+            if (!logFilesByThread.containsKey(entry.getKey())) {
+                LOGGER.debug("Closing mining session for redo thread {} as it has no more logs to mine.", entry.getKey());
+                entry.getValue().close();
+                iterator.remove();
+            }
+        }
+
+        for (Map.Entry<Integer, List<LogFile>> entry : logFilesByThread.entrySet()) {
+            RedoThreadSession session = sessions.get(entry.getKey());
+            if (session == null) {
+                LOGGER.debug("Opening mining session for redo thread {}.", entry.getKey());
+                session = new RedoThreadSession(connectionFactory.newConnection());
+                sessions.put(entry.getKey(), session);
+            }
+            session.applyLogFiles(entry.getValue());
+        }
+    }
+
+    /**
+     * Starts the mining session of every redo thread with the same SCN range.
+     *
+     * @param startScn starting system change number, may be {@link Scn#NULL} to leave unset
+     * @param endScn ending system change number, may be {@link Scn#NULL} to leave unset
+     * @param committedDataOnly whether to use committed data only mode
+     * @throws SQLException if a database exception occurred starting a mining session
+     */
+    public void startSessions(Scn startScn, Scn endScn, boolean committedDataOnly) throws SQLException {
+        Duration longest = Duration.ZERO;
+        for (RedoThreadSession session : sessions.values()) {
+            session.context.startSession(startScn, endScn, committedDataOnly);
+            if (session.context.getLastSessionStartTime().compareTo(longest) > 0) {
+                longest = session.context.getLastSessionStartTime();
+            }
+        }
+        lastSessionStartTime = longest;
+        currentSessionStartScn = startScn;
+    }
+
+    /**
+     * Ends the mining session of every redo thread, keeping the connections open.
+     *
+     * @throws SQLException if a database exception occurred ending a mining session
+     */
+    public void endSessions() throws SQLException {
+        currentSessionStartScn = Scn.NULL;
+        for (RedoThreadSession session : sessions.values()) {
+            session.context.endMiningSession();
+            // Ending the session removes the logs from it
+            session.logFiles = List.of();
+        }
+    }
+
+    /**
+     * Prepares the mining query on the connection of every redo thread.
+     *
+     * @param query the mining query, should not be {@code null}
+     * @param binder binds the query parameters, should not be {@code null}
+     * @return the queries, one per redo thread in redo thread order, never {@code null}
+     * @throws SQLException if a database exception occurred
+     */
+    public List<RedoThreadQuery> prepareQueries(String query, StatementBinder binder) throws SQLException {
+        final List<RedoThreadQuery> queries = new ArrayList<>(sessions.size());
+        try {
+            for (Map.Entry<Integer, RedoThreadSession> entry : sessions.entrySet()) {
+                final OracleConnection connection = entry.getValue().connection;
+                final PreparedStatement statement = connection.connection().prepareStatement(query,
+                        ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY,
+                        ResultSet.HOLD_CURSORS_OVER_COMMIT);
+                queries.add(new RedoThreadQuery(entry.getKey(), statement));
+                statement.setQueryTimeout((int) connection.config().getQueryTimeout().toSeconds());
+                statement.setFetchSize(connectorConfig.getQueryFetchSize());
+                statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+                binder.bind(statement);
+            }
+            return queries;
+        }
+        catch (SQLException e) {
+            for (RedoThreadQuery redoThreadQuery : queries) {
+                redoThreadQuery.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Ends all mining sessions and closes their connections. New sessions are opened by the next call
+     * to {@link #applyLogFiles(List)}.
+     */
+    @Override
+    public void close() {
+        for (RedoThreadSession session : sessions.values()) {
+            session.close();
+        }
+        sessions.clear();
+        currentSessionStartScn = Scn.NULL;
+    }
+
+    /**
+     * The mining query of a single redo thread, which is executed when its rows are first read.
+     */
+    public static class RedoThreadQuery implements AutoCloseable {
+
+        private final int thread;
+        private final PreparedStatement statement;
+        private ResultSet resultSet;
+
+        RedoThreadQuery(int thread, PreparedStatement statement) {
+            this.thread = thread;
+            this.statement = statement;
+        }
+
+        public int getThread() {
+            return thread;
+        }
+
+        /**
+         * Returns the result set of the query, executing the query on the first call.
+         *
+         * @return the result set, never {@code null}
+         * @throws SQLException if the query failed
+         */
+        public ResultSet getResultSet() throws SQLException {
+            if (resultSet == null) {
+                resultSet = statement.executeQuery();
+            }
+            return resultSet;
+        }
+
+        @Override
+        public void close() {
+            try {
+                statement.close();
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to close mining query for redo thread {}", thread, e);
+            }
+        }
+    }
+
+    private class RedoThreadSession implements AutoCloseable {
+
+        private final OracleConnection connection;
+        private final LogMinerSessionContext context;
+        private List<LogFile> logFiles = List.of();
+
+        RedoThreadSession(OracleConnection connection) {
+            this.connection = connection;
+            this.context = new LogMinerSessionContext(connection, useContinuousMining, connectorConfig.getLogMiningStrategy(),
+                    connectorConfig.getLogMiningPathToDictionary());
+        }
+
+        void applyLogFiles(List<LogFile> newLogFiles) throws SQLException {
+            if (!newLogFiles.equals(logFiles)) {
+                context.removeAllLogFilesFromSession();
+                context.addLogFiles(newLogFiles);
+                logFiles = newLogFiles;
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (context.isSessionStarted()) {
+                    context.endMiningSession();
+                }
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to end mining session", e);
+            }
+            try {
+                connection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to close mining session connection", e);
+            }
+        }
+    }
+}
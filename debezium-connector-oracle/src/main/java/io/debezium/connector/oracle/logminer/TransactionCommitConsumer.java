@@ -5,7 +5,9 @@
  */
 package io.debezium.connector.oracle.logminer;
 
+import java.nio.file.Path;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -85,6 +87,8 @@ public class TransactionCommitConsumer implements AutoCloseable {
     private final Handler<LogMinerEvent> delegate;
     private final OracleConnectorConfig connectorConfig;
     private final OracleDatabaseSchema schema;
+    private final LogMinerStreamingChangeEventSourceMetrics metrics;
+    private final SpillSettings spillSettings;
     private final Map<String, RowState> rows = new HashMap<>();
     private final ConstructionDetails currentLobDetails = new ConstructionDetails();
     private final ConstructionDetails currentExtendedStringDetails = new ConstructionDetails();
@@ -94,10 +98,17 @@ public class TransactionCommitConsumer implements AutoCloseable {
     private long enqueueEventIndex = 0;
     private int totalEvents = 0;
 
-    public TransactionCommitConsumer(Handler<LogMinerEvent> delegate, OracleConnectorConfig connectorConfig, OracleDatabaseSchema schema) {
+    public TransactionCommitConsumer(Handler<LogMinerEvent> delegate, OracleConnectorConfig connectorConfig, OracleDatabaseSchema schema,
+                                     LogMinerStreamingChangeEventSourceMetrics metrics) {
         this.delegate = delegate;
         this.connectorConfig = connectorConfig;
         this.schema = schema;
+        this.metrics = metrics;
+        this.spillSettings = connectorConfig.getLobSpillThresholdBytes() > 0
+                ? new SpillSettings(connectorConfig.getLobSpillThresholdBytes(),
+                        connectorConfig.getLobSpillDirectory() != null ? Path.of(connectorConfig.getLobSpillDirectory()) : null,
+                        metrics)
+                : null;
     }
 
     @Override
@@ -106,8 +117,14 @@ public void close() throws InterruptedException {
         List<RowState> pending = new ArrayList<>(rows.values());
         pending.sort(Comparator.comparingLong(x -> x.transactionIndex));
 
-        for (final RowState rowState : pending) {
-            prepareAndDispatch(rowState);
+        try {
+            for (final RowState rowState : pending) {
+                prepareAndDispatch(rowState);
+            }
+        }
+        finally {
+            // Values that were not emitted may still hold temporary files
+            rows.values().forEach(rowState -> releaseConstructables(rowState.event));
         }
 
         // For situations where the consumer instance is reused, reset internal state
@@ -302,7 +319,11 @@ private void initConstructable(ConstructionDetails details, String rowId, String
 
         Object[] values = newValues(accumulatorEvent);
         Object prevValue = values[details.columnPosition];
-        values[details.columnPosition] = constructor.apply(prevValue);
+        final Object constructable = constructor.apply(prevValue);
+        if (constructable instanceof AbstractUnderConstruction<?> underConstruction) {
+            underConstruction.spillSettings = spillSettings;
+        }
+        values[details.columnPosition] = constructable;
     }
 
     private void prepareAndDispatch(RowState rowState) throws InterruptedException {
@@ -313,7 +334,11 @@ private void prepareAndDispatch(RowState rowState) throws InterruptedException {
         Object[] values = newValues(event);
         for (int i = 0; i < values.length; i++) {
             if (values[i] instanceof AbstractUnderConstruction) {
+                final long start = System.nanoTime();
                 values[i] = ((AbstractUnderConstruction<?>) values[i]).merge();
+                if (metrics != null) {
+                    metrics.setLastLobReassemblyDuration(Duration.ofNanos(System.nanoTime() - start));
+                }
             }
         }
         // don't emit change events for ignored LOB manipulations (i.e. event is SEL_LOB_LOCATOR
@@ -406,6 +431,9 @@ private void mergeEvents(DmlEvent into, DmlEvent from) {
         for (int i = 0; i < intoVals.length; i++) {
             if (!OracleValueConverters.UNAVAILABLE_VALUE.equals(fromVals[i])) {
                 LOGGER.trace("\t\tMerge column {}: replacing {} with {}.", i, intoVals[i], fromVals[i]);
+                if (intoVals[i] instanceof AbstractUnderConstruction<?> underConstruction && intoVals[i] != fromVals[i]) {
+                    underConstruction.release();
+                }
                 intoVals[i] = fromVals[i];
             }
         }
@@ -554,10 +582,22 @@ private void discardCurrentMergeState(ConstructionDetails details) {
         if (state != null) {
             LOGGER.trace("Discarding merge state for row id {}", details.rowId);
             rows.remove(details.rowId);
+            releaseConstructables(state.event);
             details.reset();
         }
     }
 
+    private void releaseConstructables(DmlEvent event) {
+        final Object[] values = newValues(event);
+        if (values != null) {
+            for (Object value : values) {
+                if (value instanceof AbstractUnderConstruction<?> underConstruction) {
+                    underConstruction.release();
+                }
+            }
+        }
+    }
+
     private boolean hasRowId(DmlEvent event) {
         return event.getRowId() != null && event.getRowId() != RowIdCodec.EMPTY_ROW_ID;
     }
@@ -578,25 +618,90 @@ void reset() {
         }
     }
 
+    /**
+     * Settings that control when values under construction are moved to temporary files.
+     *
+     * @param thresholdBytes the approximate size of the buffered fragments above which a value is spilled
+     * @param directory the directory for temporary files, or {@code null} for the default temporary directory
+     * @param metrics the streaming metrics, may be {@code null}
+     */
+    record SpillSettings(long thresholdBytes, Path directory, LogMinerStreamingChangeEventSourceMetrics metrics) {
+    }
+
     static class Fragment {
         String data;
+
+        long size() {
+            return data == null ? 0 : data.length() * 2L;
+        }
     }
 
     static abstract class AbstractUnderConstruction<T extends Fragment> {
         protected List<T> fragments = new LinkedList<>();
         protected boolean isNull = true;
+        protected SpillSettings spillSettings;
+        protected LobSpillFile spillFile;
+        protected long bufferedBytes;
 
         void add(T fragment) {
             isNull = false;
+            if (spillFile != null) {
+                doSpill(fragment);
+                return;
+            }
             doAdd(fragment);
+            bufferedBytes += fragment.size();
+            if (spillSettings != null && bufferedBytes > spillSettings.thresholdBytes()) {
+                LOGGER.debug("\tReassembling value of {} bytes in a temporary file.", bufferedBytes);
+                spillFile = LobSpillFile.create(spillSettings.directory(), isBinary(), spillSettings.metrics());
+                for (T buffered : fragments) {
+                    doSpill(buffered);
+                }
+                fragments.clear();
+                bufferedBytes = 0;
+            }
+        }
+
+        Object merge() {
+            if (spillFile == null) {
+                return doMerge();
+            }
+            try {
+                return isNull ? null : readSpilled(spillFile);
+            }
+            finally {
+                release();
+            }
+        }
+
+        /**
+         * Deletes the temporary file of the value, if any.
+         */
+        void release() {
+            if (spillFile != null) {
+                spillFile.close();
+                spillFile = null;
+            }
         }
 
-        abstract Object merge();
+        abstract Object doMerge();
 
         protected void doAdd(T fragment) {
             fragments.add(fragment);
         }
 
+        protected boolean isBinary() {
+            return false;
+        }
+
+        protected void doSpill(T fragment) {
+            spillFile.append(fragment.data);
+        }
+
+        protected Object readSpilled(LobSpillFile file) {
+            return file.readString();
+        }
+
     }
 
     static class LobFragment extends Fragment {
@@ -646,6 +751,11 @@ int length() {
             return binary ? bytes.length : data.length();
         }
 
+        @Override
+        long size() {
+            return binary ? bytes.length : data.length() * 2L;
+        }
+
         int end() {
             return offset + length();
         }
@@ -802,6 +912,36 @@ protected void doAdd(LobFragment fragment) {
             }
         }
 
+        @Override
+        protected boolean isBinary() {
+            return binary;
+        }
+
+        @Override
+        protected void doSpill(LobFragment fragment) {
+            if (fragment.binary != binary) {
+                throw new DebeziumException("mixing binary and non-binary writes in a single LOB");
+            }
+            // Writing at the offset overwrites any overlapping data, like the in-memory merge of fragments
+            if (binary) {
+                spillFile.write(fragment.offset, fragment.bytes);
+            }
+            else {
+                spillFile.write(fragment.offset, fragment.data);
+            }
+            if (fragment.offset < start) {
+                start = fragment.offset;
+            }
+            if (fragment.end() > end) {
+                end = fragment.end();
+            }
+        }
+
+        @Override
+        protected Object readSpilled(LobSpillFile file) {
+            return binary ? file.readBytes() : file.readString();
+        }
+
         void compact() {
             ListIterator<LobFragment> iter = fragments.listIterator();
             if (!iter.hasNext()) {
@@ -831,7 +971,7 @@ void compact() {
          * Any holes will be filled with spaces (CLOB) or zero bytes (BLOB) as per the specification of DBMS_LOB.WRITE.
          */
         @Override
-        Object merge() {
+        Object doMerge() {
             if (isNull) {
                 return null;
             }
@@ -943,7 +1083,7 @@ static XmlUnderConstruction fromInitialValue(Object value) {
         }
 
         @Override
-        Object merge() {
+        Object doMerge() {
             if (isNull) {
                 return null;
             }
@@ -967,9 +1107,19 @@ static class ExtendedStringFragment extends Fragment {
         ExtendedStringFragment(String data) {
             this.data = data;
         }
+
+        @Override
+        long size() {
+            return data == null ? 0 : data.length() * 2L;
+        }
     }
 
     static class ExtendedStringUnderConstruction extends AbstractUnderConstruction<ExtendedStringFragment> {
+        @Override
+        protected void doSpill(ExtendedStringFragment fragment) {
+            spillFile.append(fragment.data);
+        }
+
         static ExtendedStringUnderConstruction fromInitialValue(Object value) {
             if (null == value) {
                 return new ExtendedStringUnderConstruction();
@@ -991,7 +1141,7 @@ static ExtendedStringUnderConstruction fromInitialValue(Object value) {
         }
 
         @Override
-        Object merge() {
+        Object doMerge() {
             if (isNull) {
                 return null;
             }
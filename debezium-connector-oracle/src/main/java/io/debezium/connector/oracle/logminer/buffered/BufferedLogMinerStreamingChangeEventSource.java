@@ -210,6 +210,7 @@ public void close() {
         catch (Exception e) {
             LOGGER.warn("Failed to gracefully shutdown the cache provider", e);
         }
+        super.close();
     }
 
     /**
@@ -265,29 +266,38 @@ private <T extends Transaction> TransactionFactory<T> createTransactionFactory(O
     protected ProcessResult process(Scn sessionStartScn, Scn startScn, Scn endScn) throws SQLException, InterruptedException {
         getBatchMetrics().reset();
 
-        try (PreparedStatement statement = createQueryStatement()) {
-            LOGGER.debug("Fetching results for SCN [{}, {}]", startScn, endScn);
-            statement.setFetchSize(getConfig().getQueryFetchSize());
-            statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+        LOGGER.debug("Fetching results for SCN [{}, {}]", startScn, endScn);
+        if (isMiningRedoThreadsInParallel()) {
+            getMetrics().setLastMiningFetchRange(startScn, endScn);
+            executeAndProcessRedoThreadQueries(queryString, statement -> bindQueryParameters(statement, sessionStartScn, startScn, endScn));
+        }
+        else {
+            try (PreparedStatement statement = createQueryStatement()) {
+                statement.setFetchSize(getConfig().getQueryFetchSize());
+                statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+                bindQueryParameters(statement, sessionStartScn, startScn, endScn);
 
-            if (getConfig().isLogMiningUseCteQuery()) {
-                statement.setString(1, sessionStartScn.toString());
-                statement.setString(2, endScn.toString());
-                statement.setString(3, startScn.toString());
-                statement.setString(4, endScn.toString());
-            }
-            else {
-                statement.setString(1, startScn.toString());
-                statement.setString(2, endScn.toString());
-            }
+                getMetrics().setLastMiningFetchRange(startScn, endScn);
 
-            getMetrics().setLastMiningFetchRange(startScn, endScn);
+                executeAndProcessQuery(statement);
+            }
+        }
 
-            executeAndProcessQuery(statement);
+        logActiveTransactions();
 
-            logActiveTransactions();
+        return calculateNewStartScn(startScn, endScn, getOffsetContext().getCommitScn().getMaxCommittedScn());
+    }
 
-            return calculateNewStartScn(startScn, endScn, getOffsetContext().getCommitScn().getMaxCommittedScn());
+    private void bindQueryParameters(PreparedStatement statement, Scn sessionStartScn, Scn startScn, Scn endScn) throws SQLException {
+        if (getConfig().isLogMiningUseCteQuery()) {
+            statement.setString(1, sessionStartScn.toString());
+            statement.setString(2, endScn.toString());
+            statement.setString(3, startScn.toString());
+            statement.setString(4, endScn.toString());
+        }
+        else {
+            statement.setString(1, startScn.toString());
+            statement.setString(2, endScn.toString());
         }
     }
 
@@ -524,7 +534,7 @@ protected void handleCommitEvent(LogMinerEventRow row) throws InterruptedExcepti
                 // Clear redo SQL
                 getOffsetContext().setRedoSql(null);
             };
-            try (TransactionCommitConsumer commitConsumer = new TransactionCommitConsumer(delegate, getConfig(), getSchema())) {
+            try (TransactionCommitConsumer commitConsumer = new TransactionCommitConsumer(delegate, getConfig(), getSchema(), getMetrics())) {
                 getTransactionCache().forEachEvent(transaction, (event, rolledBack) -> {
                     if (!getContext().isRunning()) {
                         return false;
@@ -733,7 +743,7 @@ private ProcessResult calculateNewStartScn(Scn startScn, Scn endScn, Scn maxComm
             // But always emit a heartbeat event in case the CTE query returned no data.
             getEventDispatcher().dispatchHeartbeatEvent(getPartition(), getOffsetContext());
 
-            return new ProcessResult(getLogMinerContext().getCurrentSessionStartScn(), startScn);
+            return new ProcessResult(getCurrentMiningSessionStartScn(), startScn);
         }
 
         abandonTransactions(getConfig().getLogMiningTransactionRetention());
@@ -0,0 +1,320 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.memory;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import io.debezium.connector.oracle.logminer.buffered.AbstractLogMinerTransactionCache;
+import io.debezium.connector.oracle.logminer.buffered.LogMinerTransactionCache;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.RowIdCodec;
+
+/**
+ * A concrete implementation of the {@link LogMinerTransactionCache} that stores transactions and events
+ * in the JVM heap, using a compact representation of the events of each transaction.
+ *
+ * Unlike {@link MemoryLogMinerTransactionCache}, the events of a transaction are kept in arrays that are
+ * indexed by the position of the event in the transaction, the event identifiers are kept as primitive
+ * values and rolled back events are tracked in a bit set. As the connector assigns event identifiers
+ * sequentially, the identifier of an event is normally its position and no additional lookup structure
+ * is required. All structures of a transaction are keyed by the identifier instance of the transaction,
+ * so each transaction identifier is retained only once.
+ */
+public class CompactMemoryLogMinerTransactionCache extends AbstractLogMinerTransactionCache<MemoryTransaction> {
+
+    private final Map<String, MemoryTransaction> transactionsByTransactionId = new HashMap<>();
+    private final Map<String, TransactionEvents> eventsByTransactionId = new HashMap<>();
+    private int eventCount;
+
+    @Override
+    public MemoryTransaction getTransaction(String transactionId) {
+        return transactionsByTransactionId.get(transactionId);
+    }
+
+    @Override
+    public void addTransaction(MemoryTransaction transaction) {
+        transactionsByTransactionId.put(transaction.getTransactionId(), transaction);
+    }
+
+    @Override
+    public void removeTransaction(MemoryTransaction transaction) {
+        transactionsByTransactionId.remove(transaction.getTransactionId());
+    }
+
+    @Override
+    public boolean containsTransaction(String transactionId) {
+        return transactionsByTransactionId.containsKey(transactionId);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return transactionsByTransactionId.isEmpty();
+    }
+
+    @Override
+    public int getTransactionCount() {
+        return transactionsByTransactionId.size();
+    }
+
+    @Override
+    public <R> R streamTransactionsAndReturn(Function<Stream<MemoryTransaction>, R> consumer) {
+        return consumer.apply(transactionsByTransactionId.values().stream());
+    }
+
+    @Override
+    public void transactions(Consumer<Stream<MemoryTransaction>> consumer) {
+        consumer.accept(transactionsByTransactionId.values().stream());
+    }
+
+    @Override
+    public void eventKeys(Consumer<Stream<String>> consumer) {
+        consumer.accept(eventsByTransactionId.entrySet().stream()
+                .flatMap(entry -> {
+                    final String outerKey = entry.getKey();
+                    final TransactionEvents events = entry.getValue();
+                    return IntStream.range(0, events.size).mapToObj(index -> outerKey + "-" + events.eventIdAt(index));
+                }));
+    }
+
+    @Override
+    public void forEachEvent(MemoryTransaction transaction, LogMinerEventPredicate predicate) throws InterruptedException {
+        final TransactionEvents events = eventsByTransactionId.get(transaction.getTransactionId());
+        if (events != null) {
+            final int size = events.size;
+            for (int index = 0; index < size; index++) {
+                if (!predicate.test(events.events[index], events.isRolledBack(index))) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public LogMinerEvent getTransactionEvent(MemoryTransaction transaction, int eventKey) {
+        final TransactionEvents events = eventsByTransactionId.get(transaction.getTransactionId());
+        if (events != null) {
+            final int index = events.indexOf(eventKey);
+            return index >= 0 ? events.events[index] : null;
+        }
+        return null;
+    }
+
+    @Override
+    public MemoryTransaction getAndRemoveTransaction(String transactionId) {
+        return transactionsByTransactionId.remove(transactionId);
+    }
+
+    @Override
+    public void addTransactionEvent(MemoryTransaction transaction, int eventKey, LogMinerEvent event) {
+        eventsByTransactionId.computeIfAbsent(transaction.getTransactionId(), (id) -> new TransactionEvents())
+                .add(eventKey, event);
+        eventCount++;
+    }
+
+    @Override
+    public void removeTransactionEvents(MemoryTransaction transaction) {
+        final TransactionEvents events = eventsByTransactionId.remove(transaction.getTransactionId());
+        if (events != null) {
+            eventCount -= events.size;
+        }
+    }
+
+    @Override
+    public boolean rollbackTransactionEventWithRowId(MemoryTransaction transaction, String rowId) {
+        final long encodedRowId = RowIdCodec.encode(rowId);
+        final TransactionEvents events = eventsByTransactionId.get(transaction.getTransactionId());
+        if (events != null) {
+            for (int index = events.size - 1; index >= 0; index--) {
+                if (events.events[index].getRowId() == encodedRowId && !events.isRolledBack(index)) {
+                    events.rollback(index);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsTransactionEvent(MemoryTransaction transaction, int eventKey) {
+        final TransactionEvents events = eventsByTransactionId.get(transaction.getTransactionId());
+        if (events != null) {
+            return events.indexOf(eventKey) >= 0;
+        }
+        return false;
+    }
+
+    @Override
+    public int getTransactionEventCount(MemoryTransaction transaction) {
+        final TransactionEvents events = eventsByTransactionId.get(transaction.getTransactionId());
+        if (events != null) {
+            return events.size;
+        }
+        return 0;
+    }
+
+    @Override
+    public int getTransactionEvents() {
+        return eventCount;
+    }
+
+    @Override
+    public void clear() {
+        transactionsByTransactionId.clear();
+        eventsByTransactionId.clear();
+        eventCount = 0;
+    }
+
+    @Override
+    public void syncTransaction(MemoryTransaction transaction) {
+        // Changing the heap instance is sufficient, therefore this is a no-op
+    }
+
+    /**
+     * The events of a single transaction in the order they were added.
+     *
+     * While every event identifier equals the position of the event, the identifiers are not stored
+     * at all. Once an event is added with any other identifier, the identifiers are stored in an array
+     * along with an open addressing index that maps the identifiers to the positions of the events.
+     */
+    static final class TransactionEvents {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private LogMinerEvent[] events = new LogMinerEvent[INITIAL_CAPACITY];
+        private int size;
+        private int[] eventIds;
+        private EventIdIndex index;
+        private BitSet rollbacks;
+
+        void add(int eventId, LogMinerEvent event) {
+            if (size == events.length) {
+                events = Arrays.copyOf(events, grow(size));
+                if (eventIds != null) {
+                    eventIds = Arrays.copyOf(eventIds, events.length);
+                }
+            }
+            if (eventIds == null && eventId != size) {
+                eventIds = new int[events.length];
+                index = new EventIdIndex(events.length);
+                for (int i = 0; i < size; i++) {
+                    eventIds[i] = i;
+                    index.put(i, i);
+                }
+            }
+            if (eventIds != null) {
+                eventIds[size] = eventId;
+                index.put(eventId, size);
+            }
+            events[size++] = event;
+        }
+
+        int indexOf(int eventId) {
+            if (eventIds == null) {
+                return eventId >= 0 && eventId < size ? eventId : -1;
+            }
+            return index.get(eventId);
+        }
+
+        int eventIdAt(int position) {
+            return eventIds == null ? position : eventIds[position];
+        }
+
+        boolean isRolledBack(int position) {
+            if (rollbacks == null) {
+                return false;
+            }
+            if (eventIds == null) {
+                return rollbacks.get(position);
+            }
+            // rollbacks are tracked per event identifier, like the map based cache
+            return rollbacks.get(index.get(eventIds[position]));
+        }
+
+        void rollback(int position) {
+            if (rollbacks == null) {
+                rollbacks = new BitSet();
+            }
+            rollbacks.set(eventIds == null ? position : index.get(eventIds[position]));
+        }
+
+        private static int grow(int capacity) {
+            return capacity + (capacity >> 1);
+        }
+    }
+
+    /**
+     * An open addressing hash index from event identifiers to event positions, using linear probing.
+     * When an identifier is added more than once, the index refers to the last position, like a map would.
+     */
+    static final class EventIdIndex {
+
+        private int[] keys;
+        // the position plus one, so that zero marks an empty slot
+        private int[] values;
+        private int size;
+
+        EventIdIndex(int expectedSize) {
+            final int capacity = Integer.highestOneBit(Math.max(expectedSize, 4) * 2 - 1) << 1;
+            keys = new int[capacity];
+            values = new int[capacity];
+        }
+
+        void put(int key, int position) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                rehash(keys.length << 1);
+            }
+            final int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            while (values[slot] != 0) {
+                if (keys[slot] == key) {
+                    values[slot] = position + 1;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = position + 1;
+            size++;
+        }
+
+        int get(int key) {
+            final int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            while (values[slot] != 0) {
+                if (keys[slot] == key) {
+                    return values[slot] - 1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void rehash(int capacity) {
+            final int[] oldKeys = keys;
+            final int[] oldValues = values;
+            keys = new int[capacity];
+            values = new int[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != 0) {
+                    put(oldKeys[i], oldValues[i] - 1);
+                }
+            }
+        }
+
+        private static int mix(int key) {
+            final int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -23,14 +23,19 @@ public class MemoryCacheProvider extends AbstractCacheProvider<MemoryTransaction
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MemoryCacheProvider.class);
 
-    private final MemoryLogMinerTransactionCache transactionCache;
+    private final LogMinerTransactionCache<MemoryTransaction> transactionCache;
     private final MemoryBasedLogMinerCache<String, String> processedTransactionsCache;
     private final MemoryBasedLogMinerCache<String, String> schemaChangesCache;
 
     public MemoryCacheProvider(OracleConnectorConfig connectorConfig) {
-        LOGGER.info("Using Java heap to buffer transactions");
-
-        this.transactionCache = new MemoryLogMinerTransactionCache();
+        if (connectorConfig.isLogMiningBufferMemoryCompact()) {
+            LOGGER.info("Using Java heap to buffer transactions with compact event storage");
+            this.transactionCache = new CompactMemoryLogMinerTransactionCache();
+        }
+        else {
+            LOGGER.info("Using Java heap to buffer transactions");
+            this.transactionCache = new MemoryLogMinerTransactionCache();
+        }
         this.processedTransactionsCache = new MemoryBasedLogMinerCache<>();
         this.schemaChangesCache = new MemoryBasedLogMinerCache<>();
     }
@@ -80,7 +80,7 @@ public UnbufferedLogMinerStreamingChangeEventSource(OracleConnectorConfig connec
         super(connectorConfig, jdbcConnection, dispatcher, errorHandler, clock, schema, jdbcConfig, metrics);
         this.miningQuery = new UnbufferedLogMinerQueryBuilder(connectorConfig).getQuery();
         this.includeSql = connectorConfig.isLogMiningIncludeRedoSql();
-        this.accumulator = new TransactionCommitConsumer(this::dispatchEvent, connectorConfig, schema);
+        this.accumulator = new TransactionCommitConsumer(this::dispatchEvent, connectorConfig, schema, metrics);
         this.resumePositionProvider = new ResumePositionProvider(connectorConfig, getJdbcConfiguration());
     }
 
@@ -208,6 +208,7 @@ public void close() {
         catch (Exception e) {
             LOGGER.warn("Failed to gracefully shutdown the resume position provider", e);
         }
+        super.close();
     }
 
     @Override
@@ -273,34 +274,51 @@ private PreparedStatement createQueryStatement() throws SQLException {
     private Scn process(Scn minCommitScn, Scn upperBoundsScn) throws SQLException, InterruptedException {
         getBatchMetrics().reset();
 
-        try (PreparedStatement statement = createQueryStatement()) {
-            LOGGER.debug("Fetching results with COMMIT_SCN >= {} and < {}", minCommitScn, upperBoundsScn);
-            statement.setFetchSize(getConfig().getQueryFetchSize());
-            statement.setFetchDirection(ResultSet.FETCH_FORWARD);
-            statement.setString(1, minCommitScn.toString());
-            statement.setString(2, upperBoundsScn.toString());
-
-            if (getConfig().isLogMiningUseCteQuery()) {
-                statement.setString(3, minCommitScn.toString());
-                statement.setString(4, upperBoundsScn.toString());
-            }
-
+        LOGGER.debug("Fetching results with COMMIT_SCN >= {} and < {}", minCommitScn, upperBoundsScn);
+        if (isMiningRedoThreadsInParallel()) {
             lastCommitScn = minCommitScn;
-
             getMetrics().setLastMiningFetchRange(minCommitScn, upperBoundsScn);
+            executeAndProcessRedoThreadQueries(miningQuery, statement -> bindQueryParameters(statement, minCommitScn, upperBoundsScn));
+        }
+        else {
+            try (PreparedStatement statement = createQueryStatement()) {
+                statement.setFetchSize(getConfig().getQueryFetchSize());
+                statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+                bindQueryParameters(statement, minCommitScn, upperBoundsScn);
+
+                lastCommitScn = minCommitScn;
 
-            executeAndProcessQuery(statement);
+                getMetrics().setLastMiningFetchRange(minCommitScn, upperBoundsScn);
 
-            if (!minCommitScn.equals(lastCommitScn)) {
-                LOGGER.debug("Adjusting Min Commit SCN from {} to {}.", minCommitScn, lastCommitScn);
+                executeAndProcessQuery(statement);
             }
+        }
 
-            clearSchemaChangeQueue();
+        if (!minCommitScn.equals(lastCommitScn)) {
+            LOGGER.debug("Adjusting Min Commit SCN from {} to {}.", minCommitScn, lastCommitScn);
+        }
 
-            return lastCommitScn;
+        clearSchemaChangeQueue();
+
+        return lastCommitScn;
+    }
+
+    private void bindQueryParameters(PreparedStatement statement, Scn minCommitScn, Scn upperBoundsScn) throws SQLException {
+        statement.setString(1, minCommitScn.toString());
+        statement.setString(2, upperBoundsScn.toString());
+
+        if (getConfig().isLogMiningUseCteQuery()) {
+            statement.setString(3, minCommitScn.toString());
+            statement.setString(4, upperBoundsScn.toString());
         }
     }
 
+    @Override
+    protected Scn getRedoThreadMergeScn(LogMinerEventRow event) {
+        // Committed data only sessions return the rows of each transaction together in commit order
+        return event.getCommitScn();
+    }
+
     @Override
     protected void processEvent(LogMinerEventRow event) throws SQLException, InterruptedException {
         super.processEvent(event);
@@ -11,20 +11,22 @@
 import java.nio.ByteOrder;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import io.debezium.connector.oracle.OracleConnector;
 import io.debezium.connector.oracle.OracleConnectorConfig;
 import io.debezium.connector.oracle.Scn;
 import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.RedoRequest;
 import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.RedoResponse;
 import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.RequestCode;
 import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.ResponseCode;
+import io.debezium.util.Threads;
 
 /**
  * An OpenLogReplicator network client that communicates using JSON streaming payloads.
@@ -35,13 +37,23 @@ public class OlrNetworkClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OlrNetworkClient.class);
 
-    private final ObjectMapper mapper = new ObjectMapper()
-            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    private static final int INITIAL_MESSAGE_BUFFER_SIZE = 64 * 1024;
+    private static final long READ_AHEAD_POLL_INTERVAL_MS = 100;
+
+    private final StreamingEventDecoder decoder = new StreamingEventDecoder();
+    private final ByteBuffer sizeBuffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
     private final String hostName;
     private final int port;
     private final String sourceName;
+    private final String logicalName;
+    private final int readAheadSize;
 
     private SocketChannel channel;
+    private byte[] messageBuffer = new byte[INITIAL_MESSAGE_BUFFER_SIZE];
+    private ExecutorService readAheadExecutor;
+    private BlockingQueue<StreamingEvent> readAheadEvents;
+    private volatile boolean readAheadRunning;
+    private volatile RuntimeException readAheadFailure;
     private boolean skipToStartScn;
     private Scn startScn;
     private long prevScn;
@@ -55,6 +67,8 @@ public OlrNetworkClient(OracleConnectorConfig connectorConfig) {
         this.hostName = connectorConfig.getOpenLogReplicatorHostname();
         this.port = connectorConfig.getOpenLogReplicatorPort();
         this.sourceName = connectorConfig.getOpenLogReplicatorSource();
+        this.logicalName = connectorConfig.getLogicalName();
+        this.readAheadSize = connectorConfig.getOpenLogReplicatorReadAheadSize();
     }
 
     /**
@@ -73,7 +87,12 @@ public boolean connect(Scn scn, Long index) {
             channel.configureBlocking(true);
             if (channel.connect(new InetSocketAddress(hostName, port))) {
                 this.startScn = scn;
-                return startFrom(scn, index);
+                if (startFrom(scn, index)) {
+                    if (readAheadSize > 0) {
+                        startReadAhead();
+                    }
+                    return true;
+                }
             }
             return false;
         }
@@ -86,6 +105,7 @@ public boolean connect(Scn scn, Long index) {
      * Disconnect from the OpenLogReplicator network service.
      */
     public void disconnect() {
+        readAheadRunning = false;
         try {
             if (channel.isOpen()) {
                 try {
@@ -106,6 +126,11 @@ public void disconnect() {
         catch (IOException e) {
             throw new OlrNetworkClientException("Failed to disconnect client.", e);
         }
+        finally {
+            if (readAheadExecutor != null) {
+                readAheadExecutor.shutdownNow();
+            }
+        }
     }
 
     /**
@@ -161,15 +186,75 @@ private StreamingEvent readNextEventWithStartScnSkip() {
     }
 
     private StreamingEvent readNextEvent() {
-        final String data = new String(read().array(), StandardCharsets.UTF_8);
+        if (readAheadEvents != null) {
+            return takeReadAheadEvent();
+        }
+        return readAndDecodeEvent();
+    }
+
+    private StreamingEvent readAndDecodeEvent() {
+        final int length = readMessage();
         try {
-            return mapper.readValue(data, StreamingEvent.class);
+            return decoder.decode(messageBuffer, 0, length);
         }
-        catch (JsonProcessingException e) {
+        catch (IOException e) {
+            final String data = new String(messageBuffer, 0, length, StandardCharsets.UTF_8);
             throw new OlrNetworkClientException("Failed to deserialize network packet: " + data, e);
         }
     }
 
+    private void startReadAhead() {
+        LOGGER.info("Reading up to {} messages ahead from OpenLogReplicator.", readAheadSize);
+        readAheadEvents = new ArrayBlockingQueue<>(readAheadSize);
+        readAheadRunning = true;
+        readAheadExecutor = Threads.newSingleThreadExecutor(OracleConnector.class, logicalName, "olr-read-ahead");
+        readAheadExecutor.submit(() -> {
+            try {
+                while (readAheadRunning) {
+                    final StreamingEvent event = readAndDecodeEvent();
+                    while (!readAheadEvents.offer(event, READ_AHEAD_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                        if (!readAheadRunning) {
+                            return;
+                        }
+                    }
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            catch (RuntimeException e) {
+                if (readAheadRunning) {
+                    readAheadFailure = e;
+                }
+            }
+            finally {
+                readAheadRunning = false;
+            }
+        });
+    }
+
+    private StreamingEvent takeReadAheadEvent() {
+        try {
+            while (true) {
+                final StreamingEvent event = readAheadEvents.poll(READ_AHEAD_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    return event;
+                }
+                if (!readAheadRunning && readAheadEvents.isEmpty()) {
+                    final RuntimeException failure = readAheadFailure;
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    throw new OlrNetworkClientException("Connection lost");
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OlrNetworkClientException("Interrupted while reading the next event", e);
+        }
+    }
+
     private void confirm(long newScn, Long index) {
         if (prevScn != 0 && prevScn < newScn && index != null) {
             LOGGER.debug("Confirming SCN {} with index {}", newScn, index);
@@ -231,6 +316,18 @@ private RedoResponse readResponse() {
         }
     }
 
+    private int readMessage() {
+        sizeBuffer.clear();
+        fillBuffer(sizeBuffer);
+
+        final int messageSize = sizeBuffer.getInt();
+        if (messageSize > messageBuffer.length) {
+            messageBuffer = new byte[Math.max(messageSize, messageBuffer.length * 2)];
+        }
+        fillBuffer(ByteBuffer.wrap(messageBuffer, 0, messageSize));
+        return messageSize;
+    }
+
     private ByteBuffer read() {
         // Read the packet size
         final ByteBuffer sizeBuffer = ByteBuffer.allocate(4);
@@ -72,6 +72,34 @@ public List<PayloadEvent> getPayload() {
         return payload;
     }
 
+    public void setScn(Scn scn) {
+        this.scn = scn;
+    }
+
+    public void setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public void setXid(String xid) {
+        this.xid = xid;
+    }
+
+    public void setDatabaseName(String databaseName) {
+        this.databaseName = databaseName;
+    }
+
+    public void setCheckpointScn(Scn checkpointScn) {
+        this.checkpointScn = checkpointScn;
+    }
+
+    public void setCheckpointIndex(Long checkpointIndex) {
+        this.checkpointIndex = checkpointIndex;
+    }
+
+    public void setPayload(List<PayloadEvent> payload) {
+        this.payload = payload;
+    }
+
     @Override
     public String toString() {
         return "StreamingEvent{" +
@@ -0,0 +1,322 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.olr.client;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.olr.client.payloads.AbstractMutationEvent;
+import io.debezium.connector.oracle.olr.client.payloads.AbstractPayloadEvent;
+import io.debezium.connector.oracle.olr.client.payloads.BeginEvent;
+import io.debezium.connector.oracle.olr.client.payloads.CheckpointEvent;
+import io.debezium.connector.oracle.olr.client.payloads.CommitEvent;
+import io.debezium.connector.oracle.olr.client.payloads.DeleteEvent;
+import io.debezium.connector.oracle.olr.client.payloads.InsertEvent;
+import io.debezium.connector.oracle.olr.client.payloads.PayloadSchema;
+import io.debezium.connector.oracle.olr.client.payloads.SchemaChangeEvent;
+import io.debezium.connector.oracle.olr.client.payloads.SchemaColumn;
+import io.debezium.connector.oracle.olr.client.payloads.UpdateEvent;
+import io.debezium.connector.oracle.olr.client.payloads.Values;
+
+/**
+ * Decodes the JSON streaming payloads of OpenLogReplicator into {@link StreamingEvent} instances.
+ *
+ * The decoder reads the payload with Jackson's streaming {@link JsonParser} directly from the bytes
+ * received from the network, without first converting the payload to a string or binding it through
+ * an object mapper. Floating point column values are decoded as {@link java.math.BigDecimal}.
+ *
+ * Instances are not thread-safe.
+ */
+public class StreamingEventDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // Payload fields are collected here first, as the operation may follow the other fields
+    private final PayloadFields fields = new PayloadFields();
+
+    /**
+     * Decodes a streaming event.
+     *
+     * @param data the buffer that contains the payload, should not be {@code null}
+     * @param offset the offset of the payload in the buffer
+     * @param length the length of the payload
+     * @return the streaming event, never {@code null}
+     * @throws IOException if the payload cannot be decoded
+     */
+    public StreamingEvent decode(byte[] data, int offset, int length) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(data, offset, length)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            final StreamingEvent event = new StreamingEvent();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.currentName();
+                parser.nextToken();
+                switch (name) {
+                    case "scn" -> event.setScn(readScn(parser));
+                    case "tm" -> event.setTimestamp(readTimestamp(parser));
+                    case "xid" -> event.setXid(readString(parser));
+                    case "db" -> event.setDatabaseName(readString(parser));
+                    case "c_scn" -> event.setCheckpointScn(readScn(parser));
+                    case "c_idx" -> event.setCheckpointIndex(readLong(parser));
+                    case "payload" -> event.setPayload(readPayloads(parser));
+                    default -> parser.skipChildren();
+                }
+            }
+            return event;
+        }
+    }
+
+    private List<PayloadEvent> readPayloads(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        final List<PayloadEvent> payloads = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            payloads.add(readPayload(parser));
+        }
+        return payloads;
+    }
+
+    private PayloadEvent readPayload(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        fields.clear();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "op" -> fields.op = readString(parser);
+                case "num" -> fields.num = readInteger(parser);
+                case "rid" -> fields.rid = readString(parser);
+                case "schema" -> fields.schema = readSchema(parser);
+                case "before" -> fields.before = readValues(parser);
+                case "after" -> fields.after = readValues(parser);
+                case "sql" -> fields.sql = readString(parser);
+                case "seq" -> fields.sequence = readLong(parser);
+                case "offset" -> fields.offset = readLong(parser);
+                case "redo" -> fields.redo = parser.getValueAsBoolean();
+                default -> parser.skipChildren();
+            }
+        }
+        return fields.toPayloadEvent(parser);
+    }
+
+    private PayloadSchema readSchema(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        final PayloadSchema schema = new PayloadSchema();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "owner" -> schema.setOwner(readString(parser));
+                case "table" -> schema.setTable(readString(parser));
+                case "obj" -> schema.setObjectId(readLong(parser));
+                case "columns" -> schema.setColumns(readColumns(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return schema;
+    }
+
+    private List<SchemaColumn> readColumns(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        final List<SchemaColumn> columns = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+            final SchemaColumn column = new SchemaColumn();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.currentName();
+                parser.nextToken();
+                switch (name) {
+                    case "name" -> column.setName(readString(parser));
+                    case "type" -> column.setType(readString(parser));
+                    case "precision" -> column.setPrecision(readInteger(parser));
+                    case "scale" -> column.setScale(readInteger(parser));
+                    case "length" -> column.setLength(readInteger(parser));
+                    case "nullable" -> column.setNullable(parser.getValueAsBoolean());
+                    default -> parser.skipChildren();
+                }
+            }
+            columns.add(column);
+        }
+        return columns;
+    }
+
+    private Values readValues(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        final Values values = new Values();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            values.addProperty(name, readValue(parser));
+        }
+        return values;
+    }
+
+    private Object readValue(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            case START_OBJECT -> {
+                final Map<String, Object> map = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String name = parser.currentName();
+                    parser.nextToken();
+                    map.put(name, readValue(parser));
+                }
+                yield map;
+            }
+            case START_ARRAY -> {
+                final List<Object> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readValue(parser));
+                }
+                yield list;
+            }
+            default -> throw new JsonParseException(parser, "Unexpected token " + parser.currentToken());
+        };
+    }
+
+    private static Scn readScn(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        final String scn = parser.getText();
+        try {
+            return Scn.valueOf(scn);
+        }
+        catch (Exception e) {
+            throw new IOException("Failed to deserialize SCN: " + scn);
+        }
+    }
+
+    private static Instant readTimestamp(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        final String timestamp = parser.getText();
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(timestamp));
+        }
+        catch (NumberFormatException e) {
+            throw new IOException("Failed to deserialize timestamp as instant: " + timestamp);
+        }
+    }
+
+    private static String readString(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    private static Long readLong(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getLongValue();
+            default -> Long.valueOf(parser.getText().trim());
+        };
+    }
+
+    private static Integer readInteger(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getIntValue();
+            default -> Integer.valueOf(parser.getText().trim());
+        };
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * The fields of a payload event, reused for every payload that is decoded.
+     */
+    private static final class PayloadFields {
+        private String op;
+        private Integer num;
+        private String rid;
+        private PayloadSchema schema;
+        private Values before;
+        private Values after;
+        private String sql;
+        private Long sequence;
+        private Long offset;
+        private boolean redo;
+
+        void clear() {
+            op = null;
+            num = null;
+            rid = null;
+            schema = null;
+            before = null;
+            after = null;
+            sql = null;
+            sequence = null;
+            offset = null;
+            redo = false;
+        }
+
+        PayloadEvent toPayloadEvent(JsonParser parser) throws IOException {
+            if (op == null) {
+                throw new JsonParseException(parser, "Payload event has no operation");
+            }
+            final AbstractPayloadEvent event = switch (op) {
+                case "begin" -> new BeginEvent();
+                case "commit" -> new CommitEvent();
+                case "c" -> mutation(new InsertEvent());
+                case "u" -> mutation(new UpdateEvent());
+                case "d" -> mutation(new DeleteEvent());
+                case "ddl" -> {
+                    final SchemaChangeEvent schemaChange = new SchemaChangeEvent();
+                    schemaChange.setSchema(schema);
+                    schemaChange.setSql(sql);
+                    yield schemaChange;
+                }
+                case "chkpt" -> {
+                    final CheckpointEvent checkpoint = new CheckpointEvent();
+                    checkpoint.setSequence(sequence);
+                    checkpoint.setOffset(offset);
+                    checkpoint.setRedo(redo);
+                    yield checkpoint;
+                }
+                default -> throw new JsonParseException(parser, "Unknown payload event operation: " + op);
+            };
+            event.setNum(num);
+            event.setRid(rid);
+            return event;
+        }
+
+        private AbstractMutationEvent mutation(AbstractMutationEvent event) {
+            event.setSchema(schema);
+            event.setBefore(before);
+            event.setAfter(after);
+            return event;
+        }
+    }
+}
@@ -36,6 +36,18 @@ public Values getAfter() {
         return after;
     }
 
+    public void setSchema(PayloadSchema schema) {
+        this.schema = schema;
+    }
+
+    public void setBefore(Values before) {
+        this.before = before;
+    }
+
+    public void setAfter(Values after) {
+        this.after = after;
+    }
+
     @Override
     public String toString() {
         return "AbstractMutationEvent{" +
@@ -37,6 +37,14 @@ public String getRid() {
         return rid;
     }
 
+    public void setNum(Integer num) {
+        this.num = num;
+    }
+
+    public void setRid(String rid) {
+        this.rid = rid;
+    }
+
     @Override
     public String toString() {
         return "AbstractPayloadEvent{" +
@@ -35,6 +35,18 @@ public boolean isRedo() {
         return redo;
     }
 
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public void setOffset(Long offset) {
+        this.offset = offset;
+    }
+
+    public void setRedo(boolean redo) {
+        this.redo = redo;
+    }
+
     @Override
     public String toString() {
         return "CheckpointPayloadEvent{" +
@@ -43,6 +43,22 @@ public List<SchemaColumn> getColumns() {
         return columns;
     }
 
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public void setTable(String table) {
+        this.table = table;
+    }
+
+    public void setObjectId(Long objectId) {
+        this.objectId = objectId;
+    }
+
+    public void setColumns(List<SchemaColumn> columns) {
+        this.columns = columns;
+    }
+
     // todo: currently OpenLogReplicator does not expose the pluggable or root database name, pass configured value
     public TableId getTableId(String catalogName) {
         if (tableId == null) {
@@ -30,6 +30,14 @@ public String getSql() {
         return sql;
     }
 
+    public void setSchema(PayloadSchema schema) {
+        this.schema = schema;
+    }
+
+    public void setSql(String sql) {
+        this.sql = sql;
+    }
+
     @Override
     public String toString() {
         return "SchemaChangeEvent{" +
@@ -43,6 +43,30 @@ public boolean isNullable() {
         return nullable;
     }
 
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public void setPrecision(Integer precision) {
+        this.precision = precision;
+    }
+
+    public void setScale(Integer scale) {
+        this.scale = scale;
+    }
+
+    public void setLength(Integer length) {
+        this.length = length;
+    }
+
+    public void setNullable(boolean nullable) {
+        this.nullable = nullable;
+    }
+
     @Override
     public String toString() {
         return "SchemaColumn{" +
@@ -0,0 +1,102 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.debezium.connector.oracle.OracleRowIdRangeChunkBuilder.Extent;
+import io.debezium.pipeline.source.snapshot.chunked.SnapshotChunk;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+/**
+ * Unit tests for {@link OracleRowIdRangeChunkBuilder} and {@link OracleSnapshotChunkQueryBuilder}.
+ */
+public class OracleRowIdRangeChunkBuilderTest {
+
+    private static final String SELECT = "SELECT \"ID\", \"DATA\" FROM \"DEBEZIUM\".\"T\" AS OF SCN 12345";
+
+    @Test
+    void shouldSplitExtentsIntoRangesOfSimilarBlockCount() {
+        final List<Extent> extents = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            extents.add(new Extent("R" + i, 8));
+        }
+
+        assertThat(OracleRowIdRangeChunkBuilder.calculateBoundaries(extents, 4)).containsExactly("R4", "R8", "R12");
+        assertThat(OracleRowIdRangeChunkBuilder.calculateBoundaries(extents, 3)).containsExactly("R5", "R11");
+    }
+
+    @Test
+    void shouldNotSplitExtentsAcrossRanges() {
+        final List<Extent> extents = List.of(new Extent("R0", 8), new Extent("R1", 1024), new Extent("R2", 8), new Extent("R3", 8));
+
+        // Extents are never split, so the large extent forms a range of its own
+        assertThat(OracleRowIdRangeChunkBuilder.calculateBoundaries(extents, 4)).containsExactly("R1", "R2", "R3");
+        assertThat(OracleRowIdRangeChunkBuilder.calculateBoundaries(extents, 2)).containsExactly("R1");
+    }
+
+    @Test
+    void shouldNotSplitTableWithSingleExtent() {
+        assertThat(OracleRowIdRangeChunkBuilder.calculateBoundaries(List.of(new Extent("R0", 8)), 4)).isEmpty();
+        assertThat(OracleRowIdRangeChunkBuilder.calculateBoundaries(List.of(), 4)).isEmpty();
+        assertThat(OracleRowIdRangeChunkBuilder.calculateBoundaries(List.of(new Extent("R0", 8), new Extent("R1", 8)), 1)).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateHalfOpenChunksWithUnboundedEnds() throws Exception {
+        final OracleConnection connection = Mockito.mock(OracleConnection.class);
+        Mockito.doReturn(List.of(new Extent("R0", 8), new Extent("R1", 8), new Extent("R2", 8)))
+                .when(connection).prepareQueryAndMap(Mockito.anyString(), Mockito.any(), Mockito.any());
+
+        final List<SnapshotChunk> chunks = new OracleRowIdRangeChunkBuilder(connection)
+                .createChunks(table(), 3, 1, 1, SELECT, OptionalLong.of(100));
+
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks.get(0).hasLowerBound()).isFalse();
+        assertThat(chunks.get(0).getUpperBounds()).containsExactly("R1");
+        assertThat(chunks.get(1).getLowerBounds()).containsExactly("R1");
+        assertThat(chunks.get(1).getUpperBounds()).containsExactly("R2");
+        assertThat(chunks.get(2).getLowerBounds()).containsExactly("R2");
+        assertThat(chunks.get(2).hasUpperBound()).isFalse();
+        assertThat(chunks.get(2).isLastChunk()).isTrue();
+    }
+
+    @Test
+    void shouldBuildRowIdRangeQuery() {
+        final Table table = table();
+        final OracleSnapshotChunkQueryBuilder builder = new OracleSnapshotChunkQueryBuilder(Mockito.mock(OracleConnection.class));
+
+        final SnapshotChunk first = new SnapshotChunk(table.id(), table, null, new Object[]{ "R1" }, 0, 3, 1, 1, SELECT, OptionalLong.empty());
+        final SnapshotChunk middle = new SnapshotChunk(table.id(), table, new Object[]{ "R1" }, new Object[]{ "R2" }, 1, 3, 1, 1, SELECT,
+                OptionalLong.empty());
+        final SnapshotChunk last = new SnapshotChunk(table.id(), table, new Object[]{ "R2" }, null, 2, 3, 1, 1, SELECT, OptionalLong.empty());
+        final SnapshotChunk single = new SnapshotChunk(table.id(), table, null, null, 0, 1, 1, 1, SELECT, OptionalLong.empty());
+
+        assertThat(builder.buildChunkQuery(first, List.of(), SELECT)).isEqualTo(SELECT + " WHERE ROWID < CHARTOROWID(?)");
+        assertThat(builder.buildChunkQuery(middle, List.of(), SELECT))
+                .isEqualTo(SELECT + " WHERE ROWID >= CHARTOROWID(?) AND ROWID < CHARTOROWID(?)");
+        assertThat(builder.buildChunkQuery(last, List.of(), SELECT)).isEqualTo(SELECT + " WHERE ROWID >= CHARTOROWID(?)");
+        assertThat(builder.buildChunkQuery(single, List.of(), SELECT)).isEqualTo(SELECT);
+    }
+
+    private static Table table() {
+        return Table.editor()
+                .tableId(TableId.parse("ORCLPDB1.DEBEZIUM.T"))
+                .addColumn(Column.editor().name("ID").create())
+                .addColumn(Column.editor().name("DATA").create())
+                .create();
+    }
+}
@@ -5,11 +5,16 @@
  */
 package io.debezium.connector.oracle.logminer;
 
+import static io.debezium.connector.oracle.logminer.TransactionCommitConsumer.ExtendedStringFragment;
+import static io.debezium.connector.oracle.logminer.TransactionCommitConsumer.ExtendedStringUnderConstruction;
 import static io.debezium.connector.oracle.logminer.TransactionCommitConsumer.LobFragment;
 import static io.debezium.connector.oracle.logminer.TransactionCommitConsumer.LobUnderConstruction;
+import static io.debezium.connector.oracle.logminer.TransactionCommitConsumer.XmlFragment;
+import static io.debezium.connector.oracle.logminer.TransactionCommitConsumer.XmlUnderConstruction;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
@@ -249,4 +254,68 @@ void shouldHandleNonLinearInsertionOrderWithOverwritesForClob() {
         }
         assertThat(lob.merge()).isEqualTo(contents);
     }
+
+    @Test
+    void shouldReassembleSpilledClobLikeInMemory() {
+        final String contents = randomString(1024);
+        final LobUnderConstruction inMemory = LobUnderConstruction.fromInitialValue(null);
+        final LobUnderConstruction spilled = LobUnderConstruction.fromInitialValue(null);
+        spilled.spillSettings = new TransactionCommitConsumer.SpillSettings(100, null, null);
+
+        // a gap, appends, and writes that overwrite data that is already spilled
+        for (LobUnderConstruction lob : List.of(inMemory, spilled)) {
+            for (int offset : new int[]{ 32, 48, 64, 512, 528, 0, 40, 1008, 520 }) {
+                final LobFragment frag = new LobFragment(contents.substring(offset, offset + 16));
+                frag.offset = offset;
+                lob.add(frag);
+            }
+        }
+
+        assertThat(spilled.spillFile).isNotNull();
+        assertThat(spilled.fragments).isEmpty();
+        assertThat(spilled.end).isEqualTo(inMemory.end);
+        assertThat(spilled.merge()).isEqualTo(inMemory.merge());
+        assertThat(spilled.spillFile).isNull();
+    }
+
+    @Test
+    void shouldReassembleSpilledBlobLikeInMemory() {
+        final byte[] contents = new byte[1024];
+        new Random().nextBytes(contents);
+        final LobUnderConstruction inMemory = LobUnderConstruction.fromInitialValue("EMPTY_BLOB()");
+        final LobUnderConstruction spilled = LobUnderConstruction.fromInitialValue("EMPTY_BLOB()");
+        spilled.spillSettings = new TransactionCommitConsumer.SpillSettings(100, null, null);
+
+        for (LobUnderConstruction lob : List.of(inMemory, spilled)) {
+            for (int offset : new int[]{ 16, 256, 272, 0, 8, 1008, 264 }) {
+                final LobFragment frag = new LobFragment(encodeBytes(contents, offset, 16));
+                frag.offset = offset;
+                lob.add(frag);
+            }
+        }
+
+        assertThat(spilled.spillFile).isNotNull();
+        assertThat((byte[]) spilled.merge()).isEqualTo((byte[]) inMemory.merge());
+    }
+
+    @Test
+    void shouldReassembleSpilledXmlAndExtendedStrings() {
+        final XmlUnderConstruction xml = XmlUnderConstruction.fromInitialValue("<a>");
+        xml.spillSettings = new TransactionCommitConsumer.SpillSettings(10, null, null);
+        final ExtendedStringUnderConstruction extendedString = ExtendedStringUnderConstruction.fromInitialValue("abc");
+        extendedString.spillSettings = new TransactionCommitConsumer.SpillSettings(10, null, null);
+
+        final StringBuilder expected = new StringBuilder("abc");
+        for (int i = 0; i < 10; i++) {
+            xml.add(new XmlFragment("<b>" + i + "</b>"));
+            extendedString.add(new ExtendedStringFragment("value" + i));
+            expected.append("value").append(i);
+        }
+        xml.add(new XmlFragment("</a>"));
+
+        assertThat(xml.spillFile).isNotNull();
+        assertThat(extendedString.spillFile).isNotNull();
+        assertThat(xml.merge()).isEqualTo("<a><b>0</b><b>1</b><b>2</b><b>3</b><b>4</b><b>5</b><b>6</b><b>7</b><b>8</b><b>9</b></a>");
+        assertThat(extendedString.merge()).isEqualTo(expected.toString());
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+
+/**
+ * Unit tests for {@link LogMinerEventRowPrefetcher}.
+ */
+public class LogMinerEventRowPrefetcherTest {
+
+    private ExecutorService executor;
+    private LogMinerStreamingChangeEventSourceMetrics metrics;
+
+    @BeforeEach
+    void beforeEach() {
+        executor = Executors.newSingleThreadExecutor();
+        metrics = mock(LogMinerStreamingChangeEventSourceMetrics.class);
+    }
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnRowsInOrder() throws Exception {
+        final List<LogMinerEventRow> rows = createRows(50);
+        final Iterator<LogMinerEventRow> iterator = rows.iterator();
+
+        final List<LogMinerEventRow> received = new ArrayList<>();
+        try (LogMinerEventRowPrefetcher prefetcher = new LogMinerEventRowPrefetcher(executor, 4,
+                () -> iterator.hasNext() ? iterator.next() : null, () -> true, metrics)) {
+            LogMinerEventRow row;
+            while ((row = prefetcher.next()) != null) {
+                received.add(row);
+            }
+        }
+
+        assertThat(received).containsExactlyElementsOf(rows);
+        verify(metrics).setPrefetchBufferOccupancy(0);
+        verify(metrics).setLastPrefetchOverlapDuration(any(Duration.class));
+    }
+
+    @Test
+    void shouldRethrowReaderFailureAfterReadRows() throws Exception {
+        final List<LogMinerEventRow> rows = createRows(2);
+        final AtomicInteger index = new AtomicInteger();
+
+        try (LogMinerEventRowPrefetcher prefetcher = new LogMinerEventRowPrefetcher(executor, 4, () -> {
+            if (index.get() < rows.size()) {
+                return rows.get(index.getAndIncrement());
+            }
+            throw new SQLException("Read failed");
+        }, () -> true, metrics)) {
+            assertThat(prefetcher.next()).isSameAs(rows.get(0));
+            assertThat(prefetcher.next()).isSameAs(rows.get(1));
+            assertThatThrownBy(prefetcher::next).isInstanceOf(SQLException.class).hasMessage("Read failed");
+        }
+    }
+
+    @Test
+    void shouldStopReaderWhenClosedWithBufferFull() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+
+        final LogMinerEventRowPrefetcher prefetcher = new LogMinerEventRowPrefetcher(executor, 2, () -> {
+            reads.incrementAndGet();
+            return mock(LogMinerEventRow.class);
+        }, () -> true, metrics);
+        assertThat(prefetcher.next()).isNotNull();
+        prefetcher.close();
+
+        // the reader has stopped, so no further rows are read
+        final int readsAfterClose = reads.get();
+        Thread.sleep(200);
+        assertThat(reads.get()).isEqualTo(readsAfterClose);
+    }
+
+    @Test
+    void shouldStopReadingWhenNotRunning() throws Exception {
+        try (LogMinerEventRowPrefetcher prefetcher = new LogMinerEventRowPrefetcher(executor, 2,
+                () -> mock(LogMinerEventRow.class), () -> false, metrics)) {
+            assertThat(prefetcher.next()).isNull();
+        }
+    }
+
+    private static List<LogMinerEventRow> createRows(int count) {
+        final List<LogMinerEventRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(mock(LogMinerEventRow.class));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.LogMinerEventRowPrefetcher.RowReader;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+
+/**
+ * Unit tests for {@link RedoThreadEventRowMerger}.
+ */
+public class RedoThreadEventRowMergerTest {
+
+    private ExecutorService executor;
+    private LogMinerStreamingChangeEventSourceMetrics metrics;
+
+    @BeforeEach
+    void beforeEach() {
+        executor = Executors.newCachedThreadPool();
+        metrics = mock(LogMinerStreamingChangeEventSourceMetrics.class);
+    }
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldMergeRowsOfAllRedoThreadsBySystemChangeNumber() throws Exception {
+        final List<RowReader> readers = List.of(
+                reader(rows(1, 1, 4, 7, 7, 10)),
+                reader(rows(2, 3, 7, 8)),
+                reader(rows()),
+                reader(rows(5, 6, 11, 12)));
+
+        final List<String> merged = merge(readers, 2);
+        assertThat(merged).containsExactly("1", "1", "2", "3", "4", "5", "6", "7", "7", "7", "8", "10", "11", "12");
+    }
+
+    @Test
+    void shouldReturnRowsOfFirstRedoThreadFirstWhenSystemChangeNumbersAreEqual() throws Exception {
+        final List<LogMinerEventRow> first = rows(5, 5);
+        final List<LogMinerEventRow> second = rows(5, 5);
+
+        try (RedoThreadEventRowMerger merger = new RedoThreadEventRowMerger(executor, 1,
+                List.of(reader(first), reader(second)), LogMinerEventRow::getScn, () -> true, metrics)) {
+            assertThat(merger.next()).isSameAs(first.get(0));
+            assertThat(merger.next()).isSameAs(first.get(1));
+            assertThat(merger.next()).isSameAs(second.get(0));
+            assertThat(merger.next()).isSameAs(second.get(1));
+            assertThat(merger.next()).isNull();
+        }
+    }
+
+    @Test
+    void shouldPropagateReaderFailure() throws Exception {
+        final RowReader failing = () -> {
+            throw new SQLException("ORA-00600");
+        };
+
+        try (RedoThreadEventRowMerger merger = new RedoThreadEventRowMerger(executor, 4,
+                List.of(reader(rows(1, 2)), failing), LogMinerEventRow::getScn, () -> true, metrics)) {
+            assertThatThrownBy(merger::next).isInstanceOf(SQLException.class).hasMessage("ORA-00600");
+        }
+    }
+
+    private List<String> merge(List<RowReader> readers, int capacity) throws Exception {
+        final List<String> results = new ArrayList<>();
+        try (RedoThreadEventRowMerger merger = new RedoThreadEventRowMerger(executor, capacity, readers,
+                LogMinerEventRow::getScn, () -> true, metrics)) {
+            LogMinerEventRow row;
+            while ((row = merger.next()) != null) {
+                results.add(row.getScn().toString());
+            }
+        }
+        return results;
+    }
+
+    private static RowReader reader(List<LogMinerEventRow> rows) {
+        final Iterator<LogMinerEventRow> iterator = rows.iterator();
+        return () -> iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private static List<LogMinerEventRow> rows(long... scns) {
+        final List<LogMinerEventRow> rows = new ArrayList<>(scns.length);
+        for (long scn : scns) {
+            final LogMinerEventRow row = mock(LogMinerEventRow.class);
+            when(row.getScn()).thenReturn(Scn.valueOf(scn));
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.buffered.LogMinerTransactionCache;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.RowIdCodec;
+import io.debezium.relational.TableId;
+
+/**
+ * Verifies that {@link CompactMemoryLogMinerTransactionCache} behaves like {@link MemoryLogMinerTransactionCache}.
+ */
+public class CompactMemoryLogMinerTransactionCacheTest {
+
+    private static final TableId TABLE_ID = TableId.parse("ORCLPDB1.DEBEZIUM.TEST");
+
+    @Test
+    void shouldBehaveLikeMapBasedCacheForSequentialEventIds() throws Exception {
+        final LogMinerTransactionCache<MemoryTransaction> expected = new MemoryLogMinerTransactionCache();
+        final LogMinerTransactionCache<MemoryTransaction> actual = new CompactMemoryLogMinerTransactionCache();
+
+        for (LogMinerTransactionCache<MemoryTransaction> cache : List.of(expected, actual)) {
+            final MemoryTransaction first = transaction("1");
+            final MemoryTransaction second = transaction("2");
+            cache.addTransaction(first);
+            cache.addTransaction(second);
+            for (int i = 0; i < 100; i++) {
+                cache.addTransactionEvent(first, first.getNextEventId(), event(i % 10));
+            }
+            for (int i = 0; i < 5; i++) {
+                cache.addTransactionEvent(second, second.getNextEventId(), event(i));
+            }
+            cache.rollbackTransactionEventWithRowId(first, RowIdCodec.decode(3));
+            cache.rollbackTransactionEventWithRowId(first, RowIdCodec.decode(3));
+            cache.rollbackTransactionEventWithRowId(second, RowIdCodec.decode(4));
+        }
+
+        assertSameState(expected, actual, "1", "2");
+        assertThat(actual.rollbackTransactionEventWithRowId(actual.getTransaction("2"), RowIdCodec.decode(4)))
+                .isEqualTo(expected.rollbackTransactionEventWithRowId(expected.getTransaction("2"), RowIdCodec.decode(4)))
+                .isFalse();
+    }
+
+    @Test
+    void shouldBehaveLikeMapBasedCacheForSparseEventIds() throws Exception {
+        final LogMinerTransactionCache<MemoryTransaction> expected = new MemoryLogMinerTransactionCache();
+        final LogMinerTransactionCache<MemoryTransaction> actual = new CompactMemoryLogMinerTransactionCache();
+
+        for (LogMinerTransactionCache<MemoryTransaction> cache : List.of(expected, actual)) {
+            final MemoryTransaction transaction = transaction("1");
+            cache.addTransaction(transaction);
+            cache.addTransactionEvent(transaction, 0, event(0));
+            cache.addTransactionEvent(transaction, 1, event(1));
+            for (int i = 0; i < 50; i++) {
+                cache.addTransactionEvent(transaction, 1000 - i * 7, event(i));
+            }
+            cache.rollbackTransactionEventWithRowId(transaction, RowIdCodec.decode(1));
+        }
+
+        assertSameState(expected, actual, "1");
+        assertThat(actual.containsTransactionEvent(actual.getTransaction("1"), 2)).isFalse();
+        assertThat(actual.getTransactionEvent(actual.getTransaction("1"), 1000 - 49 * 7)).isNotNull();
+    }
+
+    @Test
+    void shouldRemoveTransactionEvents() {
+        final CompactMemoryLogMinerTransactionCache cache = new CompactMemoryLogMinerTransactionCache();
+        final MemoryTransaction first = transaction("1");
+        final MemoryTransaction second = transaction("2");
+        cache.addTransaction(first);
+        cache.addTransaction(second);
+        cache.addTransactionEvent(first, first.getNextEventId(), event(1));
+        cache.addTransactionEvent(second, second.getNextEventId(), event(2));
+        cache.addTransactionEvent(second, second.getNextEventId(), event(3));
+        assertThat(cache.getTransactionEvents()).isEqualTo(3);
+
+        cache.removeTransactionEvents(second);
+        assertThat(cache.getTransactionEvents()).isEqualTo(1);
+        assertThat(cache.getTransactionEventCount(second)).isZero();
+        assertThat(cache.containsTransaction("2")).isTrue();
+
+        cache.clear();
+        assertThat(cache.getTransactionEvents()).isZero();
+        assertThat(cache.isEmpty()).isTrue();
+    }
+
+    private static void assertSameState(LogMinerTransactionCache<MemoryTransaction> expected,
+                                        LogMinerTransactionCache<MemoryTransaction> actual,
+                                        String... transactionIds)
+            throws InterruptedException {
+        assertThat(actual.getTransactionCount()).isEqualTo(expected.getTransactionCount());
+        assertThat(actual.getTransactionEvents()).isEqualTo(expected.getTransactionEvents());
+        assertThat(eventKeys(actual)).isEqualTo(eventKeys(expected));
+
+        for (String transactionId : transactionIds) {
+            final MemoryTransaction expectedTransaction = expected.getTransaction(transactionId);
+            final MemoryTransaction actualTransaction = actual.getTransaction(transactionId);
+            assertThat(actual.getTransactionEventCount(actualTransaction)).isEqualTo(expected.getTransactionEventCount(expectedTransaction));
+            assertThat(iterate(actual, actualTransaction)).isEqualTo(iterate(expected, expectedTransaction));
+            for (int eventId = -1; eventId < 1100; eventId++) {
+                assertThat(actual.containsTransactionEvent(actualTransaction, eventId))
+                        .isEqualTo(expected.containsTransactionEvent(expectedTransaction, eventId));
+                final LogMinerEvent expectedEvent = expected.getTransactionEvent(expectedTransaction, eventId);
+                final LogMinerEvent actualEvent = actual.getTransactionEvent(actualTransaction, eventId);
+                assertThat(actualEvent == null).isEqualTo(expectedEvent == null);
+                if (expectedEvent != null) {
+                    assertThat(actualEvent.getRowId()).isEqualTo(expectedEvent.getRowId());
+                }
+            }
+        }
+    }
+
+    private static List<String> iterate(LogMinerTransactionCache<MemoryTransaction> cache, MemoryTransaction transaction)
+            throws InterruptedException {
+        final List<String> results = new ArrayList<>();
+        cache.forEachEvent(transaction, (event, rolledBack) -> {
+            results.add(RowIdCodec.decode(event.getRowId()) + ":" + rolledBack);
+            return true;
+        });
+        return results;
+    }
+
+    private static Map<String, Long> eventKeys(LogMinerTransactionCache<MemoryTransaction> cache) {
+        final List<String> keys = new ArrayList<>();
+        cache.eventKeys(stream -> stream.forEach(keys::add));
+        return keys.stream().collect(Collectors.groupingBy(key -> key, Collectors.counting()));
+    }
+
+    private static MemoryTransaction transaction(String transactionId) {
+        return new MemoryTransaction(transactionId, Scn.valueOf(1), Instant.now(), "user", 1, null);
+    }
+
+    private static LogMinerEvent event(int row) {
+        return new LogMinerEvent(EventType.INSERT, Scn.valueOf(row), TABLE_ID, RowIdCodec.decode(row), "rs", Instant.now());
+    }
+}
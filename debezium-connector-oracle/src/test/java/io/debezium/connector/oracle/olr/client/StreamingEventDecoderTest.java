@@ -0,0 +1,99 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.olr.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.olr.client.payloads.CheckpointEvent;
+import io.debezium.connector.oracle.olr.client.payloads.SchemaChangeEvent;
+import io.debezium.connector.oracle.olr.client.payloads.UpdateEvent;
+
+/**
+ * Unit tests for {@link StreamingEventDecoder}.
+ */
+public class StreamingEventDecoderTest {
+
+    private static final String UPDATE = "{\"scn\":\"1234567\",\"tm\":1700000000000,\"c_scn\":1234560,\"c_idx\":3,"
+            + "\"xid\":\"0x0004.01c.00000d2b\",\"db\":\"ORCLPDB1\",\"payload\":[{\"op\":\"u\",\"num\":2,"
+            + "\"schema\":{\"owner\":\"DEBEZIUM\",\"table\":\"CUSTOMERS\",\"obj\":74890,\"columns\":["
+            + "{\"name\":\"ID\",\"type\":\"number\",\"precision\":10,\"scale\":0,\"nullable\":false},"
+            + "{\"name\":\"NAME\",\"type\":\"varchar2\",\"length\":100,\"nullable\":true}]},"
+            + "\"rid\":\"AAASJ6AAMAAAADLAAA\",\"before\":{\"ID\":1,\"NAME\":\"Bob\",\"PRICE\":12.50,\"BIG\":123456789012345678901234567890},"
+            + "\"after\":{\"ID\":1,\"NAME\":null,\"PRICE\":1.0E3,\"BIG\":9}}]}";
+
+    private final StreamingEventDecoder decoder = new StreamingEventDecoder();
+
+    @Test
+    void shouldDecodeLikeObjectMapper() throws IOException {
+        final StreamingEvent expected = new ObjectMapper()
+                .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .readValue(UPDATE, StreamingEvent.class);
+        final StreamingEvent actual = decode(UPDATE);
+
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+        assertThat(actual.getScn()).isEqualTo(Scn.valueOf(1234567));
+        assertThat(actual.getCheckpointIndex()).isEqualTo(3L);
+
+        final UpdateEvent update = (UpdateEvent) actual.getPayload().get(0);
+        assertThat(update.getBefore().getValues()).isEqualTo(((UpdateEvent) expected.getPayload().get(0)).getBefore().getValues());
+        assertThat(update.getBefore().getValues().get("PRICE")).isEqualTo(new BigDecimal("12.50"));
+        assertThat(update.getAfter().getValues()).containsEntry("NAME", null).containsEntry("ID", 1);
+        assertThat(update.getSchema().getColumns()).hasSize(2);
+        assertThat(update.getSchema().getColumns().get(1).isNullable()).isTrue();
+    }
+
+    @Test
+    void shouldDecodePayloadWithOperationAfterOtherFields() throws IOException {
+        final StreamingEvent event = decode("{\"scn\":\"10\",\"tm\":\"1700000000000\",\"payload\":["
+                + "{\"num\":0,\"schema\":{\"owner\":\"DEBEZIUM\",\"table\":\"T\"},\"sql\":\"TRUNCATE TABLE T\",\"op\":\"ddl\"},"
+                + "{\"seq\":12,\"offset\":4096,\"redo\":true,\"op\":\"chkpt\"},"
+                + "{\"op\":\"commit\",\"unknown\":{\"nested\":[1,2]}}]}");
+
+        assertThat(event.getPayload()).hasSize(3);
+        final SchemaChangeEvent ddl = (SchemaChangeEvent) event.getPayload().get(0);
+        assertThat(ddl.getSql()).isEqualTo("TRUNCATE TABLE T");
+        assertThat(ddl.getNum()).isZero();
+        final CheckpointEvent checkpoint = (CheckpointEvent) event.getPayload().get(1);
+        assertThat(checkpoint.getSequence()).isEqualTo(12L);
+        assertThat(checkpoint.getOffset()).isEqualTo(4096L);
+        assertThat(checkpoint.isRedo()).isTrue();
+        assertThat(event.getPayload().get(2).getType()).isEqualTo(PayloadEvent.Type.COMMIT);
+    }
+
+    @Test
+    void shouldDecodeFromBufferOffset() throws IOException {
+        final byte[] payload = "{\"scn\":\"5\",\"payload\":[{\"op\":\"begin\"}]}".getBytes(StandardCharsets.UTF_8);
+        final byte[] buffer = new byte[payload.length + 10];
+        System.arraycopy(payload, 0, buffer, 5, payload.length);
+
+        final StreamingEvent event = decoder.decode(buffer, 5, payload.length);
+        assertThat(event.getScn()).isEqualTo(Scn.valueOf(5));
+        assertThat(event.getPayload().get(0).getType()).isEqualTo(PayloadEvent.Type.BEGIN);
+    }
+
+    @Test
+    void shouldFailOnUnknownOperation() {
+        assertThatThrownBy(() -> decode("{\"scn\":\"5\",\"payload\":[{\"op\":\"x\"}]}"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unknown payload event operation");
+    }
+
+    private StreamingEvent decode(String json) throws IOException {
+        final byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        return decoder.decode(data, 0, data.length);
+    }
+}
@@ -5,11 +5,22 @@
  */
 package io.debezium.connector.sqlserver;
 
+import java.sql.SQLException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
@@ -34,6 +45,7 @@
 import io.debezium.util.Clock;
 import io.debezium.util.LoggingContext;
 import io.debezium.util.Metronome;
+import io.debezium.util.Threads;
 
 /**
  * Coordinates one or more {@link ChangeEventSource}s and executes them in order. Extends the base
@@ -42,10 +54,14 @@
 public class SqlServerChangeEventSourceCoordinator extends ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext> {
     private static final Logger LOGGER = LoggerFactory.getLogger(SqlServerChangeEventSourceCoordinator.class);
 
+    private static final Duration DATABASE_STREAMING_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
     private final Clock clock;
     private final Duration pollInterval;
 
     private final AtomicBoolean firstStreamingIterationCompletedSuccessfully = new AtomicBoolean(false);
+    private final ReadWriteLock pauseLock = new ReentrantReadWriteLock();
+    private volatile List<DatabaseStreamer> databaseStreamers;
 
     public SqlServerChangeEventSourceCoordinator(Offsets<SqlServerPartition, SqlServerOffsetContext> previousOffsets, ErrorHandler errorHandler,
                                                  Class<? extends SourceConnector> connectorType,
@@ -102,10 +118,17 @@ protected void executeChangeEventSources(CdcSourceTaskContext taskContext, Snaps
         getSignalProcessor(previousOffsets).ifPresent(signalProcessor -> registerSignalActionsAndStartProcessor(signalProcessor,
                 eventDispatcher, this, connectorConfig));
 
-        final Metronome metronome = Metronome.sleeper(pollInterval, clock);
-
         LOGGER.info("Starting streaming");
 
+        final int databaseThreads = ((SqlServerConnectorConfig) connectorConfig).getStreamingDatabaseThreads();
+        if (databaseThreads > 0 && streamingOffsets.getOffsets().size() > 1) {
+            streamDatabasesInParallel(taskContext, streamingOffsets, context, databaseThreads);
+            LOGGER.info("Finished streaming");
+            return;
+        }
+
+        final Metronome metronome = Metronome.sleeper(pollInterval, clock);
+
         while (context.isRunning()) {
             boolean streamedEvents = false;
             for (Map.Entry<SqlServerPartition, SqlServerOffsetContext> entry : streamingOffsets) {
@@ -138,4 +161,198 @@ protected void executeChangeEventSources(CdcSourceTaskContext taskContext, Snaps
 
         LOGGER.info("Finished streaming");
     }
+
+    /**
+     * Streams each database with its own streaming source and connections. The iterations of the databases are
+     * executed on a pool of threads, and a database is scheduled again once its iteration completes, immediately
+     * when it streamed events and after the poll interval otherwise. The databases take turns in dispatching
+     * their events by means of a fair lock, so that a busy database cannot starve the others. Once the streaming
+     * of any database fails, the streaming of all databases is stopped.
+     */
+    private void streamDatabasesInParallel(CdcSourceTaskContext taskContext, Offsets<SqlServerPartition, SqlServerOffsetContext> streamingOffsets,
+                                           ChangeEventSourceContext context, int databaseThreads)
+            throws InterruptedException {
+        final SqlServerChangeEventSourceFactory factory = (SqlServerChangeEventSourceFactory) changeEventSourceFactory;
+        final int threads = Math.min(databaseThreads, streamingOffsets.getOffsets().size());
+        LOGGER.info("Streaming {} databases in parallel using {} threads", streamingOffsets.getOffsets().size(), threads);
+
+        final Lock dispatchLock = new ReentrantLock(true);
+        final ScheduledExecutorService databaseExecutor = Executors.newScheduledThreadPool(threads,
+                Threads.threadFactory(SqlServerConnector.class, connectorConfig.getLogicalName(), "database-streaming", true, false));
+        final List<DatabaseStreamer> streamers = new ArrayList<>();
+        try {
+            for (Map.Entry<SqlServerPartition, SqlServerOffsetContext> entry : streamingOffsets) {
+                streamers.add(new DatabaseStreamer(taskContext, context, entry.getKey(), entry.getValue(), factory, dispatchLock, databaseExecutor));
+            }
+            databaseStreamers = streamers;
+            streamers.forEach(streamer -> streamer.schedule(0));
+
+            final Metronome metronome = Metronome.sleeper(pollInterval, clock);
+            while (context.isRunning()) {
+                if (errorHandler.getProducerThrowable() != null) {
+                    LOGGER.error("Stopping the streaming of all databases after a failure");
+                    break;
+                }
+                if (streamers.stream().allMatch(DatabaseStreamer::hasCompletedIteration)) {
+                    firstStreamingIterationCompletedSuccessfully.set(true);
+                }
+
+                if (context.isPaused()) {
+                    // Waits for the running iterations, no new iterations are started until the streaming is resumed
+                    pauseLock.writeLock().lock();
+                    try {
+                        LOGGER.info("Streaming will now pause");
+                        context.streamingPaused();
+                        context.waitSnapshotCompletion();
+                        LOGGER.info("Streaming resumed");
+                    }
+                    finally {
+                        pauseLock.writeLock().unlock();
+                    }
+                }
+
+                metronome.pause();
+            }
+        }
+        finally {
+            databaseStreamers = null;
+            databaseExecutor.shutdownNow();
+            try {
+                if (!databaseExecutor.awaitTermination(DATABASE_STREAMING_SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn("Database streaming threads did not terminate in time.");
+                }
+            }
+            finally {
+                streamers.forEach(DatabaseStreamer::close);
+            }
+        }
+    }
+
+    @Override
+    public void commitOffset(Map<String, ?> partition, Map<String, ?> offset) {
+        final List<DatabaseStreamer> streamers = databaseStreamers;
+        if (streamers == null) {
+            super.commitOffset(partition, offset);
+            return;
+        }
+        try {
+            if (!commitOffsetLock.isLocked() && offset != null) {
+                for (DatabaseStreamer streamer : streamers) {
+                    streamer.commitOffset(partition, offset);
+                }
+            }
+        }
+        catch (Throwable e) {
+            errorHandler.setProducerThrowable(e);
+        }
+    }
+
+    /**
+     * Streams a single database when the databases of the task are streamed in parallel.
+     */
+    private class DatabaseStreamer implements Runnable {
+
+        private final CdcSourceTaskContext taskContext;
+        private final ChangeEventSourceContext context;
+        private final SqlServerPartition partition;
+        private final SqlServerOffsetContext offsetContext;
+        private final ScheduledExecutorService executor;
+        private final SqlServerConnection dataConnection;
+        private final SqlServerConnection metadataConnection;
+        private final SqlServerStreamingChangeEventSource streamingSource;
+        private volatile boolean completedIteration;
+
+        DatabaseStreamer(CdcSourceTaskContext taskContext, ChangeEventSourceContext context, SqlServerPartition partition,
+                         SqlServerOffsetContext offsetContext, SqlServerChangeEventSourceFactory factory, Lock dispatchLock,
+                         ScheduledExecutorService executor) {
+            this.taskContext = taskContext;
+            this.context = context;
+            this.partition = partition;
+            this.offsetContext = offsetContext;
+            this.executor = executor;
+            this.dataConnection = factory.newConnection();
+            try {
+                this.metadataConnection = factory.newConnection();
+            }
+            catch (RuntimeException e) {
+                closeConnection(dataConnection);
+                throw e;
+            }
+            try {
+                this.streamingSource = factory.getDatabaseStreamingChangeEventSource(dataConnection, metadataConnection, dispatchLock);
+                this.streamingSource.init(offsetContext);
+            }
+            catch (RuntimeException e) {
+                closeConnection(dataConnection);
+                closeConnection(metadataConnection);
+                throw e;
+            }
+        }
+
+        @Override
+        public void run() {
+            if (!context.isRunning()) {
+                return;
+            }
+
+            boolean streamedEvents = false;
+            if (!context.isPaused() && pauseLock.readLock().tryLock()) {
+                final LoggingContext.PreviousContext previousLogContext = taskContext.configureLoggingContext("streaming", partition);
+                try {
+                    streamedEvents = streamingSource.executeIteration(context, partition, offsetContext);
+                    completedIteration = true;
+                }
+                catch (Exception e) {
+                    errorHandler.setProducerThrowable(e);
+                }
+                finally {
+                    previousLogContext.restore();
+                    pauseLock.readLock().unlock();
+                }
+            }
+
+            // The streaming source reports most of its failures to the error handler rather than throwing them
+            if (errorHandler.getProducerThrowable() != null) {
+                LOGGER.info("Streaming of {} is not scheduled again after a failure", partition);
+                return;
+            }
+            schedule(streamedEvents ? 0 : pollInterval.toMillis());
+        }
+
+        void schedule(long delayMillis) {
+            if (context.isRunning() && !executor.isShutdown()) {
+                try {
+                    executor.schedule(this, delayMillis, TimeUnit.MILLISECONDS);
+                }
+                catch (RejectedExecutionException e) {
+                    LOGGER.debug("Streaming of {} not scheduled as the streaming is stopping", partition);
+                }
+            }
+        }
+
+        boolean hasCompletedIteration() {
+            return completedIteration;
+        }
+
+        void commitOffset(Map<String, ?> sourcePartition, Map<String, ?> offset) {
+            if (partition.getSourcePartition().equals(sourcePartition)) {
+                streamingSource.commitOffset(sourcePartition, offset);
+            }
+        }
+
+        void close() {
+            streamingSource.close();
+            closeConnection(dataConnection);
+            closeConnection(metadataConnection);
+        }
+
+        private void closeConnection(SqlServerConnection connection) {
+            try {
+                connection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to close the streaming connection of {}", partition, e);
+            }
+        }
+    }
 }
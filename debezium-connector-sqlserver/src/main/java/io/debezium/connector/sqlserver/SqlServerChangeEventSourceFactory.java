@@ -6,6 +6,7 @@
 package io.debezium.connector.sqlserver;
 
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
 
 import io.debezium.jdbc.MainConnectionProvidingConnectionFactory;
 import io.debezium.pipeline.ErrorHandler;
@@ -63,6 +64,7 @@ public StreamingChangeEventSource<SqlServerPartition, SqlServerOffsetContext> ge
                 configuration,
                 connectionFactory.mainConnection(),
                 metadataConnection,
+                connectionFactory,
                 dispatcher,
                 errorHandler,
                 clock,
@@ -71,6 +73,39 @@ public StreamingChangeEventSource<SqlServerPartition, SqlServerOffsetContext> ge
                 snapshotterService);
     }
 
+    /**
+     * Creates a streaming source for a single database that reads the changes on the given connections, used when the
+     * databases of a task are streamed in parallel.
+     *
+     * @param dataConnection the connection used to read the change tables, should not be {@code null}
+     * @param metadataConnection the connection used to read the schema changes, should not be {@code null}
+     * @param dispatchLock the lock shared by the streaming sources of all databases of the task, should not be {@code null}
+     * @return the streaming source, never {@code null}
+     */
+    public SqlServerStreamingChangeEventSource getDatabaseStreamingChangeEventSource(SqlServerConnection dataConnection,
+                                                                                     SqlServerConnection metadataConnection,
+                                                                                     Lock dispatchLock) {
+        return new SqlServerStreamingChangeEventSource(
+                configuration,
+                dataConnection,
+                metadataConnection,
+                connectionFactory,
+                dispatcher,
+                errorHandler,
+                clock,
+                schema,
+                notificationService,
+                snapshotterService,
+                dispatchLock);
+    }
+
+    /**
+     * @return a new connection to the database, never {@code null}
+     */
+    public SqlServerConnection newConnection() {
+        return connectionFactory.newConnection();
+    }
+
     @Override
     public Optional<IncrementalSnapshotChangeEventSource<SqlServerPartition, ? extends DataCollectionId>> getIncrementalSnapshotChangeEventSource(
                                                                                                                                                   SqlServerOffsetContext offsetContext,
@@ -9,6 +9,7 @@
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -94,6 +95,17 @@ protected boolean isNewTransaction() throws SQLException {
                 getChangePosition().getCommitLsn().compareTo(getPreviousChangePosition().getCommitLsn()) > 0;
     }
 
+    /**
+     * Get the commit time of the transaction of the current change.
+     *
+     * @return the commit time, never {@code null}
+     * @throws SQLException if the value cannot be read
+     */
+    public Instant getCommitTime() throws SQLException {
+        final ResultSet resultSet = getResultSet();
+        return resultSet.getTimestamp(resultSet.getMetaData().getColumnCount()).toInstant();
+    }
+
     @Override
     protected ResultSet getNextResultSet(TxLogPosition lastPositionSeen) throws SQLException {
         if (lastPositionSeen == null || lastPositionSeen.equals(TxLogPosition.NULL)) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.jdbc.ConnectionFactory;
+import io.debezium.util.Threads;
+
+/**
+ * Reads the change tables of a streaming iteration concurrently on a small pool of connections.
+ *
+ * Each change table is read page by page into a bounded buffer of a {@link SqlServerPrefetchingChangeTablePointer},
+ * from which the streaming loop merges the changes. A page is only requested when the buffer has room for it,
+ * and a connection is only held while a page is read, so tables that are consumed slowly never block the
+ * prefetching of the other tables.
+ *
+ * @see SqlServerConnectorConfig#STREAMING_PREFETCH_CONNECTIONS
+ */
+public class SqlServerChangeTablePrefetcher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlServerChangeTablePrefetcher.class);
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final ConnectionFactory<SqlServerConnection> connectionFactory;
+    private final ExecutorService executor;
+    private final ConcurrentLinkedQueue<SqlServerConnection> idleConnections = new ConcurrentLinkedQueue<>();
+    private final List<SqlServerConnection> connections = new ArrayList<>();
+    private final int pageSize;
+    private final int bufferSize;
+    private volatile boolean closed;
+
+    public SqlServerChangeTablePrefetcher(SqlServerConnectorConfig connectorConfig, ConnectionFactory<SqlServerConnection> connectionFactory) {
+        this.connectionFactory = connectionFactory;
+        this.executor = Threads.newFixedThreadPool(SqlServerConnector.class, connectorConfig.getLogicalName(), "change-table-prefetch",
+                connectorConfig.getStreamingPrefetchConnections());
+        this.bufferSize = connectorConfig.getStreamingPrefetchBufferSize();
+        this.pageSize = connectorConfig.getStreamingFetchSize() > 0 ? connectorConfig.getStreamingFetchSize() : Math.max(1, bufferSize / 2);
+    }
+
+    /**
+     * Creates a pointer over the changes of a table and starts prefetching its first page.
+     *
+     * @param changeTable the change table to read, should not be {@code null}
+     * @param fromLsn the first LSN of the iteration
+     * @param toLsn the last LSN of the iteration
+     * @return the pointer, never {@code null}
+     */
+    public SqlServerPrefetchingChangeTablePointer createPointer(SqlServerChangeTable changeTable, Lsn fromLsn, Lsn toLsn) {
+        final SqlServerPrefetchingChangeTablePointer pointer = new SqlServerPrefetchingChangeTablePointer(this, changeTable, fromLsn, toLsn,
+                pageSize, Math.max(bufferSize, pageSize));
+        pointer.requestPage();
+        return pointer;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void submit(SqlServerPrefetchingChangeTablePointer pointer) {
+        executor.execute(() -> {
+            final SqlServerConnection connection = borrowConnection();
+            try {
+                pointer.fetchPage(connection);
+            }
+            finally {
+                idleConnections.offer(connection);
+            }
+        });
+    }
+
+    private SqlServerConnection borrowConnection() {
+        final SqlServerConnection connection = idleConnections.poll();
+        if (connection != null) {
+            return connection;
+        }
+        // Connections are only borrowed by the pool threads, so at most one connection per thread is created
+        final SqlServerConnection newConnection = connectionFactory.newConnection();
+        synchronized (connections) {
+            connections.add(newConnection);
+        }
+        return newConnection;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warn("Change table prefetch threads did not terminate in time.");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (connections) {
+            for (SqlServerConnection connection : connections) {
+                try {
+                    connection.close();
+                }
+                catch (SQLException e) {
+                    LOGGER.warn("Failed to close change table prefetch connection", e);
+                }
+            }
+            connections.clear();
+        }
+        idleConnections.clear();
+    }
+}
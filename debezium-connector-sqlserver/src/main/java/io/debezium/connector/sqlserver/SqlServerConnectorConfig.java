@@ -492,6 +492,37 @@ public static DataQueryMode parse(String value, String defaultValue) {
             .withDescription("Specifies the maximum number of rows that should be read in one go from each table while streaming. "
                     + "The connector will read the table contents in multiple batches of this size. Defaults to 0 which means no limit.");
 
+    public static final Field STREAMING_PREFETCH_CONNECTIONS = Field.create("streaming.prefetch.connections")
+            .withDisplayName("Streaming prefetch connections")
+            .withDefault(0)
+            .withType(Type.INT)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("Specifies the number of additional database connections used to read the change tables concurrently while streaming. "
+                    + "When greater than 0, the changes of each table are prefetched into a bounded buffer so that the round trips for "
+                    + "different tables overlap. Defaults to 0 which means that all change tables are read by the streaming connection.");
+
+    public static final Field STREAMING_PREFETCH_BUFFER_SIZE = Field.create("streaming.prefetch.buffer.size")
+            .withDisplayName("Streaming prefetch buffer size")
+            .withDefault(1000)
+            .withType(Type.INT)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("Specifies the maximum number of rows that are prefetched for each change table when '"
+                    + STREAMING_PREFETCH_CONNECTIONS.name() + "' is greater than 0. The rows are read in batches of '"
+                    + STREAMING_FETCH_SIZE.name() + "' rows, or of half of this size when no fetch size is set.");
+
+    public static final Field STREAMING_DATABASE_THREADS = Field.create("streaming.database.threads")
+            .withDisplayName("Streaming database threads")
+            .withDefault(0)
+            .withType(Type.INT)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("Specifies the number of threads used to stream the databases of a task in parallel, when the task captures "
+                    + "more than one database. Each database is then streamed with its own database connections, and the databases "
+                    + "take turns when emitting their changes. Defaults to 0 which means that the databases are streamed one after "
+                    + "another by a single thread.");
+
     private static final ConfigDefinition CONFIG_DEFINITION = HistorizedRelationalDatabaseConnectorConfig.CONFIG_DEFINITION.edit()
             .name("SQL Server")
             .type(
@@ -513,7 +544,10 @@ public static DataQueryMode parse(String value, String defaultValue) {
                     INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES,
                     QUERY_FETCH_SIZE,
                     DATA_QUERY_MODE,
-                    STREAMING_FETCH_SIZE)
+                    STREAMING_FETCH_SIZE,
+                    STREAMING_PREFETCH_CONNECTIONS,
+                    STREAMING_PREFETCH_BUFFER_SIZE,
+                    STREAMING_DATABASE_THREADS)
             .events(SOURCE_INFO_STRUCT_MAKER)
             .excluding(
                     SCHEMA_INCLUDE_LIST,
@@ -542,6 +576,9 @@ public static ConfigDef configDef() {
     private final int queryFetchSize;
     private final DataQueryMode dataQueryMode;
     private final int streamingFetchSize;
+    private final int streamingPrefetchConnections;
+    private final int streamingPrefetchBufferSize;
+    private final int streamingDatabaseThreads;
 
     public SqlServerConnectorConfig(Configuration config) {
         super(
@@ -592,6 +629,9 @@ public SqlServerConnectorConfig(Configuration config) {
         this.dataQueryMode = DataQueryMode.parse(config.getString(DATA_QUERY_MODE), DATA_QUERY_MODE.defaultValueAsString());
         this.snapshotLockingMode = SnapshotLockingMode.parse(config.getString(SNAPSHOT_LOCKING_MODE), SNAPSHOT_LOCKING_MODE.defaultValueAsString());
         this.streamingFetchSize = config.getInteger(STREAMING_FETCH_SIZE);
+        this.streamingPrefetchConnections = config.getInteger(STREAMING_PREFETCH_CONNECTIONS);
+        this.streamingPrefetchBufferSize = config.getInteger(STREAMING_PREFETCH_BUFFER_SIZE);
+        this.streamingDatabaseThreads = config.getInteger(STREAMING_DATABASE_THREADS);
     }
 
     public List<String> getDatabaseNames() {
@@ -749,4 +789,16 @@ private static int validateDatabaseNames(Configuration config, Field field, Fiel
     public int getStreamingFetchSize() {
         return streamingFetchSize;
     }
+
+    public int getStreamingPrefetchConnections() {
+        return streamingPrefetchConnections;
+    }
+
+    public int getStreamingPrefetchBufferSize() {
+        return streamingPrefetchBufferSize;
+    }
+
+    public int getStreamingDatabaseThreads() {
+        return streamingDatabaseThreads;
+    }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+
+/**
+ * A {@link SqlServerChangeTablePointer} whose changes are read ahead by a {@link SqlServerChangeTablePrefetcher}.
+ *
+ * The changes are read in pages of at most {@code pageSize} rows on one of the prefetcher's connections and kept
+ * in a buffer of at most {@code capacity} rows. The next page is requested whenever the buffer has room for it,
+ * so that reading the table overlaps with processing the changes of this and other tables.
+ */
+public class SqlServerPrefetchingChangeTablePointer extends SqlServerChangeTablePointer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlServerPrefetchingChangeTablePointer.class);
+
+    private static final long AWAIT_INTERVAL_MILLIS = 100;
+
+    private record Change(TxLogPosition position, int operation, Object[] data, Instant commitTime) {
+    }
+
+    private final SqlServerChangeTablePrefetcher prefetcher;
+    private final Lsn fromLsn;
+    private final Lsn toLsn;
+    private final int pageSize;
+    private final int capacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pageFetched = lock.newCondition();
+    private final Deque<Change> buffer = new ArrayDeque<>();
+    private TxLogPosition lastFetchedPosition;
+    private boolean fetching;
+    private boolean exhausted;
+    private boolean closed;
+    private SQLException failure;
+
+    private Change current;
+    private TxLogPosition currentPosition;
+    private TxLogPosition previousPosition;
+    private boolean completed;
+
+    SqlServerPrefetchingChangeTablePointer(SqlServerChangeTablePrefetcher prefetcher, SqlServerChangeTable changeTable, Lsn fromLsn, Lsn toLsn,
+                                           int pageSize, int capacity) {
+        // The rows are never read through the base class, only by the page readers
+        super(changeTable, null, fromLsn, toLsn, pageSize);
+        this.prefetcher = prefetcher;
+        this.fromLsn = fromLsn;
+        this.toLsn = toLsn;
+        this.pageSize = pageSize;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        lock.lock();
+        try {
+            while (buffer.isEmpty() && !exhausted) {
+                if (failure != null) {
+                    throw failure;
+                }
+                if (prefetcher.isClosed()) {
+                    throw new DebeziumException("The change table prefetcher was closed while reading " + getChangeTable());
+                }
+                if (!fetching) {
+                    requestPage();
+                }
+                pageFetched.await(AWAIT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+
+            previousPosition = currentPosition;
+            current = buffer.poll();
+            if (current == null) {
+                completed = true;
+                currentPosition = TxLogPosition.NULL;
+                return false;
+            }
+            currentPosition = current.position();
+            if (!fetching && !exhausted && buffer.size() + pageSize <= capacity) {
+                requestPage();
+            }
+            return true;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DebeziumException("Interrupted while waiting for the changes of " + getChangeTable(), e);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Submits the read of the next page, must be called with the lock held or before the pointer is shared.
+     */
+    void requestPage() {
+        fetching = true;
+        try {
+            prefetcher.submit(this);
+        }
+        catch (RejectedExecutionException e) {
+            fetching = false;
+            failure = new SQLException("Failed to submit the read of the changes of " + getChangeTable(), e);
+        }
+    }
+
+    /**
+     * Reads the next page of changes on the given connection, called by the prefetcher's threads.
+     */
+    void fetchPage(SqlServerConnection connection) {
+        final TxLogPosition startPosition;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            startPosition = lastFetchedPosition;
+        }
+        finally {
+            lock.unlock();
+        }
+
+        final List<Change> changes = new ArrayList<>(pageSize);
+        SQLException error = null;
+        final PageReader reader = new PageReader(getChangeTable(), connection, fromLsn, toLsn, pageSize, startPosition);
+        try {
+            while (changes.size() < pageSize && reader.next()) {
+                changes.add(new Change(reader.getChangePosition(), reader.getOperation(), reader.getData(), reader.getCommitTime()));
+            }
+            // Do not keep a transaction open between the pages, like the streaming connection at the end of an iteration
+            connection.rollback();
+        }
+        catch (SQLException e) {
+            error = e;
+        }
+        catch (Exception e) {
+            error = new SQLException("Failed to read the changes of " + getChangeTable(), e);
+        }
+        finally {
+            reader.close();
+        }
+
+        lock.lock();
+        try {
+            fetching = false;
+            if (closed) {
+                return;
+            }
+            if (error != null) {
+                failure = error;
+            }
+            else {
+                LOGGER.trace("Prefetched {} changes of {}", changes.size(), getChangeTable());
+                buffer.addAll(changes);
+                exhausted = changes.size() < pageSize;
+                if (!changes.isEmpty()) {
+                    lastFetchedPosition = changes.get(changes.size() - 1).position();
+                }
+                if (!exhausted && buffer.size() + pageSize <= capacity) {
+                    requestPage();
+                }
+            }
+            pageFetched.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public TxLogPosition getChangePosition() {
+        return currentPosition;
+    }
+
+    @Override
+    protected TxLogPosition getPreviousChangePosition() {
+        return previousPosition;
+    }
+
+    @Override
+    public boolean isCurrentPositionSmallerThanPreviousPosition() {
+        return previousPosition != null && previousPosition.compareTo(currentPosition) > 0;
+    }
+
+    @Override
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    @Override
+    public int getOperation() {
+        return current.operation();
+    }
+
+    @Override
+    public Object[] getData() {
+        return current.data();
+    }
+
+    @Override
+    public Instant getCommitTime() {
+        return current.commitTime();
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            buffer.clear();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SqlServerPrefetchingChangeTablePointer{" +
+                "changeTable=" + getChangeTable() +
+                ", completed=" + completed +
+                ", currentChangePosition=" + currentPosition +
+                '}';
+    }
+
+    /**
+     * Reads a single page of changes of a table, starting after the last change of the previous page.
+     */
+    private static class PageReader extends SqlServerChangeTablePointer {
+
+        private final TxLogPosition startPosition;
+
+        PageReader(SqlServerChangeTable changeTable, SqlServerConnection connection, Lsn fromLsn, Lsn toLsn, int pageSize,
+                   TxLogPosition startPosition) {
+            super(changeTable, connection, fromLsn, toLsn, pageSize);
+            this.startPosition = startPosition;
+        }
+
+        @Override
+        protected ResultSet getNextResultSet(TxLogPosition lastPositionSeen) throws SQLException {
+            return super.getNextResultSet(lastPositionSeen != null ? lastPositionSeen : startPosition);
+        }
+    }
+}
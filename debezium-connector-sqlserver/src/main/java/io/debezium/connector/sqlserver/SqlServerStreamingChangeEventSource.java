@@ -5,7 +5,6 @@
  */
 package io.debezium.connector.sqlserver;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
@@ -24,6 +23,8 @@
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -31,10 +32,12 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.jdbc.ConnectionFactory;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.Notification;
 import io.debezium.pipeline.notification.NotificationService;
+import io.debezium.pipeline.source.spi.ChangeTableMergeQueue;
 import io.debezium.pipeline.source.spi.ChangeTableResultSet;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
 import io.debezium.relational.ChangeTable;
@@ -53,9 +56,10 @@
  * source table and write changes from the table into the change table.</p>
  *
  * <p>The main loop keeps a pointer to the LSN of changes that were already processed. It queries all change
- * tables and get result set of changes. It always finds the smallest LSN across all tables and the change
- * is converted into the event message and sent downstream. The process repeats until all result sets are
- * empty. The LSN is marked and the procedure repeats.</p>
+ * tables and get result set of changes. It always finds the smallest LSN across all tables, using a heap of
+ * the result sets ordered by their current position, and the change is converted into the event message and
+ * sent downstream. The process repeats until all result sets are empty. The LSN is marked and the procedure
+ * repeats.</p>
  *
  * <p>The schema changes detection follows the procedure recommended by SQL Server CDC documentation.
  * The database operator should create one more capture process (and table) when a table schema is updated.
@@ -88,6 +92,17 @@ public class SqlServerStreamingChangeEventSource implements StreamingChangeEvent
      */
     private final SqlServerConnection metadataConnection;
 
+    /**
+     * Reads the change tables concurrently on additional connections, {@code null} when disabled.
+     */
+    private final SqlServerChangeTablePrefetcher prefetcher;
+
+    /**
+     * Guards the dispatching of events, which is shared with the streaming sources of the other databases of the task
+     * when they are streamed in parallel.
+     */
+    private final Lock dispatchLock;
+
     private final EventDispatcher<SqlServerPartition, TableId> dispatcher;
     private final ErrorHandler errorHandler;
     private final Clock clock;
@@ -108,14 +123,30 @@ public class SqlServerStreamingChangeEventSource implements StreamingChangeEvent
 
     public SqlServerStreamingChangeEventSource(SqlServerConnectorConfig connectorConfig, SqlServerConnection dataConnection,
                                                SqlServerConnection metadataConnection,
+                                               ConnectionFactory<SqlServerConnection> connectionFactory,
                                                EventDispatcher<SqlServerPartition, TableId> dispatcher,
                                                ErrorHandler errorHandler, Clock clock, SqlServerDatabaseSchema schema,
                                                NotificationService<SqlServerPartition, SqlServerOffsetContext> notificationService,
                                                SnapshotterService snapshotterService) {
+        this(connectorConfig, dataConnection, metadataConnection, connectionFactory, dispatcher, errorHandler, clock, schema, notificationService,
+                snapshotterService, new ReentrantLock());
+    }
+
+    public SqlServerStreamingChangeEventSource(SqlServerConnectorConfig connectorConfig, SqlServerConnection dataConnection,
+                                               SqlServerConnection metadataConnection,
+                                               ConnectionFactory<SqlServerConnection> connectionFactory,
+                                               EventDispatcher<SqlServerPartition, TableId> dispatcher,
+                                               ErrorHandler errorHandler, Clock clock, SqlServerDatabaseSchema schema,
+                                               NotificationService<SqlServerPartition, SqlServerOffsetContext> notificationService,
+                                               SnapshotterService snapshotterService, Lock dispatchLock) {
         this.connectorConfig = connectorConfig;
         this.dataConnection = dataConnection;
         this.metadataConnection = metadataConnection;
+        this.prefetcher = connectorConfig.getStreamingPrefetchConnections() > 0
+                ? new SqlServerChangeTablePrefetcher(connectorConfig, connectionFactory)
+                : null;
         this.dispatcher = dispatcher;
+        this.dispatchLock = dispatchLock;
         this.errorHandler = errorHandler;
         this.clock = clock;
         this.schema = schema;
@@ -210,7 +241,7 @@ else if (!checkAgent) {
                 // There is no change in the database
                 if (toLsn.compareTo(lastProcessedPosition.getCommitLsn()) <= 0 && streamingExecutionContext.getShouldIncreaseFromLsn()) {
                     LOGGER.debug("No change in the database");
-                    dispatcher.dispatchHeartbeatEvent(partition, offsetContext);
+                    dispatch(() -> dispatcher.dispatchHeartbeatEvent(partition, offsetContext));
                     return false;
                 }
 
@@ -247,22 +278,20 @@ else if (!checkAgent) {
                     changeTables = new SqlServerChangeTablePointer[tables.length];
 
                     for (int i = 0; i < tables.length; i++) {
-                        changeTables[i] = new SqlServerChangeTablePointer(tables[i], dataConnection, fromLsn, toLsn, connectorConfig.getStreamingFetchSize());
-                        changeTables[i].next();
+                        changeTables[i] = prefetcher != null
+                                ? prefetcher.createPointer(tables[i], fromLsn, toLsn)
+                                : new SqlServerChangeTablePointer(tables[i], dataConnection, fromLsn, toLsn, connectorConfig.getStreamingFetchSize());
+                    }
+                    // All pointers are created first so that the first pages of all tables are prefetched concurrently
+                    for (SqlServerChangeTablePointer changeTable : changeTables) {
+                        changeTable.next();
                     }
 
+                    final ChangeTableMergeQueue<SqlServerChangeTablePointer, TxLogPosition> changeTableQueue = new ChangeTableMergeQueue<>(changeTables);
                     boolean anyData = false;
                     resetEndTransactionTimer();
                     for (;;) {
-                        SqlServerChangeTablePointer tableWithSmallestLsn = null;
-                        for (SqlServerChangeTablePointer changeTable : changeTables) {
-                            if (changeTable.isCompleted()) {
-                                continue;
-                            }
-                            if (tableWithSmallestLsn == null || changeTable.compareTo(tableWithSmallestLsn) < 0) {
-                                tableWithSmallestLsn = changeTable;
-                            }
-                        }
+                        final SqlServerChangeTablePointer tableWithSmallestLsn = changeTableQueue.next();
                         if (tableWithSmallestLsn == null) {
                             // No more LSNs available
                             break;
@@ -334,13 +363,12 @@ else if (!checkAgent) {
                         }
                         final Object[] dataNext = (operation == SqlServerChangeRecordEmitter.OP_UPDATE_BEFORE) ? tableWithSmallestLsn.getData() : null;
 
-                        final ResultSet resultSet = tableWithSmallestLsn.getResultSet();
                         offsetContext.setChangePosition(tableWithSmallestLsn.getChangePosition(), eventCount);
                         offsetContext.event(
                                 tableWithSmallestLsn.getChangeTable().getSourceTableId(),
-                                resultSet.getTimestamp(resultSet.getMetaData().getColumnCount()).toInstant());
+                                tableWithSmallestLsn.getCommitTime());
 
-                        dispatcher
+                        dispatch(() -> dispatcher
                                 .dispatchDataChangeEvent(
                                         partition,
                                         tableId,
@@ -351,7 +379,7 @@ else if (!checkAgent) {
                                                 data,
                                                 dataNext,
                                                 clock,
-                                                connectorConfig));
+                                                connectorConfig)));
                         tableWithSmallestLsn.next();
                     }
                     streamingExecutionContext.setLastProcessedPosition(TxLogPosition.valueOf(toLsn));
@@ -359,7 +387,7 @@ else if (!checkAgent) {
                     dataConnection.rollback();
                     if (!anyData) {
                         offsetContext.setChangePosition(TxLogPosition.valueOf(toLsn), 0);
-                        dispatcher.dispatchHeartbeatEvent(partition, offsetContext);
+                        dispatch(() -> dispatcher.dispatchHeartbeatEvent(partition, offsetContext));
                     }
                 }
                 catch (SQLException e) {
@@ -382,6 +410,13 @@ public SqlServerOffsetContext getOffsetContext() {
         return effectiveOffset;
     }
 
+    @Override
+    public void close() {
+        if (prefetcher != null) {
+            prefetcher.close();
+        }
+    }
+
     private void collectChangeTablesWithKnownStopLsn(SqlServerPartition partition, SqlServerChangeTable[] tables) {
         for (SqlServerChangeTable table : tables) {
             if (table.getStopLsn().isAvailable()) {
@@ -414,9 +449,9 @@ private void migrateTable(SqlServerPartition partition, final Queue<SqlServerCha
             LOGGER.info("Migration skipped, no table schema changes detected.");
             return;
         }
-        dispatcher.dispatchSchemaChangeEvent(partition, offsetContext, newTable.getSourceTableId(),
+        dispatch(() -> dispatcher.dispatchSchemaChangeEvent(partition, offsetContext, newTable.getSourceTableId(),
                 new SqlServerSchemaChangeEventEmitter(partition, offsetContext, newTable, tableSchema, schema,
-                        SchemaChangeEventType.ALTER));
+                        SchemaChangeEventType.ALTER)));
         newTable.setSourceTable(tableSchema);
     }
 
@@ -484,17 +519,19 @@ private SqlServerChangeTable[] getChangeTablesToQuery(SqlServerPartition partiti
                 offsetContext.event(
                         currentTable.getSourceTableId(),
                         Instant.now());
-                dispatcher.dispatchSchemaChangeEvent(
+                final SqlServerChangeTable newTable = currentTable;
+                final Table tableSchema = dataConnection.getTableSchemaFromTable(databaseName, newTable);
+                dispatch(() -> dispatcher.dispatchSchemaChangeEvent(
                         partition,
                         offsetContext,
-                        currentTable.getSourceTableId(),
+                        newTable.getSourceTableId(),
                         new SqlServerSchemaChangeEventEmitter(
                                 partition,
                                 offsetContext,
-                                currentTable,
-                                dataConnection.getTableSchemaFromTable(databaseName, currentTable),
+                                newTable,
+                                tableSchema,
                                 schema,
-                                SchemaChangeEventType.CREATE));
+                                SchemaChangeEventType.CREATE)));
             }
 
             // If a column was renamed, then the old capture instance had been dropped and a new one
@@ -572,6 +609,21 @@ public void commitOffset(Map<String, ?> sourcePartition, Map<String, ?> offset)
         }
     }
 
+    private void dispatch(Dispatch dispatch) throws InterruptedException {
+        dispatchLock.lock();
+        try {
+            dispatch.run();
+        }
+        finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Dispatch {
+        void run() throws InterruptedException;
+    }
+
     private void resetEndTransactionTimer() {
         // sys.dm_cdc_log_scan_sessions returns no records if the queried database is in the secondary role of an Always On availability group
         if (!connectorConfig.isReadOnlyDatabaseConnection()) {
@@ -582,7 +634,7 @@ private void resetEndTransactionTimer() {
     private void endTransaction(SqlServerPartition partition, Instant sourceTime) {
         if (endTransactionTimer != null && endTransactionTimer.hasElapsed() && metadataConnection.didTransactionEnd()) {
             try {
-                dispatcher.dispatchTransactionCommittedEvent(partition, getOffsetContext(), sourceTime);
+                dispatch(() -> dispatcher.dispatchTransactionCommittedEvent(partition, getOffsetContext(), sourceTime));
             }
             catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -153,6 +153,21 @@ void createAndDeleteWithDataQueryModeDirectWithFetchThreshold() throws Exception
                 .with(SqlServerConnectorConfig.STREAMING_FETCH_SIZE, 3));
     }
 
+    @Test
+    void createAndDeleteWithPrefetchWithoutFetchThreshold() throws Exception {
+        createAndDelete(builder -> builder
+                .with(SqlServerConnectorConfig.STREAMING_PREFETCH_CONNECTIONS, 2)
+                .with(SqlServerConnectorConfig.STREAMING_FETCH_SIZE, 0));
+    }
+
+    @Test
+    void createAndDeleteWithPrefetchWithFetchThreshold() throws Exception {
+        createAndDelete(builder -> builder
+                .with(SqlServerConnectorConfig.STREAMING_PREFETCH_CONNECTIONS, 2)
+                .with(SqlServerConnectorConfig.STREAMING_PREFETCH_BUFFER_SIZE, 4)
+                .with(SqlServerConnectorConfig.STREAMING_FETCH_SIZE, 3));
+    }
+
     private void createAndDelete(UnaryOperator<Configuration.Builder> configAugmenter) throws Exception {
         final int RECORDS_PER_TABLE = 5;
         final int TABLES = 2;
@@ -9,9 +9,12 @@
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +22,7 @@
 import io.debezium.config.Configuration;
 import io.debezium.connector.sqlserver.util.TestHelper;
 import io.debezium.embedded.async.AbstractAsyncEngineConnectorTest;
+import io.debezium.junit.logging.LogInterceptor;
 import io.debezium.relational.TableId;
 import io.debezium.util.Testing;
 
@@ -74,10 +78,56 @@ void after() throws SQLException {
 
     @Test
     void snapshotAndStreaming() throws Exception {
+        snapshotAndStreaming(UnaryOperator.identity());
+    }
+
+    @Test
+    void snapshotAndStreamingDatabasesInParallel() throws Exception {
+        snapshotAndStreaming(builder -> builder.with(SqlServerConnectorConfig.STREAMING_DATABASE_THREADS, 2));
+    }
+
+    @Test
+    void streamingDatabasesInParallelStopsWhenDatabaseFails() throws Exception {
+        final TableId db2TableD = new TableId(TestHelper.TEST_DATABASE_2, "dbo", "tableD");
+        connection.execute(
+                "CREATE TABLE %s (id int primary key, colD BIGINT NOT NULL)"
+                        .formatted(connection.quotedTableIdString(db2TableD)));
+        TestHelper.enableTableCdc(connection, db2TableD);
+
         final Configuration config = TestHelper.defaultConfig(
                 TestHelper.TEST_DATABASE_1,
                 TestHelper.TEST_DATABASE_2)
                 .with(SqlServerConnectorConfig.SNAPSHOT_MODE, SqlServerConnectorConfig.SnapshotMode.INITIAL)
+                .with(SqlServerConnectorConfig.STREAMING_DATABASE_THREADS, 2)
+                .build();
+        final LogInterceptor logInterceptor = new LogInterceptor(SqlServerChangeEventSourceCoordinator.class);
+
+        start(SqlServerConnector.class, config);
+        assertConnectorIsRunning();
+
+        TestHelper.waitForDatabaseSnapshotsToBeCompleted(TestHelper.TEST_DATABASE_1, TestHelper.TEST_DATABASE_2);
+        consumeRecordsByTopic(4);
+        TestHelper.waitForStreamingStarted();
+
+        // Will allow insertion of strings into what was originally a BIGINT NOT NULL column
+        // This will cause NumberFormatExceptions which return nulls and thus an error due to the column being NOT NULL
+        connection.execute(
+                "USE " + TestHelper.TEST_DATABASE_2,
+                "ALTER TABLE dbo.tableD ALTER COLUMN colD varchar(30)",
+                "INSERT INTO tableD VALUES(1, 'd')");
+
+        Awaitility.await()
+                .alias("Streaming of all databases stopped")
+                .atMost(TestHelper.waitTimeForLogEntries(), TimeUnit.SECONDS)
+                .until(() -> logInterceptor.containsErrorMessage("Stopping the streaming of all databases after a failure")
+                        && !isEngineRunning.get());
+    }
+
+    private void snapshotAndStreaming(UnaryOperator<Configuration.Builder> configAugmenter) throws Exception {
+        final Configuration config = configAugmenter.apply(TestHelper.defaultConfig(
+                TestHelper.TEST_DATABASE_1,
+                TestHelper.TEST_DATABASE_2)
+                .with(SqlServerConnectorConfig.SNAPSHOT_MODE, SqlServerConnectorConfig.SnapshotMode.INITIAL))
                 .build();
         start(SqlServerConnector.class, config);
         assertConnectorIsRunning();
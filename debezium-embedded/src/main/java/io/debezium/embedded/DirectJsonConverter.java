@@ -0,0 +1,551 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.json.DecimalFormat;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.json.JsonConverterConfig;
+import org.apache.kafka.connect.storage.Converter;
+import org.apache.kafka.connect.storage.ConverterConfig;
+import org.apache.kafka.connect.storage.ConverterType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A {@link Converter} producing the same bytes as Kafka's {@link JsonConverter}, but writing the records straight from the
+ * {@link Struct} into a reusable byte buffer instead of building a Jackson tree first.
+ * <p>
+ * For every schema a plan is compiled and cached, holding the encoded field names and the JSON fragment of the schema itself,
+ * so that serializing a record only encodes its values. Records the plan cannot handle, like schemaless values or maps with
+ * non-string keys, are serialized by the {@link JsonConverter} the converter delegates to, which also handles the conversion
+ * from JSON.
+ * <p>
+ * The converter accepts the same configuration as the {@link JsonConverter}.
+ */
+public class DirectJsonConverter implements Converter {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_CACHED_BUFFER_SIZE = 1024 * 1024;
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ENVELOPE_SCHEMA = "{\"schema\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ENVELOPE_PAYLOAD = ",\"payload\":".getBytes(StandardCharsets.US_ASCII);
+    private static final ThreadLocal<JsonWriter> WRITERS = ThreadLocal.withInitial(JsonWriter::new);
+
+    private final JsonConverter delegate = new JsonConverter();
+    private final Map<SchemaKey, SchemaPlan> plans = new ConcurrentHashMap<>();
+    private boolean schemasEnabled;
+    private boolean decimalNumeric;
+    private boolean replaceNullWithDefault;
+    private int plansCacheSize;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        delegate.configure(configs, isKey);
+
+        final Map<String, Object> converterConfigs = new HashMap<>(configs);
+        converterConfigs.put(ConverterConfig.TYPE_CONFIG, isKey ? ConverterType.KEY.getName() : ConverterType.VALUE.getName());
+        final JsonConverterConfig config = new JsonConverterConfig(converterConfigs);
+        schemasEnabled = config.schemasEnabled();
+        decimalNumeric = config.decimalFormat() == DecimalFormat.NUMERIC;
+        replaceNullWithDefault = config.replaceNullWithDefault();
+        plansCacheSize = config.schemaCacheSize();
+    }
+
+    @Override
+    public byte[] fromConnectData(String topic, Schema schema, Object value) {
+        if (schema == null) {
+            return delegate.fromConnectData(topic, null, value);
+        }
+
+        final JsonWriter writer = WRITERS.get();
+        try {
+            final SchemaPlan plan = planFor(schema);
+            if (schemasEnabled) {
+                writer.write(ENVELOPE_SCHEMA);
+                writer.write(plan.schemaJson);
+                writer.write(ENVELOPE_PAYLOAD);
+                writeValue(writer, plan, value);
+                writer.write('}');
+            }
+            else {
+                writeValue(writer, plan, value);
+            }
+            return writer.toByteArray();
+        }
+        catch (UnsupportedValueException | ClassCastException e) {
+            // Let the JSON converter deal with the value, including reporting the errors the same way
+            return delegate.fromConnectData(topic, schema, value);
+        }
+        finally {
+            writer.reset();
+        }
+    }
+
+    @Override
+    public SchemaAndValue toConnectData(String topic, byte[] value) {
+        return delegate.toConnectData(topic, value);
+    }
+
+    private SchemaPlan planFor(Schema schema) {
+        final SchemaKey key = new SchemaKey(schema);
+        SchemaPlan plan = plans.get(key);
+        if (plan == null) {
+            if (plans.size() >= plansCacheSize) {
+                plans.clear();
+            }
+            plan = new SchemaPlan(schema, true);
+            plans.put(key, plan);
+        }
+        return plan;
+    }
+
+    private void writeValue(JsonWriter writer, SchemaPlan plan, Object value) {
+        final Schema schema = plan.schema;
+        if (value == null) {
+            if (schema.defaultValue() != null && replaceNullWithDefault) {
+                writeValue(writer, plan, schema.defaultValue());
+            }
+            else if (schema.isOptional()) {
+                writer.write(NULL);
+            }
+            else {
+                throw UnsupportedValueException.INSTANCE;
+            }
+            return;
+        }
+
+        switch (plan.logicalType) {
+            case DECIMAL:
+                if (!(value instanceof BigDecimal)) {
+                    throw UnsupportedValueException.INSTANCE;
+                }
+                if (decimalNumeric) {
+                    writer.writeAscii(value.toString());
+                }
+                else {
+                    writer.writeBase64(Decimal.fromLogical(schema, (BigDecimal) value));
+                }
+                return;
+            case DATE:
+                if (!(value instanceof java.util.Date)) {
+                    throw UnsupportedValueException.INSTANCE;
+                }
+                writer.writeLong(Date.fromLogical(schema, (java.util.Date) value));
+                return;
+            case TIME:
+                if (!(value instanceof java.util.Date)) {
+                    throw UnsupportedValueException.INSTANCE;
+                }
+                writer.writeLong(Time.fromLogical(schema, (java.util.Date) value));
+                return;
+            case TIMESTAMP:
+                if (!(value instanceof java.util.Date)) {
+                    throw UnsupportedValueException.INSTANCE;
+                }
+                writer.writeLong(Timestamp.fromLogical(schema, (java.util.Date) value));
+                return;
+            default:
+                break;
+        }
+
+        switch (schema.type()) {
+            case INT8:
+                writer.writeLong((Byte) value);
+                break;
+            case INT16:
+                writer.writeLong((Short) value);
+                break;
+            case INT32:
+                writer.writeLong((Integer) value);
+                break;
+            case INT64:
+                writer.writeLong((Long) value);
+                break;
+            case FLOAT32:
+                writer.writeFloatingPoint((Float) value);
+                break;
+            case FLOAT64:
+                writer.writeFloatingPoint((Double) value);
+                break;
+            case BOOLEAN:
+                writer.write((Boolean) value ? TRUE : FALSE);
+                break;
+            case STRING:
+                writer.writeString(((CharSequence) value).toString());
+                break;
+            case BYTES:
+                if (value instanceof byte[]) {
+                    writer.writeBase64((byte[]) value);
+                }
+                else if (value instanceof ByteBuffer) {
+                    writer.writeBase64(((ByteBuffer) value).array());
+                }
+                else {
+                    throw UnsupportedValueException.INSTANCE;
+                }
+                break;
+            case ARRAY:
+                writeArray(writer, plan, (Collection<?>) value);
+                break;
+            case MAP:
+                writeMap(writer, plan, (Map<?, ?>) value);
+                break;
+            case STRUCT:
+                writeStruct(writer, plan, (Struct) value);
+                break;
+            default:
+                throw UnsupportedValueException.INSTANCE;
+        }
+    }
+
+    private void writeArray(JsonWriter writer, SchemaPlan plan, Collection<?> collection) {
+        writer.write('[');
+        boolean first = true;
+        for (Object element : collection) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writeValue(writer, plan.valuePlan, element);
+        }
+        writer.write(']');
+    }
+
+    private void writeMap(JsonWriter writer, SchemaPlan plan, Map<?, ?> map) {
+        boolean first = true;
+        if (plan.objectMode) {
+            writer.write('{');
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!(entry.getKey() instanceof CharSequence)) {
+                    throw UnsupportedValueException.INSTANCE;
+                }
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writer.writeString(entry.getKey().toString());
+                writer.write(':');
+                writeValue(writer, plan.valuePlan, entry.getValue());
+            }
+            writer.write('}');
+        }
+        else {
+            writer.write('[');
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writer.write('[');
+                writeValue(writer, plan.keyPlan, entry.getKey());
+                writer.write(',');
+                writeValue(writer, plan.valuePlan, entry.getValue());
+                writer.write(']');
+            }
+            writer.write(']');
+        }
+    }
+
+    private void writeStruct(JsonWriter writer, SchemaPlan plan, Struct struct) {
+        if (struct.schema() != plan.schema && !struct.schema().equals(plan.schema)) {
+            throw UnsupportedValueException.INSTANCE;
+        }
+        writer.write('{');
+        final List<Field> fields = plan.schema.fields();
+        for (int i = 0; i < plan.fieldPlans.length; i++) {
+            final Field field = fields.get(i);
+            writer.write(plan.fieldNames[i]);
+            // Struct.get(Field) applies the default value the same way as replacing null with the default does
+            writeValue(writer, plan.fieldPlans[i], replaceNullWithDefault ? struct.get(field) : struct.getWithoutDefault(field.name()));
+        }
+        writer.write('}');
+    }
+
+    private enum LogicalType {
+        NONE,
+        DECIMAL,
+        DATE,
+        TIME,
+        TIMESTAMP;
+
+        static LogicalType of(Schema schema) {
+            if (schema.name() == null) {
+                return NONE;
+            }
+            switch (schema.name()) {
+                case Decimal.LOGICAL_NAME:
+                    return DECIMAL;
+                case Date.LOGICAL_NAME:
+                    return DATE;
+                case Time.LOGICAL_NAME:
+                    return TIME;
+                case Timestamp.LOGICAL_NAME:
+                    return TIMESTAMP;
+                default:
+                    return NONE;
+            }
+        }
+    }
+
+    /**
+     * The precomputed parts of the JSON representation of the values of a schema.
+     */
+    private class SchemaPlan {
+        final Schema schema;
+        final LogicalType logicalType;
+        final byte[] schemaJson;
+        final byte[][] fieldNames;
+        final SchemaPlan[] fieldPlans;
+        final SchemaPlan keyPlan;
+        final SchemaPlan valuePlan;
+        final boolean objectMode;
+
+        SchemaPlan(Schema schema, boolean withSchemaJson) {
+            this.schema = schema;
+            this.logicalType = LogicalType.of(schema);
+            this.schemaJson = withSchemaJson && schemasEnabled ? schemaJson(schema) : null;
+
+            if (schema.type() == Schema.Type.STRUCT) {
+                final List<Field> fields = schema.fields();
+                fieldNames = new byte[fields.size()][];
+                fieldPlans = new SchemaPlan[fields.size()];
+                for (int i = 0; i < fields.size(); i++) {
+                    final JsonWriter writer = new JsonWriter();
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.writeString(fields.get(i).name());
+                    writer.write(':');
+                    fieldNames[i] = writer.toByteArray();
+                    fieldPlans[i] = new SchemaPlan(fields.get(i).schema(), false);
+                }
+            }
+            else {
+                fieldNames = null;
+                fieldPlans = null;
+            }
+            keyPlan = schema.type() == Schema.Type.MAP ? new SchemaPlan(schema.keySchema(), false) : null;
+            valuePlan = schema.type() == Schema.Type.MAP || schema.type() == Schema.Type.ARRAY ? new SchemaPlan(schema.valueSchema(), false) : null;
+            objectMode = schema.type() == Schema.Type.MAP && schema.keySchema().type() == Schema.Type.STRING;
+        }
+
+        private byte[] schemaJson(Schema schema) {
+            try {
+                return OBJECT_MAPPER.writeValueAsBytes(delegate.asJsonSchema(schema));
+            }
+            catch (JsonProcessingException e) {
+                throw new DataException("Failed to serialize schema " + schema, e);
+            }
+        }
+    }
+
+    /**
+     * Identifies a schema by its identity, which is cheaper than the deep equality of the schemas and sufficient, as the
+     * connectors reuse the schema instances.
+     */
+    private record SchemaKey(Schema schema) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SchemaKey && ((SchemaKey) o).schema == schema;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(schema);
+        }
+    }
+
+    /**
+     * Signals a value which is serialized by the delegate {@link JsonConverter}.
+     */
+    private static final class UnsupportedValueException extends RuntimeException {
+        static final UnsupportedValueException INSTANCE = new UnsupportedValueException();
+
+        private UnsupportedValueException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * A growable byte buffer writing JSON tokens encoded the same way as Jackson's UTF-8 generator does.
+     */
+    static final class JsonWriter {
+        private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] ESCAPES = new byte[128];
+
+        static {
+            for (int i = 0; i < 32; i++) {
+                ESCAPES[i] = -1;
+            }
+            ESCAPES['"'] = '"';
+            ESCAPES['\\'] = '\\';
+            ESCAPES['\b'] = 'b';
+            ESCAPES['\t'] = 't';
+            ESCAPES['\f'] = 'f';
+            ESCAPES['\n'] = 'n';
+            ESCAPES['\r'] = 'r';
+        }
+
+        private byte[] buffer = new byte[1024];
+        private int length;
+
+        void write(int b) {
+            ensureCapacity(1);
+            buffer[length++] = (byte) b;
+        }
+
+        void write(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, length, bytes.length);
+            length += bytes.length;
+        }
+
+        void writeAscii(String value) {
+            ensureCapacity(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                buffer[length++] = (byte) value.charAt(i);
+            }
+        }
+
+        void writeLong(long value) {
+            if (value == Long.MIN_VALUE) {
+                writeAscii(Long.toString(value));
+                return;
+            }
+            ensureCapacity(20);
+            if (value < 0) {
+                buffer[length++] = '-';
+                value = -value;
+            }
+            final int start = length;
+            do {
+                buffer[length++] = (byte) ('0' + (value % 10));
+                value /= 10;
+            } while (value != 0);
+            // Digits were written in the reverse order
+            for (int i = start, j = length - 1; i < j; i++, j--) {
+                final byte digit = buffer[i];
+                buffer[i] = buffer[j];
+                buffer[j] = digit;
+            }
+        }
+
+        void writeFloatingPoint(double value) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                // Jackson writes the non-numeric values as strings
+                write('"');
+                writeAscii(Double.toString(value));
+                write('"');
+            }
+            else {
+                writeAscii(Double.toString(value));
+            }
+        }
+
+        void writeFloatingPoint(float value) {
+            if (Float.isNaN(value) || Float.isInfinite(value)) {
+                write('"');
+                writeAscii(Float.toString(value));
+                write('"');
+            }
+            else {
+                writeAscii(Float.toString(value));
+            }
+        }
+
+        void writeBase64(byte[] bytes) {
+            write('"');
+            write(Base64.getEncoder().encode(bytes));
+            write('"');
+        }
+
+        void writeString(String value) {
+            // A character takes at most 6 bytes when escaped
+            ensureCapacity(value.length() * 6 + 2);
+            buffer[length++] = '"';
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                if (c < 0x80) {
+                    final byte escape = ESCAPES[c];
+                    if (escape == 0) {
+                        buffer[length++] = (byte) c;
+                    }
+                    else if (escape > 0) {
+                        buffer[length++] = '\\';
+                        buffer[length++] = escape;
+                    }
+                    else {
+                        buffer[length++] = '\\';
+                        buffer[length++] = 'u';
+                        buffer[length++] = '0';
+                        buffer[length++] = '0';
+                        buffer[length++] = HEX[c >> 4];
+                        buffer[length++] = HEX[c & 0xF];
+                    }
+                }
+                else if (c < 0x800) {
+                    buffer[length++] = (byte) (0xC0 | (c >> 6));
+                    buffer[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+                else if (Character.isSurrogate(c)) {
+                    // Jackson does not combine surrogate pairs by default but escapes each of the characters
+                    buffer[length++] = '\\';
+                    buffer[length++] = 'u';
+                    buffer[length++] = HEX[c >> 12];
+                    buffer[length++] = HEX[(c >> 8) & 0xF];
+                    buffer[length++] = HEX[(c >> 4) & 0xF];
+                    buffer[length++] = HEX[c & 0xF];
+                }
+                else {
+                    buffer[length++] = (byte) (0xE0 | (c >> 12));
+                    buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            buffer[length++] = '"';
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+
+        void reset() {
+            length = 0;
+            if (buffer.length > MAX_CACHED_BUFFER_SIZE) {
+                buffer = new byte[1024];
+            }
+        }
+
+        private void ensureCapacity(int additional) {
+            if (length + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+            }
+        }
+    }
+}
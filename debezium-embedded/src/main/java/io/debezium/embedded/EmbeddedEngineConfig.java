@@ -145,6 +145,19 @@ public interface EmbeddedEngineConfig {
             .withDescription("Optional list of single message transformations applied on the messages. "
                     + "The transforms are defined using '<transform.prefix>.type' config option and configured using options '<transform.prefix>.<option>'");
 
+    /**
+     * Whether the transformations are applied as a fused chain.
+     */
+    Field TRANSFORMS_FUSED = Field.create("transforms.fused")
+            .withDisplayName("Apply transformations as a fused chain")
+            .withType(ConfigDef.Type.BOOLEAN)
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("Whether the transformations are applied in a single pass that creates one output record. "
+                    + "Transformations implementing 'io.debezium.transforms.FusibleTransformation' update the record in place, "
+                    + "other transformations are applied as usual.");
+
     Field ERRORS_RETRY_DELAY_INITIAL_MS = Field.create("errors.retry.delay.initial.ms")
             .withDisplayName("Initial delay for retries")
             .withType(ConfigDef.Type.INT)
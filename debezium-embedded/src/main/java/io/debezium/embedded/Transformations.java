@@ -21,6 +21,7 @@
 import io.debezium.DebeziumException;
 import io.debezium.annotation.VisibleForTesting;
 import io.debezium.config.Configuration;
+import io.debezium.transforms.FusedTransformationChain;
 
 /**
  * Composite class representing transformation chain.
@@ -39,19 +40,22 @@ public class Transformations implements Closeable {
     private final Configuration config;
     private final List<Transformation<SourceRecord>> transforms = new ArrayList<>();
     private final Predicates predicates;
+    private final FusedTransformationChain<SourceRecord> fusedChain;
 
     public Transformations(Configuration config) {
         this.config = config;
         this.predicates = new Predicates(config);
         final String transformationList = config.getString(EmbeddedEngineConfig.TRANSFORMS);
-        if (transformationList == null) {
-            return;
-        }
-        for (String transfName : transformationList.split(",")) {
-            transfName = transfName.trim();
-            final Transformation<SourceRecord> transformation = getTransformation(transfName);
-            transforms.add(transformation);
+        if (transformationList != null) {
+            for (String transfName : transformationList.split(",")) {
+                transfName = transfName.trim();
+                final Transformation<SourceRecord> transformation = getTransformation(transfName);
+                transforms.add(transformation);
+            }
         }
+        this.fusedChain = config.getBoolean(EmbeddedEngineConfig.TRANSFORMS_FUSED) && !transforms.isEmpty()
+                ? new FusedTransformationChain<>(transforms)
+                : null;
     }
 
     private static String transformationConfigNamespace(final String name) {
@@ -88,6 +92,9 @@ Transformation<SourceRecord> getTransformation(String name) {
     }
 
     public SourceRecord transform(SourceRecord record) {
+        if (fusedChain != null) {
+            return fusedChain.apply(record);
+        }
         for (Transformation<SourceRecord> t : transforms) {
             record = t.apply(record);
             if (record == null) {
@@ -10,6 +10,7 @@
 import java.time.Clock;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -119,6 +120,8 @@
     private final List<Future<Void>> pollingFutures = new ArrayList<>();
     private final ExecutorService taskService;
     private final ExecutorService recordService;
+    private final int recordThreads;
+    private volatile AsyncOffsetCommitter offsetCommitter;
     // A latch to make sure close() method finishes before we call completion callback, see also DBZ-7496.
     private final CountDownLatch shutDownLatch = new CountDownLatch(1);
     private Signaler signaler;
@@ -155,13 +158,28 @@ private AsyncEmbeddedEngine(Properties config,
         }
 
         // Create thread pools for executing tasks and record pipelines.
-        taskService = Executors.newFixedThreadPool(this.config.getInteger(ConnectorConfig.TASKS_MAX_CONFIG, () -> 1));
+        boolean virtualThreads = this.config.getBoolean(AsyncEngineConfig.RECORD_PROCESSING_VIRTUAL_THREADS);
+        if (virtualThreads && !VirtualThreadExecutors.isSupported()) {
+            LOGGER.warn("Virtual threads are not supported by Java runtime {}, using platform threads for record processing.", Runtime.version());
+            virtualThreads = false;
+        }
         final String processingThreads = this.config.getString(AsyncEmbeddedEngine.RECORD_PROCESSING_THREADS);
-        if (processingThreads == null || processingThreads.isBlank()) {
-            recordService = new ThreadPoolExecutor(0, AsyncEngineConfig.AVAILABLE_CORES, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue());
+        if (virtualThreads) {
+            // Tasks are polled on virtual threads as well, so that a ChangeConsumer blocking the polling thread doesn't block a platform thread.
+            taskService = VirtualThreadExecutors.newVirtualThreadPerTaskExecutor();
+            recordThreads = this.config.getInteger(AsyncEngineConfig.RECORD_PROCESSING_MAX_CONCURRENCY);
+            recordService = VirtualThreadExecutors.newBoundedVirtualThreadExecutor(recordThreads);
         }
         else {
-            recordService = Executors.newFixedThreadPool(computeRecordThreads(processingThreads));
+            taskService = Executors.newFixedThreadPool(this.config.getInteger(ConnectorConfig.TASKS_MAX_CONFIG, () -> 1));
+            if (processingThreads == null || processingThreads.isBlank()) {
+                recordThreads = AsyncEngineConfig.AVAILABLE_CORES;
+                recordService = new ThreadPoolExecutor(0, recordThreads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue());
+            }
+            else {
+                recordThreads = computeRecordThreads(processingThreads);
+                recordService = Executors.newFixedThreadPool(recordThreads);
+            }
         }
 
         // Validate provided config and prepare Kafka worker config needed for Kafka stuff, like e.g. OffsetStore.
@@ -378,6 +396,13 @@ private Map<String, String> initializeConnector() throws Exception {
             final OffsetStorageReader offsetReader = new OffsetStorageReaderImpl(offsetStore, engineName, offsetKeyConverter, offsetValueConverter);
             final OffsetStorageWriter offsetWriter = new OffsetStorageWriter(offsetStore, engineName, offsetKeyConverter, offsetValueConverter);
 
+            if (config.getBoolean(AsyncEngineConfig.OFFSET_COMMIT_ASYNC)) {
+                LOGGER.debug("Initializing asynchronous offset committer");
+                final long commitTimeout = config.getLong(EmbeddedEngineConfig.OFFSET_COMMIT_TIMEOUT_MS);
+                offsetCommitter = new AsyncOffsetCommitter(engineName, clock, commitTimeout,
+                        (tasksToCommit) -> commitOffsets(offsetWriter, clock, commitTimeout, tasksToCommit));
+            }
+
             LOGGER.debug("Initializing Connect connector itself");
             connector.initialize(new EngineSourceConnectorContext(this, offsetStore, offsetReader, offsetWriter));
 
@@ -520,7 +545,7 @@ private void runTasksPolling(final List<EngineSourceTask> tasks)
             for (EngineSourceTask task : tasks) {
                 final RecordProcessor processor = createRecordProcessor(processorClassName, task);
                 processor.initialize(recordService, transformations);
-                pollingFutures.add(taskCompletionService.submit(new PollRecords(task, processor, state)));
+                pollingFutures.add(taskCompletionService.submit(new PollRecords(task, processor, state, offsetCommitter)));
             }
         }
         catch (RejectedExecutionException e) {
@@ -584,6 +609,15 @@ private String selectRecordProcessor() {
             return ParallelSmtAndConvertAsyncConsumerProcessor.class.getName();
         }
 
+        if (processingOrder == RecordProcessingOrder.KEY_ORDERED && recordConverter == null) {
+            LOGGER.info("Using {} processor", ParallelSmtKeyOrderedConsumerProcessor.class.getName());
+            return ParallelSmtKeyOrderedConsumerProcessor.class.getName();
+        }
+        if (processingOrder == RecordProcessingOrder.KEY_ORDERED && recordConverter != null) {
+            LOGGER.info("Using {} processor", ParallelSmtAndConvertKeyOrderedConsumerProcessor.class.getName());
+            return ParallelSmtAndConvertKeyOrderedConsumerProcessor.class.getName();
+        }
+
         throw new IllegalStateException("Unable to select RecordProcessor, this should never happen.");
     }
 
@@ -594,22 +628,28 @@ private String selectRecordProcessor() {
      */
     private RecordProcessor createRecordProcessor(String processorClassName, EngineSourceTask task) {
         if (ParallelSmtBatchProcessor.class.getName().equals(processorClassName)) {
-            return new ParallelSmtBatchProcessor(new SourceRecordCommitter(task), (DebeziumEngine.ChangeConsumer<SourceRecord>) handler);
+            return new ParallelSmtBatchProcessor(new SourceRecordCommitter(task, offsetCommitter), (DebeziumEngine.ChangeConsumer<SourceRecord>) handler);
         }
         if (ParallelSmtAndConvertBatchProcessor.class.getName().equals(processorClassName)) {
             return new ParallelSmtAndConvertBatchProcessor(new ConvertingRecordCommitter(task), handler, recordConverter);
         }
         if (ParallelSmtConsumerProcessor.class.getName().equals(processorClassName)) {
-            return new ParallelSmtConsumerProcessor(new SourceRecordCommitter(task), (Consumer<SourceRecord>) consumer);
+            return new ParallelSmtConsumerProcessor(new SourceRecordCommitter(task, offsetCommitter), (Consumer<SourceRecord>) consumer);
         }
         if (ParallelSmtAndConvertConsumerProcessor.class.getName().equals(processorClassName)) {
-            return new ParallelSmtAndConvertConsumerProcessor(new SourceRecordCommitter(task), consumer, recordConverter);
+            return new ParallelSmtAndConvertConsumerProcessor(new SourceRecordCommitter(task, offsetCommitter), consumer, recordConverter);
         }
         if (ParallelSmtAsyncConsumerProcessor.class.getName().equals(processorClassName)) {
-            return new ParallelSmtAsyncConsumerProcessor(new SourceRecordCommitter(task), (Consumer<SourceRecord>) consumer);
+            return new ParallelSmtAsyncConsumerProcessor(new SourceRecordCommitter(task, offsetCommitter), (Consumer<SourceRecord>) consumer);
         }
         if (ParallelSmtAndConvertAsyncConsumerProcessor.class.getName().equals(processorClassName)) {
-            return new ParallelSmtAndConvertAsyncConsumerProcessor(new SourceRecordCommitter(task), consumer, recordConverter);
+            return new ParallelSmtAndConvertAsyncConsumerProcessor(new SourceRecordCommitter(task, offsetCommitter), consumer, recordConverter);
+        }
+        if (ParallelSmtKeyOrderedConsumerProcessor.class.getName().equals(processorClassName)) {
+            return new ParallelSmtKeyOrderedConsumerProcessor(new SourceRecordCommitter(task, offsetCommitter), (Consumer<SourceRecord>) consumer, recordThreads);
+        }
+        if (ParallelSmtAndConvertKeyOrderedConsumerProcessor.class.getName().equals(processorClassName)) {
+            return new ParallelSmtAndConvertKeyOrderedConsumerProcessor(new SourceRecordCommitter(task, offsetCommitter), consumer, recordConverter, recordThreads);
         }
         throw new IllegalStateException("Unable to create RecordProcessor instance, this should never happen.");
     }
@@ -634,6 +674,16 @@ private void stopRecordService() {
         }
     }
 
+    /**
+     * Waits for the asynchronous offset commit in progress to finish, if there is any, before the tasks commit their offsets for the last time.
+     */
+    private void stopOffsetCommitter() {
+        if (offsetCommitter != null) {
+            LOGGER.debug("Stopping asynchronous offset committer.");
+            offsetCommitter.close();
+        }
+    }
+
     /**
      * Stops task polling if they haven't stopped yet. Some tasks may be stuck in the polling, we should interrupt such tasks.
      */
@@ -732,8 +782,12 @@ private void stopConnector(final List<EngineSourceTask> tasks, final State engin
             LOGGER.debug("Tasks were already started, stopping record service and tasks.");
             stopRecordService();
             stopPollingIfNeeded();
+            stopOffsetCommitter();
             stopSourceTasks(tasks);
         }
+        else {
+            stopOffsetCommitter();
+        }
         stopOffsetStore(connector.context());
         LOGGER.debug("Stopping the connector.");
         connector.connectConnector().stop();
@@ -862,6 +916,20 @@ else if (offsetStoreClassName.equals(KafkaOffsetBackingStore.class.getName())) {
      */
     private static boolean commitOffsets(final OffsetStorageWriter offsetWriter, final io.debezium.util.Clock clock, final long commitTimeout, final SourceTask task)
             throws InterruptedException, TimeoutException {
+        return commitOffsets(offsetWriter, clock, commitTimeout, List.of(task));
+    }
+
+    /**
+     * Commits the offset to {@link OffsetBackingStore} via {@link OffsetStorageWriter} and notifies all the given tasks about the commit.
+     *
+     * @param offsetWriter {@link OffsetStorageWriter} which performs the flushing the offset into {@link OffsetBackingStore}.
+     * @param commitTimeout amount of time to wait for offset flush to finish before it's aborted.
+     * @param tasks {@link SourceTask}s whose offsets are committed.
+     * @return {@code true} if the offset was successfully committed, {@code false} otherwise.
+     */
+    private static boolean commitOffsets(final OffsetStorageWriter offsetWriter, final io.debezium.util.Clock clock, final long commitTimeout,
+                                         final Collection<SourceTask> tasks)
+            throws InterruptedException, TimeoutException {
         final long timeout = clock.currentTimeInMillis() + commitTimeout;
         if (!offsetWriter.beginFlush(commitTimeout, TimeUnit.MILLISECONDS)) {
             LOGGER.trace("No offset to be committed.");
@@ -878,7 +946,9 @@ private static boolean commitOffsets(final OffsetStorageWriter offsetWriter, fin
             }
 
             flush.get(Math.max(timeout - clock.currentTimeInMillis(), 0), TimeUnit.MILLISECONDS);
-            task.commit();
+            for (SourceTask task : tasks) {
+                task.commit();
+            }
         }
         catch (InterruptedException e) {
             LOGGER.debug("Flush of the offsets interrupted, canceling the flush.");
@@ -1142,17 +1212,16 @@ public static ProcessingCores parse(final String value) {
 
     /**
      * Determines how the records will be processed.
-     * Currently only sequential processing ("ORDERED") and non-sequential processing ("UNORDERED") modes are supported.
+     * Sequential processing ("ORDERED"), non-sequential processing ("UNORDERED") and sequential processing per record key ("KEY_ORDERED") modes are supported.
      */
     private enum RecordProcessingOrder {
         // All records will be processed in the same order in which were obtained from the database.
         ORDERED("ORDERED"),
         // Records will be processed in completely arbitrary order.
-        UNORDERED("UNORDERED");
-        // TODO
-        // Records with the same key will be processed in the same order in which they were obtained from the database, but records with different keys may be processed
-        // out of order.
-        // ORDERED_PER_KEY
+        UNORDERED("UNORDERED"),
+        // Records with the same topic and key will be processed in the same order in which they were obtained from the database, but records with different keys
+        // may be processed out of order.
+        KEY_ORDERED("KEY_ORDERED");
 
         private final String orderingPlaceholder;
 
@@ -1237,12 +1306,13 @@ private static class PollRecords extends RetryingCallable<Void> {
         final AtomicReference<State> engineState;
         private final SourceRecordCommitter committer;
 
-        PollRecords(final EngineSourceTask task, final RecordProcessor processor, final AtomicReference<State> engineState) {
+        PollRecords(final EngineSourceTask task, final RecordProcessor processor, final AtomicReference<State> engineState,
+                    final AsyncOffsetCommitter offsetCommitter) {
             super(Configuration.from(task.context().config()).getInteger(EmbeddedEngineConfig.ERRORS_MAX_RETRIES));
             this.task = task;
             this.processor = processor;
             this.engineState = engineState;
-            this.committer = new SourceRecordCommitter(task);
+            this.committer = new SourceRecordCommitter(task, offsetCommitter);
         }
 
         @Override
@@ -1287,12 +1357,14 @@ private static class SourceRecordCommitter implements DebeziumEngine.RecordCommi
         final OffsetCommitPolicy offsetCommitPolicy;
         final io.debezium.util.Clock clock;
         final long commitTimeout;
+        final AsyncOffsetCommitter offsetCommitter;
 
         private long recordsSinceLastCommit = 0;
         private long timeOfLastCommitMillis = 0;
 
-        SourceRecordCommitter(final EngineSourceTask task) {
+        SourceRecordCommitter(final EngineSourceTask task, final AsyncOffsetCommitter offsetCommitter) {
             this.task = task.connectTask();
+            this.offsetCommitter = offsetCommitter;
             this.offsetWriter = task.context().offsetStorageWriter();
             this.offsetCommitPolicy = task.context().offsetCommitPolicy();
             this.clock = task.context().clock();
@@ -1301,6 +1373,13 @@ private static class SourceRecordCommitter implements DebeziumEngine.RecordCommi
 
         @Override
         public void markProcessed(SourceRecord record) throws InterruptedException {
+            if (offsetCommitter != null) {
+                // The offset is handed to the writer first, so the task never commits a record whose offset may be missing in the flush in progress
+                offsetWriter.offset(record.sourcePartition(), record.sourceOffset());
+                offsetCommitter.commitRecord(task, record);
+                recordsSinceLastCommit += 1;
+                return;
+            }
             task.commitRecord(record, null);
             recordsSinceLastCommit += 1;
             offsetWriter.offset(record.sourcePartition(), record.sourceOffset());
@@ -1310,6 +1389,13 @@ public void markProcessed(SourceRecord record) throws InterruptedException {
         public void markBatchFinished() throws InterruptedException {
             final Duration durationSinceLastCommit = Duration.ofMillis(clock.currentTimeInMillis() - timeOfLastCommitMillis);
             if (offsetCommitPolicy.performCommit(recordsSinceLastCommit, durationSinceLastCommit)) {
+                if (offsetCommitter != null) {
+                    // The offsets are flushed in the background, a failed flush is retried with the next commit request.
+                    offsetCommitter.requestCommit(task);
+                    recordsSinceLastCommit = 0;
+                    timeOfLastCommitMillis = clock.currentTimeInMillis();
+                    return;
+                }
                 try {
                     if (commitOffsets(offsetWriter, clock, commitTimeout, task)) {
                         recordsSinceLastCommit = 0;
@@ -1346,7 +1432,7 @@ private class ConvertingRecordCommitter implements DebeziumEngine.RecordCommitte
         private final SourceRecordCommitter delegate;
 
         ConvertingRecordCommitter(final EngineSourceTask task) {
-            this.delegate = new SourceRecordCommitter(task);
+            this.delegate = new SourceRecordCommitter(task, offsetCommitter);
         }
 
         @Override
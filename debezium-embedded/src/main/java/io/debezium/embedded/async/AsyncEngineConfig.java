@@ -33,6 +33,36 @@ public interface AsyncEngineConfig extends EmbeddedEngineConfig {
                     + "Java 'Executors.newCachedThreadPool()' executor service.")
             .withDefault(""); // We need to set some non-null value to avoid Kafka config validation failures.
 
+    /**
+     * An optional field that specifies if the records and the tasks should be processed on virtual threads instead of a pool of platform threads.
+     * Virtual threads are supported only on Java 21 and newer runtimes, the engine falls back to platform threads on older runtimes.
+     */
+    Field RECORD_PROCESSING_VIRTUAL_THREADS = Field.create("record.processing.virtual.threads")
+            .withDescription("Determines whether the records are processed and passed to the consumer on virtual threads, each record on its own thread. "
+                    + "The number of records processed at the same time is limited by 'record.processing.max.concurrency' instead of the size of a thread pool. "
+                    + "This is useful for consumers that block for every record, e.g. on a remote call. Requires Java 21 or newer, otherwise platform threads are used.")
+            .withDefault(false)
+            .withValidation(Field::isBoolean);
+
+    /**
+     * An optional field that specifies the maximum number of records processed at the same time when virtual threads are used.
+     */
+    Field RECORD_PROCESSING_MAX_CONCURRENCY = Field.create("record.processing.max.concurrency")
+            .withDescription("The maximum number of records processed at the same time when 'record.processing.virtual.threads' is enabled. "
+                    + "When records are processed in 'KEY_ORDERED' order, this is also the number of lanes the records are distributed to. The default is 1000.")
+            .withDefault(1000)
+            .withValidation(Field::isPositiveInteger);
+
+    /**
+     * An optional field that specifies if the offsets should be flushed into the offset store in the background instead of in the record processing thread.
+     */
+    Field OFFSET_COMMIT_ASYNC = Field.create("offset.commit.async")
+            .withDescription("Determines whether the offsets are flushed into the offset store asynchronously, so that a slow offset store doesn't block "
+                    + "processing of the records. Commit requests which arrive while a flush is in progress are merged into a single following flush of "
+                    + "the latest offset of each source partition. The final commit on the engine shutdown is always synchronous.")
+            .withDefault(false)
+            .withValidation(Field::isBoolean);
+
     /**
      * An optional field that specifies maximum time in ms to wait for submitted records to finish processing when the task shut down is called.
      */
@@ -44,7 +74,8 @@ public interface AsyncEngineConfig extends EmbeddedEngineConfig {
     /**
      * An optional field that specifies how the records will be produced. Sequential processing (the default) means that the records will be produced in the same order
      * as the engine obtained them from the connector. Non-sequential processing means that the records can be produced in arbitrary order, typically once the record is
-     * transformed and/or serialized.
+     * transformed and/or serialized. Sequential processing per key means that the records are distributed onto as many lanes as there are record processing threads
+     * by their topic and key, and only the records of the same lane are produced in the same order as the engine obtained them from the connector.
      * This option doesn't have any effect when {@link io.debezium.engine.DebeziumEngine.ChangeConsumer} is provided to the engine. In such case the records are always
      * processed sequentially.
      */
@@ -53,7 +84,10 @@ public interface AsyncEngineConfig extends EmbeddedEngineConfig {
                     + "'ORDERED' (the default) means sequential processing, i.e. that the records are produced in the same order as they were obtained from the database. "
                     + "'UNORDERED' means non-sequential processing, i.e. the records can be produced in a different order than the original one. "
                     + "Non-sequential approach gives better throughput, as the records are produced immediately once the SMTs and serialization of "
-                    + "the message is done, without waiting of other records. This option doesn't have any effect when ChangeConsumer is provided to the engine.")
+                    + "the message is done, without waiting of other records. "
+                    + "'KEY_ORDERED' means that records with the same topic and key are produced in the same order as they were obtained from the database, "
+                    + "while records with different keys are processed in parallel and can be produced in a different order than the original one. "
+                    + "This option doesn't have any effect when ChangeConsumer is provided to the engine.")
             .withDefault("ORDERED");
 
     /**
@@ -86,6 +120,9 @@ public interface AsyncEngineConfig extends EmbeddedEngineConfig {
     Field.Set ALL_FIELDS = EmbeddedEngineConfig.ALL_FIELDS.with(
             RECORD_PROCESSING_SHUTDOWN_TIMEOUT_MS,
             RECORD_PROCESSING_THREADS,
+            RECORD_PROCESSING_VIRTUAL_THREADS,
+            RECORD_PROCESSING_MAX_CONCURRENCY,
+            OFFSET_COMMIT_ASYNC,
             RECORD_PROCESSING_ORDER,
             RECORD_PROCESSING_WITH_SERIAL_CONSUMER,
             // internal fields
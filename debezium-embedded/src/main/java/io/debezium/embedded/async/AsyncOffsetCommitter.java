@@ -0,0 +1,260 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded.async;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.apache.kafka.common.utils.Sanitizer;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.source.SourceTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.pipeline.JmxUtils;
+import io.debezium.util.Clock;
+import io.debezium.util.Threads;
+
+/**
+ * Flushes the offsets of the engine's tasks in the background, so that a slow offset store doesn't block polling and processing of the records.
+ * The offsets are kept by the shared {@link org.apache.kafka.connect.storage.OffsetStorageWriter} which retains only the latest offset per source partition,
+ * so commit requests which arrive while a flush is in progress are coalesced into a single following flush of the latest offsets.
+ * Offsets which failed to be flushed stay in the writer and are flushed with the next commit request.
+ * <p>
+ * The tasks confirm the offsets of the committed records to the source database, so the records processed during a flush are committed to their tasks only
+ * once the flush finished. Otherwise a task could confirm offsets which aren't part of the flushed offsets and which would be lost after a crash.
+ */
+class AsyncOffsetCommitter implements AsyncOffsetCommitterMXBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncOffsetCommitter.class);
+
+    /**
+     * Flushes the offsets of the writer and commits the given tasks once the offsets are stored.
+     */
+    @FunctionalInterface
+    interface OffsetFlush {
+        boolean flush(Collection<SourceTask> tasks) throws InterruptedException, TimeoutException;
+    }
+
+    private final OffsetFlush offsetFlush;
+    private final Clock clock;
+    private final long shutdownTimeout;
+    private final ObjectName metricName;
+    private final ExecutorService executor;
+    private final Set<SourceTask> tasksToCommit = ConcurrentHashMap.newKeySet();
+    private final Map<SourceTask, List<SourceRecord>> deferredRecords = new HashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final AtomicLong pendingCommitRequests = new AtomicLong();
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong failedCommits = new AtomicLong();
+    private final AtomicLong coalescedCommitRequests = new AtomicLong();
+    private volatile boolean commitInProgress;
+    private volatile long lastCommitDuration;
+    private volatile long maxCommitDuration;
+    private volatile long lastCommitTime = -1;
+    private volatile boolean closed;
+    private boolean flushInProgress;
+
+    AsyncOffsetCommitter(final String engineName, final Clock clock, final long shutdownTimeout, final OffsetFlush offsetFlush) {
+        this.offsetFlush = offsetFlush;
+        this.clock = clock;
+        this.shutdownTimeout = shutdownTimeout;
+        this.metricName = metricName(engineName);
+        this.executor = Threads.newSingleThreadExecutor(AsyncEmbeddedEngine.class, engineName, "offset-commit");
+        JmxUtils.registerMXBean(metricName, this);
+    }
+
+    /**
+     * Requests the offsets to be flushed and the task to be committed afterwards. Never blocks the caller.
+     */
+    void requestCommit(final SourceTask task) {
+        if (closed) {
+            LOGGER.debug("Offset committer is closed, ignoring commit request.");
+            return;
+        }
+        tasksToCommit.add(task);
+        pendingCommitRequests.incrementAndGet();
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flushPending);
+            }
+            catch (RejectedExecutionException e) {
+                LOGGER.debug("Offset committer is closed, ignoring commit request.");
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Commits the processed record to its task, or defers the commit until the flush in progress finished. The offset of the record has to be handed
+     * to the offset writer before, so that the record is either part of the offsets being flushed or committed to the task only after the flush.
+     */
+    void commitRecord(final SourceTask task, final SourceRecord record) throws InterruptedException {
+        synchronized (deferredRecords) {
+            if (flushInProgress) {
+                deferredRecords.computeIfAbsent(task, t -> new ArrayList<>()).add(record);
+            }
+            else {
+                task.commitRecord(record, null);
+            }
+        }
+    }
+
+    private void flushPending() {
+        // Requests arriving from now on schedule another flush, which will pick up their offsets
+        flushScheduled.set(false);
+        final long requests = pendingCommitRequests.getAndSet(0);
+        if (requests > 1) {
+            coalescedCommitRequests.addAndGet(requests - 1);
+        }
+        final List<SourceTask> tasks = new ArrayList<>(tasksToCommit);
+        tasksToCommit.removeAll(tasks);
+
+        commitInProgress = true;
+        synchronized (deferredRecords) {
+            // Set before the writer takes the snapshot of the offsets, so the tasks don't commit records which aren't part of it
+            flushInProgress = true;
+        }
+        final long start = clock.currentTimeInMillis();
+        try {
+            if (offsetFlush.flush(tasks)) {
+                commits.incrementAndGet();
+                lastCommitTime = clock.currentTimeInMillis();
+            }
+            else {
+                LOGGER.trace("No offsets flushed.");
+            }
+        }
+        catch (TimeoutException e) {
+            LOGGER.warn("Timed out while waiting for committing task offset, the offsets will be committed with the next commit request.", e);
+            failedCommits.incrementAndGet();
+        }
+        catch (InterruptedException e) {
+            LOGGER.debug("Offset commit interrupted.");
+            Thread.currentThread().interrupt();
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Failed to commit task offset, the offsets will be committed with the next commit request.", e);
+            failedCommits.incrementAndGet();
+        }
+        finally {
+            lastCommitDuration = clock.currentTimeInMillis() - start;
+            maxCommitDuration = Math.max(maxCommitDuration, lastCommitDuration);
+            commitDeferredRecords();
+            commitInProgress = false;
+        }
+    }
+
+    private void commitDeferredRecords() {
+        synchronized (deferredRecords) {
+            flushInProgress = false;
+            try {
+                for (Map.Entry<SourceTask, List<SourceRecord>> entry : deferredRecords.entrySet()) {
+                    for (SourceRecord record : entry.getValue()) {
+                        entry.getKey().commitRecord(record, null);
+                    }
+                }
+            }
+            catch (InterruptedException e) {
+                // Skipping the remaining records only delays confirming their offsets to the source, it never confirms offsets which aren't stored
+                LOGGER.debug("Commit of the records processed during the offset flush interrupted.");
+                Thread.currentThread().interrupt();
+            }
+            finally {
+                deferredRecords.clear();
+            }
+        }
+    }
+
+    /**
+     * Stops accepting commit requests and waits for the flush in progress to finish, so that a final synchronous commit doesn't run concurrently with it.
+     */
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Offset commit didn't finish in {} ms, interrupting it.", shutdownTimeout);
+                executor.shutdownNow();
+            }
+        }
+        catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            JmxUtils.unregisterMXBean(metricName);
+        }
+    }
+
+    @Override
+    public long getPendingCommitRequests() {
+        return pendingCommitRequests.get();
+    }
+
+    @Override
+    public boolean isCommitInProgress() {
+        return commitInProgress;
+    }
+
+    @Override
+    public long getNumberOfCommits() {
+        return commits.get();
+    }
+
+    @Override
+    public long getNumberOfFailedCommits() {
+        return failedCommits.get();
+    }
+
+    @Override
+    public long getNumberOfCoalescedCommitRequests() {
+        return coalescedCommitRequests.get();
+    }
+
+    @Override
+    public long getLastCommitDurationInMilliseconds() {
+        return lastCommitDuration;
+    }
+
+    @Override
+    public long getMaxCommitDurationInMilliseconds() {
+        return maxCommitDuration;
+    }
+
+    @Override
+    public long getMilliSecondsSinceLastCommit() {
+        final long lastCommit = lastCommitTime;
+        return lastCommit < 0 ? -1 : clock.currentTimeInMillis() - lastCommit;
+    }
+
+    private static ObjectName metricName(final String engineName) {
+        final String name = "debezium.embedded:type=engine-metrics,context=offset-commit,engine=" + Sanitizer.jmxSanitize(engineName);
+        try {
+            return new ObjectName(name);
+        }
+        catch (MalformedObjectNameException e) {
+            throw new DebeziumException("Invalid metric name '" + name + "'", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded.async;
+
+/**
+ * Metrics describing the asynchronous offset commits of {@link AsyncEmbeddedEngine}.
+ */
+public interface AsyncOffsetCommitterMXBean {
+
+    /**
+     * @return number of commit requests which were not flushed yet
+     */
+    long getPendingCommitRequests();
+
+    /**
+     * @return {@code true} if the offsets are being flushed right now
+     */
+    boolean isCommitInProgress();
+
+    /**
+     * @return number of offset flushes which succeeded
+     */
+    long getNumberOfCommits();
+
+    /**
+     * @return number of offset flushes which failed or timed out
+     */
+    long getNumberOfFailedCommits();
+
+    /**
+     * @return number of commit requests which were merged into a flush requested by another commit request
+     */
+    long getNumberOfCoalescedCommitRequests();
+
+    /**
+     * @return duration of the last offset flush in milliseconds
+     */
+    long getLastCommitDurationInMilliseconds();
+
+    /**
+     * @return duration of the longest offset flush in milliseconds
+     */
+    long getMaxCommitDurationInMilliseconds();
+
+    /**
+     * @return time in milliseconds since the last successful offset flush, or {@code -1} if no flush succeeded yet
+     */
+    long getMilliSecondsSinceLastCommit();
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded.async;
+
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.engine.DebeziumEngine;
+
+/**
+ * {@link RecordProcessor} which distributes the records onto a number of lanes by their topic and key and transforms, converts and passes the records of all
+ * lanes to the user-provided {@link Consumer} in parallel. Records with the same topic and key are always processed by the same lane, in the same order as they
+ * were obtained from the database, while records with different keys may be passed to the consumer in arbitrary order.
+ * Offsets are committed only up to the first record of the batch which wasn't processed yet.
+ * This processor should be used when user provides only custom {@link Consumer} and records should be converted before passing them to the consumer.
+ */
+public class ParallelSmtAndConvertKeyOrderedConsumerProcessor<R> extends AbstractRecordProcessor<R> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelSmtAndConvertKeyOrderedConsumerProcessor.class);
+
+    final DebeziumEngine.RecordCommitter committer;
+    final Consumer<R> consumer;
+    final Function<SourceRecord, R> convertor;
+    final int lanes;
+
+    ParallelSmtAndConvertKeyOrderedConsumerProcessor(final DebeziumEngine.RecordCommitter committer, final Consumer<R> consumer,
+                                                     final Function<SourceRecord, R> convertor, final int lanes) {
+        this.committer = committer;
+        this.consumer = consumer;
+        this.convertor = convertor;
+        this.lanes = lanes;
+    }
+
+    @Override
+    public void processRecords(final List<SourceRecord> records) throws Exception {
+        final int[][] recordLanes = ParallelSmtKeyOrderedConsumerProcessor.assignLanes(records, lanes);
+        LOGGER.debug("Thread {} is submitting {} records for processing in {} lanes.", Thread.currentThread().getName(), records.size(), recordLanes.length);
+        final boolean[] processed = new boolean[records.size()];
+        final Future<Void>[] laneFutures = new Future[recordLanes.length];
+        for (int i = 0; i < recordLanes.length; i++) {
+            laneFutures[i] = recordService.submit(
+                    new ProcessingCallables.TransformConvertConsumeLane(records, recordLanes[i], processed, transformations, convertor, consumer));
+        }
+
+        ParallelSmtKeyOrderedConsumerProcessor.completeBatch(records, laneFutures, processed, committer);
+    }
+}
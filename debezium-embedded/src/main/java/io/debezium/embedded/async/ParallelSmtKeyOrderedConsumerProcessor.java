@@ -0,0 +1,125 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded.async;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.StopEngineException;
+
+/**
+ * {@link RecordProcessor} which distributes the records onto a number of lanes by their topic and key and transforms and passes the records of all lanes to
+ * the user-provided {@link Consumer} in parallel. Records with the same topic and key are always processed by the same lane, in the same order as they were
+ * obtained from the database, while records with different keys may be passed to the consumer in arbitrary order.
+ * Offsets are committed only up to the first record of the batch which wasn't processed yet.
+ * This processor should be used when user provides only custom {@link Consumer} and records should be passed without converting to the consumer.
+ */
+public class ParallelSmtKeyOrderedConsumerProcessor extends AbstractRecordProcessor<SourceRecord> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelSmtKeyOrderedConsumerProcessor.class);
+
+    final DebeziumEngine.RecordCommitter committer;
+    final Consumer<SourceRecord> consumer;
+    final int lanes;
+
+    ParallelSmtKeyOrderedConsumerProcessor(final DebeziumEngine.RecordCommitter committer, final Consumer<SourceRecord> consumer, final int lanes) {
+        this.committer = committer;
+        this.consumer = consumer;
+        this.lanes = lanes;
+    }
+
+    @Override
+    public void processRecords(final List<SourceRecord> records) throws Exception {
+        final int[][] recordLanes = assignLanes(records, lanes);
+        LOGGER.debug("Thread {} is submitting {} records for processing in {} lanes.", Thread.currentThread().getName(), records.size(), recordLanes.length);
+        final boolean[] processed = new boolean[records.size()];
+        final Future<Void>[] laneFutures = new Future[recordLanes.length];
+        for (int i = 0; i < recordLanes.length; i++) {
+            laneFutures[i] = recordService.submit(new ProcessingCallables.TransformAndConsumeLane(records, recordLanes[i], processed, transformations, consumer));
+        }
+
+        completeBatch(records, laneFutures, processed, committer);
+    }
+
+    /**
+     * Splits the batch into lanes by the hash of the record topic and key, keeping the original order of the records within each lane.
+     *
+     * @return indexes of the records of each non-empty lane
+     */
+    static int[][] assignLanes(final List<SourceRecord> records, final int lanes) {
+        final int laneCount = Math.max(1, Math.min(lanes, records.size()));
+        final int[] recordLane = new int[records.size()];
+        final int[] laneSizes = new int[laneCount];
+        for (int i = 0; i < recordLane.length; i++) {
+            final SourceRecord record = records.get(i);
+            recordLane[i] = Math.floorMod(Objects.hash(record.topic(), record.key()), laneCount);
+            laneSizes[recordLane[i]]++;
+        }
+
+        int nonEmptyLanes = 0;
+        for (int laneSize : laneSizes) {
+            if (laneSize > 0) {
+                nonEmptyLanes++;
+            }
+        }
+        final int[][] result = new int[nonEmptyLanes][];
+        final int[] laneSlots = new int[laneCount];
+        for (int lane = 0, slot = 0; lane < laneCount; lane++) {
+            if (laneSizes[lane] > 0) {
+                laneSlots[lane] = slot;
+                result[slot++] = new int[laneSizes[lane]];
+                laneSizes[lane] = 0;
+            }
+        }
+        for (int i = 0; i < recordLane.length; i++) {
+            final int lane = recordLane[i];
+            result[laneSlots[lane]][laneSizes[lane]++] = i;
+        }
+        return result;
+    }
+
+    /**
+     * Waits for all the lanes to finish and marks the records as processed in the original order, up to the first record which wasn't processed.
+     * If any of the lanes failed, its failure is rethrown once the processed records are marked, otherwise the batch is marked as finished.
+     */
+    static void completeBatch(final List<SourceRecord> records, final Future<Void>[] laneFutures, final boolean[] processed,
+                              final DebeziumEngine.RecordCommitter committer)
+            throws InterruptedException, ExecutionException {
+        LOGGER.trace("Waiting for the lanes to finish processing.");
+        ExecutionException failure = null;
+        for (Future<Void> laneFuture : laneFutures) {
+            try {
+                laneFuture.get();
+            }
+            catch (ExecutionException e) {
+                if (failure == null || (e.getCause() instanceof StopEngineException && !(failure.getCause() instanceof StopEngineException))) {
+                    failure = e;
+                }
+            }
+        }
+
+        for (int i = 0; i < processed.length && processed[i]; i++) {
+            committer.markProcessed(records.get(i));
+        }
+
+        if (failure != null) {
+            if (failure.getCause() instanceof StopEngineException) {
+                throw (StopEngineException) failure.getCause();
+            }
+            throw failure;
+        }
+
+        LOGGER.trace("Marking batch as finished.");
+        committer.markBatchFinished();
+    }
+}
@@ -5,6 +5,7 @@
  */
 package io.debezium.embedded.async;
 
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -12,6 +13,7 @@
 import org.apache.kafka.connect.source.SourceRecord;
 
 import io.debezium.embedded.Transformations;
+import io.debezium.engine.StopEngineException;
 
 /**
  * // TODO: Document this
@@ -108,4 +110,85 @@ public Void call() {
             return null;
         }
     }
+
+    /**
+     * {@link Callable} which applies transformations to the records of one lane of a batch and passes them to provided consumer in the order of the batch.
+     * Each record which was passed to the consumer is flagged in the shared {@code processed} array, so that offsets can be committed only up to the first
+     * record which wasn't processed yet.
+     */
+    public static class TransformAndConsumeLane implements Callable<Void> {
+        private final List<SourceRecord> records;
+        private final int[] lane;
+        private final boolean[] processed;
+        private final Transformations transformations;
+        private final Consumer<SourceRecord> consumer;
+
+        TransformAndConsumeLane(final List<SourceRecord> records, final int[] lane, final boolean[] processed, final Transformations transformations,
+                                final Consumer<SourceRecord> consumer) {
+            this.records = records;
+            this.lane = lane;
+            this.processed = processed;
+            this.transformations = transformations;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public Void call() {
+            for (int index : lane) {
+                final SourceRecord transformedRecord = transformations.transform(records.get(index));
+                try {
+                    if (transformedRecord != null) {
+                        consumer.accept(transformedRecord);
+                    }
+                }
+                catch (StopEngineException e) {
+                    processed[index] = true;
+                    throw e;
+                }
+                processed[index] = true;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * {@link Callable} which applies transformations to the records of one lane of a batch, converts them into desired format and passes them to provided
+     * consumer in the order of the batch. Processed records are flagged the same way as in {@link TransformAndConsumeLane}.
+     */
+    public static class TransformConvertConsumeLane<R> implements Callable<Void> {
+        private final List<SourceRecord> records;
+        private final int[] lane;
+        private final boolean[] processed;
+        private final Transformations transformations;
+        private final Function<SourceRecord, R> serializer;
+        private final Consumer<R> consumer;
+
+        TransformConvertConsumeLane(final List<SourceRecord> records, final int[] lane, final boolean[] processed, final Transformations transformations,
+                                    final Function<SourceRecord, R> serializer, final Consumer<R> consumer) {
+            this.records = records;
+            this.lane = lane;
+            this.processed = processed;
+            this.transformations = transformations;
+            this.serializer = serializer;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public Void call() {
+            for (int index : lane) {
+                final SourceRecord transformedRecord = transformations.transform(records.get(index));
+                try {
+                    if (transformedRecord != null) {
+                        consumer.accept(serializer.apply(transformedRecord));
+                    }
+                }
+                catch (StopEngineException e) {
+                    processed[index] = true;
+                    throw e;
+                }
+                processed[index] = true;
+            }
+            return null;
+        }
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded.async;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import io.debezium.DebeziumException;
+
+/**
+ * Factory of {@link ExecutorService}s running each submitted task on a new virtual thread.
+ * The engine is compiled for runtimes without virtual threads, so the executors are created reflectively and are available only on Java 21 and newer runtimes.
+ */
+final class VirtualThreadExecutors {
+
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutorFactory();
+
+    private VirtualThreadExecutors() {
+    }
+
+    /**
+     * @return {@code true} if the current runtime supports virtual threads
+     */
+    static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread for each task.
+     */
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) {
+            throw new DebeziumException("Virtual threads are not supported by Java runtime " + Runtime.version());
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        }
+        catch (IllegalAccessException | InvocationTargetException e) {
+            throw new DebeziumException("Failed to create virtual thread executor", e);
+        }
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread for each task, but runs at most {@code maxConcurrency} tasks at the same time.
+     * Tasks above the limit wait on their virtual threads, so submitting a task never blocks the caller.
+     */
+    static ExecutorService newBoundedVirtualThreadExecutor(final int maxConcurrency) {
+        return new BoundedExecutor(newVirtualThreadPerTaskExecutor(), maxConcurrency);
+    }
+
+    private static Method findVirtualThreadPerTaskExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        }
+        catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link ExecutorService} which limits the number of concurrently running tasks of the delegate executor by a {@link Semaphore}.
+     */
+    private static class BoundedExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        BoundedExecutor(final ExecutorService delegate, final int maxConcurrency) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(maxConcurrency);
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            delegate.execute(() -> {
+                try {
+                    permits.acquire();
+                }
+                catch (InterruptedException e) {
+                    // The executor is being shut down, complete the waiting future of the task so that nobody waits for it forever
+                    Thread.currentThread().interrupt();
+                    if (command instanceof Future) {
+                        ((Future<?>) command).cancel(false);
+                    }
+                    return;
+                }
+                try {
+                    command.run();
+                }
+                finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
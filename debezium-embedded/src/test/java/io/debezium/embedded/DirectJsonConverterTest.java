@@ -0,0 +1,214 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.junit.jupiter.api.Test;
+
+public class DirectJsonConverterTest {
+
+    private static final String TOPIC = "topic";
+
+    private static final Schema NESTED_SCHEMA = SchemaBuilder.struct()
+            .name("nested")
+            .field("id", Schema.INT32_SCHEMA)
+            .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+            .optional()
+            .build();
+
+    private static final Schema ROW_SCHEMA = SchemaBuilder.struct()
+            .name("server.inventory.customers.Value")
+            .version(2)
+            .doc("A row \"quoted\"")
+            .parameter("table", "customers")
+            .field("int8", Schema.INT8_SCHEMA)
+            .field("int16", Schema.OPTIONAL_INT16_SCHEMA)
+            .field("int32", Schema.INT32_SCHEMA)
+            .field("int64", Schema.INT64_SCHEMA)
+            .field("float32", Schema.OPTIONAL_FLOAT32_SCHEMA)
+            .field("float64", Schema.OPTIONAL_FLOAT64_SCHEMA)
+            .field("bool", Schema.BOOLEAN_SCHEMA)
+            .field("text", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("bytes", Schema.OPTIONAL_BYTES_SCHEMA)
+            .field("decimal", Decimal.builder(3).optional().build())
+            .field("date", Date.builder().optional().build())
+            .field("time", Time.builder().optional().build())
+            .field("timestamp", Timestamp.builder().optional().build())
+            .field("defaulted", SchemaBuilder.string().optional().defaultValue("default").build())
+            .field("string_map", SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.INT64_SCHEMA).optional().build())
+            .field("int_map", SchemaBuilder.map(Schema.INT32_SCHEMA, Schema.OPTIONAL_STRING_SCHEMA).optional().build())
+            .field("nested", NESTED_SCHEMA)
+            .field("nested_array", SchemaBuilder.array(NESTED_SCHEMA).optional().build())
+            .build();
+
+    private static final Schema ENVELOPE_SCHEMA = SchemaBuilder.struct()
+            .name("server.inventory.customers.Envelope")
+            .field("before", SchemaBuilder.struct().name("before").field("id", Schema.INT32_SCHEMA).optional().build())
+            .field("after", ROW_SCHEMA)
+            .field("op", Schema.STRING_SCHEMA)
+            .field("ts_ms", Schema.OPTIONAL_INT64_SCHEMA)
+            .build();
+
+    @Test
+    public void shouldSerializeSameAsJsonConverter() {
+        final Struct row = fullRow();
+        final Struct envelope = new Struct(ENVELOPE_SCHEMA)
+                .put("after", row)
+                .put("op", "c")
+                .put("ts_ms", 1_700_000_000_123L);
+
+        for (Map<String, Object> config : configs()) {
+            assertSameAsJsonConverter(config, ENVELOPE_SCHEMA, envelope);
+            assertSameAsJsonConverter(config, ROW_SCHEMA, row);
+            assertSameAsJsonConverter(config, ROW_SCHEMA, minimalRow());
+        }
+    }
+
+    @Test
+    public void shouldSerializePrimitivesSameAsJsonConverter() {
+        for (Map<String, Object> config : configs()) {
+            assertSameAsJsonConverter(config, Schema.STRING_SCHEMA, "plain");
+            assertSameAsJsonConverter(config, Schema.STRING_SCHEMA, "escaped \" \\ / \b \f \n \r \t \u0000 \u001f \u007f");
+            assertSameAsJsonConverter(config, Schema.STRING_SCHEMA, "unicode é €   😀");
+            assertSameAsJsonConverter(config, Schema.STRING_SCHEMA, "broken \ud83d surrogate");
+            assertSameAsJsonConverter(config, Schema.INT64_SCHEMA, Long.MIN_VALUE);
+            assertSameAsJsonConverter(config, Schema.INT64_SCHEMA, Long.MAX_VALUE);
+            assertSameAsJsonConverter(config, Schema.INT32_SCHEMA, Integer.MIN_VALUE);
+            assertSameAsJsonConverter(config, Schema.INT32_SCHEMA, 0);
+            assertSameAsJsonConverter(config, Schema.FLOAT64_SCHEMA, Double.NaN);
+            assertSameAsJsonConverter(config, Schema.FLOAT64_SCHEMA, Double.NEGATIVE_INFINITY);
+            assertSameAsJsonConverter(config, Schema.FLOAT64_SCHEMA, 1.0E-10);
+            assertSameAsJsonConverter(config, Schema.FLOAT32_SCHEMA, Float.POSITIVE_INFINITY);
+            assertSameAsJsonConverter(config, Schema.FLOAT32_SCHEMA, 0.1f);
+            assertSameAsJsonConverter(config, Schema.BYTES_SCHEMA, ByteBuffer.wrap(new byte[]{ 1, 2, 3, 4, 5 }));
+            assertSameAsJsonConverter(config, Schema.OPTIONAL_STRING_SCHEMA, null);
+            assertSameAsJsonConverter(config, SchemaBuilder.int32().optional().defaultValue(42).build(), null);
+            assertSameAsJsonConverter(config, Decimal.schema(10), new BigDecimal("-12345678901234567890.1234567890"));
+        }
+    }
+
+    @Test
+    public void shouldDelegateUnsupportedValues() {
+        final Schema keySchema = SchemaBuilder.map(Schema.OPTIONAL_STRING_SCHEMA, Schema.INT32_SCHEMA).build();
+        final Map<String, Integer> nullKey = new HashMap<>();
+        nullKey.put(null, 1);
+
+        for (Map<String, Object> config : configs()) {
+            assertSameAsJsonConverter(config, null, Map.of("schemaless", List.of(1, 2)));
+            assertSameAsJsonConverter(config, null, null);
+            assertSameAsJsonConverter(config, keySchema, nullKey);
+        }
+    }
+
+    @Test
+    public void shouldFailLikeJsonConverter() {
+        final DirectJsonConverter converter = new DirectJsonConverter();
+        converter.configure(Map.of(), false);
+
+        assertThatThrownBy(() -> converter.fromConnectData(TOPIC, Schema.STRING_SCHEMA, null)).isInstanceOf(DataException.class);
+        assertThatThrownBy(() -> converter.fromConnectData(TOPIC, Schema.STRING_SCHEMA, 1)).isInstanceOf(DataException.class);
+        assertThatThrownBy(() -> converter.fromConnectData(TOPIC, ROW_SCHEMA, new Struct(NESTED_SCHEMA))).isInstanceOf(DataException.class);
+    }
+
+    @Test
+    public void shouldReadWhatItWrites() {
+        final DirectJsonConverter converter = new DirectJsonConverter();
+        converter.configure(Map.of(), false);
+
+        final Struct row = fullRow();
+        final byte[] json = converter.fromConnectData(TOPIC, ROW_SCHEMA, row);
+        assertThat(converter.toConnectData(TOPIC, json).value()).isEqualTo(row);
+    }
+
+    private static List<Map<String, Object>> configs() {
+        return List.of(
+                Map.of(),
+                Map.of("schemas.enable", false),
+                Map.of("decimal.format", "NUMERIC"),
+                Map.of("replace.null.with.default", false));
+    }
+
+    private static Struct fullRow() {
+        final Map<String, Long> stringMap = new LinkedHashMap<>();
+        stringMap.put("first", 1L);
+        stringMap.put("line\nbreak", -2L);
+        final Map<Integer, String> intMap = new LinkedHashMap<>();
+        intMap.put(1, "one");
+        intMap.put(2, null);
+        final Struct nested = new Struct(NESTED_SCHEMA)
+                .put("id", 7)
+                .put("tags", List.of("a", "b"));
+
+        return new Struct(ROW_SCHEMA)
+                .put("int8", (byte) -8)
+                .put("int16", (short) 16)
+                .put("int32", 32)
+                .put("int64", 64L)
+                .put("float32", 3.25f)
+                .put("float64", 1.0E300)
+                .put("bool", true)
+                .put("text", "text with \"quotes\" and ümlauts")
+                .put("bytes", new byte[]{ 0, -1, 127, -128 })
+                .put("decimal", new BigDecimal("-1234.567"))
+                .put("date", new java.util.Date(1_700_006_400_000L - 1_700_006_400_000L % 86_400_000L))
+                .put("time", new java.util.Date(45_296_789L))
+                .put("timestamp", new java.util.Date(1_700_000_000_123L))
+                .put("defaulted", "explicit")
+                .put("string_map", stringMap)
+                .put("int_map", intMap)
+                .put("nested", nested)
+                .put("nested_array", List.of(nested, new Struct(NESTED_SCHEMA).put("id", 8)));
+    }
+
+    private static Struct minimalRow() {
+        return new Struct(ROW_SCHEMA)
+                .put("int8", (byte) 0)
+                .put("int32", 0)
+                .put("int64", 0L)
+                .put("bool", false);
+    }
+
+    private static void assertSameAsJsonConverter(Map<String, Object> config, Schema schema, Object value) {
+        final JsonConverter expected = new JsonConverter();
+        expected.configure(config, false);
+        final DirectJsonConverter actual = new DirectJsonConverter();
+        actual.configure(config, false);
+
+        final byte[] expectedJson = expected.fromConnectData(TOPIC, schema, value);
+        // Twice to serialize with the cached plan as well
+        for (int i = 0; i < 2; i++) {
+            final byte[] actualJson = actual.fromConnectData(TOPIC, schema, value);
+            if (expectedJson == null) {
+                assertThat(actualJson).isNull();
+            }
+            else {
+                assertThat(new String(actualJson, StandardCharsets.UTF_8))
+                        .describedAs("config %s", config)
+                        .isEqualTo(new String(expectedJson, StandardCharsets.UTF_8));
+                assertThat(actualJson).isEqualTo(expectedJson);
+            }
+        }
+    }
+}
@@ -91,4 +91,32 @@ public void test() throws IOException {
             assertEquals(new Struct(expectedSchemaB).put("pro", "b2"), updated.key());
         }
     }
+
+    @Test
+    public void shouldApplyTransformationsAsFusedChain() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("transforms.fused", "true");
+        properties.setProperty("transforms", "a,b");
+
+        properties.setProperty("transforms.a.type", ReplaceField.class.getName() + "$Key");
+        properties.setProperty("transforms.a.renames", "key:who");
+
+        properties.setProperty("transforms.b.type", ReplaceField.class.getName() + "$Value");
+        properties.setProperty("transforms.b.renames", "key:pro");
+
+        final Schema inputSchema = SchemaBuilder.struct()
+                .field("key", Schema.STRING_SCHEMA)
+                .build();
+
+        final Struct inputStruct = new Struct(inputSchema)
+                .put("key", "b2");
+
+        try (Transformations transformations = new Transformations(Configuration.from(properties))) {
+            final SourceRecord updated = transformations.transform(new SourceRecord(Collections.emptyMap(), Collections.emptyMap(), "t1", 1, inputSchema,
+                    inputStruct, inputSchema, inputStruct));
+
+            assertEquals(new Struct(SchemaBuilder.struct().field("who", Schema.STRING_SCHEMA).build()).put("who", "b2"), updated.key());
+            assertEquals(new Struct(SchemaBuilder.struct().field("pro", Schema.STRING_SCHEMA).build()).put("pro", "b2"), updated.value());
+        }
+    }
 }
@@ -715,6 +715,54 @@ void testEngineBasicLifecycleConsumerNonSequentially() throws Exception {
         runEngineBasicLifecycleWithConsumer(props);
     }
 
+    @Test
+    void testEngineBasicLifecycleConsumerKeyOrdered() throws Exception {
+        final Properties props = new Properties();
+        props.setProperty(ConnectorConfig.NAME_CONFIG, "debezium-engine");
+        props.setProperty(ConnectorConfig.TASKS_MAX_CONFIG, "1");
+        props.setProperty(ConnectorConfig.CONNECTOR_CLASS_CONFIG, FileStreamSourceConnector.class.getName());
+        props.setProperty(StandaloneConfig.OFFSET_STORAGE_FILE_FILENAME_CONFIG, OFFSET_STORE_PATH.toAbsolutePath().toString());
+        props.setProperty(WorkerConfig.OFFSET_COMMIT_INTERVAL_MS_CONFIG, "0");
+        props.setProperty(FileStreamSourceConnector.FILE_CONFIG, TEST_FILE_PATH.toAbsolutePath().toString());
+        props.setProperty(FileStreamSourceConnector.TOPIC_CONFIG, "testTopic");
+        props.setProperty(AsyncEngineConfig.RECORD_PROCESSING_ORDER.name(), "KEY_ORDERED");
+        props.setProperty(AsyncEngineConfig.RECORD_PROCESSING_THREADS.name(), "4");
+
+        runEngineBasicLifecycleWithConsumer(props);
+    }
+
+    @Test
+    void testEngineBasicLifecycleConsumerOnVirtualThreads() throws Exception {
+        final Properties props = new Properties();
+        props.setProperty(ConnectorConfig.NAME_CONFIG, "debezium-engine");
+        props.setProperty(ConnectorConfig.TASKS_MAX_CONFIG, "1");
+        props.setProperty(ConnectorConfig.CONNECTOR_CLASS_CONFIG, FileStreamSourceConnector.class.getName());
+        props.setProperty(StandaloneConfig.OFFSET_STORAGE_FILE_FILENAME_CONFIG, OFFSET_STORE_PATH.toAbsolutePath().toString());
+        props.setProperty(WorkerConfig.OFFSET_COMMIT_INTERVAL_MS_CONFIG, "0");
+        props.setProperty(FileStreamSourceConnector.FILE_CONFIG, TEST_FILE_PATH.toAbsolutePath().toString());
+        props.setProperty(FileStreamSourceConnector.TOPIC_CONFIG, "testTopic");
+        props.setProperty(AsyncEngineConfig.RECORD_PROCESSING_ORDER.name(), "UNORDERED");
+        props.setProperty(AsyncEngineConfig.RECORD_PROCESSING_VIRTUAL_THREADS.name(), "true");
+        props.setProperty(AsyncEngineConfig.RECORD_PROCESSING_MAX_CONCURRENCY.name(), "16");
+
+        runEngineBasicLifecycleWithConsumer(props);
+    }
+
+    @Test
+    void testEngineBasicLifecycleConsumerWithAsyncOffsetCommit() throws Exception {
+        final Properties props = new Properties();
+        props.setProperty(ConnectorConfig.NAME_CONFIG, "debezium-engine");
+        props.setProperty(ConnectorConfig.TASKS_MAX_CONFIG, "1");
+        props.setProperty(ConnectorConfig.CONNECTOR_CLASS_CONFIG, FileStreamSourceConnector.class.getName());
+        props.setProperty(StandaloneConfig.OFFSET_STORAGE_FILE_FILENAME_CONFIG, OFFSET_STORE_PATH.toAbsolutePath().toString());
+        props.setProperty(WorkerConfig.OFFSET_COMMIT_INTERVAL_MS_CONFIG, "0");
+        props.setProperty(FileStreamSourceConnector.FILE_CONFIG, TEST_FILE_PATH.toAbsolutePath().toString());
+        props.setProperty(FileStreamSourceConnector.TOPIC_CONFIG, "testTopic");
+        props.setProperty(AsyncEngineConfig.OFFSET_COMMIT_ASYNC.name(), "true");
+
+        runEngineBasicLifecycleWithConsumer(props);
+    }
+
     @Test
     @FixFor("DBZ-7496")
     void testCompletionCallbackCalledAfterConnectorStop() throws Exception {
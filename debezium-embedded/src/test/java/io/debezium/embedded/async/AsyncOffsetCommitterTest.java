@@ -0,0 +1,207 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.json.JsonConverterConfig;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.source.SourceTask;
+import org.apache.kafka.connect.storage.MemoryOffsetBackingStore;
+import org.apache.kafka.connect.storage.OffsetStorageReaderImpl;
+import org.apache.kafka.connect.storage.OffsetStorageWriter;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.embedded.KafkaConnectUtil;
+import io.debezium.util.Clock;
+
+public class AsyncOffsetCommitterTest {
+
+    private static final Map<String, ?> PARTITION = Map.of("server", "test");
+
+    @Test
+    void shouldNotBlockCallerAndCoalesceRequestsDuringFlush() throws Exception {
+        final CountDownLatch flushStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFlush = new CountDownLatch(1);
+        final AtomicInteger flushes = new AtomicInteger();
+        final List<Collection<SourceTask>> committedTasks = new ArrayList<>();
+        final TestTask task1 = new TestTask();
+        final TestTask task2 = new TestTask();
+
+        final AsyncOffsetCommitter committer = new AsyncOffsetCommitter("coalescing-test", Clock.system(), 10_000, tasks -> {
+            if (flushes.incrementAndGet() == 1) {
+                flushStarted.countDown();
+                releaseFlush.await();
+            }
+            synchronized (committedTasks) {
+                committedTasks.add(new ArrayList<>(tasks));
+            }
+            return true;
+        });
+        try {
+            committer.requestCommit(task1);
+            assertThat(flushStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(committer.isCommitInProgress()).isTrue();
+
+            // The first flush is blocked, the following requests must neither block nor trigger more than one flush
+            for (int i = 0; i < 100; i++) {
+                committer.requestCommit(i % 2 == 0 ? task1 : task2);
+            }
+            assertThat(committer.getPendingCommitRequests()).isEqualTo(100);
+            releaseFlush.countDown();
+
+            Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> committer.getNumberOfCommits() == 2);
+            assertThat(flushes.get()).isEqualTo(2);
+            assertThat(committer.getNumberOfCoalescedCommitRequests()).isEqualTo(99);
+            assertThat(committer.getPendingCommitRequests()).isZero();
+            synchronized (committedTasks) {
+                assertThat(committedTasks.get(1)).containsExactlyInAnyOrder(task1, task2);
+            }
+        }
+        finally {
+            committer.close();
+        }
+    }
+
+    @Test
+    void shouldCountFailedCommits() throws Exception {
+        final AsyncOffsetCommitter committer = new AsyncOffsetCommitter("failure-test", Clock.system(), 10_000, tasks -> {
+            throw new TimeoutException("Slow offset store");
+        });
+        try {
+            committer.requestCommit(new TestTask());
+            Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> committer.getNumberOfFailedCommits() == 1);
+            assertThat(committer.getNumberOfCommits()).isZero();
+            assertThat(committer.getMilliSecondsSinceLastCommit()).isEqualTo(-1);
+        }
+        finally {
+            committer.close();
+        }
+    }
+
+    @Test
+    void shouldNotCommitRecordsToTaskBeyondFlushedOffsets() throws Exception {
+        final MemoryOffsetBackingStore offsetStore = KafkaConnectUtil.memoryOffsetBackingStore();
+        offsetStore.start();
+        final JsonConverter converter = new JsonConverter();
+        converter.configure(Map.of(JsonConverterConfig.SCHEMAS_ENABLE_CONFIG, "false"), false);
+        final OffsetStorageWriter offsetWriter = new OffsetStorageWriter(offsetStore, "source-commit-test", converter, converter);
+        final OffsetStorageReaderImpl offsetReader = new OffsetStorageReaderImpl(offsetStore, "source-commit-test", converter, converter);
+        final CountDownLatch flushStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFlush = new CountDownLatch(1);
+        final RecordingTask task = new RecordingTask();
+
+        // Flushes the offsets the same way as the engine does
+        final AsyncOffsetCommitter committer = new AsyncOffsetCommitter("source-commit-test", Clock.system(), 10_000, tasks -> {
+            if (!offsetWriter.beginFlush(10, TimeUnit.SECONDS)) {
+                return false;
+            }
+            flushStarted.countDown();
+            releaseFlush.await();
+            try {
+                offsetWriter.doFlush((error, result) -> {
+                }).get(10, TimeUnit.SECONDS);
+            }
+            catch (Exception e) {
+                offsetWriter.cancelFlush();
+                return false;
+            }
+            for (SourceTask flushedTask : tasks) {
+                flushedTask.commit();
+            }
+            return true;
+        });
+        try {
+            for (long position = 0; position < 5; position++) {
+                markProcessed(committer, offsetWriter, task, position);
+            }
+            committer.requestCommit(task);
+            assertThat(flushStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // The records processed during the flush aren't part of the flushed offsets, so the task must not commit them to the source yet
+            for (long position = 5; position < 10; position++) {
+                markProcessed(committer, offsetWriter, task, position);
+            }
+            assertThat(task.lastRecordPosition).isEqualTo(4);
+            releaseFlush.countDown();
+
+            Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> committer.getNumberOfCommits() == 1 && !committer.isCommitInProgress());
+            assertThat(storedPosition(offsetReader)).isEqualTo(4);
+            assertThat(task.committedPosition).isEqualTo(4);
+            assertThat(task.lastRecordPosition).isEqualTo(9);
+
+            committer.requestCommit(task);
+            Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> committer.getNumberOfCommits() == 2);
+            assertThat(storedPosition(offsetReader)).isEqualTo(9);
+            assertThat(task.committedPosition).isEqualTo(9);
+        }
+        finally {
+            committer.close();
+            offsetStore.stop();
+        }
+    }
+
+    private static void markProcessed(AsyncOffsetCommitter committer, OffsetStorageWriter offsetWriter, SourceTask task, long position)
+            throws InterruptedException {
+        final SourceRecord record = new SourceRecord(PARTITION, Map.of("position", position), "topic", null, null);
+        offsetWriter.offset(record.sourcePartition(), record.sourceOffset());
+        committer.commitRecord(task, record);
+    }
+
+    private static long storedPosition(OffsetStorageReaderImpl offsetReader) {
+        return ((Number) offsetReader.offset(PARTITION).get("position")).longValue();
+    }
+
+    /**
+     * Commits the position of the last committed record to the source, the same way as {@link io.debezium.connector.common.BaseSourceTask} does.
+     */
+    private static class RecordingTask extends TestTask {
+        private volatile long lastRecordPosition = -1;
+        private volatile long committedPosition = -1;
+
+        @Override
+        public void commitRecord(SourceRecord record, RecordMetadata metadata) {
+            lastRecordPosition = (Long) record.sourceOffset().get("position");
+        }
+
+        @Override
+        public void commit() {
+            committedPosition = lastRecordPosition;
+        }
+    }
+
+    private static class TestTask extends SourceTask {
+        @Override
+        public String version() {
+            return null;
+        }
+
+        @Override
+        public void start(Map<String, String> props) {
+        }
+
+        @Override
+        public List<SourceRecord> poll() {
+            return null;
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.embedded.Transformations;
+import io.debezium.engine.DebeziumEngine;
+
+public class ParallelSmtKeyOrderedConsumerProcessorTest {
+
+    private ExecutorService recordService;
+    private Transformations transformations;
+    private List<SourceRecord> committed;
+    private boolean batchFinished;
+
+    @BeforeEach
+    void before() {
+        recordService = Executors.newFixedThreadPool(4);
+        transformations = new Transformations(Configuration.empty());
+        committed = Collections.synchronizedList(new ArrayList<>());
+        batchFinished = false;
+    }
+
+    @AfterEach
+    void after() throws Exception {
+        recordService.shutdownNow();
+        transformations.close();
+    }
+
+    @Test
+    void shouldKeepOrderOfRecordsWithSameKey() throws Exception {
+        final List<SourceRecord> records = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            records.add(record("key" + (i % 7), i));
+        }
+        final List<SourceRecord> consumed = Collections.synchronizedList(new ArrayList<>());
+
+        final ParallelSmtKeyOrderedConsumerProcessor processor = new ParallelSmtKeyOrderedConsumerProcessor(committer(), consumed::add, 4);
+        processor.initialize(recordService, transformations);
+        processor.processRecords(records);
+
+        assertThat(consumed).hasSize(records.size());
+        final Map<Object, List<Object>> consumedPerKey = consumed.stream()
+                .collect(Collectors.groupingBy(SourceRecord::key, Collectors.mapping(SourceRecord::value, Collectors.toList())));
+        final Map<Object, List<Object>> expectedPerKey = records.stream()
+                .collect(Collectors.groupingBy(SourceRecord::key, Collectors.mapping(SourceRecord::value, Collectors.toList())));
+        assertThat(consumedPerKey).isEqualTo(expectedPerKey);
+        assertThat(committed).containsExactlyElementsOf(records);
+        assertThat(batchFinished).isTrue();
+    }
+
+    @Test
+    void shouldCommitOnlyUpToFirstFailedRecord() throws Exception {
+        final List<SourceRecord> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(record("key" + (i % 5), i));
+        }
+
+        final ParallelSmtKeyOrderedConsumerProcessor processor = new ParallelSmtKeyOrderedConsumerProcessor(committer(), r -> {
+            if ((int) r.value() == 42) {
+                throw new IllegalStateException("Failed to consume record");
+            }
+        }, 4);
+        processor.initialize(recordService, transformations);
+
+        assertThatThrownBy(() -> processor.processRecords(records))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(committed).containsExactlyElementsOf(records.subList(0, 42));
+        assertThat(batchFinished).isFalse();
+    }
+
+    private DebeziumEngine.RecordCommitter<SourceRecord> committer() {
+        return new DebeziumEngine.RecordCommitter<>() {
+            @Override
+            public void markProcessed(SourceRecord record) {
+                committed.add(record);
+            }
+
+            @Override
+            public void markBatchFinished() {
+                batchFinished = true;
+            }
+
+            @Override
+            public void markProcessed(SourceRecord record, DebeziumEngine.Offsets sourceOffsets) {
+                committed.add(record);
+            }
+
+            @Override
+            public DebeziumEngine.Offsets buildOffsets() {
+                return null;
+            }
+        };
+    }
+
+    private static SourceRecord record(String key, int value) {
+        return new SourceRecord(Collections.singletonMap("partition", 0), Collections.singletonMap("offset", value), "topic", 0,
+                Schema.STRING_SCHEMA, key, Schema.INT32_SCHEMA, value);
+    }
+}
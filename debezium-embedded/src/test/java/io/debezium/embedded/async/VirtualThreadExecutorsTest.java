@@ -0,0 +1,73 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadExecutorsTest {
+
+    @BeforeEach
+    void checkSupport() {
+        assumeTrue(VirtualThreadExecutors.isSupported(), "Virtual threads are not supported by the runtime");
+    }
+
+    @Test
+    void shouldLimitNumberOfConcurrentTasks() throws Exception {
+        final ExecutorService executor = VirtualThreadExecutors.newBoundedVirtualThreadExecutor(4);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(5);
+                    running.decrementAndGet();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(maxRunning.get()).isBetween(1, 4);
+    }
+
+    @Test
+    void shouldCancelWaitingTasksOnShutdown() throws Exception {
+        final ExecutorService executor = VirtualThreadExecutors.newBoundedVirtualThreadExecutor(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final Future<?> blocking = executor.submit(() -> {
+            started.countDown();
+            Thread.sleep(60_000);
+            return null;
+        });
+        assertThat(started.await(30, TimeUnit.SECONDS)).isTrue();
+        final Future<?> waiting = executor.submit(() -> null);
+
+        executor.shutdownNow();
+
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(blocking.isDone()).isTrue();
+        assertThat(waiting.isDone()).isTrue();
+    }
+}
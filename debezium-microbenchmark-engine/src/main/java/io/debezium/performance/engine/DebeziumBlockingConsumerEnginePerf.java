@@ -0,0 +1,100 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.engine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.kafka.connect.runtime.standalone.StandaloneConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.config.Configuration;
+import io.debezium.embedded.EmbeddedEngineConfig;
+import io.debezium.embedded.async.AsyncEngineConfig;
+import io.debezium.embedded.async.ConvertingAsyncEngineBuilderFactory;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.format.KeyValueHeaderChangeEventFormat;
+import io.debezium.performance.engine.connector.PreComputedRecordsSourceConnector;
+
+/**
+ * JMH benchmark focused on speed of record processing of the async {@link DebeziumEngine} with a consumer which blocks for every record,
+ * e.g. on a remote call, comparing record processing on platform thread pools with record processing on virtual threads.
+ */
+public class DebeziumBlockingConsumerEnginePerf {
+
+    @State(Scope.Thread)
+    public static class AsyncEnginePerfTest extends AbstractDebeziumEnginePerf {
+        // Maximum number of records processed concurrently, i.e. the pool size for platform threads and the concurrency limit for virtual threads.
+        @Param({ "16", "256", "1024" })
+        public int concurrency;
+
+        @Param({ "false", "true" })
+        public boolean virtualThreads;
+
+        @Param({ "UNORDERED", "KEY_ORDERED" })
+        public String processingOrder;
+
+        @Param({ "1000" })
+        public long consumerLatencyMicros;
+
+        public DebeziumEngine createEngine() {
+            Configuration config = Configuration.create()
+                    .with(EmbeddedEngineConfig.ENGINE_NAME, "async-engine")
+                    .with(EmbeddedEngineConfig.CONNECTOR_CLASS, PreComputedRecordsSourceConnector.class)
+                    .with(StandaloneConfig.OFFSET_STORAGE_FILE_FILENAME_CONFIG, getPath(OFFSET_FILE_NAME).toAbsolutePath())
+                    .with(EmbeddedEngineConfig.OFFSET_FLUSH_INTERVAL_MS, 3_600_000)
+                    .with(AsyncEngineConfig.RECORD_PROCESSING_SHUTDOWN_TIMEOUT_MS, 100)
+                    .with(AsyncEngineConfig.TASK_MANAGEMENT_TIMEOUT_MS, 100)
+                    .with(AsyncEngineConfig.RECORD_PROCESSING_ORDER, processingOrder)
+                    .with(AsyncEngineConfig.RECORD_PROCESSING_THREADS, concurrency)
+                    .with(AsyncEngineConfig.RECORD_PROCESSING_VIRTUAL_THREADS, virtualThreads)
+                    .with(AsyncEngineConfig.RECORD_PROCESSING_MAX_CONCURRENCY, concurrency)
+                    .build();
+
+            return new ConvertingAsyncEngineBuilderFactory()
+                    .builder((KeyValueHeaderChangeEventFormat) null)
+                    .using(config.asProperties())
+                    .notifying(getRecordConsumer())
+                    .using(this.getClass().getClassLoader())
+                    .build();
+        }
+
+        @Override
+        protected Consumer getRecordConsumer() {
+            final Consumer recordConsumer = super.getRecordConsumer();
+            return record -> {
+                // Simulate a blocking call made for every record
+                try {
+                    TimeUnit.MICROSECONDS.sleep(consumerLatencyMicros);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                recordConsumer.accept(record);
+            };
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 1, time = 1)
+    public void processRecordsAsyncEngine(AsyncEnginePerfTest test) throws InterruptedException {
+        test.finishLatch.await();
+    }
+}
@@ -42,6 +42,9 @@ public static class AsyncEnginePerfTest extends AbstractDebeziumEnginePerf {
         @Param({ "ORDERED", "UNORDERED" })
         public String processingOrder;
 
+        @Param({ "org.apache.kafka.connect.json.JsonConverter", "io.debezium.embedded.DirectJsonConverter" })
+        public String converterClass;
+
         public DebeziumEngine createEngine() {
             Configuration config = Configuration.create()
                     .with(EmbeddedEngineConfig.ENGINE_NAME, "async-engine")
@@ -52,6 +55,7 @@ public DebeziumEngine createEngine() {
                     .with(AsyncEngineConfig.TASK_MANAGEMENT_TIMEOUT_MS, 100)
                     .with(AsyncEngineConfig.RECORD_PROCESSING_THREADS, threadCount)
                     .with(AsyncEngineConfig.RECORD_PROCESSING_ORDER, processingOrder)
+                    .with("converter.class", converterClass)
                     .build();
 
             return new ConvertingAsyncEngineBuilderFactory()
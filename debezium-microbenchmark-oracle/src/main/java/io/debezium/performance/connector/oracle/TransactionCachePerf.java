@@ -0,0 +1,155 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.oracle;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.buffered.LogMinerTransactionCache;
+import io.debezium.connector.oracle.logminer.buffered.memory.CompactMemoryLogMinerTransactionCache;
+import io.debezium.connector.oracle.logminer.buffered.memory.MemoryLogMinerTransactionCache;
+import io.debezium.connector.oracle.logminer.buffered.memory.MemoryTransaction;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.RowIdCodec;
+import io.debezium.relational.TableId;
+
+/**
+ * JMH benchmark comparing the heap based LogMiner transaction caches, the map based
+ * {@link MemoryLogMinerTransactionCache} and the {@link CompactMemoryLogMinerTransactionCache}.
+ *
+ * The {@code footprint} benchmark reports the heap retained by the cache per buffered event as the
+ * {@code retainedBytesPerEvent} secondary result. The events themselves are shared between the runs,
+ * so the result only contains the overhead of the cache structures.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TransactionCachePerf {
+
+    private static final TableId TABLE_ID = TableId.parse("ORCLPDB1.DEBEZIUM.TEST");
+
+    @State(Scope.Thread)
+    public static class CacheState {
+
+        @Param({ "map", "compact" })
+        public String cache;
+
+        @Param({ "100", "10000" })
+        public int transactions;
+
+        @Param({ "100" })
+        public int eventsPerTransaction;
+
+        public LogMinerEvent[] events;
+        public MemoryTransaction[] transactionList;
+        public LogMinerTransactionCache<MemoryTransaction> populated;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            events = new LogMinerEvent[eventsPerTransaction];
+            for (int i = 0; i < eventsPerTransaction; i++) {
+                events[i] = new LogMinerEvent(EventType.INSERT, Scn.valueOf(i), TABLE_ID, RowIdCodec.decode(i), "rs", Instant.now());
+            }
+            transactionList = new MemoryTransaction[transactions];
+            for (int i = 0; i < transactions; i++) {
+                transactionList[i] = new MemoryTransaction(Integer.toHexString(i), Scn.valueOf(i), Instant.now(), "user", 1, null);
+            }
+            populated = populate(this);
+        }
+
+        public LogMinerTransactionCache<MemoryTransaction> createCache() {
+            return "compact".equals(cache) ? new CompactMemoryLogMinerTransactionCache() : new MemoryLogMinerTransactionCache();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytesPerEvent;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public LogMinerTransactionCache<MemoryTransaction> addEvents(CacheState state) {
+        return populate(state);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void forEachEvent(CacheState state, Blackhole blackhole) throws InterruptedException {
+        for (MemoryTransaction transaction : state.transactionList) {
+            state.populated.forEachEvent(transaction, (event, rolledBack) -> {
+                blackhole.consume(event);
+                return true;
+            });
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void containsTransactionEvent(CacheState state, Blackhole blackhole) {
+        for (MemoryTransaction transaction : state.transactionList) {
+            for (int eventId = 0; eventId < state.eventsPerTransaction; eventId++) {
+                blackhole.consume(state.populated.containsTransactionEvent(transaction, eventId));
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public LogMinerTransactionCache<MemoryTransaction> footprint(CacheState state, Footprint footprint) {
+        final long before = usedHeap();
+        final LogMinerTransactionCache<MemoryTransaction> cache = populate(state);
+        final long after = usedHeap();
+        footprint.retainedBytesPerEvent = (after - before) / ((long) state.transactions * state.eventsPerTransaction);
+        return cache;
+    }
+
+    private static LogMinerTransactionCache<MemoryTransaction> populate(CacheState state) {
+        final LogMinerTransactionCache<MemoryTransaction> cache = state.createCache();
+        for (MemoryTransaction transaction : state.transactionList) {
+            transaction.start();
+            cache.addTransaction(transaction);
+            for (LogMinerEvent event : state.events) {
+                final int eventId = transaction.getNextEventId();
+                if (!cache.containsTransactionEvent(transaction, eventId)) {
+                    cache.addTransactionEvent(transaction, eventId, event);
+                }
+            }
+        }
+        return cache;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.jdbc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.JdbcSinkConnectorTask;
+
+/**
+ * JMH benchmark comparing the record writers of the JDBC sink connector for PostgreSQL:
+ * standard JDBC batching, {@code UNNEST}-based batches and {@code COPY}-based batches.
+ *
+ * The benchmark writes to a running PostgreSQL database, which can be configured using the
+ * {@code jdbc.url}, {@code jdbc.user} and {@code jdbc.password} system properties.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JdbcSinkRecordWriterPerf {
+
+    private static final String TOPIC = "jdbc_sink_writer_perf";
+    private static final String URL = System.getProperty("jdbc.url", "jdbc:postgresql://localhost:5432/postgres");
+    private static final String USER = System.getProperty("jdbc.user", "postgres");
+    private static final String PASSWORD = System.getProperty("jdbc.password", "postgres");
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct()
+            .name("key")
+            .field("id", Schema.INT64_SCHEMA)
+            .build();
+    private static final Schema VALUE_SCHEMA = SchemaBuilder.struct()
+            .name("value")
+            .field("id", Schema.INT64_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("description", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("quantity", Schema.OPTIONAL_INT32_SCHEMA)
+            .field("price", Schema.OPTIONAL_FLOAT64_SCHEMA)
+            .field("active", Schema.OPTIONAL_BOOLEAN_SCHEMA)
+            .build();
+
+    @Param({ "default", "unnest", "copy" })
+    private String writer;
+
+    @Param({ "500", "5000" })
+    private int batchSize;
+
+    @Param({ "insert", "upsert" })
+    private String insertMode;
+
+    private JdbcSinkConnectorTask task;
+    private List<SinkRecord> records;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        dropTable();
+
+        final Map<String, String> props = new HashMap<>();
+        props.put(JdbcSinkConnectorConfig.CONNECTION_URL, URL);
+        props.put(JdbcSinkConnectorConfig.CONNECTION_USER, USER);
+        props.put(JdbcSinkConnectorConfig.CONNECTION_PASSWORD, PASSWORD);
+        props.put(JdbcSinkConnectorConfig.INSERT_MODE, insertMode);
+        props.put(JdbcSinkConnectorConfig.PRIMARY_KEY_MODE, "record_key");
+        props.put(JdbcSinkConnectorConfig.SCHEMA_EVOLUTION, "basic");
+        props.put(JdbcSinkConnectorConfig.BATCH_SIZE, Integer.toString(batchSize));
+        switch (writer) {
+            case "unnest" -> props.put(JdbcSinkConnectorConfig.POSTGRES_UNNEST_INSERT, "true");
+            case "copy" -> props.put(JdbcSinkConnectorConfig.POSTGRES_COPY_THRESHOLD, "1");
+            default -> {
+            }
+        }
+
+        task = new JdbcSinkConnectorTask();
+        task.start(props);
+        records = new ArrayList<>(batchSize);
+    }
+
+    @Setup(Level.Invocation)
+    public void createRecords() {
+        records.clear();
+        for (int i = 0; i < batchSize; i++) {
+            // in upsert mode half of the keys of each batch update rows written by the previous batch
+            final long id = "upsert".equals(insertMode) && i % 2 == 0 && nextId >= batchSize ? nextId - batchSize + i : nextId + i;
+            final Struct key = new Struct(KEY_SCHEMA).put("id", id);
+            final Struct value = new Struct(VALUE_SCHEMA)
+                    .put("id", id)
+                    .put("name", "name-" + id)
+                    .put("description", "description of the row with identifier " + id)
+                    .put("quantity", (int) (id % 1000))
+                    .put("price", id * 0.25)
+                    .put("active", id % 2 == 0);
+            records.add(new SinkRecord(TOPIC, 0, KEY_SCHEMA, key, VALUE_SCHEMA, value, nextId + i));
+        }
+        nextId += batchSize;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        task.stop();
+        dropTable();
+    }
+
+    @Benchmark
+    public void write() {
+        task.put(records);
+        if (task.getLastProcessingException() != null) {
+            throw new IllegalStateException("Failed to write records", task.getLastProcessingException());
+        }
+    }
+
+    private void dropTable() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, USER, PASSWORD);
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TOPIC);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.pipeline.source.spi.ChangeTableMergeQueue;
+import io.debezium.pipeline.source.spi.ChangeTableResultSet;
+import io.debezium.relational.ChangeTable;
+
+/**
+ * Measures the cost of finding the next change across a number of change tables, comparing the
+ * linear scan over all tables with the {@link ChangeTableMergeQueue}. The result is the average time
+ * per merged change.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 3, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode({ Mode.AverageTime })
+public class ChangeTableMergePerf {
+
+    private static final int CHANGES = 100_000;
+
+    @Param({ "1", "10", "100", "1500" })
+    private int changeTableCount;
+
+    private long[][] positions;
+    private InMemoryChangeTable[] changeTables;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        // Spread the changes randomly across the tables, with increasing positions per table
+        final Random random = new Random(42);
+        final int[] tables = new int[CHANGES];
+        final int[] counts = new int[changeTableCount];
+        for (int i = 0; i < CHANGES; i++) {
+            tables[i] = random.nextInt(changeTableCount);
+            counts[tables[i]]++;
+        }
+        positions = new long[changeTableCount][];
+        for (int i = 0; i < changeTableCount; i++) {
+            positions[i] = new long[counts[i]];
+            counts[i] = 0;
+        }
+        for (int i = 0; i < CHANGES; i++) {
+            positions[tables[i]][counts[tables[i]]++] = i;
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        changeTables = new InMemoryChangeTable[changeTableCount];
+        for (int i = 0; i < changeTableCount; i++) {
+            changeTables[i] = new InMemoryChangeTable(positions[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHANGES)
+    public void linearScan(Blackhole blackhole) throws SQLException {
+        for (;;) {
+            InMemoryChangeTable tableWithSmallestPosition = null;
+            for (InMemoryChangeTable changeTable : changeTables) {
+                if (changeTable.isCompleted()) {
+                    continue;
+                }
+                if (tableWithSmallestPosition == null || changeTable.compareTo(tableWithSmallestPosition) < 0) {
+                    tableWithSmallestPosition = changeTable;
+                }
+            }
+            if (tableWithSmallestPosition == null) {
+                break;
+            }
+            blackhole.consume(tableWithSmallestPosition.getChangePosition());
+            tableWithSmallestPosition.next();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHANGES)
+    public void mergeQueue(Blackhole blackhole) throws SQLException {
+        final ChangeTableMergeQueue<InMemoryChangeTable, Long> queue = new ChangeTableMergeQueue<>(changeTables);
+        InMemoryChangeTable tableWithSmallestPosition;
+        while ((tableWithSmallestPosition = queue.next()) != null) {
+            blackhole.consume(tableWithSmallestPosition.getChangePosition());
+            tableWithSmallestPosition.next();
+        }
+    }
+
+    private static class InMemoryChangeTable extends ChangeTableResultSet<ChangeTable, Long> {
+
+        private final long[] positions;
+        private int index;
+
+        InMemoryChangeTable(long[] positions) {
+            super(null, 0, 0);
+            this.positions = positions;
+        }
+
+        @Override
+        public boolean next() {
+            if (index < positions.length) {
+                index++;
+            }
+            return !isCompleted();
+        }
+
+        @Override
+        public Long getChangePosition() {
+            return positions[index];
+        }
+
+        @Override
+        public boolean isCompleted() {
+            return index >= positions.length;
+        }
+
+        @Override
+        protected ResultSet getNextResultSet(Long lastChangePositionSeen) {
+            return null;
+        }
+
+        @Override
+        protected int getOperation(ResultSet resultSet) {
+            return 0;
+        }
+
+        @Override
+        protected Long getNextChangePosition(ResultSet resultSet) {
+            return null;
+        }
+    }
+}
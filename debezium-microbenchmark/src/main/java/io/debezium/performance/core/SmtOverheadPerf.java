@@ -5,7 +5,9 @@
  */
 package io.debezium.performance.core;
 
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -14,6 +16,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.header.ConnectHeaders;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.apache.kafka.connect.transforms.Transformation;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -28,7 +31,14 @@
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
+import io.debezium.data.Envelope;
 import io.debezium.performance.Module;
+import io.debezium.time.Timestamp;
+import io.debezium.transforms.ByLogicalTableRouter;
+import io.debezium.transforms.ExtractNewRecordState;
+import io.debezium.transforms.FusedTransformationChain;
+import io.debezium.transforms.HeaderToValue;
+import io.debezium.transforms.TimezoneConverter;
 
 /**
  * A basic test to calculate overhead of using SMTs.
@@ -126,6 +136,120 @@ public void doSetup() {
         }
     }
 
+    /**
+     * A chain of Debezium SMTs commonly used together, applied to a create event.
+     */
+    @State(Scope.Thread)
+    public static class ChainState {
+
+        public List<Transformation<SourceRecord>> chain;
+        public FusedTransformationChain<SourceRecord> fusedChain;
+        public SourceRecord create;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final Schema keySchema = SchemaBuilder.struct().name("server.inventory.customers_shard_1.Key")
+                    .field("id", Schema.INT32_SCHEMA)
+                    .build();
+            final Schema rowSchema = SchemaBuilder.struct().name("server.inventory.customers_shard_1.Value").optional()
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("first_name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("last_name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("email", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("created", Timestamp.builder().optional().build())
+                    .build();
+            final Schema sourceSchema = SchemaBuilder.struct().optional()
+                    .field("table", Schema.STRING_SCHEMA)
+                    .field("lsn", Schema.INT64_SCHEMA)
+                    .build();
+            final Envelope envelope = Envelope.defineSchema()
+                    .withName("server.inventory.customers_shard_1.Envelope")
+                    .withRecord(rowSchema)
+                    .withSource(sourceSchema)
+                    .build();
+
+            final Struct after = new Struct(rowSchema)
+                    .put("id", 1001)
+                    .put("first_name", "Sally")
+                    .put("last_name", "Thomas")
+                    .put("email", "sally.thomas@acme.com")
+                    .put("created", 1_700_000_000_000L);
+            final Struct source = new Struct(sourceSchema)
+                    .put("table", "customers_shard_1")
+                    .put("lsn", 1L);
+            create = new SourceRecord(new HashMap<>(), new HashMap<>(), "server.inventory.customers_shard_1", null,
+                    keySchema, new Struct(keySchema).put("id", 1001), envelope.schema(), envelope.create(after, source, Instant.now()), 1L,
+                    new ConnectHeaders().addString("shard", "1"));
+
+            final ExtractNewRecordState<SourceRecord> extractNewRecordState = new ExtractNewRecordState<>();
+            extractNewRecordState.configure(Map.of("add.fields", "op,table"));
+            final ByLogicalTableRouter<SourceRecord> router = new ByLogicalTableRouter<>();
+            router.configure(Map.of("topic.regex", "(.*)customers_shard(.*)", "topic.replacement", "$1customers_all_shards"));
+            final TimezoneConverter<SourceRecord> timezoneConverter = new TimezoneConverter<>();
+            timezoneConverter.configure(Map.of("converted.timezone", "UTC"));
+            final HeaderToValue<SourceRecord> headerToValue = new HeaderToValue<>();
+            headerToValue.configure(Map.of("headers", "shard", "fields", "shard", "operation", "copy"));
+
+            chain = List.of(extractNewRecordState, router, timezoneConverter, headerToValue);
+            fusedChain = new FusedTransformationChain<>(chain);
+        }
+    }
+
+    /**
+     * {@link ExtractNewRecordState} adding both fields and headers, applied to an update event of a wide table.
+     */
+    @State(Scope.Thread)
+    public static class ExtractNewRecordStateState {
+
+        private static final int COLUMNS = 20;
+
+        public Transformation<SourceRecord> extractNewRecordState;
+        public SourceRecord update;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final SchemaBuilder rowSchemaBuilder = SchemaBuilder.struct().name("server.inventory.orders.Value").optional()
+                    .field("id", Schema.INT64_SCHEMA);
+            for (int i = 1; i < COLUMNS; i++) {
+                rowSchemaBuilder.field("column_" + i, i % 5 == 0
+                        ? SchemaBuilder.int32().optional().defaultValue(0).build()
+                        : Schema.OPTIONAL_STRING_SCHEMA);
+            }
+            final Schema rowSchema = rowSchemaBuilder.build();
+            final Schema sourceSchema = SchemaBuilder.struct().optional()
+                    .field("db", Schema.STRING_SCHEMA)
+                    .field("table", Schema.STRING_SCHEMA)
+                    .field("lsn", Schema.INT64_SCHEMA)
+                    .field("ts_ms", Schema.INT64_SCHEMA)
+                    .build();
+            final Envelope envelope = Envelope.defineSchema()
+                    .withName("server.inventory.orders.Envelope")
+                    .withRecord(rowSchema)
+                    .withSource(sourceSchema)
+                    .build();
+
+            final Struct before = new Struct(rowSchema).put("id", 1L);
+            final Struct after = new Struct(rowSchema).put("id", 1L);
+            for (int i = 1; i < COLUMNS; i++) {
+                final Object value = i % 5 == 0 ? (Object) i : "value " + i;
+                before.put("column_" + i, value);
+                after.put("column_" + i, value);
+            }
+            final Struct source = new Struct(sourceSchema)
+                    .put("db", "inventory")
+                    .put("table", "orders")
+                    .put("lsn", 1L)
+                    .put("ts_ms", 1_700_000_000_000L);
+            update = new SourceRecord(new HashMap<>(), new HashMap<>(), "server.inventory.orders", envelope.schema(),
+                    envelope.update(before, after, source, Instant.now()));
+
+            extractNewRecordState = new ExtractNewRecordState<>();
+            extractNewRecordState.configure(Map.of(
+                    "add.fields", "op,table,lsn,source.ts_ms",
+                    "add.headers", "op,db,table"));
+        }
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.MICROSECONDS)
@@ -154,4 +278,41 @@ public void noop(TransformState state) {
     @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
     public void base(TransformState state) {
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord chain(ChainState state) {
+        SourceRecord record = state.create;
+        for (Transformation<SourceRecord> transformation : state.chain) {
+            record = transformation.apply(record);
+        }
+        return record;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord fusedChain(ChainState state) {
+        return state.fusedChain.apply(state.create);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord extractNewRecordState(ExtractNewRecordStateState state) {
+        // The headers are added to the transformed record, so each invocation gets a record with its own headers
+        final SourceRecord update = state.update;
+        return state.extractNewRecordState.apply(update.newRecord(update.topic(), update.kafkaPartition(), update.keySchema(),
+                update.key(), update.valueSchema(), update.value(), update.timestamp(), new ConnectHeaders()));
+    }
 }